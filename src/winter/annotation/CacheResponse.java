@@ -0,0 +1,47 @@
+package winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 핸들러 메서드의 렌더링된 응답(상태 코드, 헤더, 본문)을 캐시하는 어노테이션
+ *
+ * 같은 경로 + 같은 varyBy 값 + 같은 협상된 미디어 타입의 요청이 다시 들어오면
+ * 핸들러 실행과 뷰 렌더링을 모두 건너뛰고 캐시된 응답을 그대로 보냅니다.
+ * (인터셉터 preHandle은 캐시 조회 전에 실행되므로 인증 검사는 그대로 적용됩니다)
+ *
+ * 사용 예시:
+ * @RequestMapping(value = "/search", method = "GET")
+ * @CacheResponse(ttl = 30, varyBy = {"keyword", "page"})
+ * public ModelAndView search(@RequestParam("keyword") String keyword, ...) { ... }
+ *
+ * 특징:
+ * - 200 응답만 캐시합니다. (오류 응답, 리다이렉트, 파일 응답은 캐시하지 않음)
+ * - 세션 쿠키(Set-Cookie)는 캐시하지 않습니다.
+ * - 캐시 삭제는 ResponseCache.getDefault().evict("/search") 등으로 할 수 있습니다.
+ */
+@Target(ElementType.METHOD)                 // 메서드에만 적용 가능
+@Retention(RetentionPolicy.RUNTIME)         // 런타임에 어노테이션 정보 유지
+public @interface CacheResponse {
+
+    /**
+     * 캐시 유지 시간 (초)
+     *
+     * @return 유지 시간 (기본 60초)
+     */
+    int ttl() default 60;
+
+    /**
+     * 캐시 키에 포함할 요청 값 목록
+     *
+     * - "keyword"             : 요청 파라미터 keyword의 값
+     * - "header:Accept-Language" : 요청 헤더 Accept-Language의 값
+     *
+     * 목록에 없는 파라미터는 캐시 키에 영향을 주지 않습니다. (비어 있으면 경로만으로 캐시)
+     *
+     * @return 캐시 키에 포함할 파라미터/헤더 이름
+     */
+    String[] varyBy() default {};
+}
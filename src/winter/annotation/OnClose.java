@@ -0,0 +1,16 @@
+package winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @WebSocketEndpoint 클래스의 콜백 메서드: 연결이 닫힌 뒤 한 번 호출됩니다.
+ *
+ * 사용 가능한 파라미터 (타입으로 구분, 순서 무관): WebSocketSession, int(종료 코드), String(종료 사유)
+ */
+@Target(ElementType.METHOD)                 // 메서드에만 적용 가능
+@Retention(RetentionPolicy.RUNTIME)         // 런타임에 어노테이션 정보 유지
+public @interface OnClose {
+}
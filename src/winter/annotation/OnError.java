@@ -0,0 +1,16 @@
+package winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @WebSocketEndpoint 클래스의 콜백 메서드: 프레임 오류, 콜백 예외 등 오류가 생기면 호출됩니다. (이후 연결은 닫힘)
+ *
+ * 사용 가능한 파라미터 (타입으로 구분, 순서 무관): WebSocketSession, Throwable
+ */
+@Target(ElementType.METHOD)                 // 메서드에만 적용 가능
+@Retention(RetentionPolicy.RUNTIME)         // 런타임에 어노테이션 정보 유지
+public @interface OnError {
+}
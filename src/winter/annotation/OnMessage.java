@@ -0,0 +1,21 @@
+package winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @WebSocketEndpoint 클래스의 콜백 메서드: 메시지를 받으면 호출됩니다.
+ *
+ * 사용 가능한 파라미터 (타입으로 구분, 순서 무관): WebSocketSession, String(텍스트) 또는 byte[](바이너리)
+ *
+ * - String 파라미터 메서드는 텍스트 메시지, byte[] 파라미터 메서드는 바이너리 메시지를 받습니다.
+ * - 반환값이 있으면 보낸 클라이언트에게 응답으로 전송합니다.
+ *   (String → 텍스트, byte[] → 바이너리, 그 밖의 객체 → JSON 텍스트)
+ * - 메시지는 연결의 읽기 스레드에서 받은 순서대로 호출됩니다.
+ */
+@Target(ElementType.METHOD)                 // 메서드에만 적용 가능
+@Retention(RetentionPolicy.RUNTIME)         // 런타임에 어노테이션 정보 유지
+public @interface OnMessage {
+}
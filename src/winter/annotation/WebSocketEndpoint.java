@@ -0,0 +1,49 @@
+package winter.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * WebSocket 엔드포인트 클래스임을 나타내는 어노테이션
+ *
+ * WinterServer가 이 경로로 들어온 업그레이드 요청(Upgrade: websocket)을 받으면
+ * Dispatcher를 거치지 않고 연결을 WebSocket으로 전환한 뒤 아래 콜백 메서드를 호출합니다.
+ *
+ * 사용 예시:
+ * @WebSocketEndpoint("/ws/chat")
+ * public class ChatEndpoint {
+ *     @OnOpen    public void open(WebSocketSession session) { ... }
+ *     @OnMessage public String message(WebSocketSession session, String text) { return "echo: " + text; }
+ *     @OnClose   public void close(WebSocketSession session, int code) { ... }
+ *     @OnError   public void error(WebSocketSession session, Throwable error) { ... }
+ * }
+ *
+ * 엔드포인트 인스턴스는 하나만 생성되어 모든 연결이 공유합니다. (연결별 상태는 session 속성에 저장)
+ */
+@Target(ElementType.TYPE)                   // 클래스에만 적용 가능
+@Retention(RetentionPolicy.RUNTIME)         // 런타임에 어노테이션 정보 유지
+public @interface WebSocketEndpoint {
+
+    /**
+     * 엔드포인트 경로 (쿼리 문자열 제외)
+     *
+     * @return 경로 (예: "/ws/chat")
+     */
+    String value();
+
+    /**
+     * 받을 수 있는 메시지 최대 크기 (조각 메시지는 합친 크기), 넘으면 1009로 연결 종료
+     *
+     * @return 최대 바이트 수 (기본 64KB)
+     */
+    int maxMessageSize() default 64 * 1024;
+
+    /**
+     * 연결별 전송 대기 프레임 최대 개수, 넘으면 느린 클라이언트로 보고 연결 종료
+     *
+     * @return 최대 프레임 수 (기본 256)
+     */
+    int sendQueueCapacity() default 256;
+}
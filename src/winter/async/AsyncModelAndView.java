@@ -0,0 +1,39 @@
+package winter.async;
+
+import winter.view.ModelAndView;
+
+import java.util.function.Function;
+
+/**
+ * 핸들러가 비동기 결과를 반환했음을 Dispatcher에게 알리는 ModelAndView
+ *
+ * HandlerAdapter는 반환값이 CompletionStage 또는 DeferredResult이면 이 객체를 반환합니다.
+ * Dispatcher는 postHandle과 뷰 렌더링을 미루고, 결과가 도착하면 어댑터가 넘겨준 변환 함수로
+ * 동기 반환값과 같은 ModelAndView를 만들어 나머지 처리를 이어갑니다.
+ */
+public class AsyncModelAndView extends ModelAndView {
+
+    private final DeferredResult<?> deferredResult;
+    private final Function<Object, ModelAndView> resultConverter;
+
+    /**
+     * @param deferredResult 결과가 채워질 DeferredResult
+     * @param resultConverter 도착한 결과를 ModelAndView로 변환하는 함수 (어댑터의 동기 처리 방식과 동일)
+     */
+    public AsyncModelAndView(DeferredResult<?> deferredResult, Function<Object, ModelAndView> resultConverter) {
+        super("asyncResult");
+        this.deferredResult = deferredResult;
+        this.resultConverter = resultConverter;
+    }
+
+    public DeferredResult<?> getDeferredResult() {
+        return deferredResult;
+    }
+
+    /**
+     * 도착한 결과를 렌더링할 ModelAndView로 변환합니다.
+     */
+    public ModelAndView convertResult(Object result) {
+        return resultConverter.apply(result);
+    }
+}
@@ -0,0 +1,21 @@
+package winter.async;
+
+/**
+ * 비동기 핸들러의 결과가 타임아웃 안에 도착하지 않았을 때 발생하는 예외
+ * Dispatcher는 이 예외를 503 Service Unavailable로 응답합니다.
+ */
+public class AsyncRequestTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long timeoutMillis;
+
+    public AsyncRequestTimeoutException(long timeoutMillis) {
+        super("Async request timed out after " + timeoutMillis + "ms");
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
@@ -0,0 +1,91 @@
+package winter.async;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiConsumer;
+
+/**
+ * 비동기 핸들러 반환값 처리 유틸리티
+ *
+ * - 반환값이 비동기 타입인지 판별 (CompletableFuture, CompletionStage, DeferredResult)
+ * - 비동기 반환값을 DeferredResult 하나로 통일
+ * - 타임아웃 예약용 스케줄러 제공 (데몬 스레드 하나, 타임아웃 시점에만 깨어남)
+ */
+public final class AsyncSupport {
+
+    /**
+     * 비동기 요청의 기본 타임아웃 (30초)
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "winter-async-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * 핸들러 메서드의 반환 타입이 비동기 타입인지 확인합니다.
+     */
+    public static boolean isAsyncReturnType(Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType) ||
+                DeferredResult.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * 핸들러 반환값을 DeferredResult로 변환합니다.
+     *
+     * @param returnValue 핸들러 반환값
+     * @return 비동기 반환값이면 DeferredResult, 아니면 null
+     */
+    public static DeferredResult<?> toDeferredResult(Object returnValue) {
+        if (returnValue instanceof DeferredResult) {
+            return (DeferredResult<?>) returnValue;
+        }
+        if (returnValue instanceof CompletionStage) {
+            return DeferredResult.of((CompletionStage<?>) returnValue);
+        }
+        return null;
+    }
+
+    /**
+     * 타임아웃을 예약하고 결과가 도착하면 handler를 한 번 실행합니다.
+     *
+     * @param deferredResult 비동기 결과
+     * @param defaultTimeoutMillis DeferredResult에 타임아웃이 없을 때 사용할 값
+     * @param handler (결과, 예외) 처리기 - 예외는 CompletionException을 벗긴 원래 예외
+     */
+    public static void start(DeferredResult<?> deferredResult, long defaultTimeoutMillis,
+                             BiConsumer<Object, Throwable> handler) {
+        deferredResult.start(TIMEOUT_SCHEDULER, defaultTimeoutMillis, handler);
+    }
+
+    /**
+     * 비동기 결과의 예외를 Dispatcher 예외 처리에 넘길 수 있는 Exception으로 변환합니다.
+     */
+    public static Exception toException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+    /**
+     * CompletableFuture가 감싼 CompletionException / ExecutionException을 벗깁니다.
+     */
+    static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException) &&
+                current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,224 @@
+package winter.async;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 나중에 다른 스레드에서 채워지는 핸들러 결과
+ *
+ * 핸들러가 DeferredResult를 반환하면 Dispatcher는 요청 스레드를 바로 반환하고,
+ * setResult() 또는 setErrorResult()가 호출될 때 postHandle, 뷰 렌더링, afterCompletion을 이어서 처리합니다.
+ * 결과는 한 번만 설정되며 (먼저 설정한 쪽이 이김), 이후 호출은 false를 반환합니다.
+ *
+ * 사용 예:
+ * DeferredResult<ResponseEntity<Order>> result = new DeferredResult<>(5000L, () -> ResponseEntity.withStatus(HttpStatus.ACCEPTED, null));
+ * orderService.submit(order, saved -> result.setResult(ResponseEntity.ok(saved)));
+ * return result;
+ *
+ * 타임아웃:
+ * - 생성자에서 지정하지 않으면 Dispatcher의 기본 타임아웃을 사용합니다.
+ * - 타임아웃 결과(Supplier)가 있으면 그 값으로 완료하고, 없으면 AsyncRequestTimeoutException(503)으로 완료합니다.
+ * - CompletionStage를 감싼 경우 타임아웃이나 cancel() 시 원래 작업도 취소합니다.
+ *
+ * @param <T> 결과 타입 (ModelAndView, ResponseEntity, 일반 객체 등 핸들러가 직접 반환할 수 있는 타입)
+ */
+public class DeferredResult<T> {
+
+    private final Long timeoutMillis; // null이면 Dispatcher 기본값 사용
+    private final Supplier<? extends T> timeoutResult;
+
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final List<Runnable> timeoutCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+
+    private volatile CompletableFuture<?> source; // of()로 감싼 원래 작업 (취소용)
+    private volatile ScheduledFuture<?> timeoutTask;
+
+    /**
+     * Dispatcher의 기본 타임아웃을 사용하는 DeferredResult를 생성합니다.
+     */
+    public DeferredResult() {
+        this(null, null);
+    }
+
+    /**
+     * @param timeoutMillis 타임아웃 (밀리초, 0 이하면 타임아웃 없음, null이면 기본값)
+     */
+    public DeferredResult(Long timeoutMillis) {
+        this(timeoutMillis, null);
+    }
+
+    /**
+     * @param timeoutMillis 타임아웃 (밀리초, 0 이하면 타임아웃 없음, null이면 기본값)
+     * @param timeoutResult 타임아웃 시 사용할 결과 (null이면 503 응답)
+     */
+    public DeferredResult(Long timeoutMillis, Supplier<? extends T> timeoutResult) {
+        this.timeoutMillis = timeoutMillis;
+        this.timeoutResult = timeoutResult;
+    }
+
+    /**
+     * CompletionStage의 결과를 DeferredResult로 전달합니다.
+     * (CompletableFuture, CompletionStage 반환값은 이 메서드로 변환되어 처리됨)
+     */
+    public static <T> DeferredResult<T> of(CompletionStage<T> stage) {
+        return of(stage, null);
+    }
+
+    /**
+     * CompletionStage의 결과를 지정한 타임아웃으로 DeferredResult에 전달합니다.
+     */
+    public static <T> DeferredResult<T> of(CompletionStage<T> stage, Long timeoutMillis) {
+        DeferredResult<T> deferred = new DeferredResult<>(timeoutMillis);
+        try {
+            deferred.source = stage.toCompletableFuture();
+        } catch (UnsupportedOperationException e) {
+            // toCompletableFuture()를 지원하지 않는 구현이면 취소 전파만 하지 않음
+        }
+        stage.whenComplete((value, error) -> {
+            if (error != null) {
+                deferred.setErrorResult(error);
+            } else {
+                deferred.setResult(value);
+            }
+        });
+        return deferred;
+    }
+
+    /**
+     * 결과를 설정합니다.
+     *
+     * @return 이번 호출로 결과가 설정되었으면 true, 이미 완료(타임아웃, 취소 포함)되었으면 false
+     */
+    public boolean setResult(T value) {
+        return result.complete(value);
+    }
+
+    /**
+     * 오류 결과를 설정합니다. 예외는 Dispatcher의 예외 처리(ExceptionResolver)로 전달됩니다.
+     *
+     * @return 이번 호출로 결과가 설정되었으면 true
+     */
+    public boolean setErrorResult(Throwable error) {
+        return result.completeExceptionally(error);
+    }
+
+    /**
+     * 요청을 취소합니다. (클라이언트 연결 종료 등) 감싼 작업이 있으면 함께 취소합니다.
+     *
+     * @return 이번 호출로 취소되었으면 true
+     */
+    public boolean cancel() {
+        boolean cancelled = result.completeExceptionally(new CancellationException("Async request cancelled"));
+        if (cancelled) {
+            cancelSource();
+        }
+        return cancelled;
+    }
+
+    /**
+     * 결과가 설정되었거나 타임아웃/취소로 끝났는지 확인합니다.
+     */
+    public boolean isSetOrExpired() {
+        return result.isDone();
+    }
+
+    /**
+     * 타임아웃 시 (타임아웃 결과를 적용하기 전에) 실행할 콜백을 등록합니다.
+     * 콜백에서 setResult()를 호출하면 그 값이 우선합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public DeferredResult<T> onTimeout(Runnable callback) {
+        timeoutCallbacks.add(callback);
+        return this;
+    }
+
+    /**
+     * 응답 처리가 끝난 뒤 (정상, 오류, 타임아웃 모두) 실행할 콜백을 등록합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public DeferredResult<T> onCompletion(Runnable callback) {
+        completionCallbacks.add(callback);
+        return this;
+    }
+
+    public Long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 타임아웃을 예약하고 결과 처리기를 연결합니다. (AsyncSupport를 통해 Dispatcher가 호출)
+     * 결과 처리기는 결과를 설정한 스레드(또는 타임아웃 스레드)에서 정확히 한 번 실행됩니다.
+     */
+    void start(ScheduledExecutorService timer, long defaultTimeoutMillis, BiConsumer<Object, Throwable> handler) {
+        long timeout = timeoutMillis != null ? timeoutMillis : defaultTimeoutMillis;
+        if (timeout > 0 && !result.isDone()) {
+            timeoutTask = timer.schedule(() -> expire(timeout), timeout, TimeUnit.MILLISECONDS);
+        }
+
+        result.whenComplete((value, error) -> {
+            ScheduledFuture<?> task = timeoutTask;
+            if (task != null) {
+                task.cancel(false);
+            }
+            try {
+                handler.accept(value, AsyncSupport.unwrap(error));
+            } finally {
+                for (Runnable callback : completionCallbacks) {
+                    runSafely(callback, "onCompletion");
+                }
+            }
+        });
+    }
+
+    private void expire(long timeout) {
+        if (result.isDone()) {
+            return;
+        }
+        System.out.println("비동기 요청 타임아웃 (" + timeout + "ms)");
+        for (Runnable callback : timeoutCallbacks) {
+            runSafely(callback, "onTimeout");
+        }
+
+        boolean expired = timeoutResult != null
+                ? result.complete(timeoutResult.get())
+                : result.completeExceptionally(new AsyncRequestTimeoutException(timeout));
+        if (expired) {
+            cancelSource();
+        }
+    }
+
+    private void cancelSource() {
+        CompletableFuture<?> stage = source;
+        if (stage != null && !stage.isDone()) {
+            stage.cancel(true);
+            System.out.println("비동기 작업 취소됨");
+        }
+    }
+
+    private static void runSafely(Runnable callback, String phase) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            System.err.println("DeferredResult " + phase + " 콜백 예외: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DeferredResult{" +
+                "timeoutMillis=" + timeoutMillis +
+                ", done=" + result.isDone() +
+                '}';
+    }
+}
@@ -0,0 +1,513 @@
+package winter.batch;
+
+import winter.dispatcher.Dispatcher;
+import winter.http.HttpRequest;
+import winter.http.HttpResponse;
+import winter.http.HttpSession;
+import winter.http.StandardHttpResponse;
+import winter.util.JsonParser;
+import winter.util.JsonSerializer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * POST /batch - 여러 하위 요청을 한 번에 받아 병렬로 처리하는 배치 엔드포인트
+ *
+ * 모바일 화면 하나가 작은 REST 호출 10~20개를 보내는 대신 요청 하나로 묶어 보냅니다.
+ * (연결, 요청 파싱, 세션 조회, 응답 압축 비용을 한 번만 냄)
+ *
+ * 요청 본문:
+ * [
+ *   {"id": "user",   "method": "GET", "path": "/api/users/1"},
+ *   {"id": "orders", "method": "GET", "path": "/api/orders?userId={{user.body.id}}"},
+ *   {"id": "update", "method": "PUT", "path": "/api/users/1", "body": {"name": "{{user.body.name}}"},
+ *    "dependsOn": ["orders"]}
+ * ]
+ *
+ * 응답 본문 (요청 순서 유지):
+ * [{"id":"user","status":200,"headers":{…},"body":{…}}, …]
+ *
+ * 처리 방식:
+ * - 하위 요청마다 HttpRequest를 만들어 Dispatcher로 처리 (인터셉터, 인증 검사가 하위 요청마다 그대로 적용)
+ * - 부모 요청의 세션(JSESSIONID)과 헤더(Authorization, Accept-Language 등)를 물려받음
+ * - 의존 관계가 없는 하위 요청은 공용 스레드 풀에서 동시에 처리 (풀 크기 = 최대 병렬도)
+ * - {{id.status}}, {{id.headers.이름}}, {{id.body.필드.0.필드}} 참조가 있거나 dependsOn에 적으면
+ *   앞 요청이 끝난 뒤 실행하며, 앞 요청이 실패(4xx/5xx)하면 실행하지 않고 424로 응답
+ * - 참조는 배열에서 앞에 있는 하위 요청만 가능 (순환 의존 방지)
+ */
+public class BatchRequestHandler {
+
+    public static final String DEFAULT_PATH = "/batch";
+    public static final int DEFAULT_MAX_REQUESTS = 50;
+    public static final int DEFAULT_MAX_PARALLELISM = 8;
+
+    // {{id.body.field}} 형태의 참조
+    private static final Pattern REFERENCE = Pattern.compile("\\{\\{\\s*([^{}\\s]+)\\s*\\}\\}");
+    // JSON 본문에서 문자열 값 전체가 참조인 경우 ("{{id.body.count}}" → 숫자 그대로 치환)
+    private static final Pattern WHOLE_STRING_REFERENCE = Pattern.compile("\"\\{\\{\\s*([^{}\\s]+)\\s*\\}\\}\"");
+
+    // 부모 요청에서 물려받지 않는 헤더 (본문, 전송, 조건부 요청 관련)
+    private static final Set<String> NON_INHERITED_HEADERS = Set.of(
+            "content-length", "content-type", "transfer-encoding", "accept-encoding", "connection",
+            "upgrade", "expect", "if-none-match", "if-modified-since", "cookie");
+
+    private final Dispatcher dispatcher;
+    private final ThreadPoolExecutor executor;
+    private final String path;
+    private volatile int maxRequests = DEFAULT_MAX_REQUESTS;
+
+    // 통계
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger subRequests = new AtomicInteger();
+
+    public BatchRequestHandler(Dispatcher dispatcher) {
+        this(dispatcher, DEFAULT_PATH, DEFAULT_MAX_PARALLELISM);
+    }
+
+    /**
+     * @param dispatcher 하위 요청을 처리할 Dispatcher
+     * @param path 배치 엔드포인트 경로
+     * @param maxParallelism 동시에 처리할 하위 요청 최대 수 (모든 배치 공용)
+     */
+    public BatchRequestHandler(Dispatcher dispatcher, String path, int maxParallelism) {
+        this.dispatcher = dispatcher;
+        this.path = path;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxParallelism, maxParallelism, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "winter-batch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true); // 배치 요청이 없으면 스레드를 만들지 않음
+    }
+
+    /**
+     * 배치 요청인지 확인합니다. (POST + 배치 경로)
+     */
+    public boolean isBatchRequest(HttpRequest request) {
+        return "POST".equals(request.getMethod()) && path.equals(request.getPath());
+    }
+
+    /**
+     * 배치 요청을 처리합니다. 반환된 Future가 완료되면 응답 상태와 본문이 채워져 있습니다. (예외로 완료되지 않음)
+     *
+     * @param request 부모 요청 (세션 처리가 끝난 상태)
+     * @param response 결합된 JSON 배열을 담을 응답
+     */
+    public CompletableFuture<Void> handle(HttpRequest request, HttpResponse response) {
+        List<BatchSubRequest> subs;
+        try {
+            subs = parseBatch(readBody(request));
+        } catch (IllegalArgumentException | IOException e) {
+            System.out.println("배치 요청 거부: " + e.getMessage());
+            response.setStatus(400);
+            response.setJsonResponse();
+            response.setBody("{\"error\":" + JsonSerializer.toJson(e.getMessage()) + "}");
+            return CompletableFuture.completedFuture(null);
+        }
+
+        batches.incrementAndGet();
+        subRequests.addAndGet(subs.size());
+        System.out.println("배치 요청 처리 시작: 하위 요청 " + subs.size() + "개");
+
+        Map<String, String> inheritedHeaders = inheritedHeaders(request);
+        List<CompletableFuture<BatchResult>> futures = new ArrayList<>(subs.size());
+        Map<String, CompletableFuture<BatchResult>> futuresById = new HashMap<>();
+
+        for (BatchSubRequest sub : subs) {
+            CompletableFuture<BatchResult> future;
+            if (sub.dependsOn.isEmpty()) {
+                future = CompletableFuture.completedFuture(sub)
+                        .thenComposeAsync(s -> execute(s, inheritedHeaders, Map.of()), executor);
+            } else {
+                List<CompletableFuture<BatchResult>> dependencies = new ArrayList<>();
+                for (String dependency : sub.dependsOn) {
+                    dependencies.add(futuresById.get(dependency));
+                }
+                future = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0]))
+                        .thenComposeAsync(ignored -> {
+                            Map<String, BatchResult> completed = new HashMap<>();
+                            for (String dependency : sub.dependsOn) {
+                                BatchResult result = futuresById.get(dependency).join();
+                                if (!result.isSuccessful()) {
+                                    return CompletableFuture.completedFuture(BatchResult.failed(sub.id, 424,
+                                            "Dependency '" + dependency + "' failed with status " + result.getStatus()));
+                                }
+                                completed.put(dependency, result);
+                            }
+                            return execute(sub, inheritedHeaders, completed);
+                        }, executor);
+            }
+            futures.add(future);
+            futuresById.put(sub.id, future);
+        }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+            StringBuilder body = new StringBuilder(256 * futures.size());
+            body.append('[');
+            for (int i = 0; i < futures.size(); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                futures.get(i).join().appendJson(body);
+            }
+            body.append(']');
+
+            response.setStatus(200);
+            response.setJsonResponse();
+            response.setBody(body.toString());
+            System.out.println("배치 요청 처리 완료: 하위 요청 " + futures.size() + "개");
+        });
+    }
+
+    /**
+     * 참조를 치환해 하위 요청을 만들고 Dispatcher로 처리합니다. (예외는 500 결과로 변환)
+     */
+    private CompletableFuture<BatchResult> execute(BatchSubRequest sub, Map<String, String> inheritedHeaders,
+                                                   Map<String, BatchResult> dependencies) {
+        try {
+            String target = substitute(sub.path, dependencies, Substitution.URL);
+            Map<String, String> headers = new LinkedHashMap<>(inheritedHeaders);
+            for (Map.Entry<String, String> header : sub.headers.entrySet()) {
+                headers.put(header.getKey(), substitute(header.getValue(), dependencies, Substitution.TEXT));
+            }
+
+            String body = "";
+            if (sub.body != null) {
+                body = sub.jsonBody ? substituteJson(sub.body, dependencies) : substitute(sub.body, dependencies, Substitution.TEXT);
+                if (sub.jsonBody && !containsHeader(headers, "Content-Type")) {
+                    headers.put("Content-Type", "application/json; charset=UTF-8");
+                }
+                String contentType = headerValue(headers, "Content-Type");
+                if (contentType != null && contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
+                    target = target + (target.indexOf('?') >= 0 ? "&" : "?") + body; // 소켓 계층과 같은 방식
+                }
+            }
+
+            HttpRequest subRequest = new HttpRequest(target, sub.method, headers, null,
+                    new BufferedReader(new StringReader(body)));
+            StandardHttpResponse subResponse = new StandardHttpResponse();
+
+            return dispatcher.dispatchAsync(subRequest, subResponse)
+                    .handle((ignored, error) -> error == null
+                            ? BatchResult.from(sub.id, subResponse)
+                            : BatchResult.failed(sub.id, 500, String.valueOf(error.getMessage())));
+        } catch (UnresolvedReferenceException e) {
+            return CompletableFuture.completedFuture(BatchResult.failed(sub.id, 400, e.getMessage()));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(BatchResult.failed(sub.id, 500, String.valueOf(e.getMessage())));
+        }
+    }
+
+    // ===== 요청 파싱 =====
+
+    private static String readBody(HttpRequest request) throws IOException {
+        StringBuilder body = new StringBuilder();
+        BufferedReader reader = request.getBody();
+        char[] buffer = new char[4096];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            body.append(buffer, 0, read);
+        }
+        return body.toString();
+    }
+
+    private List<BatchSubRequest> parseBatch(String json) {
+        if (json.isBlank()) {
+            throw new IllegalArgumentException("Batch body must be a JSON array of sub-requests");
+        }
+        Object parsed = JsonParser.parse(json);
+        if (!(parsed instanceof List<?>)) {
+            throw new IllegalArgumentException("Batch body must be a JSON array of sub-requests");
+        }
+        List<?> items = (List<?>) parsed;
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one sub-request");
+        }
+        if (items.size() > maxRequests) {
+            throw new IllegalArgumentException("Batch has " + items.size() + " sub-requests (max " + maxRequests + ")");
+        }
+
+        List<BatchSubRequest> subs = new ArrayList<>(items.size());
+        Map<String, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (!(items.get(i) instanceof Map<?, ?>)) {
+                throw new IllegalArgumentException("Sub-request " + i + " must be a JSON object");
+            }
+            BatchSubRequest sub = parseSubRequest(i, (Map<?, ?>) items.get(i));
+            if (indexById.putIfAbsent(sub.id, i) != null) {
+                throw new IllegalArgumentException("Duplicate sub-request id '" + sub.id + "'");
+            }
+            collectDependencies(sub, indexById);
+            subs.add(sub);
+        }
+        return subs;
+    }
+
+    private BatchSubRequest parseSubRequest(int index, Map<?, ?> item) {
+        Object id = item.get("id");
+        Object method = item.get("method");
+        Object subPath = item.get("path");
+        if (!(subPath instanceof String) || !((String) subPath).startsWith("/")) {
+            throw new IllegalArgumentException("Sub-request " + index + " needs a \"path\" starting with '/'");
+        }
+        String pathOnly = ((String) subPath).split("\\?", 2)[0];
+        if (pathOnly.equals(path)) {
+            throw new IllegalArgumentException("Nested batch requests are not allowed");
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (item.get("headers") instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> header : ((Map<?, ?>) item.get("headers")).entrySet()) {
+                headers.put(String.valueOf(header.getKey()), String.valueOf(header.getValue()));
+            }
+        }
+
+        Object bodyValue = item.get("body");
+        boolean jsonBody = bodyValue instanceof Map<?, ?> || bodyValue instanceof List<?>;
+        String body = bodyValue == null ? null : jsonBody ? JsonSerializer.toJson(bodyValue) : String.valueOf(bodyValue);
+
+        BatchSubRequest sub = new BatchSubRequest(index,
+                id != null ? String.valueOf(id) : String.valueOf(index),
+                method != null ? String.valueOf(method).toUpperCase() : "GET",
+                (String) subPath, headers, body, jsonBody);
+
+        if (item.get("dependsOn") instanceof List<?>) {
+            for (Object dependency : (List<?>) item.get("dependsOn")) {
+                sub.dependsOn.add(String.valueOf(dependency));
+            }
+        }
+        return sub;
+    }
+
+    /**
+     * 명시적 dependsOn과 {{id.…}} 참조를 모아 의존 목록을 만듭니다. (앞에 있는 하위 요청만 허용)
+     */
+    private static void collectDependencies(BatchSubRequest sub, Map<String, Integer> indexById) {
+        List<String> texts = new ArrayList<>(sub.headers.values());
+        texts.add(sub.path);
+        if (sub.body != null) {
+            texts.add(sub.body);
+        }
+        for (String text : texts) {
+            Matcher matcher = REFERENCE.matcher(text);
+            while (matcher.find()) {
+                sub.dependsOn.add(matcher.group(1).split("\\.", 2)[0]);
+            }
+        }
+        for (String dependency : sub.dependsOn) {
+            Integer dependencyIndex = indexById.get(dependency);
+            if (dependencyIndex == null || dependencyIndex >= sub.index) {
+                throw new IllegalArgumentException("Sub-request '" + sub.id +
+                        "' depends on '" + dependency + "', which is not an earlier sub-request");
+            }
+        }
+    }
+
+    /**
+     * 부모 요청에서 하위 요청으로 물려줄 헤더 (세션 쿠키는 부모 세션으로 고정)
+     */
+    private static Map<String, String> inheritedHeaders(HttpRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (!NON_INHERITED_HEADERS.contains(header.getKey().toLowerCase())) {
+                headers.put(header.getKey(), header.getValue());
+            }
+        }
+
+        // 부모의 다른 쿠키는 유지하고 JSESSIONID만 부모 세션(새로 만든 경우 포함)으로 설정
+        StringBuilder cookie = new StringBuilder();
+        String parentCookie = request.getHeader("Cookie");
+        if (parentCookie != null) {
+            for (String part : parentCookie.split(";")) {
+                String trimmed = part.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("JSESSIONID=")) {
+                    cookie.append(cookie.length() > 0 ? "; " : "").append(trimmed);
+                }
+            }
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            cookie.append(cookie.length() > 0 ? "; " : "").append("JSESSIONID=").append(session.getId());
+        }
+        if (cookie.length() > 0) {
+            headers.put("Cookie", cookie.toString());
+        }
+
+        // 결과를 JSON 배열에 담으므로 Accept가 없으면 JSON 응답을 요청
+        if (request.getHeader("Accept") == null) {
+            headers.put("Accept", "application/json");
+        }
+        return headers;
+    }
+
+    // ===== 참조 치환 =====
+
+    private enum Substitution { URL, TEXT }
+
+    private static String substitute(String template, Map<String, BatchResult> dependencies, Substitution mode) {
+        if (template.indexOf("{{") < 0) {
+            return template;
+        }
+        Matcher matcher = REFERENCE.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String text = stringValue(resolve(matcher.group(1), dependencies));
+            if (mode == Substitution.URL) {
+                text = URLEncoder.encode(text, StandardCharsets.UTF_8);
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(text));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * JSON 본문 치환: 문자열 값 전체가 참조면 JSON 값(숫자, 객체 등)으로, 문자열 일부면 이스케이프한 문자열로 치환
+     */
+    private static String substituteJson(String template, Map<String, BatchResult> dependencies) {
+        if (template.indexOf("{{") < 0) {
+            return template;
+        }
+        Matcher whole = WHOLE_STRING_REFERENCE.matcher(template);
+        StringBuilder result = new StringBuilder();
+        while (whole.find()) {
+            Object value = resolve(whole.group(1), dependencies);
+            whole.appendReplacement(result, Matcher.quoteReplacement(JsonSerializer.toJson(value)));
+        }
+        whole.appendTail(result);
+
+        Matcher partial = REFERENCE.matcher(result.toString());
+        StringBuilder escaped = new StringBuilder();
+        while (partial.find()) {
+            String json = JsonSerializer.toJson(stringValue(resolve(partial.group(1), dependencies)));
+            partial.appendReplacement(escaped, Matcher.quoteReplacement(json.substring(1, json.length() - 1)));
+        }
+        partial.appendTail(escaped);
+        return escaped.toString();
+    }
+
+    private static Object resolve(String reference, Map<String, BatchResult> dependencies) {
+        List<String> segments = Arrays.asList(reference.split("\\."));
+        BatchResult result = dependencies.get(segments.get(0));
+        Object value = result != null ? result.resolve(segments.subList(1, segments.size())) : BatchResult.MISSING;
+        if (value == BatchResult.MISSING) {
+            throw new UnresolvedReferenceException("Unresolved reference {{" + reference + "}}");
+        }
+        return value;
+    }
+
+    private static String stringValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double && (Double) value == Math.rint((Double) value)) {
+            return String.valueOf(((Double) value).longValue());
+        }
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                ? String.valueOf(value) : JsonSerializer.toJson(value);
+    }
+
+    private static boolean containsHeader(Map<String, String> headers, String name) {
+        return headerValue(headers, name) != null;
+    }
+
+    private static String headerValue(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static final class UnresolvedReferenceException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnresolvedReferenceException(String message) {
+            super(message);
+        }
+    }
+
+    // ===== 설정 및 통계 =====
+
+    /**
+     * 배치 하나에 담을 수 있는 하위 요청 최대 수 (넘으면 400)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public BatchRequestHandler setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * 동시에 처리할 하위 요청 최대 수 (모든 배치 공용)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public BatchRequestHandler setMaxParallelism(int maxParallelism) {
+        if (maxParallelism > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(maxParallelism);
+            executor.setCorePoolSize(maxParallelism);
+        } else {
+            executor.setCorePoolSize(maxParallelism);
+            executor.setMaximumPoolSize(maxParallelism);
+        }
+        return this;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxParallelism() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int getBatches() {
+        return batches.get();
+    }
+
+    public int getSubRequests() {
+        return subRequests.get();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchRequestHandler{" +
+                "path='" + path + '\'' +
+                ", maxRequests=" + maxRequests +
+                ", maxParallelism=" + executor.getMaximumPoolSize() +
+                ", batches=" + batches.get() +
+                ", subRequests=" + subRequests.get() +
+                '}';
+    }
+}
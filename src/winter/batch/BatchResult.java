@@ -0,0 +1,163 @@
+package winter.batch;
+
+import winter.http.StandardHttpResponse;
+import winter.util.JsonParser;
+import winter.util.JsonSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하위 요청 하나의 처리 결과
+ *
+ * JSON 본문은 다시 직렬화하지 않고 그대로 결과 배열에 넣고,
+ * 뒤의 하위 요청이 {{id.body.…}}로 참조할 때만 한 번 파싱합니다.
+ */
+final class BatchResult {
+
+    // 참조 경로에 값이 없음 (JSON null과 구분)
+    static final Object MISSING = new Object();
+
+    private final String id;
+    private final int status;
+    private final Map<String, String> headers;
+    private final String body;
+    private final boolean jsonBody;
+    private final String error;
+
+    private Object parsedBody;
+    private boolean bodyParsed;
+
+    private BatchResult(String id, int status, Map<String, String> headers, String body, boolean jsonBody, String error) {
+        this.id = id;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.jsonBody = jsonBody;
+        this.error = error;
+    }
+
+    /**
+     * Dispatcher가 처리한 하위 응답에서 결과를 만듭니다.
+     */
+    static BatchResult from(String id, StandardHttpResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>(response.getHeaders());
+        if (response.getFileBody() != null || response.getStreamingBody() != null) {
+            return new BatchResult(id, response.getStatus(), headers, null, false,
+                    "File and streaming responses are not supported in a batch");
+        }
+        String contentType = response.getHeader("Content-Type");
+        String body = response.getBody();
+        boolean json = contentType != null && contentType.toLowerCase().contains("json") &&
+                body != null && !body.isBlank();
+        return new BatchResult(id, response.getStatus(), headers, body, json, null);
+    }
+
+    /**
+     * 실행하지 못한 하위 요청의 결과 (의존 요청 실패, 참조 해석 실패 등)
+     */
+    static BatchResult failed(String id, int status, String error) {
+        return new BatchResult(id, status, new LinkedHashMap<>(), null, false, error);
+    }
+
+    boolean isSuccessful() {
+        return error == null && status >= 200 && status < 400;
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    /**
+     * 참조 경로의 값을 찾습니다.
+     * - ["status"]                 → 상태 코드
+     * - ["headers", "Location"]    → 응답 헤더
+     * - ["body"]                   → 본문 전체 (JSON이면 파싱한 값)
+     * - ["body", "items", "0", "id"] → JSON 본문 내부 값 (배열은 인덱스)
+     *
+     * @return 값, 경로가 없으면 MISSING
+     */
+    Object resolve(List<String> path) {
+        if (path.isEmpty()) {
+            return MISSING;
+        }
+        switch (path.get(0)) {
+            case "status":
+                return path.size() == 1 ? status : MISSING;
+            case "headers":
+                if (path.size() != 2) {
+                    return MISSING;
+                }
+                for (Map.Entry<String, String> entry : headers.entrySet()) {
+                    if (entry.getKey().equalsIgnoreCase(path.get(1))) {
+                        return entry.getValue();
+                    }
+                }
+                return MISSING;
+            case "body":
+                Object current = parsedBody();
+                for (int i = 1; i < path.size(); i++) {
+                    current = child(current, path.get(i));
+                    if (current == MISSING) {
+                        return MISSING;
+                    }
+                }
+                return current;
+            default:
+                return MISSING;
+        }
+    }
+
+    private static Object child(Object parent, String key) {
+        if (parent instanceof Map<?, ?>) {
+            Map<?, ?> map = (Map<?, ?>) parent;
+            return map.containsKey(key) ? map.get(key) : MISSING;
+        }
+        if (parent instanceof List<?>) {
+            List<?> list = (List<?>) parent;
+            try {
+                int index = Integer.parseInt(key);
+                return index >= 0 && index < list.size() ? list.get(index) : MISSING;
+            } catch (NumberFormatException e) {
+                return MISSING;
+            }
+        }
+        return MISSING;
+    }
+
+    private synchronized Object parsedBody() {
+        if (!bodyParsed) {
+            bodyParsed = true;
+            if (jsonBody) {
+                try {
+                    parsedBody = JsonParser.parse(body);
+                } catch (IllegalArgumentException e) {
+                    parsedBody = body; // JSON이 아니면 문자열로 취급
+                }
+            } else {
+                parsedBody = body;
+            }
+        }
+        return parsedBody;
+    }
+
+    /**
+     * 결과 배열 원소 JSON: {"id":…,"status":…,"headers":{…},"body":…} (실패 시 "error")
+     */
+    void appendJson(StringBuilder out) {
+        out.append("{\"id\":").append(JsonSerializer.toJson(id))
+                .append(",\"status\":").append(status)
+                .append(",\"headers\":").append(JsonSerializer.toJson(headers));
+        if (error != null) {
+            out.append(",\"error\":").append(JsonSerializer.toJson(error));
+        }
+        out.append(",\"body\":");
+        if (jsonBody) {
+            out.append(body.trim()); // 핸들러가 직렬화한 JSON을 그대로 사용
+        } else {
+            out.append(JsonSerializer.toJson(body));
+        }
+        out.append('}');
+    }
+}
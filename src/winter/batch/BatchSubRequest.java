@@ -0,0 +1,39 @@
+package winter.batch;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 배치 요청 배열의 원소 하나 (하위 요청)
+ *
+ * {"id": "orders", "method": "GET", "path": "/api/orders?userId={{user.body.id}}",
+ *  "headers": {"Accept": "application/json"}, "body": {...}, "dependsOn": ["user"]}
+ */
+final class BatchSubRequest {
+
+    final int index;
+    final String id;
+    final String method;
+    final String path;
+    final Map<String, String> headers;
+    final String body;          // JSON 객체/배열 본문은 직렬화된 문자열
+    final boolean jsonBody;     // 본문을 JSON으로 받았으면 true (참조를 JSON 값으로 치환)
+    final Set<String> dependsOn = new LinkedHashSet<>(); // 명시적 dependsOn + {{id.…}} 참조
+
+    BatchSubRequest(int index, String id, String method, String path,
+                    Map<String, String> headers, String body, boolean jsonBody) {
+        this.index = index;
+        this.id = id;
+        this.method = method;
+        this.path = path;
+        this.headers = headers;
+        this.body = body;
+        this.jsonBody = jsonBody;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path + " (id=" + id + ", dependsOn=" + dependsOn + ")";
+    }
+}
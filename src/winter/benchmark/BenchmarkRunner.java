@@ -0,0 +1,298 @@
+package winter.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+/**
+ * 벤치마크 공통 실행기 (JMH 없이 같은 측정 구조를 흉내냄)
+ *
+ * 측정 방식:
+ * - 시간 기반 반복: 워밍업 반복 후 측정 반복마다 정해진 시간 동안 연산을 수행 (JMH의 @Warmup/@Measurement)
+ * - 연산 결과는 blackhole로 소비해 JIT가 호출을 제거하지 못하게 함
+ * - 할당량: 측정 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean) 차이 → B/op, MB/s
+ *   (JMH -prof gc의 gc.alloc.rate.norm / gc.alloc.rate와 같은 값)
+ * - GC: 반복 동안의 GarbageCollectorMXBean 횟수/시간 차이
+ *
+ * 프레임워크 코드는 System.out으로 많은 로그를 남기므로 측정 중에는 출력을 버립니다.
+ * (로그 문자열을 만드는 비용은 그대로 측정되고, 터미널 출력 속도만 빠짐)
+ *
+ * 설정 (시스템 프로퍼티):
+ * -Dbench.warmup=3         워밍업 반복 수
+ * -Dbench.iterations=5     측정 반복 수
+ * -Dbench.time=1000        반복당 시간 (ms)
+ *
+ * 첫 번째 인자는 실행할 벤치마크 이름의 정규식입니다. (예: "json|session", 생략하면 전체)
+ */
+final class BenchmarkRunner {
+
+    /**
+     * 측정할 연산 하나 (결과에서 만든 int를 반환하면 blackhole로 소비)
+     */
+    interface Operation {
+        int invoke() throws Exception;
+    }
+
+    private static final long BATCH_NANOS = 1_000_000L; // 배치 하나가 이 시간보다 짧으면 배치 크기를 두 배로
+    private static final int MAX_BATCH = 1 << 20;
+
+    private static final PrintStream REPORT = System.out;
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    private static volatile int blackhole;
+
+    private final Pattern include;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<Result> results = new ArrayList<>();
+
+    BenchmarkRunner(String[] args) {
+        this.include = args.length > 0 ? Pattern.compile(args[0], Pattern.CASE_INSENSITIVE) : null;
+        this.warmupIterations = Integer.getInteger("bench.warmup", 3);
+        this.measurementIterations = Integer.getInteger("bench.iterations", 5);
+        this.iterationNanos = Long.getLong("bench.time", 1000L) * 1_000_000L;
+
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threadBean = (com.sun.management.ThreadMXBean) bean;
+            this.threadBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threadBean = null; // 할당량 측정 불가 (B/op는 -1로 표시)
+        }
+
+        REPORT.printf("# Warmup: %d iterations, Measurement: %d iterations, %d ms each%n",
+                warmupIterations, measurementIterations, iterationNanos / 1_000_000L);
+        REPORT.println("# JVM: " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+    }
+
+    /**
+     * 이름 중 하나라도 필터에 맞는지 확인 (준비 비용이 큰 벤치마크는 미리 확인하고 건너뜀)
+     */
+    boolean isIncluded(String... names) {
+        if (include == null) {
+            return true;
+        }
+        for (String name : names) {
+            if (include.matcher(name).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 프레임워크 로그를 버리면서 준비 작업을 실행 (Dispatcher 생성 등)
+     */
+    static <T> T quietly(Callable<T> setup) {
+        PrintStream original = System.out;
+        System.setOut(DISCARD);
+        try {
+            return setup.call();
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark setup failed", e);
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    /**
+     * 벤치마크 하나를 워밍업 후 측정하고 결과를 출력합니다.
+     */
+    void run(String name, Operation operation) {
+        if (!isIncluded(name)) {
+            return;
+        }
+        REPORT.println();
+        REPORT.println("# Benchmark: " + name);
+
+        PrintStream original = System.out;
+        System.setOut(DISCARD);
+        try {
+            for (int i = 1; i <= warmupIterations; i++) {
+                Iteration warmup = iterate(operation);
+                REPORT.printf("# Warmup Iteration %2d: %s%n", i, warmup);
+            }
+
+            Result result = new Result(name);
+            for (int i = 1; i <= measurementIterations; i++) {
+                Iteration iteration = iterate(operation);
+                result.add(iteration);
+                REPORT.printf("Iteration %2d: %s%n", i, iteration);
+            }
+            results.add(result);
+        } catch (Exception e) {
+            REPORT.println("# FAILED: " + e);
+        } finally {
+            System.setOut(original);
+        }
+    }
+
+    private Iteration iterate(Operation operation) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : 0;
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+
+        int sink = 0;
+        long operations = 0;
+        int batch = 1;
+        long start = System.nanoTime();
+        long deadline = start + iterationNanos;
+        long now = start;
+        do {
+            for (int i = 0; i < batch; i++) {
+                sink += operation.invoke();
+            }
+            operations += batch;
+            long previous = now;
+            now = System.nanoTime();
+            if (now - previous < BATCH_NANOS && batch < MAX_BATCH) {
+                batch <<= 1;
+            }
+        } while (now < deadline);
+        blackhole = sink;
+
+        long elapsed = now - start;
+        long allocated = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore : -1;
+        return new Iteration(operations, elapsed, allocated, gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * 지금까지 측정한 결과를 JMH 요약 표와 같은 형식으로 출력
+     */
+    void printSummary() {
+        if (results.isEmpty()) {
+            REPORT.println("\n실행된 벤치마크가 없습니다." + (include != null ? " (필터: " + include + ")" : ""));
+            return;
+        }
+        int width = 9;
+        for (Result result : results) {
+            width = Math.max(width, result.name.length());
+        }
+        String format = "%-" + width + "s  %14s  %10s  %12s  %12s  %10s  %5s%n";
+        REPORT.println();
+        REPORT.printf(format, "Benchmark", "ops/s", "error", "ns/op", "B/op", "MB/s", "gc");
+        for (Result result : results) {
+            REPORT.printf(format, result.name,
+                    String.format("%.1f", result.throughput()),
+                    String.format("%.1f", result.throughputError()),
+                    String.format("%.1f", result.nanosPerOperation()),
+                    result.allocated < 0 ? "n/a" : String.format("%.1f", result.bytesPerOperation()),
+                    result.allocated < 0 ? "n/a" : String.format("%.1f", result.allocationRate()),
+                    result.gcCount);
+        }
+    }
+
+    /**
+     * 측정 반복 하나의 결과
+     */
+    private static final class Iteration {
+        final long operations;
+        final long elapsedNanos;
+        final long allocatedBytes;
+        final long gcCount;
+        final long gcMillis;
+
+        Iteration(long operations, long elapsedNanos, long allocatedBytes, long gcCount, long gcMillis) {
+            this.operations = operations;
+            this.elapsedNanos = elapsedNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        double throughput() {
+            return operations * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            String allocation = allocatedBytes < 0 ? "n/a"
+                    : String.format("%.1f B/op, %.1f MB/s", (double) allocatedBytes / operations,
+                    allocatedBytes / (elapsedNanos / 1e9) / (1024 * 1024));
+            return String.format("%.1f ops/s, %.1f ns/op, %s, gc=%d (%d ms)",
+                    throughput(), (double) elapsedNanos / operations, allocation, gcCount, gcMillis);
+        }
+    }
+
+    /**
+     * 벤치마크 하나의 측정 반복 합계
+     */
+    private static final class Result {
+        final String name;
+        final List<Double> throughputs = new ArrayList<>();
+        long operations;
+        long elapsedNanos;
+        long allocated;
+        long gcCount;
+
+        Result(String name) {
+            this.name = name;
+        }
+
+        void add(Iteration iteration) {
+            throughputs.add(iteration.throughput());
+            operations += iteration.operations;
+            elapsedNanos += iteration.elapsedNanos;
+            allocated = iteration.allocatedBytes < 0 || allocated < 0 ? -1 : allocated + iteration.allocatedBytes;
+            gcCount += iteration.gcCount;
+        }
+
+        double throughput() {
+            double sum = 0;
+            for (double value : throughputs) {
+                sum += value;
+            }
+            return sum / throughputs.size();
+        }
+
+        // 반복 간 표준편차 (반복이 하나면 0)
+        double throughputError() {
+            if (throughputs.size() < 2) {
+                return 0;
+            }
+            double mean = throughput();
+            double squares = 0;
+            for (double value : throughputs) {
+                squares += (value - mean) * (value - mean);
+            }
+            return Math.sqrt(squares / (throughputs.size() - 1));
+        }
+
+        double nanosPerOperation() {
+            return (double) elapsedNanos / operations;
+        }
+
+        double bytesPerOperation() {
+            return (double) allocated / operations;
+        }
+
+        double allocationRate() {
+            return allocated / (elapsedNanos / 1e9) / (1024 * 1024);
+        }
+    }
+}
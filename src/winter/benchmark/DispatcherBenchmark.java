@@ -0,0 +1,65 @@
+package winter.benchmark;
+
+import winter.dispatcher.Dispatcher;
+import winter.http.HttpRequest;
+import winter.http.StandardHttpResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dispatcher.dispatch 전체 요청 처리 성능 측정
+ *
+ * 세션 처리 → 핸들러 조회 → 인터셉터 체인 → 핸들러 실행 → 뷰 렌더링/JSON 직렬화 → 응답 완료까지
+ * 실제 요청과 같은 경로를 지납니다. (소켓 I/O 제외)
+ * - mvc:  GET /products       (@Controller → ModelAndView → HTML 템플릿)
+ * - rest: GET /sse/stats      (@RestController → Map 반환값 → JSON)
+ *
+ * 요청마다 세션이 새로 만들어지지 않도록 미리 만든 세션의 JSESSIONID 쿠키를 보냅니다.
+ *
+ * 실행: java -cp out winter.benchmark.DispatcherBenchmark [이름 정규식]
+ */
+public class DispatcherBenchmark {
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        if (!runner.isIncluded("dispatcher.dispatch[mvc]", "dispatcher.dispatch[rest]")) {
+            return;
+        }
+        Dispatcher dispatcher = BenchmarkRunner.quietly(Dispatcher::new);
+        try {
+            String sessionId = BenchmarkRunner.quietly(() -> dispatcher.getSessionManager().createSession().getId());
+
+            Map<String, String> htmlHeaders = new HashMap<>();
+            htmlHeaders.put("Accept", "text/html");
+            htmlHeaders.put("Cookie", "JSESSIONID=" + sessionId);
+
+            Map<String, String> jsonHeaders = new HashMap<>();
+            jsonHeaders.put("Accept", "application/json");
+            jsonHeaders.put("Cookie", "JSESSIONID=" + sessionId);
+
+            runner.run("dispatcher.dispatch[mvc]", () -> dispatch(dispatcher, "/products", htmlHeaders));
+            runner.run("dispatcher.dispatch[rest]", () -> dispatch(dispatcher, "/sse/stats", jsonHeaders));
+        } finally {
+            BenchmarkRunner.quietly(() -> {
+                dispatcher.shutdown();
+                return null;
+            });
+        }
+    }
+
+    private static int dispatch(Dispatcher dispatcher, String path, Map<String, String> headers) {
+        HttpRequest request = new HttpRequest(path, "GET", new HashMap<>(headers), null, null);
+        StandardHttpResponse response = new StandardHttpResponse();
+        dispatcher.dispatch(request, response);
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException(path + " returned " + response.getStatus());
+        }
+        return response.getBody().length();
+    }
+}
@@ -0,0 +1,37 @@
+package winter.benchmark;
+
+/**
+ * 프레임워크 핵심 경로 벤치마크 모음 (전체 실행)
+ *
+ * 포함된 벤치마크:
+ * - handlerMapping.*  AnnotationHandlerMapping.getHandler (라우트 10/100/1000개)
+ * - dispatcher.*      Dispatcher.dispatch 전체 처리 (MVC, REST)
+ * - json.*            JsonSerializer.toJson
+ * - multipart.*       MultipartParser.parseRequest (1KB/32KB/1MB)
+ * - view.*            뷰 엔진별 render
+ * - session.*         SessionManager.createSession/getSession
+ * - validation.*      AnnotationBasedValidator.validate
+ *
+ * 각 항목은 처리량(ops/s)과 함께 연산당 할당 바이트(B/op), 할당 속도(MB/s), GC 횟수를 보고합니다.
+ * 변경 전후 비교는 같은 JVM 옵션으로 실행한 요약 표를 나란히 비교하면 됩니다.
+ *
+ * 실행 (프로젝트 루트에서):
+ *   java -cp out winter.benchmark.FrameworkBenchmarks                 전체
+ *   java -cp out winter.benchmark.FrameworkBenchmarks "json|session"  이름이 정규식에 맞는 것만
+ *   java -Dbench.time=200 -Dbench.iterations=3 -cp out winter.benchmark.FrameworkBenchmarks   빠른 확인
+ */
+public class FrameworkBenchmarks {
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        HandlerMappingBenchmark.run(runner);
+        DispatcherBenchmark.run(runner);
+        JsonSerializerBenchmark.run(runner);
+        MultipartParserBenchmark.run(runner);
+        ViewEngineBenchmark.run(runner);
+        SessionManagerBenchmark.run(runner);
+        ValidationBenchmark.run(runner);
+        runner.printSummary();
+        System.exit(0); // 프레임워크가 만든 비데몬 스레드가 남아 있어도 종료
+    }
+}
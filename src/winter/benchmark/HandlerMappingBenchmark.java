@@ -0,0 +1,67 @@
+package winter.benchmark;
+
+import winter.controller.ProductController;
+import winter.dispatcher.AnnotationHandlerMapping;
+import winter.dispatcher.HandlerMethod;
+
+import java.lang.reflect.Method;
+
+/**
+ * AnnotationHandlerMapping.getHandler 조회 성능 측정
+ *
+ * 등록된 라우트 수(10/100/1000)마다 세 가지 조회를 측정합니다.
+ * - first: 첫 번째로 등록된 라우트 (가장 빠른 경우)
+ * - last:  마지막으로 등록된 라우트 (목록 끝까지 비교)
+ * - miss:  없는 경로 (404가 되는 요청)
+ *
+ * 실행: java -cp out winter.benchmark.HandlerMappingBenchmark [이름 정규식]
+ */
+public class HandlerMappingBenchmark {
+
+    private static final int[] ROUTE_COUNTS = {10, 100, 1000};
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        for (int routes : ROUTE_COUNTS) {
+            AnnotationHandlerMapping mapping = createMapping(routes);
+            String first = routePath(0);
+            String last = routePath(routes - 1);
+            String lastMethod = routeMethod(routes - 1);
+
+            runner.run("handlerMapping.getHandler[routes=" + routes + ",first]",
+                    () -> mapping.getHandler(first, "GET") != null ? 1 : 0);
+            runner.run("handlerMapping.getHandler[routes=" + routes + ",last]",
+                    () -> mapping.getHandler(last, lastMethod) != null ? 1 : 0);
+            runner.run("handlerMapping.getHandler[routes=" + routes + ",miss]",
+                    () -> mapping.getHandler("/bench/unknown/items", "GET") != null ? 1 : 0);
+        }
+    }
+
+    // 같은 핸들러 메서드를 경로만 바꿔 routes개 등록 (GET/POST 번갈아)
+    private static AnnotationHandlerMapping createMapping(int routes) {
+        try {
+            Object controller = new ProductController();
+            Method method = ProductController.class.getMethod("getAllProducts");
+            AnnotationHandlerMapping mapping = new AnnotationHandlerMapping();
+            for (int i = 0; i < routes; i++) {
+                mapping.registerHandlerMethod(new HandlerMethod(controller, method, routePath(i), routeMethod(i)));
+            }
+            return mapping;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String routePath(int index) {
+        return "/bench/resource" + index + "/items";
+    }
+
+    private static String routeMethod(int index) {
+        return index % 2 == 0 ? "GET" : "POST";
+    }
+}
@@ -0,0 +1,56 @@
+package winter.benchmark;
+
+import winter.model.Address;
+import winter.model.User;
+import winter.util.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonSerializer.toJson 직렬화 성능 측정
+ *
+ * - flatMap: 문자열/숫자/불리언 값 6개짜리 Map (REST 응답의 흔한 형태)
+ * - bean:    getter로 읽는 User → Address 중첩 객체
+ * - list100: Map 100개짜리 목록 (목록 조회 API)
+ *
+ * 실행: java -cp out winter.benchmark.JsonSerializerBenchmark [이름 정규식]
+ */
+public class JsonSerializerBenchmark {
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        Map<String, Object> flat = item(1);
+
+        User user = new User();
+        user.setName("김겨울");
+        user.setAddress(new Address("테헤란로 1", "서울시", "12345"));
+
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(item(i));
+        }
+
+        runner.run("json.toJson[flatMap]", () -> JsonSerializer.toJson(flat).length());
+        runner.run("json.toJson[bean]", () -> JsonSerializer.toJson(user).length());
+        runner.run("json.toJson[list100]", () -> JsonSerializer.toJson(list).length());
+    }
+
+    private static Map<String, Object> item(int id) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", id);
+        item.put("name", "상품 " + id);
+        item.put("description", "설명 \"따옴표\"와\n줄바꿈 포함");
+        item.put("price", 12_900 + id);
+        item.put("rating", 4.5);
+        item.put("available", id % 3 != 0);
+        return item;
+    }
+}
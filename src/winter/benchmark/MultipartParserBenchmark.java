@@ -0,0 +1,76 @@
+package winter.benchmark;
+
+import winter.http.HttpRequest;
+import winter.upload.MultipartParser;
+import winter.upload.MultipartRequest;
+import winter.upload.UploadConfig;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MultipartParser.parseRequest 파싱 성능 측정
+ *
+ * 텍스트 필드 2개 + 파일 파트 1개짜리 요청을 파일 크기별로 측정합니다.
+ * - 1KB, 32KB: 메모리에 보관 (기본 임계값 64KB 이하)
+ * - 1MB:       임시 파일로 내려씀 (디스크 기록 비용 포함, 측정 연산 안에서 임시 파일 정리)
+ *
+ * 실행: java -cp out winter.benchmark.MultipartParserBenchmark [이름 정규식]
+ */
+public class MultipartParserBenchmark {
+
+    private static final String BOUNDARY = "----WinterBenchmarkBoundary7MA4YWxkTrZu0gW";
+    private static final int[] PAYLOAD_SIZES = {1024, 32 * 1024, 1024 * 1024};
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        UploadConfig config = new UploadConfig()
+                .setTempDir(Paths.get(System.getProperty("java.io.tmpdir"), "winter-benchmark").toString());
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "multipart/form-data; boundary=" + BOUNDARY);
+
+        for (int size : PAYLOAD_SIZES) {
+            String body = multipartBody(size);
+            runner.run("multipart.parseRequest[" + label(size) + "]", () -> {
+                HttpRequest request = new HttpRequest("/upload", "POST", new HashMap<>(headers), null,
+                        new BufferedReader(new StringReader(body)));
+                MultipartRequest multipart = MultipartParser.parseRequest(request, config);
+                int files = multipart.getFileCount();
+                multipart.cleanupTempFiles();
+                return files;
+            });
+        }
+    }
+
+    private static String multipartBody(int fileSize) {
+        StringBuilder content = new StringBuilder(fileSize);
+        while (content.length() < fileSize) {
+            content.append("winter framework multipart benchmark line ").append(content.length()).append('\n');
+        }
+        content.setLength(fileSize);
+
+        return "--" + BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"title\"\r\n\r\n" +
+                "벤치마크 업로드\r\n" +
+                "--" + BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"description\"\r\n\r\n" +
+                "payload " + fileSize + " bytes\r\n" +
+                "--" + BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"file\"; filename=\"payload.txt\"\r\n" +
+                "Content-Type: text/plain\r\n\r\n" +
+                content + "\r\n" +
+                "--" + BOUNDARY + "--\r\n";
+    }
+
+    private static String label(int size) {
+        return size >= 1024 * 1024 ? (size / (1024 * 1024)) + "MB" : (size / 1024) + "KB";
+    }
+}
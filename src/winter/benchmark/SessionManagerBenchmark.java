@@ -0,0 +1,60 @@
+package winter.benchmark;
+
+import winter.http.HttpSession;
+import winter.session.SessionConfig;
+import winter.session.SessionManager;
+
+/**
+ * SessionManager 세션 생성/조회 성능 측정
+ *
+ * 저장소에 활성 세션 10,000개를 미리 만들어 둔 상태에서 측정합니다.
+ * - createSession: 세션 생성 (저장소 크기가 계속 커지지 않도록 같은 연산에서 바로 제거)
+ * - getSession:    존재하는 세션 조회 (마지막 접근 시각 갱신 포함)
+ * - getSessionMiss: 없는 세션 ID 조회 (만료/위조 쿠키)
+ *
+ * 실행: java -cp out winter.benchmark.SessionManagerBenchmark [이름 정규식]
+ */
+public class SessionManagerBenchmark {
+
+    private static final int ACTIVE_SESSIONS = 10_000;
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        if (!runner.isIncluded("session.createSession", "session.getSession", "session.getSessionMiss")) {
+            return;
+        }
+        SessionManager sessionManager = BenchmarkRunner.quietly(() -> new SessionManager(new SessionConfig()));
+        try {
+            String[] sessionIds = BenchmarkRunner.quietly(() -> {
+                String[] ids = new String[ACTIVE_SESSIONS];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = sessionManager.createSession().getId();
+                }
+                return ids;
+            });
+            int[] cursor = {0};
+
+            runner.run("session.createSession", () -> {
+                HttpSession session = sessionManager.createSession();
+                sessionManager.removeSession(session.getId());
+                return session.getId().length();
+            });
+            runner.run("session.getSession", () -> {
+                String id = sessionIds[cursor[0]++ % sessionIds.length];
+                return sessionManager.getSession(id) != null ? 1 : 0;
+            });
+            runner.run("session.getSessionMiss",
+                    () -> sessionManager.getSession("00000000-0000-0000-0000-000000000000") != null ? 1 : 0);
+        } finally {
+            BenchmarkRunner.quietly(() -> {
+                sessionManager.shutdown();
+                return null;
+            });
+        }
+    }
+}
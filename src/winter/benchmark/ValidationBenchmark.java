@@ -0,0 +1,94 @@
+package winter.benchmark;
+
+import winter.form.ValidatedUserForm;
+import winter.validation.AnnotationBasedValidator;
+import winter.validation.BindingResult;
+import winter.validation.Email;
+import winter.validation.NotEmpty;
+import winter.validation.NotNull;
+import winter.validation.Pattern;
+import winter.validation.Size;
+import winter.validation.ValidationUtils;
+import winter.validation.Validator;
+
+import java.lang.reflect.Field;
+
+/**
+ * ValidatedUserForm 검증 성능 측정 (AnnotationBasedValidator.validate)
+ *
+ * BenchmarkRunner로 JMH 벤치마크와 같은 구조(워밍업 → 측정 반복 → ops/s, ns/op, B/op)로 측정합니다.
+ * 빌드 도구 없이 바로 실행할 수 있습니다.
+ *
+ * 실행: java -cp out winter.benchmark.ValidationBenchmark [이름 정규식]
+ *
+ * 측정 항목:
+ * - planValid:     검증 계획(ClassValue 캐시)으로 올바른 폼 검증
+ * - planInvalid:   검증 계획으로 모든 필드가 틀린 폼 검증 (오류 생성 비용 포함)
+ * - reflectValid:  비교용 - 계획 도입 전과 같은 필드별 리플렉션 검증
+ */
+public class ValidationBenchmark {
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        ValidatedUserForm valid = new ValidatedUserForm(
+                "홍길동", "hong@example.com", "password123", "010-1234-5678", 30, "안녕하세요");
+        ValidatedUserForm invalid = new ValidatedUserForm(
+                "", "not-an-email", "short", "01012345678", null, "x".repeat(600));
+        Validator validator = new AnnotationBasedValidator();
+
+        runner.run("validation.planValid", () -> {
+            BindingResult result = new BindingResult(valid);
+            validator.validate(valid, result);
+            return result.getErrorCount();
+        });
+        runner.run("validation.planInvalid", () -> {
+            BindingResult result = new BindingResult(invalid);
+            validator.validate(invalid, result);
+            return result.getErrorCount();
+        });
+        runner.run("validation.reflectValid", () -> reflectiveValidate(valid));
+    }
+
+    /**
+     * 비교 기준: 검증 계획 도입 전 방식 (필드마다 getDeclaredFields/setAccessible/어노테이션 조회,
+     * @Pattern은 매번 Pattern.matches()로 재컴파일). 오류 개수를 반환합니다.
+     */
+    private static int reflectiveValidate(Object target) {
+        int errors = 0;
+        for (Field field : target.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            Object value;
+            try {
+                value = field.get(target);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            if (field.isAnnotationPresent(NotNull.class) && value == null) {
+                errors++;
+            }
+            if (field.isAnnotationPresent(NotEmpty.class) && ValidationUtils.isEmpty(value)) {
+                errors++;
+            }
+            if (field.isAnnotationPresent(Size.class) && value != null) {
+                Size size = field.getAnnotation(Size.class);
+                if (!ValidationUtils.isSizeInRange(value, size.min(), size.max())) {
+                    errors++;
+                }
+            }
+            if (field.isAnnotationPresent(Email.class) && value instanceof String
+                    && !ValidationUtils.isValidEmail((String) value)) {
+                errors++;
+            }
+            if (field.isAnnotationPresent(Pattern.class) && value instanceof String
+                    && !ValidationUtils.matchesPattern((String) value, field.getAnnotation(Pattern.class).regexp())) {
+                errors++;
+            }
+        }
+        return errors;
+    }
+}
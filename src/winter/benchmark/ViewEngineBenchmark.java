@@ -0,0 +1,60 @@
+package winter.benchmark;
+
+import winter.controller.ViewEngineController;
+import winter.http.HttpRequest;
+import winter.http.StandardHttpResponse;
+import winter.view.ModelAndView;
+import winter.view.engine.MockJspEngine;
+import winter.view.engine.MockMustacheEngine;
+import winter.view.engine.MockThymeleafEngine;
+import winter.view.engine.SimpleTemplateEngine;
+import winter.view.engine.ViewEngine;
+
+import java.util.Map;
+
+/**
+ * 뷰 엔진별 render 성능 측정
+ *
+ * ViewEngineController가 만드는 모델과 src/winter/templates의 예제 템플릿을 그대로 사용합니다.
+ * (템플릿 파일 읽기 포함 - 엔진들은 매 렌더링마다 파일을 읽음)
+ * 템플릿 경로가 상대 경로이므로 프로젝트 루트에서 실행해야 합니다.
+ *
+ * 실행: java -cp out winter.benchmark.ViewEngineBenchmark [이름 정규식]
+ */
+public class ViewEngineBenchmark {
+
+    private static final String TEMPLATE_PREFIX = "src/winter/templates/";
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(args);
+        run(runner);
+        runner.printSummary();
+    }
+
+    static void run(BenchmarkRunner runner) {
+        ViewEngineController controller = new ViewEngineController();
+        HttpRequest request = new HttpRequest("/view");
+        StandardHttpResponse response = new StandardHttpResponse();
+
+        ModelAndView simple = BenchmarkRunner.quietly(() -> controller.viewSimple(request, response));
+        ModelAndView thymeleaf = BenchmarkRunner.quietly(() -> controller.viewThymeleaf(request, response));
+        ModelAndView mustache = BenchmarkRunner.quietly(() -> controller.viewMustache(request, response));
+        ModelAndView jsp = BenchmarkRunner.quietly(() -> controller.viewJsp(request, response));
+
+        render(runner, new SimpleTemplateEngine(), "view-simple.html", simple.getModel(), request, response);
+        render(runner, new MockThymeleafEngine(), "view-thymeleaf.th", thymeleaf.getModel(), request, response);
+        render(runner, new MockMustacheEngine(), "view-mustache.mustache", mustache.getModel(), request, response);
+        render(runner, new MockJspEngine(), "view-jsp.jsp", jsp.getModel(), request, response);
+    }
+
+    private static void render(BenchmarkRunner runner, ViewEngine engine, String template, Map<String, Object> model,
+                               HttpRequest request, StandardHttpResponse response) {
+        BenchmarkRunner.quietly(() -> {
+            engine.initialize();
+            return null;
+        });
+        String templatePath = TEMPLATE_PREFIX + template;
+        runner.run("view.render[" + engine.getEngineName() + "]",
+                () -> engine.render(templatePath, model, request, response).length());
+    }
+}
@@ -0,0 +1,123 @@
+package winter.cache;
+
+import winter.http.HttpResponse;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시된 응답 하나 (렌더링이 끝난 상태 코드, 헤더, 본문)
+ *
+ * 불변 객체이므로 여러 요청 스레드가 동시에 applyTo()로 재사용할 수 있습니다.
+ */
+public final class CachedResponse {
+
+    private final String route;
+    private final int status;
+    private final Map<String, String> headers;
+    private final String body;
+    private final long createdAt;
+    private final long expiresAt;
+
+    CachedResponse(String route, int status, Map<String, String> headers, String body, long ttlMillis) {
+        this.route = route;
+        this.status = status;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body != null ? body : "";
+        this.createdAt = System.currentTimeMillis();
+        this.expiresAt = createdAt + ttlMillis;
+    }
+
+    /**
+     * 핸들러 실행과 뷰 렌더링이 끝난 응답을 캐시 항목으로 만듭니다.
+     *
+     * 핸들러 실행 전 헤더(headersBefore)와 비교하여 핸들러/뷰가 설정한 헤더만 저장합니다.
+     * (세션 처리나 CORS 인터셉터가 요청마다 설정하는 헤더는 저장하지 않음)
+     *
+     * @param route 핸들러 경로 (예: "/search")
+     * @param response 렌더링이 끝난 응답
+     * @param headersBefore 핸들러 실행 전 응답 헤더 복사본
+     * @param ttlMillis 유지 시간 (밀리초)
+     * @return 캐시 항목, 캐시할 수 없는 응답(200이 아니거나 파일 응답)이면 null
+     */
+    public static CachedResponse capture(String route, HttpResponse response,
+                                         Map<String, String> headersBefore, long ttlMillis) {
+        if (response.getStatus() != 200 || response.getFileBody() != null || response.getStreamingBody() != null) {
+            return null;
+        }
+
+        Map<String, String> produced = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : response.getHeaders().entrySet()) {
+            String before = headersBefore.get(entry.getKey());
+            if (before == null || !before.equals(entry.getValue())) {
+                produced.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        response.flushWriter(); // 뷰가 Writer로 출력한 내용을 body로 반영
+        return new CachedResponse(route, response.getStatus(), produced, response.getBody(), ttlMillis);
+    }
+
+    /**
+     * 캐시된 상태 코드, 헤더, 본문을 응답에 적용합니다.
+     */
+    public void applyTo(HttpResponse response) {
+        response.setStatus(status);
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            response.addHeader(entry.getKey(), entry.getValue());
+        }
+        response.setBody(body);
+        response.addHeader("X-Cache", "HIT");
+    }
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    /**
+     * 캐시 용량 계산에 사용하는 대략적인 크기 (바이트)
+     */
+    public long getWeight() {
+        long weight = 64L + body.length() * 2L;
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            weight += (entry.getKey().length() + entry.getValue().length()) * 2L;
+        }
+        return weight;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedResponse{" +
+                "route='" + route + '\'' +
+                ", status=" + status +
+                ", headers=" + headers.size() + " entries" +
+                ", bodyLength=" + body.length() +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,353 @@
+package winter.cache;
+
+import winter.annotation.CacheResponse;
+import winter.dispatcher.HandlerMethod;
+import winter.http.HttpRequest;
+import winter.view.ContentNegotiatingViewResolver;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @CacheResponse 핸들러의 렌더링된 응답을 저장하는 캐시
+ *
+ * 동작 방식:
+ * - 캐시 키는 "HTTP 메서드 + 핸들러 경로 + 협상된 미디어 타입 + varyBy 값"입니다.
+ * - 항목 수와 전체 크기(바이트)에 상한이 있으며, 넘으면 가장 오래 사용하지 않은 항목부터 제거합니다. (LRU)
+ * - 같은 키의 캐시 미스가 동시에 들어오면 첫 요청만 핸들러를 실행하고,
+ *   나머지 요청은 그 결과를 기다렸다가 재사용합니다. (미스 병합)
+ * - evict(경로) / evictAll()로 명시적으로 삭제할 수 있습니다.
+ *   삭제 전에 시작한 처리의 결과는 저장하지 않습니다. (경로별 세대 번호로 판단, 삭제 이후 요청은 새로 처리)
+ *
+ * 사용 흐름 (Dispatcher):
+ *   Lookup lookup = cache.begin(key);
+ *   if (lookup.getCached() != null) → 캐시된 응답 적용
+ *   else → 핸들러 실행 및 렌더링 후 lookup.complete(CachedResponse.capture(...))
+ */
+public class ResponseCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024; // 16MB
+
+    // 병합된 요청이 첫 요청의 결과를 기다리는 최대 시간 (넘으면 직접 처리)
+    private static final long COALESCE_WAIT_MILLIS = 10_000;
+
+    private static final ResponseCache DEFAULT = new ResponseCache(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+
+    private final int maxEntries;
+    private final long maxBytes;
+
+    // 접근 순서 LinkedHashMap (LRU) - this로 동기화
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    // 삭제 세대 번호 - this로 동기화 (처리 시작 시점과 저장 시점의 세대가 다르면 저장하지 않음)
+    private final Map<String, Long> routeGenerations = new HashMap<>();
+    private long globalGeneration;
+
+    // 처리 중인 캐시 미스 (키 → 첫 요청이 완료할 결과)
+    private final ConcurrentHashMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    // 통계
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseCache(int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache limits must be positive: entries=" + maxEntries + ", bytes=" + maxBytes);
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Dispatcher가 사용하는 기본 캐시 (컨트롤러에서 명시적 삭제에 사용)
+     */
+    public static ResponseCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 캐시 키를 생성합니다.
+     *
+     * 값에 구분자가 섞여도 키가 충돌하지 않도록 제어 문자(\u0000, \u0001)로 구분합니다.
+     *
+     * @param handlerMethod 핸들러 메서드
+     * @param cacheResponse 핸들러의 @CacheResponse
+     * @param request 현재 요청
+     * @return 캐시 키
+     */
+    public String createKey(HandlerMethod handlerMethod, CacheResponse cacheResponse, HttpRequest request) {
+        StringBuilder key = new StringBuilder(64);
+        key.append(request.getMethod()).append(' ').append(handlerMethod.getPath())
+                .append('\u0000').append(ContentNegotiatingViewResolver.negotiateMediaType(request));
+
+        for (String name : cacheResponse.varyBy()) {
+            key.append('\u0000').append(name).append('=');
+            if (name.startsWith("header:")) {
+                String value = request.getHeader(name.substring("header:".length()));
+                if (value != null) {
+                    key.append(value);
+                }
+            } else {
+                List<String> values = request.getParameterValues(name);
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        key.append('\u0001');
+                    }
+                    key.append(values.get(i));
+                }
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시 조회를 시작합니다.
+     *
+     * - 유효한 항목이 있으면 캐시 적중
+     * - 같은 키를 처리 중인 요청이 있으면 그 결과를 기다림 (성공하면 적중으로 처리)
+     * - 둘 다 아니면 이 요청이 처리 담당이 되며, 처리 후 반드시 complete()를 호출해야 합니다.
+     *
+     * @param key createKey()로 만든 캐시 키
+     * @return 조회 결과
+     */
+    public Lookup begin(String key) {
+        CachedResponse cached = get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return new Lookup(key, cached, null, 0);
+        }
+
+        CompletableFuture<CachedResponse> mine = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = inFlight.putIfAbsent(key, mine);
+        if (existing == null) {
+            misses.incrementAndGet();
+            return new Lookup(key, null, mine, generationOf(routeOf(key)));
+        }
+
+        // 다른 요청이 같은 응답을 만드는 중 → 결과를 기다려 재사용
+        CachedResponse shared = await(existing);
+        if (shared != null) {
+            coalesced.incrementAndGet();
+            return new Lookup(key, shared, null, 0);
+        }
+
+        // 첫 요청이 캐시할 수 없는 응답을 만들었거나 실패함 → 이 요청은 캐시 없이 직접 처리
+        misses.incrementAndGet();
+        return new Lookup(key, null, null, 0);
+    }
+
+    private CachedResponse await(CompletableFuture<CachedResponse> future) {
+        try {
+            return future.get(COALESCE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException | CancellationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 유효한 캐시 항목을 반환합니다. (만료된 항목은 제거)
+     */
+    public synchronized CachedResponse get(String key) {
+        CachedResponse cached = entries.get(key);
+        if (cached != null && cached.isExpired(System.currentTimeMillis())) {
+            remove(key);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 캐시 항목을 저장하고 상한을 넘으면 LRU 순서로 제거합니다.
+     */
+    public synchronized void put(String key, CachedResponse response) {
+        long weight = response.getWeight();
+        if (weight > maxBytes) {
+            return; // 단일 응답이 캐시 전체보다 크면 저장하지 않음
+        }
+
+        CachedResponse previous = entries.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.getWeight();
+        }
+        totalBytes += weight;
+
+        Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            Map.Entry<String, CachedResponse> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue; // 방금 저장한 항목은 제거하지 않음
+            }
+            totalBytes -= eldest.getValue().getWeight();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * 처리를 시작한 뒤 해당 경로가 삭제되지 않았을 때만 저장합니다. (삭제 전 데이터로 만든 응답을 버림)
+     */
+    private synchronized void putIfCurrent(String key, CachedResponse response, long generation) {
+        if (generationOf(routeOf(key)) != generation) {
+            return;
+        }
+        put(key, response);
+    }
+
+    // 두 세대 번호 모두 증가만 하므로 합이 같으면 그 사이에 삭제가 없었음
+    private synchronized long generationOf(String route) {
+        return globalGeneration + routeGenerations.getOrDefault(route, 0L);
+    }
+
+    // createKey()의 "메서드 경로\u0000..." 형식에서 경로 부분
+    private static String routeOf(String key) {
+        int start = key.indexOf(' ') + 1;
+        int end = key.indexOf('\u0000', start);
+        return end >= 0 ? key.substring(start, end) : key.substring(start);
+    }
+
+    /**
+     * 특정 핸들러 경로의 캐시 항목을 모두 삭제합니다. (varyBy 값, 미디어 타입과 무관)
+     * 처리 중인 같은 경로의 요청 결과도 저장하지 않으며, 이후 요청은 그 결과를 기다리지 않고 새로 처리합니다.
+     *
+     * @param route 핸들러 경로 (예: "/products")
+     * @return 삭제한 항목 수
+     */
+    public synchronized int evict(String route) {
+        routeGenerations.merge(route, 1L, Long::sum);
+        inFlight.keySet().removeIf(key -> routeOf(key).equals(route));
+
+        int removed = 0;
+        Iterator<CachedResponse> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            CachedResponse cached = iterator.next();
+            if (cached.getRoute().equals(route)) {
+                totalBytes -= cached.getWeight();
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            System.out.println("응답 캐시 삭제: " + route + " (" + removed + "개)");
+        }
+        return removed;
+    }
+
+    /**
+     * 모든 캐시 항목을 삭제합니다.
+     */
+    public synchronized void evictAll() {
+        globalGeneration++;
+        inFlight.clear();
+        entries.clear();
+        totalBytes = 0;
+        System.out.println("응답 캐시 전체 삭제");
+    }
+
+    private void remove(String key) {
+        CachedResponse removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.getWeight();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCache{" +
+                "entries=" + size() + "/" + maxEntries +
+                ", bytes=" + getTotalBytes() + "/" + maxBytes +
+                ", hits=" + hits.get() +
+                ", misses=" + misses.get() +
+                ", coalesced=" + coalesced.get() +
+                ", evictions=" + evictions.get() +
+                '}';
+    }
+
+    /**
+     * 캐시 조회 결과
+     *
+     * getCached()가 null이 아니면 그 응답을 사용하고,
+     * null이면 직접 처리한 뒤 complete()를 호출합니다. (처리 담당이 아니면 complete()는 아무 일도 하지 않음)
+     */
+    public final class Lookup {
+        private final String key;
+        private final CachedResponse cached;
+        private final CompletableFuture<CachedResponse> leader;
+        private final long generation; // 처리 시작 시점의 삭제 세대
+
+        private Lookup(String key, CachedResponse cached, CompletableFuture<CachedResponse> leader, long generation) {
+            this.key = key;
+            this.cached = cached;
+            this.leader = leader;
+            this.generation = generation;
+        }
+
+        public CachedResponse getCached() {
+            return cached;
+        }
+
+        /**
+         * 이 요청이 캐시 미스를 처리하는 담당인지 여부
+         */
+        public boolean isLeader() {
+            return leader != null;
+        }
+
+        /**
+         * 처리 결과를 저장하고 기다리는 요청들에게 전달합니다.
+         * 예외가 발생했거나 캐시할 수 없는 응답이면 null을 전달합니다. (여러 번 호출해도 안전)
+         *
+         * @param response 캐시할 응답 또는 null
+         */
+        public void complete(CachedResponse response) {
+            if (leader == null || leader.isDone()) {
+                return;
+            }
+            if (response != null) {
+                putIfCurrent(key, response, generation);
+            }
+            inFlight.remove(key, leader);
+            leader.complete(response);
+        }
+    }
+}
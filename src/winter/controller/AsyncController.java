@@ -0,0 +1,115 @@
+package winter.controller;
+
+import winter.annotation.RequestMapping;
+import winter.annotation.RequestParam;
+import winter.annotation.RestController;
+import winter.async.DeferredResult;
+import winter.http.HttpStatus;
+import winter.http.ResponseEntity;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 핸들러 반환 타입 예시 REST API
+ *
+ * 느린 백엔드 여러 곳을 호출하는 핸들러가 응답을 기다리는 동안 요청 스레드를 붙잡지 않도록
+ * CompletableFuture, CompletionStage<ResponseEntity>, DeferredResult를 반환합니다.
+ * 백엔드 응답은 스케줄러로 흉내내며, 기다리는 동안 어떤 스레드도 블록되지 않습니다.
+ *
+ * GET /async/dashboard          - 세 백엔드 호출을 병렬로 보내고 모두 도착하면 합쳐서 응답
+ * GET /async/order?id=&delay=   - CompletionStage<ResponseEntity> 반환 (지연 후 200)
+ * GET /async/deferred?delay=&timeout= - DeferredResult 반환 (타임아웃 시 202 Accepted)
+ */
+@RestController
+public class AsyncController {
+
+    // 백엔드 응답 시뮬레이션용 스케줄러 (지연 후 결과 완료)
+    private static final ScheduledExecutorService BACKEND = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "winter-async-backend");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 대시보드 - 백엔드 세 곳을 동시에 호출
+     * GET /async/dashboard
+     */
+    @RequestMapping(value = "/async/dashboard", method = "GET")
+    public CompletableFuture<Map<String, Object>> dashboard() {
+        CompletableFuture<Integer> orders = callBackend(120, 42);
+        CompletableFuture<Integer> users = callBackend(80, 1280);
+        CompletableFuture<String> status = callBackend(100, "UP");
+
+        return orders.thenCombine(users, (orderCount, userCount) -> {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("orders", orderCount);
+            result.put("users", userCount);
+            return result;
+        }).thenCombine(status, (result, systemStatus) -> {
+            result.put("status", systemStatus);
+            return result;
+        });
+    }
+
+    /**
+     * 주문 조회 - 상태 코드를 제어하는 비동기 응답
+     * GET /async/order?id=1&delay=50
+     */
+    @RequestMapping(value = "/async/order", method = "GET")
+    public CompletionStage<ResponseEntity<Map<String, Object>>> order(
+            @RequestParam("id") String id,
+            @RequestParam(value = "delay", defaultValue = "50") long delay) {
+        if (id.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest(error("INVALID_ID", "주문 ID가 비어 있습니다")));
+        }
+
+        return callBackend(delay, id).thenApply(orderId -> {
+            Map<String, Object> order = new LinkedHashMap<>();
+            order.put("id", orderId);
+            order.put("state", "SHIPPED");
+            return ResponseEntity.ok(order);
+        });
+    }
+
+    /**
+     * 외부 이벤트로 결과를 채우는 예시 - 타임아웃 안에 도착하지 않으면 202 Accepted
+     * GET /async/deferred?delay=100&timeout=1000
+     */
+    @RequestMapping(value = "/async/deferred", method = "GET")
+    public DeferredResult<ResponseEntity<Map<String, Object>>> deferred(
+            @RequestParam(value = "delay", defaultValue = "100") long delay,
+            @RequestParam(value = "timeout", defaultValue = "1000") long timeout) {
+        DeferredResult<ResponseEntity<Map<String, Object>>> result = new DeferredResult<>(timeout,
+                () -> ResponseEntity.withStatus(HttpStatus.ACCEPTED, error("PENDING", "처리 중입니다. 잠시 후 다시 조회하세요")));
+
+        BACKEND.schedule(() -> {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("result", "done");
+            body.put("delay", delay);
+            if (!result.setResult(ResponseEntity.ok(body))) {
+                System.out.println("결과 도착 전에 응답이 끝남 (타임아웃)");
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+
+        return result;
+    }
+
+    private static <T> CompletableFuture<T> callBackend(long delayMillis, T value) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        BACKEND.schedule(() -> future.complete(value), delayMillis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private static Map<String, Object> error(String code, String message) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("error", code);
+        error.put("message", message);
+        return error;
+    }
+}
@@ -0,0 +1,79 @@
+package winter.controller;
+
+import winter.annotation.OnClose;
+import winter.annotation.OnError;
+import winter.annotation.OnMessage;
+import winter.annotation.OnOpen;
+import winter.annotation.WebSocketEndpoint;
+import winter.websocket.WebSocketBroadcaster;
+import winter.websocket.WebSocketSession;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * WebSocket 채팅 예시 엔드포인트
+ *
+ * 폴링(GET /messages?since=...) 대신 연결 하나로 메시지를 주고받습니다.
+ *
+ * 연결: ws://localhost:8080/ws/chat?name=kim
+ * - 텍스트 메시지를 보내면 접속한 모든 사람에게 {"type":"message","from":"kim","text":"..."} 전송
+ * - 바이너리 메시지는 보낸 사람에게 그대로 돌려줌 (에코)
+ * - 입장/퇴장 시 {"type":"join"|"leave","name":"kim","online":3} 전송
+ */
+@WebSocketEndpoint(value = "/ws/chat", maxMessageSize = 16 * 1024)
+public class ChatEndpoint {
+
+    private static final WebSocketBroadcaster ROOM = new WebSocketBroadcaster("chat");
+
+    @OnOpen
+    public void open(WebSocketSession session) {
+        String name = session.getQueryParameter("name");
+        if (name == null || name.isBlank()) {
+            name = "guest-" + session.getId();
+        }
+        session.setAttribute("name", name);
+        ROOM.add(session);
+        ROOM.broadcast(presence("join", name));
+    }
+
+    @OnMessage
+    public void message(WebSocketSession session, String text) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", "message");
+        message.put("from", session.getAttribute("name"));
+        message.put("text", text);
+        ROOM.broadcast(message);
+    }
+
+    @OnMessage
+    public byte[] echo(byte[] data) {
+        return data;
+    }
+
+    @OnClose
+    public void close(WebSocketSession session, int code) {
+        ROOM.broadcast(presence("leave", (String) session.getAttribute("name")));
+        System.out.println("채팅 퇴장: " + session.getAttribute("name") + " (code=" + code + ")");
+    }
+
+    @OnError
+    public void error(WebSocketSession session, Throwable error) {
+        System.err.println("채팅 연결 오류 [" + session.getAttribute("name") + "]: " + error.getMessage());
+    }
+
+    /**
+     * 현재 접속자 수 (다른 컨트롤러에서 조회용)
+     */
+    public static int getOnlineCount() {
+        return ROOM.getSessionCount();
+    }
+
+    private static Map<String, Object> presence(String type, String name) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("name", name);
+        message.put("online", ROOM.getSessionCount());
+        return message;
+    }
+}
@@ -0,0 +1,115 @@
+package winter.controller;
+
+import winter.annotation.RequestMapping;
+import winter.annotation.RequestParam;
+import winter.annotation.RestController;
+import winter.http.HttpRequest;
+import winter.http.HttpStatus;
+import winter.http.ResponseEntity;
+import winter.upload.ContentAddressedStore;
+import winter.upload.FileDownloadService;
+import winter.upload.FileUploadUtil;
+import winter.upload.ThumbnailService;
+import winter.upload.UploadConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 업로드된 파일 다운로드 REST API
+ *
+ * GET /download?file=저장된파일명[&size=픽셀]
+ *
+ * - file은 업로드 응답의 논리 파일명입니다. 중복 제거 저장소(ContentAddressedStore)에 있으면 blob을,
+ *   없으면 업로드 디렉토리 바로 아래의 파일을 내려줍니다. (저장소 내부 파일, 하위 경로는 거부)
+ * - Range / If-Range / If-None-Match 등은 FileDownloadService가 처리합니다. (이어받기, 동영상 탐색 등)
+ * - 중복 제거 저장소의 파일은 내용 해시가 곧 강한 ETag가 됩니다.
+ * - size를 지정하면 준비된 썸네일을, 아직 없으면 원본을 내려줍니다. (썸네일 생성은 백그라운드에서 요청)
+ */
+@RestController
+public class FileDownloadController {
+
+    private final UploadConfig uploadConfig;
+    private final FileDownloadService downloadService;
+
+    public FileDownloadController() {
+        this.uploadConfig = new UploadConfig()
+                .setUploadDir("./uploads")
+                .setDeduplicateStorage(true)
+                .setThumbnailSizes(64, 256);
+        this.downloadService = new FileDownloadService();
+    }
+
+    /**
+     * 파일 다운로드
+     * GET /download?file=&size=
+     */
+    @RequestMapping(value = "/download", method = "GET")
+    public ResponseEntity<Object> download(@RequestParam("file") String filename,
+                                           @RequestParam(value = "size", required = false, defaultValue = "0") int size,
+                                           HttpRequest request) {
+        if (!FileUploadUtil.isSafeFilename(filename)) {
+            return ResponseEntity.badRequest(error("INVALID_FILENAME", "허용되지 않은 파일명입니다: " + filename));
+        }
+
+        try {
+            Path uploadRoot = Paths.get(uploadConfig.getUploadDir()).toAbsolutePath().normalize();
+            Path file = null;
+            String contentType = null;
+            String etag = null;
+
+            if (uploadConfig.isDeduplicateStorage()) {
+                ContentAddressedStore.StoredFile stored = ContentAddressedStore.open(uploadRoot).lookup(filename);
+                if (stored != null) {
+                    file = stored.getPath();
+                    contentType = stored.getContentType();
+                    etag = "\"" + stored.getHash() + "\"";
+                }
+            }
+
+            if (file == null) {
+                // 업로드 디렉토리 바로 아래의 일반 파일만 허용 (하위 디렉토리, 저장소 내부 파일, 심볼릭 링크 제외)
+                if (filename.indexOf('/') >= 0 || filename.indexOf('\\') >= 0
+                        || ContentAddressedStore.isStoreMetadata(filename)) {
+                    return ResponseEntity.badRequest(error("INVALID_FILENAME", "허용되지 않은 경로입니다: " + filename));
+                }
+                Path candidate = uploadRoot.resolve(filename).normalize();
+                if (!uploadRoot.equals(candidate.getParent())) {
+                    return ResponseEntity.badRequest(error("INVALID_FILENAME", "허용되지 않은 경로입니다: " + filename));
+                }
+                if (!Files.isRegularFile(candidate, LinkOption.NOFOLLOW_LINKS)) {
+                    return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("FILE_NOT_FOUND", "파일이 없습니다: " + filename));
+                }
+                file = candidate;
+                contentType = Files.probeContentType(candidate);
+            }
+
+            if (size > 0 && FileUploadUtil.isImageFile(contentType)) {
+                Path resolved = ThumbnailService.forConfig(uploadConfig).resolve(file, size);
+                if (!resolved.equals(file)) {
+                    // 썸네일은 원본과 다른 표현이므로 메타데이터 기반 ETag 사용
+                    file = resolved;
+                    contentType = Files.probeContentType(resolved);
+                    etag = null;
+                }
+            }
+
+            return downloadService.serve(file, contentType, etag, request)
+                    .withHeader("Content-Disposition", "inline; filename=\"" + filename + "\"");
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError(error("DOWNLOAD_FAILED", e.getMessage()));
+        }
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("errorCode", code);
+        body.put("error", message);
+        return body;
+    }
+}
@@ -5,15 +5,23 @@ import winter.annotation.ModelAttribute;
 import winter.annotation.RequestMapping;
 import winter.annotation.RequestParam;
 import winter.form.UserProfile;
+import winter.upload.ContentAddressedStore;
 import winter.upload.FileUploadUtil;
 import winter.upload.MultipartFile;
+import winter.upload.ThumbnailService;
 import winter.upload.UploadConfig;
+import winter.upload.UploadExecutor;
 import winter.view.ModelAndView;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 파일 업로드 기능을 테스트하는 컨트롤러
@@ -44,7 +52,9 @@ public class FileUploadController {
                 .setMaxFileSizeMB(10)               // 최대 파일 크기: 10MB
                 .setMaxRequestSizeMB(50)            // 최대 요청 크기: 50MB
                 .setAllowedExtensions(".jpg", ".jpeg", ".png", ".gif", ".pdf", ".txt", ".doc", ".docx")
-                .setCreateUploadDir(true);          // 디렉토리 자동 생성
+                .setCreateUploadDir(true)           // 디렉토리 자동 생성
+                .setDeduplicateStorage(true)        // 같은 내용은 한 번만 저장
+                .setThumbnailSizes(64, 256);        // 아바타 썸네일 크기 (백그라운드 생성)
     }
 
     /**
@@ -144,6 +154,8 @@ public class FileUploadController {
     /**
      * 다중 파일 업로드 처리
      * POST /upload/multiple
+     *
+     * 검증은 요청 스레드에서 순서대로 하고, 저장은 UploadExecutor에서 파일별로 병렬 수행합니다.
      */
     @RequestMapping(value = "/upload/multiple", method = "POST")
     public ModelAndView uploadMultipleFiles(
@@ -164,6 +176,9 @@ public class FileUploadController {
             }
 
             List<UploadResult> results = new ArrayList<>();
+            List<Integer> pendingSlots = new ArrayList<>();
+            List<MultipartFile> pendingFiles = new ArrayList<>();
+            List<Callable<String>> saveTasks = new ArrayList<>();
             long totalSize = 0;
 
             // 2. 각 파일 처리
@@ -188,63 +203,75 @@ public class FileUploadController {
                     return mav;
                 }
 
-                // 개별 파일 검증 및 저장
-                try {
-                    if (FileUploadUtil.isValidFileSize(file.getSize(), uploadConfig.getMaxFileSize()) &&
-                            FileUploadUtil.isAllowedExtension(file.getOriginalFilename(), uploadConfig.getAllowedExtensions()) &&
-                            FileUploadUtil.isSafeFilename(file.getOriginalFilename())) {
-
-                        String savedPath = saveFile(file);
-                        results.add(new UploadResult(
-                                file.getOriginalFilename(),
-                                savedPath,
-                                file.getSize(),
-                                file.getContentType(),
-                                true,
-                                null
-                        ));
-                        System.out.println("파일 저장 성공: " + savedPath);
-
-                    } else {
-                        String errorMsg = "파일 검증 실패";
-                        if (!FileUploadUtil.isValidFileSize(file.getSize(), uploadConfig.getMaxFileSize())) {
-                            errorMsg = "파일 크기 초과";
-                        } else if (!FileUploadUtil.isAllowedExtension(file.getOriginalFilename(), uploadConfig.getAllowedExtensions())) {
-                            errorMsg = "허용되지 않은 확장자";
-                        } else if (!FileUploadUtil.isSafeFilename(file.getOriginalFilename())) {
-                            errorMsg = "안전하지 않은 파일명";
-                        }
-
-                        results.add(new UploadResult(
-                                file.getOriginalFilename(),
-                                null,
-                                file.getSize(),
-                                file.getContentType(),
-                                false,
-                                errorMsg
-                        ));
-                        System.out.println("파일 검증 실패: " + file.getOriginalFilename() + " - " + errorMsg);
+                // 개별 파일 검증 (저장은 검증을 통과한 파일을 모아 병렬로 수행)
+                if (FileUploadUtil.isValidFileSize(file.getSize(), uploadConfig.getMaxFileSize()) &&
+                        FileUploadUtil.isAllowedExtension(file.getOriginalFilename(), uploadConfig.getAllowedExtensions()) &&
+                        FileUploadUtil.isSafeFilename(file.getOriginalFilename())) {
+
+                    pendingSlots.add(results.size());
+                    results.add(null); // 저장 완료 후 채워질 자리
+                    pendingFiles.add(file);
+                    saveTasks.add(() -> saveFile(file));
+
+                } else {
+                    String errorMsg = "파일 검증 실패";
+                    if (!FileUploadUtil.isValidFileSize(file.getSize(), uploadConfig.getMaxFileSize())) {
+                        errorMsg = "파일 크기 초과";
+                    } else if (!FileUploadUtil.isAllowedExtension(file.getOriginalFilename(), uploadConfig.getAllowedExtensions())) {
+                        errorMsg = "허용되지 않은 확장자";
+                    } else if (!FileUploadUtil.isSafeFilename(file.getOriginalFilename())) {
+                        errorMsg = "안전하지 않은 파일명";
                     }
-                } catch (Exception e) {
+
                     results.add(new UploadResult(
                             file.getOriginalFilename(),
                             null,
                             file.getSize(),
                             file.getContentType(),
                             false,
-                            "저장 실패: " + e.getMessage()
+                            errorMsg
                     ));
-                    System.err.println("파일 저장 실패: " + file.getOriginalFilename() + " - " + e.getMessage());
+                    System.out.println("파일 검증 실패: " + file.getOriginalFilename() + " - " + errorMsg);
                 }
             }
 
-            // 3. 결과 통계 계산
+            // 3. 검증을 통과한 파일들을 I/O 실행기에서 병렬로 저장하고 모두 끝날 때까지 대기
+            List<CompletableFuture<String>> saved = UploadExecutor.invokeAll(saveTasks);
+            for (int i = 0; i < saved.size(); i++) {
+                int slot = pendingSlots.get(i);
+                MultipartFile file = pendingFiles.get(i);
+                try {
+                    String savedPath = saved.get(i).join();
+                    results.set(slot, new UploadResult(
+                            file.getOriginalFilename(),
+                            savedPath,
+                            file.getSize(),
+                            file.getContentType(),
+                            true,
+                            null
+                    ));
+                    System.out.println("파일 저장 성공: " + savedPath);
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    results.set(slot, new UploadResult(
+                            file.getOriginalFilename(),
+                            null,
+                            file.getSize(),
+                            file.getContentType(),
+                            false,
+                            "저장 실패: " + cause.getMessage()
+                    ));
+                    System.err.println("파일 저장 실패: " + file.getOriginalFilename() + " - " + cause.getMessage());
+                }
+            }
+
+            // 4. 결과 통계 계산
             long successCount = results.stream().mapToLong(r -> r.isSuccess() ? 1 : 0).sum();
             long failCount = results.size() - successCount;
 
             System.out.println("업로드 완료 - 성공: " + successCount + ", 실패: " + failCount);
 
-            // 4. 성공 응답
+            // 5. 성공 응답
             ModelAndView mav = new ModelAndView("upload-multiple-success");
             mav.addAttribute("results", results);
             mav.addAttribute("category", category);
@@ -324,6 +351,9 @@ public class FileUploadController {
                 String avatarPath = saveFile(avatar);
                 profile.setAvatarPath(avatarPath);
                 System.out.println("아바타 저장 완료: " + avatarPath);
+
+                // 썸네일은 백그라운드에서 생성 (응답은 기다리지 않음)
+                ThumbnailService.forConfig(uploadConfig).requestThumbnails(resolveStoredFile(avatarPath));
             }
 
             // 4. 프로필 저장 (실제로는 데이터베이스에 저장)
@@ -401,7 +431,7 @@ public class FileUploadController {
      * 파일 저장 유틸리티 메서드
      *
      * @param file 저장할 파일
-     * @return 저장된 파일의 경로
+     * @return 저장된 논리 파일명 (GET /download?file=로 내려받을 때 사용)
      * @throws IOException 파일 저장 실패시
      */
     private String saveFile(MultipartFile file) throws IOException {
@@ -411,6 +441,16 @@ public class FileUploadController {
         // 2. 고유한 파일명 생성 (UUID 기반)
         String uniqueFilename = FileUploadUtil.generateUniqueFileName(file.getOriginalFilename());
 
+        // 중복 제거 모드: 논리명(uniqueFilename) → 내용 해시로 저장
+        if (uploadConfig.isDeduplicateStorage()) {
+            ContentAddressedStore.StoredFile stored = ContentAddressedStore
+                    .open(Paths.get(uploadConfig.getUploadDir()))
+                    .store(uniqueFilename, file);
+            System.out.println("파일 저장: " + file.getOriginalFilename() + " -> " + stored.getPath() +
+                    (stored.isDeduplicated() ? " (중복 내용, 기존 파일 재사용)" : ""));
+            return uniqueFilename;
+        }
+
         // 3. 안전한 파일 경로 생성
         String filePath = FileUploadUtil.createSafeFilePath(uploadConfig.getUploadDir(), uniqueFilename);
 
@@ -419,7 +459,22 @@ public class FileUploadController {
         file.transferTo(destFile);
 
         System.out.println("파일 저장: " + file.getOriginalFilename() + " -> " + filePath);
-        return filePath;
+        return uniqueFilename;
+    }
+
+    /**
+     * 논리 파일명이 실제로 저장된 위치 (중복 제거 모드면 blob 경로)
+     */
+    private Path resolveStoredFile(String logicalName) throws IOException {
+        if (uploadConfig.isDeduplicateStorage()) {
+            ContentAddressedStore.StoredFile stored = ContentAddressedStore
+                    .open(Paths.get(uploadConfig.getUploadDir()))
+                    .lookup(logicalName);
+            if (stored != null) {
+                return stored.getPath();
+            }
+        }
+        return Paths.get(uploadConfig.getUploadDir(), logicalName);
     }
 
     /**
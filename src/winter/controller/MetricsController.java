@@ -0,0 +1,62 @@
+package winter.controller;
+
+import winter.annotation.RequestMapping;
+import winter.annotation.RequestParam;
+import winter.annotation.RestController;
+import winter.http.ResponseEntity;
+import winter.metrics.MetricRegistry;
+import winter.metrics.MetricSnapshot;
+import winter.metrics.RequestResourceTracker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프레임워크 메트릭 REST API
+ *
+ * GET  /metrics                                  - Prometheus 텍스트 형식 (스크레이프 대상)
+ * GET  /metrics?format=json                      - 같은 스냅샷의 JSON + 요청별 자원 사용량 요약
+ * POST /metrics/request-resources?enabled=true   - 요청별 자원 측정 켜기/끄기 (reset=true면 집계 초기화)
+ *
+ * 스냅샷은 MetricRegistry가 캐시하므로 (기본 1초) 스크레이프가 몰려도 수집은 한 번만 합니다.
+ * 요청별 자원 측정은 기본으로 꺼져 있습니다. (-Dwinter.metrics.requestResources=true로 시작 시 켜기)
+ */
+@RestController
+public class MetricsController {
+
+    /**
+     * 메트릭 조회
+     * GET /metrics, GET /metrics?format=json
+     */
+    @RequestMapping(value = "/metrics", method = "GET")
+    public ResponseEntity<?> metrics(@RequestParam(value = "format", defaultValue = "prometheus") String format) {
+        MetricSnapshot snapshot = MetricRegistry.getDefault().snapshot();
+        if ("json".equalsIgnoreCase(format)) {
+            Map<String, Object> metrics = new LinkedHashMap<>(snapshot.toMap());
+            metrics.put("requestResources", RequestResourceTracker.getDefault().toMap());
+            return ResponseEntity.ok(metrics);
+        }
+        return ResponseEntity.ok(snapshot.toPrometheusText())
+                .withHeader("Content-Type", MetricSnapshot.PROMETHEUS_CONTENT_TYPE);
+    }
+
+    /**
+     * 요청별 자원 측정 설정
+     * POST /metrics/request-resources?enabled=true&reset=true
+     */
+    @RequestMapping(value = "/metrics/request-resources", method = "POST")
+    public Map<String, Object> configureRequestResources(
+            @RequestParam(value = "enabled", defaultValue = "true") boolean enabled,
+            @RequestParam(value = "reset", defaultValue = "false") boolean reset) {
+        RequestResourceTracker tracker = RequestResourceTracker.getDefault();
+        if (reset) {
+            tracker.reset();
+        }
+        tracker.setEnabled(enabled);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", tracker.isEnabled());
+        result.put("handlers", tracker.getHandlers().size());
+        return result;
+    }
+}
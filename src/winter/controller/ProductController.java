@@ -1,7 +1,9 @@
 package winter.controller;
 
+import winter.annotation.CacheResponse;
 import winter.annotation.Controller;
 import winter.annotation.RequestMapping;
+import winter.cache.ResponseCache;
 import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.view.ModelAndView;
@@ -26,8 +28,10 @@ public class ProductController {
      * GET /products
      *
      * 파라미터 없는 메서드 예시
+     * 응답은 60초 동안 캐시됩니다. (상품 생성 시 삭제)
      */
     @RequestMapping(value = "/products", method = "GET")
+    @CacheResponse(ttl = 60)
     public ModelAndView getAllProducts() {
         ModelAndView mv = new ModelAndView("products");
         mv.addAttribute("title", "Product List");
@@ -76,6 +80,9 @@ public class ProductController {
             return mv;
         }
 
+        // 상품 목록이 바뀌었으므로 캐시된 목록 응답 삭제
+        ResponseCache.getDefault().evict("/products");
+
         ModelAndView mv = new ModelAndView("product-created");
         mv.addAttribute("productName", productName);
         mv.addAttribute("price", price != null ? price : "0");
@@ -0,0 +1,255 @@
+package winter.controller;
+
+import winter.annotation.RequestMapping;
+import winter.annotation.RequestParam;
+import winter.annotation.RestController;
+import winter.http.HttpRequest;
+import winter.http.HttpStatus;
+import winter.http.ResponseEntity;
+import winter.upload.ContentAddressedStore;
+import winter.upload.DiskMultipartFile;
+import winter.upload.FileUploadUtil;
+import winter.upload.ResumableUploadManager;
+import winter.upload.ResumableUploadManager.ResumableUpload;
+import winter.upload.UploadLimitExceededException;
+import winter.upload.UploadConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재개 가능한 청크 업로드 REST API
+ *
+ * 네트워크가 불안정해도 큰 파일을 처음부터 다시 보내지 않도록, 파일을 청크 단위로 나눠 업로드합니다.
+ *
+ * 엔드포인트:
+ * - POST   /upload/resumable/initiate?filename=&size=&chunkSize=   세션 시작 (201)
+ *   (chunkSize는 64KB 이상, 청크 수는 65536개 이하 - 벗어나면 400)
+ *   (진행 중인 세션이 너무 많으면 503, 30분 동안 청크가 없는 세션은 자동 정리)
+ * - PUT    /upload/resumable/chunk?uploadId=  + Content-Range      청크 업로드 (200, 잘못된 범위는 416)
+ * - GET    /upload/resumable/status?uploadId=                      받은/빠진 범위 조회
+ * - POST   /upload/resumable/complete?uploadId=                    완료 (201, 빠진 청크가 있으면 409)
+ * - DELETE /upload/resumable/abort?uploadId=                       취소
+ *
+ * 청크는 서로 독립적으로 기록되므로 클라이언트는 여러 청크를 동시에 보낼 수 있고,
+ * 연결이 끊기면 status로 빠진 범위만 확인해서 다시 보내면 됩니다.
+ */
+@RestController
+public class ResumableUploadController {
+
+    private final UploadConfig uploadConfig;
+    private final ResumableUploadManager uploadManager;
+
+    public ResumableUploadController() {
+        this.uploadConfig = new UploadConfig()
+                .setUploadDir("./uploads")
+                .setMaxFileSizeMB(1024)             // 청크 업로드는 대용량 파일용: 최대 1GB
+                .setAllowedExtensions(".jpg", ".jpeg", ".png", ".gif", ".pdf", ".txt", ".doc", ".docx",
+                        ".zip", ".mp4")
+                .setDeduplicateStorage(true);
+        this.uploadManager = new ResumableUploadManager(uploadConfig);
+    }
+
+    /**
+     * 업로드 세션 시작
+     * POST /upload/resumable/initiate
+     */
+    @RequestMapping(value = "/upload/resumable/initiate", method = "POST")
+    public ResponseEntity<Map<String, Object>> initiate(
+            @RequestParam("filename") String filename,
+            @RequestParam("size") long size,
+            @RequestParam(value = "chunkSize", required = false, defaultValue = "0") long chunkSize,
+            @RequestParam(value = "contentType", required = false) String contentType) {
+
+        if (!FileUploadUtil.isSafeFilename(filename) ||
+                !FileUploadUtil.isAllowedExtension(filename, uploadConfig.getAllowedExtensions())) {
+            return ResponseEntity.badRequest(error("INVALID_FILENAME", "허용되지 않은 파일명입니다: " + filename));
+        }
+
+        try {
+            ResumableUpload upload = uploadManager.initiate(filename, contentType, size, chunkSize);
+            return ResponseEntity.created(describe(upload))
+                    .withHeader("Location", "/upload/resumable/status?uploadId=" + upload.getUploadId());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest(error("INVALID_SIZE", e.getMessage()));
+        } catch (UploadLimitExceededException e) {
+            return ResponseEntity.withStatus(HttpStatus.SERVICE_UNAVAILABLE, error("TOO_MANY_UPLOADS", e.getMessage()))
+                    .withHeader("Retry-After", "60");
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError(error("INITIATE_FAILED", e.getMessage()));
+        }
+    }
+
+    /**
+     * 청크 업로드
+     * PUT /upload/resumable/chunk
+     * 헤더: Content-Range: bytes start-end/total
+     */
+    @RequestMapping(value = "/upload/resumable/chunk", method = "PUT")
+    public ResponseEntity<Map<String, Object>> uploadChunk(@RequestParam("uploadId") String uploadId,
+                                                           HttpRequest request) {
+        ResumableUpload upload = uploadManager.getUpload(uploadId);
+        if (upload == null) {
+            return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("UNKNOWN_UPLOAD", "업로드 세션이 없습니다: " + uploadId));
+        }
+
+        long[] range = ResumableUploadManager.parseContentRange(request.getHeader("Content-Range"));
+        if (range == null || range[2] != upload.getTotalSize()) {
+            return ResponseEntity.withStatus(HttpStatus.RANGE_NOT_SATISFIABLE,
+                    error("INVALID_CONTENT_RANGE", "Content-Range 형식은 'bytes start-end/" + upload.getTotalSize() + "' 이어야 합니다."))
+                    .withHeader("Content-Range", "bytes */" + upload.getTotalSize());
+        }
+
+        try {
+            byte[] data = readBody(request);
+            uploadManager.writeChunk(uploadId, range[0], range[1], data);
+            return ResponseEntity.ok(describe(upload));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.withStatus(HttpStatus.RANGE_NOT_SATISFIABLE, error("INVALID_CHUNK", e.getMessage()))
+                    .withHeader("Content-Range", "bytes */" + upload.getTotalSize());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("UNKNOWN_UPLOAD", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError(error("CHUNK_WRITE_FAILED", e.getMessage()));
+        }
+    }
+
+    /**
+     * 받은 범위 조회
+     * GET /upload/resumable/status
+     */
+    @RequestMapping(value = "/upload/resumable/status", method = "GET")
+    public ResponseEntity<Map<String, Object>> status(@RequestParam("uploadId") String uploadId) {
+        ResumableUpload upload = uploadManager.getUpload(uploadId);
+        if (upload == null) {
+            return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("UNKNOWN_UPLOAD", "업로드 세션이 없습니다: " + uploadId));
+        }
+        return ResponseEntity.ok(describe(upload))
+                .withHeader("Cache-Control", "no-store");
+    }
+
+    /**
+     * 업로드 완료
+     * POST /upload/resumable/complete
+     */
+    @RequestMapping(value = "/upload/resumable/complete", method = "POST")
+    public ResponseEntity<Map<String, Object>> complete(@RequestParam("uploadId") String uploadId) {
+        ResumableUpload upload = uploadManager.getUpload(uploadId);
+        if (upload == null) {
+            return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("UNKNOWN_UPLOAD", "업로드 세션이 없습니다: " + uploadId));
+        }
+        if (!upload.isComplete()) {
+            Map<String, Object> body = error("INCOMPLETE_UPLOAD", "아직 받지 못한 청크가 있습니다.");
+            body.put("missingRanges", String.join(",", upload.getMissingRanges()));
+            return ResponseEntity.conflict(body);
+        }
+
+        DiskMultipartFile file = null;
+        try {
+            file = uploadManager.complete(uploadId);
+            String savedFile = saveFile(file);
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("uploadId", uploadId);
+            body.put("filename", file.getOriginalFilename());
+            body.put("size", file.getSize());
+            body.put("file", savedFile);
+            body.put("downloadUrl", "/download?file=" + savedFile);
+            return ResponseEntity.created(body);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.conflict(error("INCOMPLETE_UPLOAD", e.getMessage()));
+        } catch (IOException e) {
+            // 세션은 이미 제거되어 abort나 만료 정리가 닿지 않으므로 작업 파일을 여기서 삭제
+            if (file != null) {
+                file.delete();
+            }
+            return ResponseEntity.internalServerError(error("COMPLETE_FAILED", e.getMessage()));
+        }
+    }
+
+    /**
+     * 업로드 취소
+     * DELETE /upload/resumable/abort
+     */
+    @RequestMapping(value = "/upload/resumable/abort", method = "DELETE")
+    public ResponseEntity<Map<String, Object>> abort(@RequestParam("uploadId") String uploadId) {
+        if (!uploadManager.abort(uploadId)) {
+            return ResponseEntity.withStatus(HttpStatus.NOT_FOUND, error("UNKNOWN_UPLOAD", "업로드 세션이 없습니다: " + uploadId));
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("uploadId", uploadId);
+        body.put("aborted", true);
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * 완성된 파일을 업로드 디렉토리로 옮깁니다. (원자적 이름 변경, 데이터 복사 없음)
+     *
+     * @return 저장된 논리 파일명 (GET /download?file=로 내려받을 때 사용)
+     */
+    private String saveFile(DiskMultipartFile file) throws IOException {
+        String uniqueFilename = FileUploadUtil.generateUniqueFileName(file.getOriginalFilename());
+
+        if (uploadConfig.isDeduplicateStorage()) {
+            ContentAddressedStore.StoredFile stored = ContentAddressedStore
+                    .open(Paths.get(uploadConfig.getUploadDir()))
+                    .store(uniqueFilename, file);
+            if (stored.isDeduplicated()) {
+                file.delete(); // 같은 내용이 이미 있으므로 작업 파일은 필요 없음
+            }
+            return uniqueFilename;
+        }
+
+        FileUploadUtil.ensureDirectoryExists(uploadConfig.getUploadDir());
+        String filePath = FileUploadUtil.createSafeFilePath(uploadConfig.getUploadDir(), uniqueFilename);
+        file.transferTo(new File(filePath));
+        return uniqueFilename;
+    }
+
+    /**
+     * 요청 본문 전체를 바이트로 읽습니다. (줄바꿈을 포함해 그대로 보존)
+     */
+    private byte[] readBody(HttpRequest request) throws IOException {
+        // 소켓으로 받은 요청은 원본 바이트를 그대로 사용 (문자열 변환을 거치면 바이너리 청크가 손상됨)
+        byte[] rawBody = request.getRawBody();
+        if (rawBody != null) {
+            return rawBody;
+        }
+        // 원본 바이트가 없는 요청 (프로그램에서 직접 만든 요청)은 텍스트 본문만 지원
+        StringBuilder sb = new StringBuilder();
+        BufferedReader reader = request.getBody();
+        char[] buffer = new char[8192];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            sb.append(buffer, 0, read);
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Map<String, Object> describe(ResumableUpload upload) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("uploadId", upload.getUploadId());
+        body.put("filename", upload.getFilename());
+        body.put("totalSize", upload.getTotalSize());
+        body.put("chunkSize", upload.getChunkSize());
+        body.put("totalChunks", upload.getTotalChunks());
+        body.put("receivedChunks", upload.getReceivedChunks());
+        // 범위 목록은 Range 헤더와 같은 "start-end,start-end" 형식의 문자열로 전달
+        body.put("receivedRanges", String.join(",", upload.getReceivedRanges()));
+        body.put("missingRanges", String.join(",", upload.getMissingRanges()));
+        body.put("complete", upload.isComplete());
+        return body;
+    }
+
+    private Map<String, Object> error(String code, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("errorCode", code);
+        body.put("error", message);
+        return body;
+    }
+}
@@ -1,5 +1,6 @@
 package winter.controller;
 
+import winter.annotation.CacheResponse;
 import winter.annotation.Controller;
 import winter.annotation.ModelAttribute;
 import winter.annotation.RequestMapping;
@@ -25,8 +26,10 @@ public class SearchController {
     /**
      * 기본 검색 - @RequestParam 사용
      * GET /search?keyword=spring&page=1
+     * 같은 keyword/page 조합의 응답은 30초 동안 캐시됩니다.
      */
     @RequestMapping(value = "/search", method = "GET")
+    @CacheResponse(ttl = 30, varyBy = {"keyword", "page"})
     public ModelAndView search(@RequestParam("keyword") String keyword,
                                @RequestParam(value = "page", defaultValue = "1") int page) {
 
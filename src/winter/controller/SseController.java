@@ -0,0 +1,106 @@
+package winter.controller;
+
+import winter.annotation.RequestMapping;
+import winter.annotation.RequestParam;
+import winter.annotation.RestController;
+import winter.http.ResponseEntity;
+import winter.sse.SseBroadcaster;
+import winter.sse.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events 대시보드 예시 REST API
+ *
+ * 대시보드가 /api/... 를 매초 폴링하는 대신 스트림 하나를 구독하고 서버가 변경 사항을 밀어줍니다.
+ *
+ * GET  /sse/dashboard          - 대시보드 스트림 구독 (연결 직후 현재 상태, 이후 1초마다 갱신)
+ * POST /sse/notify?message=    - 모든 구독자에게 알림 이벤트 전송
+ * GET  /sse/stats              - 브로드캐스터 통계
+ */
+@RestController
+public class SseController {
+
+    // 구독자 공용 브로드캐스터 (구독 10분 후 종료 → 클라이언트 EventSource가 자동 재연결)
+    private static final SseBroadcaster DASHBOARD = new SseBroadcaster("dashboard", 600_000, 64);
+
+    private static final AtomicLong EVENT_SEQUENCE = new AtomicLong();
+
+    // 대시보드 갱신 발행 (구독자가 있을 때만 이벤트 생성)
+    private static final ScheduledExecutorService PUBLISHER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "winter-sse-dashboard");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        PUBLISHER.scheduleAtFixedRate(() -> {
+            if (DASHBOARD.getSubscriberCount() > 0) {
+                DASHBOARD.broadcast(SseEmitter.event()
+                        .id(String.valueOf(EVENT_SEQUENCE.incrementAndGet()))
+                        .name("dashboard")
+                        .data(snapshot()));
+            }
+        }, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 대시보드 스트림 구독
+     * GET /sse/dashboard
+     */
+    @RequestMapping(value = "/sse/dashboard", method = "GET")
+    public SseEmitter dashboard() throws IOException {
+        SseEmitter emitter = DASHBOARD.subscribe();
+        // 첫 갱신을 기다리지 않도록 현재 상태를 바로 보냄 (연결되면 전송됨)
+        emitter.send(SseEmitter.event().name("dashboard").reconnectTime(3000).data(snapshot()));
+        return emitter;
+    }
+
+    /**
+     * 모든 구독자에게 알림 전송
+     * POST /sse/notify?message=배포 완료
+     */
+    @RequestMapping(value = "/sse/notify", method = "POST")
+    public ResponseEntity<Map<String, Object>> notify(@RequestParam("message") String message) {
+        int delivered = DASHBOARD.broadcast(SseEmitter.event()
+                .id(String.valueOf(EVENT_SEQUENCE.incrementAndGet()))
+                .name("notice")
+                .data(message));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("delivered", delivered);
+        result.put("subscribers", DASHBOARD.getSubscriberCount());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 브로드캐스터 통계
+     * GET /sse/stats
+     */
+    @RequestMapping(value = "/sse/stats", method = "GET")
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", DASHBOARD.getSubscriberCount());
+        stats.put("totalSubscriptions", DASHBOARD.getTotalSubscriptions());
+        stats.put("broadcasts", DASHBOARD.getBroadcasts());
+        stats.put("deliveredFrames", DASHBOARD.getDeliveredFrames());
+        stats.put("evictions", DASHBOARD.getEvictions());
+        return stats;
+    }
+
+    private static Map<String, Object> snapshot() {
+        Runtime runtime = Runtime.getRuntime();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timestamp", System.currentTimeMillis());
+        snapshot.put("subscribers", DASHBOARD.getSubscriberCount());
+        snapshot.put("usedMemoryMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        snapshot.put("threads", Thread.activeCount());
+        return snapshot;
+    }
+}
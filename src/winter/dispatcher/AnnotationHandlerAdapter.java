@@ -2,6 +2,9 @@ package winter.dispatcher;
 
 import winter.annotation.ModelAttribute;
 import winter.annotation.RequestParam;
+import winter.async.AsyncModelAndView;
+import winter.async.AsyncSupport;
+import winter.async.DeferredResult;
 import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.util.ModelAttributeBinder;
@@ -30,6 +33,7 @@ import java.lang.reflect.Parameter;
  * - public ModelAndView method(@ModelAttribute UserForm form)
  * - public ModelAndView method(@Valid @ModelAttribute UserForm form, BindingResult result)
  * - public ModelAndView method(@RequestParam("id") int id, @Valid @ModelAttribute UserForm form, BindingResult result)
+ * - public CompletableFuture<ModelAndView> method(...) / DeferredResult<ModelAndView> method(...) (비동기)
  * - 기타 다양한 조합...
  */
 public class AnnotationHandlerAdapter implements HandlerAdapter {
@@ -226,14 +230,28 @@ public class AnnotationHandlerAdapter implements HandlerAdapter {
         // 메서드 실행
         Object result = method.invoke(controller, arguments);
 
-        // 반환값이 ModelAndView가 아닌 경우 예외 발생
+        // 비동기 반환값: 결과(ModelAndView)가 도착하면 같은 검사를 거쳐 렌더링
+        DeferredResult<?> deferredResult = AsyncSupport.toDeferredResult(result);
+        if (deferredResult != null) {
+            System.out.println("비동기 반환값 감지 → 결과 도착 후 처리: " + result.getClass().getSimpleName());
+            return new AsyncModelAndView(deferredResult, value -> toModelAndView(method, value));
+        }
+
+        return toModelAndView(method, result);
+    }
+
+    /**
+     * 핸들러 반환값이 ModelAndView인지 확인합니다.
+     *
+     * @throws IllegalArgumentException 반환값이 ModelAndView가 아닌 경우
+     */
+    private ModelAndView toModelAndView(Method method, Object result) {
         if (!(result instanceof ModelAndView)) {
             throw new IllegalArgumentException(
                     "Handler method must return ModelAndView. " +
                             "Method: " + method.getName() + " returned: " +
                             (result != null ? result.getClass().getName() : "null"));
         }
-
         return (ModelAndView) result;
     }
 
@@ -102,6 +102,19 @@ public class AnnotationHandlerMapping {
         }
     }
 
+    /**
+     * 이미 만들어진 HandlerMethod를 직접 등록합니다.
+     * 어노테이션 없이 라우트를 추가해야 하는 경우(벤치마크의 대량 라우트 등)에 사용합니다.
+     *
+     * @param handlerMethod 등록할 핸들러 메서드
+     */
+    public void registerHandlerMethod(HandlerMethod handlerMethod) {
+        if (handlerMethod == null) {
+            throw new IllegalArgumentException("HandlerMethod cannot be null");
+        }
+        handlerMethods.add(handlerMethod);
+    }
+
     /**
      * 요청 경로와 HTTP 메서드에 매칭되는 핸들러를 찾습니다.
      *
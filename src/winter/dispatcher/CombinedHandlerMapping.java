@@ -88,6 +88,21 @@ public class CombinedHandlerMapping {
                 System.err.println("ResponseEntityController 등록 실패: " + e.getMessage());
             }
 
+            // 재개 가능한 청크 업로드 API 등록
+            annotationHandlerMapping.registerController(ResumableUploadController.class);
+
+            // 업로드 파일 다운로드 API 등록 (Range / 조건부 요청 지원)
+            annotationHandlerMapping.registerController(FileDownloadController.class);
+
+            // 비동기 반환 타입(CompletableFuture, DeferredResult) 예시 API 등록
+            annotationHandlerMapping.registerController(AsyncController.class);
+
+            // Server-Sent Events 스트리밍 예시 API 등록
+            annotationHandlerMapping.registerController(SseController.class);
+
+            // 프레임워크 메트릭 API 등록 (요청별 할당 바이트/CPU 시간)
+            annotationHandlerMapping.registerController(MetricsController.class);
+
             // 추후 추가될 REST 컨트롤러들을 여기에 등록
             // annotationHandlerMapping.registerController(UserApiController.class);
             // annotationHandlerMapping.registerController(ProductApiController.class);
@@ -163,6 +178,21 @@ public class CombinedHandlerMapping {
         return null;
     }
 
+    /**
+     * 라우트 테이블에 등록된 모든 경로를 반환합니다.
+     * Dispatcher가 라우트별 인터셉터 배열을 미리 계산할 때 사용합니다.
+     *
+     * @return 어노테이션 핸들러 경로 + 레거시 핸들러 경로
+     */
+    public java.util.Set<String> getAllRoutePaths() {
+        java.util.Set<String> paths = new java.util.LinkedHashSet<>();
+        for (HandlerMethod handler : annotationHandlerMapping.getAllHandlers()) {
+            paths.add(handler.getPath());
+        }
+        paths.addAll(legacyHandlerMapping.getPaths());
+        return paths;
+    }
+
     /**
      * 레거시 핸들러 매핑 객체를 반환합니다.
      * 기존 코드와의 호환성을 위해 제공됩니다.
@@ -1,14 +1,26 @@
 package winter.dispatcher;
 
+import winter.annotation.CacheResponse;
+import winter.async.AsyncModelAndView;
+import winter.async.AsyncRequestTimeoutException;
+import winter.async.AsyncSupport;
+import winter.batch.BatchRequestHandler;
+import winter.cache.CachedResponse;
+import winter.cache.ResponseCache;
 import winter.excption.ExceptionResolver;
 import winter.excption.SimpleExceptionResolver;
+import winter.http.ETagSupport;
 import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.http.HttpSession;
+import winter.http.ResponseCompressor;
 import winter.http.StandardHttpResponse;  // 29단계 추가: 구체 구현체 import
 import winter.interceptor.*;
+import winter.metrics.FrameworkMetrics;
+import winter.metrics.RequestResourceTracker;
 import winter.session.SessionConfig;
 import winter.session.SessionManager;
+import winter.trace.DispatchEvents;
 import winter.upload.MultipartParser;
 import winter.upload.MultipartRequest;
 import winter.view.ContentNegotiatingViewResolver; // 30챕터: IntegratedViewResolver 대신 사용
@@ -16,9 +28,13 @@ import winter.view.ModelAndView;
 import winter.view.View;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dispatcher는 클라이언트 요청을 받아,
@@ -85,9 +101,27 @@ public class Dispatcher {
     // 27단계: 인터셉터 체인 (완전 유지)
     private final InterceptorChain interceptorChain = new InterceptorChain();
 
+    // CORS Preflight 빠른 경로에서 사용하는 인터셉터 (체인에 등록된 것과 같은 인스턴스)
+    private CorsInterceptor corsInterceptor;
+
     // 25단계: 세션 관리자 (완전 유지)
     private final SessionManager sessionManager;
 
+    // @CacheResponse 핸들러의 응답 캐시
+    private final ResponseCache responseCache = ResponseCache.getDefault();
+
+    // 요청별 할당 바이트/CPU 시간 집계 (기본 꺼짐, GET /metrics로 조회)
+    private final RequestResourceTracker resourceTracker = RequestResourceTracker.getDefault();
+
+    // 정적 리소스 캐시 (내용, ETag, gzip 압축본)
+    private final StaticResourceCache staticResourceCache = new StaticResourceCache();
+
+    // POST /batch: 하위 요청을 병렬로 처리하고 결과를 하나의 JSON 배열로 응답
+    private final BatchRequestHandler batchRequestHandler = new BatchRequestHandler(this);
+
+    // 비동기 핸들러(CompletableFuture, DeferredResult)의 기본 타임아웃
+    private volatile long asyncRequestTimeoutMillis = AsyncSupport.DEFAULT_TIMEOUT_MILLIS;
+
     // 정적 리소스 기본 경로 설정 (완전 유지)
     private final String staticBasePath = "src/winter/static";
 
@@ -98,6 +132,16 @@ public class Dispatcher {
      * REST API 지원 활성화
      */
     public Dispatcher() {
+        this(null);
+    }
+
+    /**
+     * 액세스 로그 모드로 Dispatcher를 생성합니다.
+     * 기본 인터셉터 체인의 LoggingInterceptor가 콘솔 배너 대신 파일에 요청당 한 줄씩 비동기로 기록합니다.
+     *
+     * @param accessLogFile 액세스 로그 파일 경로 (null이면 콘솔 로깅)
+     */
+    public Dispatcher(String accessLogFile) {
         // 세션 설정 초기화 (25단계와 완전 동일)
         SessionConfig sessionConfig = new SessionConfig();
         sessionConfig.setMaxInactiveInterval(1800); // 30분
@@ -109,7 +153,10 @@ public class Dispatcher {
         this.sessionManager = new SessionManager(sessionConfig);
 
         // 27단계: 기본 인터셉터들 등록 (완전 유지)
-        setupDefaultInterceptors();
+        setupDefaultInterceptors(accessLogFile);
+
+        // 라우트 테이블이 완성되었으므로 라우트별 인터셉터 배열을 미리 계산
+        interceptorChain.precompute(handlerMapping.getAllRoutePaths());
 
         // 등록된 핸들러 정보 출력 (디버깅용)
         handlerMapping.printRegisteredHandlers();
@@ -138,17 +185,18 @@ public class Dispatcher {
      * 기본 인터셉터들을 등록합니다. (27단계와 완전 동일)
      * 인터셉터 등록 순서가 실행 순서를 결정합니다.
      */
-    private void setupDefaultInterceptors() {
+    private void setupDefaultInterceptors(String accessLogFile) {
         // 1. CORS 인터셉터 (가장 먼저 실행되어야 함)
-        interceptorChain.addInterceptor(new CorsInterceptor());
+        corsInterceptor = new CorsInterceptor();
+        interceptorChain.addInterceptor(corsInterceptor);
 
-        // 2. 로깅 인터셉터 (모든 요청을 로깅)
-        interceptorChain.addInterceptor(new LoggingInterceptor());
+        // 2. 로깅 인터셉터 (모든 요청을 로깅, 파일을 지정하면 액세스 로그 모드)
+        interceptorChain.addInterceptor(createLoggingInterceptor(accessLogFile));
 
         // 3. 성능 측정 인터셉터
         interceptorChain.addInterceptor(new PerformanceInterceptor());
 
-        // 4. 인증 인터셉터 (보안이 필요한 경우)
+        // 4. 인증 인터셉터 (보호된 경로에만 적용 - AuthenticationInterceptor의 기본 경로 패턴 사용)
         interceptorChain.addInterceptor(new AuthenticationInterceptor());
 
         System.out.println("=== 기본 인터셉터 등록 완료 ===");
@@ -156,6 +204,20 @@ public class Dispatcher {
         System.out.println("실행 순서: " + interceptorChain.toString());
     }
 
+    private LoggingInterceptor createLoggingInterceptor(String accessLogFile) {
+        if (accessLogFile == null) {
+            return new LoggingInterceptor();
+        }
+        try {
+            System.out.println("액세스 로그 모드: " + accessLogFile);
+            return new LoggingInterceptor(new AccessLogWriter(accessLogFile));
+        } catch (IOException e) {
+            // 로그 파일을 열 수 없다고 요청 처리까지 막지 않음
+            System.err.println("액세스 로그 파일을 열 수 없어 콘솔 로깅을 사용합니다: " + e.getMessage());
+            return new LoggingInterceptor();
+        }
+    }
+
     /**
      * 외부에서 추가 인터셉터를 등록할 수 있는 메서드 (27단계와 완전 동일)
      *
@@ -163,9 +225,26 @@ public class Dispatcher {
      */
     public void addInterceptor(HandlerInterceptor interceptor) {
         interceptorChain.addInterceptor(interceptor);
+        interceptorChain.precompute(handlerMapping.getAllRoutePaths());
         System.out.println("사용자 정의 인터셉터 추가: " + interceptor.getClass().getSimpleName());
     }
 
+    /**
+     * 외부에서 경로 패턴을 지정하여 인터셉터를 등록할 수 있는 메서드
+     *
+     * @param interceptor 추가할 인터셉터
+     * @param includePatterns 적용할 경로 패턴 (예: "/api/**")
+     * @param excludePatterns 제외할 경로 패턴 (없으면 빈 배열)
+     */
+    public void addInterceptor(HandlerInterceptor interceptor, String[] includePatterns, String[] excludePatterns) {
+        InterceptorRegistration registration = interceptorChain.addInterceptor(interceptor);
+        if (registration != null) {
+            registration.addPathPatterns(includePatterns).excludePathPatterns(excludePatterns);
+        }
+        interceptorChain.precompute(handlerMapping.getAllRoutePaths());
+        System.out.println("사용자 정의 인터셉터 추가: " + registration);
+    }
+
     /**
      * 30챕터 업데이트: 외부에서 어노테이션 컨트롤러를 추가로 등록할 수 있는 메서드
      * @Controller와 @RestController 모두 지원
@@ -175,6 +254,7 @@ public class Dispatcher {
      */
     public void registerController(Class<?> controllerClass) {
         handlerMapping.registerAnnotationController(controllerClass);
+        interceptorChain.precompute(handlerMapping.getAllRoutePaths());
     }
 
     /**
@@ -195,6 +275,26 @@ public class Dispatcher {
         return interceptorChain;
     }
 
+    /**
+     * 비동기 핸들러의 기본 타임아웃을 설정합니다. (DeferredResult에 타임아웃을 지정하지 않은 경우 사용)
+     *
+     * @param timeoutMillis 타임아웃 (밀리초, 0 이하면 타임아웃 없음)
+     */
+    public void setAsyncRequestTimeout(long timeoutMillis) {
+        this.asyncRequestTimeoutMillis = timeoutMillis;
+    }
+
+    public long getAsyncRequestTimeout() {
+        return asyncRequestTimeoutMillis;
+    }
+
+    /**
+     * 배치 엔드포인트 설정 (최대 하위 요청 수, 최대 병렬도)
+     */
+    public BatchRequestHandler getBatchRequestHandler() {
+        return batchRequestHandler;
+    }
+
     // ===== 29단계 수정: HttpResponse 팩토리 메서드 추가 =====
 
     /**
@@ -227,9 +327,26 @@ public class Dispatcher {
      *    - ResponseEntity → ResponseEntityView (JSON + 상태 코드 + 헤더)
      *    - JsonView → JSON 직렬화
      *    - HTML Templates → 기존 템플릿 엔진들
+     *    - 렌더링된 본문으로 ETag 설정, If-None-Match가 일치하면 304로 변환
      * 7. 인터셉터 체인의 afterCompletion 실행 (27단계)
      * 8. 세션 쿠키 설정 (25단계)
      *
+     * ===== 비동기 핸들러 =====
+     * 핸들러가 CompletableFuture, CompletionStage, DeferredResult를 반환하면 4단계 후 요청 스레드를 바로 반환하고,
+     * 결과가 도착한 스레드에서 5~7단계와 응답 전송을 이어서 처리합니다. (타임아웃, 취소 시 503)
+     *
+     * ===== JFR 단계 이벤트 =====
+     * 세션 처리, Multipart 파싱, 핸들러 조회, preHandle, 핸들러 실행, 뷰 해결, 렌더링과 요청 전체를
+     * winter.* JFR 이벤트(DispatchEvents)로 기록합니다. (라우트, 핸들러 시그니처, 뷰 이름 포함)
+     *
+     * ===== 요청별 자원 사용량 =====
+     * RequestResourceTracker가 켜져 있으면 요청 스레드에서 할당한 바이트와 CPU 시간을 핸들러별로 집계합니다.
+     * (비동기 핸들러는 요청 스레드에서 실행된 부분만 포함)
+     *
+     * ===== 메트릭 =====
+     * 라우트/상태별 요청 수와 처리 시간, 처리 중인 요청 수, 업로드, 뷰 렌더링, 예외 처리를
+     * FrameworkMetrics에 기록합니다. (GET /metrics로 Prometheus 형식 노출)
+     *
      * ===== 30챕터 핵심 변경사항 =====
      * - RestHandlerAdapter를 최우선으로 배치하여 REST API 최적화
      * - ContentNegotiatingViewResolver로 통합된 뷰 해결
@@ -237,8 +354,39 @@ public class Dispatcher {
      * - JSON과 HTML을 동시에 지원하는 하이브리드 구조
      */
     public void dispatch(HttpRequest request, HttpResponse response) {
+        dispatchAsync(request, response);
+    }
+
+    /**
+     * 요청을 처리하고, 응답 전송과 afterCompletion까지 끝나면 완료되는 Future를 반환합니다.
+     *
+     * 동기 핸들러는 이미 완료된 Future를 반환하고, 비동기 핸들러는 결과가 도착해
+     * 응답이 전송된 뒤 완료됩니다. (소켓 계층처럼 응답 완료 시점이 필요한 호출자가 사용)
+     *
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @return 응답 처리 완료 Future
+     */
+    public CompletableFuture<Void> dispatchAsync(HttpRequest request, HttpResponse response) {
+        // CORS Preflight 빠른 경로: 세션 처리, 핸들러 조회, 인터셉터 체인을 모두 건너뛰고
+        // 캐시된 Preflight 응답을 바로 보냄 (OPTIONS 핸들러가 없는 경로도 404 대신 정상 응답)
+        if (corsInterceptor != null && corsInterceptor.isPreflightRequest(request)) {
+            corsInterceptor.handlePreflight(request, response);
+            response.send();
+            return CompletableFuture.completedFuture(null);
+        }
+
         Object handler = null;
+        InterceptorExecution execution = null; // 요청별 인터셉터 체인 실행 상태
         Exception dispatchException = null;
+        CompletableFuture<Void> asyncCompletion = null;
+
+        // JFR 단계 이벤트 (기록 중이 아니면 begin/finish는 거의 비용 없음)
+        DispatchEvents.Request requestEvent = new DispatchEvents.Request();
+        requestEvent.begin();
+        RequestResourceTracker.Sample resourceSample = resourceTracker.start();
+        long requestStart = System.nanoTime();
+        FrameworkMetrics.HTTP_REQUESTS_IN_FLIGHT.get().inc();
 
         try {
             System.out.println("\n=== 30챕터: REST + MVC 하이브리드 요청 처리 시작 ===");
@@ -248,17 +396,48 @@ public class Dispatcher {
             System.out.println("Accept: " + request.getHeader("Accept"));
 
             // 0. 25단계: 세션 처리 (완전 동일)
+            DispatchEvents.SessionLookup sessionEvent = new DispatchEvents.SessionLookup();
+            sessionEvent.begin();
             handleSession(request, response);
+            sessionEvent.finish(request, null, null);
+
+            // 배치 요청: 하위 요청마다 Dispatcher를 다시 거치므로 (인터셉터, 인증 포함) 여기서는 결과만 모아 전송
+            if (batchRequestHandler.isBatchRequest(request)) {
+                HttpRequest batchRequest = request;
+                // 하위 요청 실행이 실패해도(종료 중 executor 거부 등) 오류 응답을 보내고 정상 완료
+                asyncCompletion = batchRequestHandler.handle(batchRequest, response)
+                        .handle((ignored, error) -> {
+                            try {
+                                if (error != null) {
+                                    throw AsyncSupport.toException(error);
+                                }
+                                completeResponse(batchRequest, response);
+                            } catch (Exception e) {
+                                handleException(batchRequest, response, e);
+                            }
+                            return null;
+                        });
+                return asyncCompletion;
+            }
 
             // 1. Multipart 요청 감지 및 파싱 (24단계, 완전 동일)
             if (isMultipartRequest(request)) {
                 System.out.println("Multipart 요청 감지 - 파싱 시작");
+                DispatchEvents.MultipartParse multipartEvent = new DispatchEvents.MultipartParse();
+                multipartEvent.begin();
+                long parseStart = System.nanoTime();
                 request = MultipartParser.parseRequest(request);
+                FrameworkMetrics.MULTIPART_PARSE_DURATION.get().record(System.nanoTime() - parseStart);
+                multipartEvent.finish(request, null, null);
                 System.out.println("Multipart 파싱 완료: " + request.getClass().getSimpleName());
 
                 // MultipartRequest인 경우 파일 정보 출력
                 if (request instanceof MultipartRequest) {
-                    logMultipartInfo((MultipartRequest) request);
+                    MultipartRequest multipartRequest = (MultipartRequest) request;
+                    FrameworkMetrics.UPLOAD_REQUESTS.get().inc();
+                    FrameworkMetrics.UPLOAD_FILES.get().inc(multipartRequest.getFileCount());
+                    FrameworkMetrics.UPLOAD_BYTES.get().inc(multipartRequest.getTotalFileSize());
+                    logMultipartInfo(multipartRequest);
                 }
 
                 // Multipart 요청의 경우 세션을 다시 설정
@@ -270,113 +449,360 @@ public class Dispatcher {
 
             // 2. 정적 리소스 처리 우선 (완전 동일)
             if (requestPath.startsWith("/static/")) {
-                handleStaticResource(requestPath, response);
-                return;
+                handleStaticResource(request, requestPath, response);
+                return CompletableFuture.completedFuture(null);
             }
 
             // 3. 핸들러 매핑 (어노테이션 우선, 레거시 대체) (30챕터: REST/MVC 모두 포함)
+            DispatchEvents.HandlerLookup lookupEvent = new DispatchEvents.HandlerLookup();
+            lookupEvent.begin();
             handler = handlerMapping.getHandler(requestPath, requestMethod);
+            lookupEvent.finish(request, handler, null);
 
             if (handler == null) {
                 System.out.println("핸들러를 찾을 수 없음: " + requestPath);
                 response.setStatus(404);
                 response.setBody("404 Not Found: " + requestPath);
                 response.send();
-                return;
+                return CompletableFuture.completedFuture(null);
             }
 
             System.out.println("핸들러 발견: " + handler.getClass().getSimpleName());
 
-            // 4. 27단계: 인터셉터 체인의 preHandle 실행 (완전 동일)
-            if (!interceptorChain.applyPreHandle(request, response, handler)) {
+            // 4. 27단계: 인터셉터 체인의 preHandle 실행 (요청별 실행 상태 사용)
+            execution = interceptorChain.newExecution(request);
+            DispatchEvents.PreHandle preHandleEvent = new DispatchEvents.PreHandle();
+            preHandleEvent.begin();
+            boolean proceed = execution.applyPreHandle(request, response, handler);
+            preHandleEvent.finish(request, handler, null);
+            if (!proceed) {
                 System.out.println("인터셉터 preHandle에서 요청 처리 중단됨");
                 response.send();
-                return;
+                return CompletableFuture.completedFuture(null);
             }
 
-            // 5. 30챕터: 적절한 HandlerAdapter 찾기 및 실행 (REST 우선 처리)
-            ModelAndView mv = null;
-            for (HandlerAdapter adapter : handlerAdapters) {
-                if (adapter.supports(handler)) {
-                    System.out.println("사용할 어댑터: " + adapter.getClass().getSimpleName());
-
-                    // 30챕터: 어댑터별 처리 방식 로깅
-                    if (adapter instanceof RestHandlerAdapter) {
-                        System.out.println("30챕터: REST API 처리 - JSON 응답 또는 ResponseEntity");
-                    } else if (adapter instanceof AnnotationHandlerAdapter) {
-                        System.out.println("MVC 패턴 처리 - ModelAndView 반환");
-                    } else {
-                        System.out.println("레거시 Controller 처리");
-                    }
+            // 5~7. 핸들러 실행 및 뷰 렌더링 (@CacheResponse 핸들러는 응답 캐시를 먼저 조회)
+            CacheResponse cacheResponse = findCacheResponse(handler, requestMethod);
+            AsyncModelAndView async = cacheResponse != null
+                    ? handleWithResponseCache((HandlerMethod) handler, cacheResponse, execution, request, response)
+                    : invokeHandlerAndRender(handler, execution, request, response);
 
-                    // 핸들러 실행 (30챕터: REST/MVC 자동 판별 처리)
-                    mv = adapter.handle(handler, request, response);
-                    break;
-                }
+            if (async != null) {
+                // 비동기 반환값: 요청 스레드를 반환하고 결과가 도착하면 나머지 처리
+                asyncCompletion = startAsync(async, handler, execution, request, response);
+                return asyncCompletion;
             }
 
-            // 6. 27단계: 인터셉터 체인의 postHandle 실행 (완전 동일)
-            interceptorChain.applyPostHandle(request, response, handler, mv);
+            completeResponse(request, response);
+            System.out.println("=== 30챕터: REST + MVC 하이브리드 요청 처리 완료 ===\n");
 
-            // 7. 30챕터: 뷰 처리 (ContentNegotiatingViewResolver 사용)
-            if (mv != null) {
-                System.out.println("ModelAndView 생성: " + mv.getViewName());
+        } catch (Exception e) {
+            dispatchException = e;
+            handleException(request, response, e);
 
-                // 30챕터: ContentNegotiatingViewResolver 사용 (ResponseEntity + JSON + HTML 통합)
-                ContentNegotiatingViewResolver viewResolver = new ContentNegotiatingViewResolver();
-                viewResolver.setCurrentRequest(request);
-                View view = viewResolver.resolveViewName(mv.getViewName());
+        } finally {
+            // 8. 27단계: 인터셉터 체인의 afterCompletion 실행 (비동기 요청은 결과 처리 후 실행)
+            if (asyncCompletion == null) {
+                finishRequest(execution, request, response, handler, dispatchException);
+                requestEvent.complete(request, handler, response.getStatus());
+                recordRequestMetrics(request, handler, response, requestStart);
+            } else {
+                HttpRequest completedRequest = request;
+                Object completedHandler = handler;
+                asyncCompletion.whenComplete((ignored, error) -> {
+                    requestEvent.complete(completedRequest, completedHandler, response.getStatus());
+                    recordRequestMetrics(completedRequest, completedHandler, response, requestStart);
+                });
+            }
+            if (resourceSample != null) {
+                resourceTracker.stop(resourceSample, resourceKey(request, handler));
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
 
-                System.out.println("뷰 해결: " + view.getClass().getSimpleName());
+    /**
+     * 요청 완료 메트릭 기록 (응답 전송, afterCompletion까지 끝난 뒤)
+     */
+    private void recordRequestMetrics(HttpRequest request, Object handler, HttpResponse response, long requestStart) {
+        FrameworkMetrics.HTTP_REQUESTS_IN_FLIGHT.get().dec();
+        String method = request.getMethod();
+        String route = routeLabel(request, handler);
+        FrameworkMetrics.HTTP_REQUESTS.labels(method, route, String.valueOf(response.getStatus())).inc();
+        FrameworkMetrics.HTTP_REQUEST_DURATION.labels(method, route).record(System.nanoTime() - requestStart);
+    }
 
-                // 30챕터: 뷰 렌더링 (REST와 MVC 모두 지원)
-                view.render(mv.getModel(), request, response);
+    /**
+     * 메트릭의 route 레이블 - 매핑된 URL 패턴, 핸들러가 없으면 요청 종류
+     * (경로를 그대로 쓰면 404 요청마다 시계열이 늘어나므로 사용하지 않음)
+     */
+    private String routeLabel(HttpRequest request, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            return ((HandlerMethod) handler).getPath();
+        }
+        if (handler != null) {
+            return request.getPath(); // 레거시 컨트롤러는 등록된 경로와 정확히 일치한 경우만 찾음
+        }
+        String path = request.getPath();
+        if (path != null && path.startsWith("/static/")) {
+            return "(static)";
+        }
+        return batchRequestHandler.isBatchRequest(request) ? "(batch)" : "(unmatched)";
+    }
 
-                System.out.println("뷰 렌더링 완료 - " + view.getClass().getSimpleName());
-            } else {
-                System.out.println("ModelAndView가 null - 직접 응답 처리됨 (REST API 직접 응답 등)");
-            }
+    /**
+     * 자원 사용량 집계 키 - 핸들러 시그니처, 핸들러가 없으면 요청 종류
+     */
+    private String resourceKey(HttpRequest request, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            return ((HandlerMethod) handler).getHandlerSignature();
+        }
+        return handler != null ? handler.getClass().getSimpleName() : routeLabel(request, null);
+    }
 
-            response.send();
-            System.out.println("=== 30챕터: REST + MVC 하이브리드 요청 처리 완료 ===\n");
+    /**
+     * 응답 후처리 후 전송합니다.
+     * - 본문 해시로 ETag 설정, If-None-Match가 일치하면 본문 없는 304로 변환
+     * - Accept-Encoding에 따라 gzip/deflate 적용 (작은 본문, 이미 압축된 형식은 제외)
+     */
+    private void completeResponse(HttpRequest request, HttpResponse response) {
+        ETagSupport.applyConditional(request, response);
+        ResponseCompressor.apply(request, response);
+        response.send();
+    }
 
-        } catch (Exception e) {
-            dispatchException = e;
+    /**
+     * 처리 중 발생한 예외를 응답으로 변환하고 전송합니다.
+     */
+    private void handleException(HttpRequest request, HttpResponse response, Exception e) {
+        // 예외 처리에서 Multipart 관련 오류도 처리 (24단계와 완전 동일)
+        System.err.println("요청 처리 중 오류 발생: " + e.getMessage());
+        if (e.getMessage() != null &&
+                (e.getMessage().contains("multipart") || e.getMessage().contains("boundary"))) {
+            System.err.println("Multipart 파싱 오류 - Content-Type 확인 필요");
+        }
 
-            // 예외 처리에서 Multipart 관련 오류도 처리 (24단계와 완전 동일)
-            System.err.println("요청 처리 중 오류 발생: " + e.getMessage());
-            if (e.getMessage() != null &&
-                    (e.getMessage().contains("multipart") || e.getMessage().contains("boundary"))) {
-                System.err.println("Multipart 파싱 오류 - Content-Type 확인 필요");
-            }
+        // 비동기 결과 타임아웃 또는 취소: 503
+        if (e instanceof AsyncRequestTimeoutException || e instanceof CancellationException) {
+            FrameworkMetrics.EXCEPTIONS.labels(e.getClass().getSimpleName(), "async_unavailable").inc();
+            response.setStatus(503);
+            response.setBody("503 Service Unavailable: " + e.getMessage());
+            response.send();
+            return;
+        }
 
-            // ExceptionResolver를 통한 예외 처리 (완전 동일)
-            for (ExceptionResolver resolver : exceptionResolvers) {
-                if (resolver.resolveException(request, response, e)) {
-                    response.send();
-                    return;
-                }
+        // ExceptionResolver를 통한 예외 처리 (완전 동일)
+        for (ExceptionResolver resolver : exceptionResolvers) {
+            if (resolver.resolveException(request, response, e)) {
+                FrameworkMetrics.EXCEPTIONS.labels(e.getClass().getSimpleName(), "resolved").inc();
+                response.send();
+                return;
             }
+        }
 
-            // 기본 에러 응답 (완전 동일)
-            response.setStatus(500);
-            response.setBody("Internal Server Error: " + e.getMessage());
-            response.send();
+        // 기본 에러 응답 (완전 동일)
+        FrameworkMetrics.EXCEPTIONS.labels(e.getClass().getSimpleName(), "unhandled").inc();
+        response.setStatus(500);
+        response.setBody("Internal Server Error: " + e.getMessage());
+        response.send();
 
-            // 디버깅을 위한 상세 에러 출력 (완전 동일)
-            System.err.println("Handler execution failed: " + e.getMessage());
-            e.printStackTrace();
+        // 디버깅을 위한 상세 에러 출력 (완전 동일)
+        System.err.println("Handler execution failed: " + e.getMessage());
+        e.printStackTrace();
+    }
 
-        } finally {
-            // 8. 27단계: 인터셉터 체인의 afterCompletion 실행 (완전 동일)
+    /**
+     * 요청 처리의 마지막 단계: afterCompletion 실행, 업로드 임시 파일 정리
+     * (동기 요청은 dispatch의 finally, 비동기 요청은 결과 처리 후 한 번 호출)
+     */
+    private void finishRequest(InterceptorExecution execution, HttpRequest request, HttpResponse response,
+                               Object handler, Exception ex) {
+        if (execution != null) {
             try {
-                interceptorChain.triggerAfterCompletion(request, response, handler, dispatchException);
+                execution.triggerAfterCompletion(request, response, handler, ex);
             } catch (Exception afterException) {
                 // afterCompletion에서 발생한 예외는 로깅만 하고 전파하지 않음
                 System.err.println("afterCompletion 실행 중 예외 발생: " + afterException.getMessage());
                 afterException.printStackTrace();
             }
         }
+
+        // 핸들러가 transferTo()로 옮기지 않은 업로드 임시 파일 정리
+        if (request instanceof MultipartRequest) {
+            ((MultipartRequest) request).cleanupTempFiles();
+        }
+    }
+
+    /**
+     * 비동기 핸들러 결과를 기다리지 않고 반환하며, 결과가 도착하면
+     * postHandle → 뷰 렌더링 → 응답 전송 → afterCompletion을 결과를 설정한 스레드에서 이어서 처리합니다.
+     * (타임아웃은 DeferredResult 또는 asyncRequestTimeoutMillis 기준)
+     *
+     * @return 응답 처리 완료 Future
+     */
+    private CompletableFuture<Void> startAsync(AsyncModelAndView async, Object handler, InterceptorExecution execution,
+                                               HttpRequest request, HttpResponse response) {
+        System.out.println("비동기 처리 시작 - 요청 스레드 반환: " + async.getDeferredResult());
+        execution.applyAfterConcurrentHandlingStarted(request, response, handler);
+
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        AsyncSupport.start(async.getDeferredResult(), asyncRequestTimeoutMillis, (result, error) -> {
+            Exception failure = null;
+            try {
+                if (error != null) {
+                    throw AsyncSupport.toException(error);
+                }
+                System.out.println("비동기 결과 도착 - 처리 재개 (" + Thread.currentThread().getName() + ")");
+                renderModelAndView(handler, execution, async.convertResult(result), request, response);
+                completeResponse(request, response);
+            } catch (Exception e) {
+                failure = e;
+                handleException(request, response, e);
+            } finally {
+                finishRequest(execution, request, response, handler, failure);
+                completion.complete(null);
+                System.out.println("=== 비동기 요청 처리 완료: " + request.getPath() + " ===\n");
+            }
+        });
+        return completion;
+    }
+
+    /**
+     * HandlerAdapter로 핸들러를 실행하고 postHandle, 뷰 렌더링까지 처리합니다.
+     * (응답 전송은 호출하는 쪽에서 처리)
+     *
+     * @return 핸들러가 비동기 결과를 반환했으면 AsyncModelAndView (postHandle, 렌더링은 아직 하지 않음), 아니면 null
+     */
+    private AsyncModelAndView invokeHandlerAndRender(Object handler, InterceptorExecution execution,
+                                                     HttpRequest request, HttpResponse response) throws Exception {
+        // 5. 30챕터: 적절한 HandlerAdapter 찾기 및 실행 (REST 우선 처리)
+        ModelAndView mv = null;
+        for (HandlerAdapter adapter : handlerAdapters) {
+            if (adapter.supports(handler)) {
+                System.out.println("사용할 어댑터: " + adapter.getClass().getSimpleName());
+
+                // 30챕터: 어댑터별 처리 방식 로깅
+                if (adapter instanceof RestHandlerAdapter) {
+                    System.out.println("30챕터: REST API 처리 - JSON 응답 또는 ResponseEntity");
+                } else if (adapter instanceof AnnotationHandlerAdapter) {
+                    System.out.println("MVC 패턴 처리 - ModelAndView 반환");
+                } else {
+                    System.out.println("레거시 Controller 처리");
+                }
+
+                // 핸들러 실행 (30챕터: REST/MVC 자동 판별 처리)
+                DispatchEvents.HandlerInvocation invocationEvent = new DispatchEvents.HandlerInvocation();
+                invocationEvent.begin();
+                mv = adapter.handle(handler, request, response);
+                invocationEvent.finish(request, handler, mv != null ? mv.getViewName() : null);
+                break;
+            }
+        }
+
+        if (mv instanceof AsyncModelAndView) {
+            return (AsyncModelAndView) mv;
+        }
+
+        renderModelAndView(handler, execution, mv, request, response);
+        return null;
+    }
+
+    /**
+     * postHandle 실행 후 ModelAndView를 뷰로 렌더링합니다.
+     */
+    private void renderModelAndView(Object handler, InterceptorExecution execution, ModelAndView mv,
+                                    HttpRequest request, HttpResponse response) throws Exception {
+        // 6. 27단계: 인터셉터 체인의 postHandle 실행 (완전 동일)
+        execution.applyPostHandle(request, response, handler, mv);
+
+        // 7. 30챕터: 뷰 처리 (ContentNegotiatingViewResolver 사용)
+        if (mv != null) {
+            System.out.println("ModelAndView 생성: " + mv.getViewName());
+
+            // 30챕터: ContentNegotiatingViewResolver 사용 (ResponseEntity + JSON + HTML 통합)
+            DispatchEvents.ViewResolution resolutionEvent = new DispatchEvents.ViewResolution();
+            resolutionEvent.begin();
+            ContentNegotiatingViewResolver viewResolver = new ContentNegotiatingViewResolver();
+            viewResolver.setCurrentRequest(request);
+            View view = viewResolver.resolveViewName(mv.getViewName());
+            resolutionEvent.finish(request, handler, mv.getViewName());
+
+            System.out.println("뷰 해결: " + view.getClass().getSimpleName());
+
+            // 30챕터: 뷰 렌더링 (REST와 MVC 모두 지원)
+            DispatchEvents.ViewRender renderEvent = new DispatchEvents.ViewRender();
+            renderEvent.begin();
+            long renderStart = System.nanoTime();
+            view.render(mv.getModel(), request, response);
+            FrameworkMetrics.VIEW_RENDER_DURATION.labels(view.getClass().getSimpleName())
+                    .record(System.nanoTime() - renderStart);
+            renderEvent.finish(request, handler, mv.getViewName());
+
+            System.out.println("뷰 렌더링 완료 - " + view.getClass().getSimpleName());
+        } else {
+            System.out.println("ModelAndView가 null - 직접 응답 처리됨 (REST API 직접 응답 등)");
+        }
+    }
+
+    /**
+     * @CacheResponse가 붙은 GET 핸들러를 찾습니다.
+     * 비동기 반환 타입 핸들러는 렌더링 시점이 요청 스레드 밖이므로 캐시하지 않습니다.
+     *
+     * @return 캐시 설정, 캐시 대상이 아니면 null
+     */
+    private CacheResponse findCacheResponse(Object handler, String requestMethod) {
+        if (!(handler instanceof HandlerMethod) || !"GET".equals(requestMethod)) {
+            return null;
+        }
+        java.lang.reflect.Method method = ((HandlerMethod) handler).getMethod();
+        CacheResponse cacheResponse = method.getAnnotation(CacheResponse.class);
+        if (cacheResponse != null && AsyncSupport.isAsyncReturnType(method.getReturnType())) {
+            System.out.println("@CacheResponse 무시 (비동기 핸들러): " + method.getName());
+            return null;
+        }
+        return cacheResponse;
+    }
+
+    /**
+     * 응답 캐시를 거쳐 핸들러를 처리합니다.
+     *
+     * - 캐시 적중: 핸들러 실행과 뷰 렌더링을 건너뛰고 캐시된 응답을 적용
+     * - 캐시 미스: 핸들러를 실행하고 렌더링된 응답을 캐시에 저장
+     *   (같은 키로 동시에 들어온 요청들은 이 결과를 기다렸다가 재사용)
+     *
+     * @return 핸들러가 실행 중에 비동기 결과를 반환했으면 AsyncModelAndView (이 경우 캐시하지 않음)
+     */
+    private AsyncModelAndView handleWithResponseCache(HandlerMethod handlerMethod, CacheResponse cacheResponse,
+                                                      InterceptorExecution execution,
+                                                      HttpRequest request, HttpResponse response) throws Exception {
+        String key = responseCache.createKey(handlerMethod, cacheResponse, request);
+        ResponseCache.Lookup lookup = responseCache.begin(key);
+
+        CachedResponse cached = lookup.getCached();
+        if (cached != null) {
+            cached.applyTo(response);
+            System.out.println("응답 캐시 적중: " + handlerMethod.getHandlerSignature());
+            return null;
+        }
+
+        Map<String, String> headersBefore = new HashMap<>(response.getHeaders());
+        CachedResponse produced = null;
+        try {
+            AsyncModelAndView async = invokeHandlerAndRender(handlerMethod, execution, request, response);
+            if (async != null) {
+                return async;
+            }
+            if (lookup.isLeader()) {
+                // ETag도 함께 캐시하여 적중 시 본문 해시를 다시 계산하지 않음
+                ETagSupport.assignETag(request, response);
+                produced = CachedResponse.capture(handlerMethod.getPath(), response, headersBefore,
+                        TimeUnit.SECONDS.toMillis(cacheResponse.ttl()));
+            }
+        } finally {
+            // 예외가 발생해도 기다리는 요청들이 멈추지 않도록 항상 완료 처리
+            lookup.complete(produced);
+        }
+        return null;
     }
 
     // ===== 이하 모든 메서드들 27단계와 완전 동일 (변경 없음) =====
@@ -457,24 +883,38 @@ public class Dispatcher {
     /**
      * 정적 리소스 처리 (CSS, JS, 이미지 등) (완전 동일)
      */
-    private void handleStaticResource(String requestPath, HttpResponse response) {
+    private void handleStaticResource(HttpRequest request, String requestPath, HttpResponse response) {
         try {
             String relativePath = requestPath.replaceFirst("/static/", "");
             String filePath = staticBasePath + "/" + relativePath;
-            String content = Files.readString(Paths.get(filePath));
+
+            // 파일 내용, ETag, gzip 압축본은 한 번만 만들어 캐시 (파일이 바뀌면 갱신)
+            StaticResourceCache.Resource resource = staticResourceCache.get(Paths.get(filePath));
+            boolean gzip = resource.getGzipBody() != null &&
+                    ResponseCompressor.GZIP.equals(ResponseCompressor.negotiate(request.getHeader("Accept-Encoding")));
+            // 압축본과 원본은 표현이 다르므로 ETag도 따로 사용 (한 인코딩으로 다른 인코딩을 재검증하지 않도록)
+            String etag = gzip ? resource.getGzipETag() : resource.getETag();
             response.setStatus(200);
-            response.setBody(content);
+            response.setBody(resource.getContent());
+            response.addHeader("ETag", etag);
+            if (resource.getGzipBody() != null) {
+                response.addHeader("Vary", "Accept-Encoding"); // 304와 원본 응답에도 표시 (캐시가 인코딩별로 저장)
+            }
 
             // Content-Type 설정
-            if (filePath.endsWith(".css")) {
-                response.addHeader("Content-Type", "text/css");
-            } else if (filePath.endsWith(".js")) {
-                response.addHeader("Content-Type", "application/javascript");
-            } else if (filePath.endsWith(".html")) {
-                response.addHeader("Content-Type", "text/html");
+            if (resource.getContentType() != null) {
+                response.addHeader("Content-Type", resource.getContentType());
+            }
+
+            if (ETagSupport.matchesAny(request.getHeader("If-None-Match"), etag)) {
+                response.setStatus(304);
+                response.setBody("");
+            } else if (gzip) {
+                // 미리 압축해 둔 본문을 그대로 사용 (요청마다 압축하지 않음)
+                response.setEncodedBody(resource.getGzipBody(), ResponseCompressor.GZIP);
             }
 
-            System.out.println("정적 리소스 제공: " + requestPath);
+            System.out.println("정적 리소스 제공: " + requestPath + " (" + response.getStatus() + ")");
             response.send();
 
         } catch (IOException e) {
@@ -554,6 +994,8 @@ public class Dispatcher {
      * 30챕터 업데이트: Dispatcher 종료 시 정리 작업
      */
     public void shutdown() {
+        batchRequestHandler.shutdown();
+
         if (sessionManager != null) {
             sessionManager.shutdown();
             System.out.println("SessionManager 종료 완료");
@@ -561,6 +1003,16 @@ public class Dispatcher {
 
         // 27단계: 인터셉터 체인 정리
         if (interceptorChain != null) {
+            // 자원을 가진 인터셉터(액세스 로그 기록기 등)는 체인에서 제거하기 전에 닫는다
+            for (HandlerInterceptor interceptor : interceptorChain.getInterceptors()) {
+                if (interceptor instanceof AutoCloseable) {
+                    try {
+                        ((AutoCloseable) interceptor).close();
+                    } catch (Exception e) {
+                        System.err.println("인터셉터 종료 실패: " + interceptor.getClass().getSimpleName() + " - " + e.getMessage());
+                    }
+                }
+            }
             interceptorChain.clear();
             System.out.println("InterceptorChain 정리 완료");
         }
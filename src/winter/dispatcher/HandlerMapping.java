@@ -3,6 +3,7 @@ package winter.dispatcher;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /*요청 경로(URL)에 해당하는 핸들러(컨트롤러)를 관리하는 클래스
 * Dispatcher는 이 클래스를 통해 요청에 해당하는 핸들러를 찾는다.*/
@@ -30,4 +31,13 @@ public class HandlerMapping {
     public Object getHandler(String path){
         return mapping.get(path);
     }
+
+    /**
+     * 등록된 모든 경로 반환 (라우트별 인터셉터 체인 사전 계산용)
+     *
+     * @return 등록된 URL 경로 집합
+     */
+    public Set<String> getPaths(){
+        return Set.copyOf(mapping.keySet());
+    }
 }
@@ -1,10 +1,14 @@
 package winter.dispatcher;
 
 import winter.annotation.RestController;
+import winter.async.AsyncModelAndView;
+import winter.async.AsyncSupport;
+import winter.async.DeferredResult;
 import winter.annotation.ResponseBody;
 import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.http.ResponseEntity;
+import winter.sse.SseEmitter;
 import winter.view.ModelAndView;
 import winter.view.ResponseEntityView;
 
@@ -30,6 +34,9 @@ import java.lang.reflect.Parameter;
  * - 일반 객체: 자동으로 JSON 직렬화 (200 OK 상태)
  * - 컬렉션(List, Map 등): JSON 배열/객체로 직렬화
  * - 문자열: 단순 텍스트 또는 JSON 문자열로 응답
+ * - CompletableFuture<T>, CompletionStage<ResponseEntity<T>>, DeferredResult<T>:
+ *   결과가 도착하면 위 규칙대로 처리 (AsyncModelAndView 반환, 요청 스레드는 기다리지 않음)
+ * - SseEmitter: text/event-stream 헤더만 설정하고 연결을 열어 둔 채 이벤트를 스트리밍 (ModelAndView 없음)
  *
  * 처리 흐름:
  * 1. 핸들러가 REST 타입인지 확인 (@RestController 또는 @ResponseBody)
@@ -124,6 +131,20 @@ public class RestHandlerAdapter implements HandlerAdapter {
             // REST 메서드 실행 및 반환값 처리
             Object result = executeRestMethod(controller, method, request, response);
 
+            // Server-Sent Events: 뷰 없이 스트리밍 본문으로 응답
+            if (result instanceof SseEmitter) {
+                prepareEventStream((SseEmitter) result, response);
+                System.out.println("=============================");
+                return null;
+            }
+
+            // 비동기 반환값: 결과가 도착하면 동기 반환값과 같은 방식으로 ModelAndView 생성
+            DeferredResult<?> deferredResult = AsyncSupport.toDeferredResult(result);
+            if (deferredResult != null) {
+                System.out.println("비동기 반환값 감지 → 결과 도착 후 처리: " + result.getClass().getSimpleName());
+                return new AsyncModelAndView(deferredResult, this::createModelAndViewForRestResponse);
+            }
+
             // 반환값 타입에 따라 적절한 ModelAndView 생성
             ModelAndView modelAndView = createModelAndViewForRestResponse(result);
 
@@ -263,6 +284,22 @@ public class RestHandlerAdapter implements HandlerAdapter {
         return modelAndView;
     }
 
+    /**
+     * SseEmitter 반환값을 위한 응답 헤더와 스트리밍 본문을 설정합니다.
+     * 소켓 계층은 헤더를 보낸 뒤 연결을 emitter에 넘깁니다.
+     *
+     * @param emitter 핸들러가 반환한 SseEmitter
+     * @param response HTTP 응답
+     */
+    private void prepareEventStream(SseEmitter emitter, HttpResponse response) {
+        response.setStatus(200);
+        response.setContentType("text/event-stream; charset=UTF-8");
+        response.setCacheControl("no-cache");
+        response.addHeader("X-Accel-Buffering", "no"); // 프록시 버퍼링 방지
+        response.setStreamingBody(emitter);
+        System.out.println("SseEmitter 감지 → text/event-stream 스트리밍 응답");
+    }
+
     /**
      * 디버깅을 위한 HandlerMethod 정보 출력 유틸리티 메서드
      *
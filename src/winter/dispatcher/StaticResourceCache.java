@@ -0,0 +1,112 @@
+package winter.dispatcher;
+
+import winter.http.ETagSupport;
+import winter.http.ResponseCompressor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 정적 리소스(CSS, JS, HTML) 캐시
+ *
+ * 파일을 처음 요청받을 때 한 번만 읽어서 내용, ETag, gzip 압축본을 함께 저장합니다.
+ * gzip 압축본은 바이트가 다른 별도 표현이므로 자기 ETag("...-gzip")를 가집니다.
+ * 이후 요청은 파일 수정 시각과 크기만 확인하고 (stat 한 번) 저장된 내용을 그대로 사용하므로
+ * 요청마다 파일을 읽거나 다시 압축하지 않습니다. 파일이 바뀌면 다시 읽습니다.
+ */
+public class StaticResourceCache {
+
+    private final ConcurrentHashMap<Path, Resource> resources = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 정적 리소스 하나
+     */
+    public static final class Resource {
+        private final String content;
+        private final String contentType;
+        private final String etag;
+        private final byte[] gzipBody; // 압축 대상이 아니거나 이득이 없으면 null
+        private final String gzipETag; // gzipBody가 없으면 null
+        private final long lastModified;
+        private final long size;
+
+        private Resource(String content, String contentType, String etag, byte[] gzipBody,
+                         long lastModified, long size) {
+            this.content = content;
+            this.contentType = contentType;
+            this.etag = etag;
+            this.gzipBody = gzipBody;
+            this.gzipETag = gzipBody != null ? etag.substring(0, etag.length() - 1) + "-gzip\"" : null;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        public String getContent() { return content; }
+        public String getContentType() { return contentType; }
+        public String getETag() { return etag; }
+        public byte[] getGzipBody() { return gzipBody; }
+        public String getGzipETag() { return gzipETag; }
+    }
+
+    /**
+     * 정적 리소스를 반환합니다. (파일이 바뀌었으면 다시 읽고 압축)
+     *
+     * @param file 리소스 파일 경로
+     * @return 캐시된 리소스
+     * @throws IOException 파일이 없거나 읽을 수 없을 때
+     */
+    public Resource get(Path file) throws IOException {
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        long size = Files.size(file);
+
+        Resource cached = resources.get(file);
+        if (cached != null && cached.lastModified == lastModified && cached.size == size) {
+            return cached;
+        }
+
+        Resource loaded = load(file, lastModified, size);
+        resources.put(file, loaded);
+        System.out.println("정적 리소스 캐시 갱신: " + file + " (" + size + " bytes" +
+                (loaded.gzipBody != null ? ", gzip " + loaded.gzipBody.length + " bytes" : "") + ")");
+        return loaded;
+    }
+
+    private Resource load(Path file, long lastModified, long size) throws IOException {
+        byte[] raw = Files.readAllBytes(file);
+        String content = new String(raw, StandardCharsets.UTF_8);
+        String contentType = contentTypeOf(file.getFileName().toString());
+
+        byte[] gzipBody = null;
+        if (raw.length >= ResponseCompressor.MIN_COMPRESS_SIZE &&
+                (contentType == null || ResponseCompressor.isCompressible(contentType))) {
+            byte[] compressed = ResponseCompressor.compress(raw, ResponseCompressor.GZIP);
+            if (compressed.length < raw.length) {
+                gzipBody = compressed;
+            }
+        }
+
+        return new Resource(content, contentType, ETagSupport.computeETag(content), gzipBody, lastModified, size);
+    }
+
+    private static String contentTypeOf(String fileName) {
+        if (fileName.endsWith(".css")) {
+            return "text/css";
+        } else if (fileName.endsWith(".js")) {
+            return "application/javascript";
+        } else if (fileName.endsWith(".html")) {
+            return "text/html";
+        }
+        return null;
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    public void clear() {
+        resources.clear();
+    }
+}
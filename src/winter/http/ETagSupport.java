@@ -0,0 +1,178 @@
+package winter.http;
+
+import java.util.zip.CRC32C;
+
+/**
+ * ETag 생성 및 조건부 요청(If-None-Match) 처리 유틸리티
+ *
+ * 동적 응답(ResponseEntityView, JsonView, IntegratedView가 만든 본문)에 대해:
+ * - 본문의 UTF-8 바이트를 CRC32C로 해시하여 ETag를 만듭니다. (본문 전체를 byte[]로 복사하지 않고 청크 단위로 계산)
+ * - 요청의 If-None-Match가 ETag와 일치하면 본문 없는 304 응답으로 바꿉니다.
+ *
+ * 핸들러가 ResponseEntity.eTag()로 버전 ETag를 미리 지정하면 해시 계산을 하지 않으며,
+ * ResponseEntityView는 일치하는 경우 본문 직렬화도 건너뜁니다.
+ */
+public final class ETagSupport {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    // 인코딩 버퍼 재사용 (요청마다 할당하지 않음)
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    private ETagSupport() {
+    }
+
+    /**
+     * 본문 문자열의 UTF-8 바이트로 강한 ETag를 계산합니다.
+     *
+     * 형식: "crc32c(hex)-바이트길이(hex)"
+     *
+     * @param body 응답 본문
+     * @return 따옴표를 포함한 ETag
+     */
+    public static String computeETag(String body) {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = BUFFERS.get();
+        long length = 0;
+        int count = 0;
+
+        int bodyLength = body.length();
+        for (int i = 0; i < bodyLength; i++) {
+            char c = body.charAt(i);
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < bodyLength && Character.isLowSurrogate(body.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, body.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer[count++] = '?'; // 짝이 없는 surrogate는 String.getBytes(UTF_8)와 같이 '?'로 인코딩
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+
+            if (count > CHUNK_SIZE - 4) {
+                crc.update(buffer, 0, count);
+                length += count;
+                count = 0;
+            }
+        }
+        crc.update(buffer, 0, count);
+        length += count;
+
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Long.toHexString(length) + "\"";
+    }
+
+    /**
+     * ETag 값에 따옴표가 없으면 붙입니다. ("v1" → "\"v1\"", W/"v1"은 그대로)
+     */
+    public static String quote(String etag) {
+        if (etag.startsWith("\"") || etag.startsWith("W/\"")) {
+            return etag;
+        }
+        return "\"" + etag + "\"";
+    }
+
+    /**
+     * If-None-Match / If-Match 헤더 목록 중 하나라도 ETag와 일치하는지 확인합니다. (약한 비교, "*"는 모두 일치)
+     *
+     * @param header If-None-Match 또는 If-Match 헤더 값
+     * @param etag 현재 ETag
+     * @return 일치하면 true
+     */
+    public static boolean matchesAny(String header, String etag) {
+        if (header == null || etag == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        int length = header.length();
+        int start = 0;
+        while (start < length) {
+            int end = header.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            String value = header.substring(start, end).trim();
+            if (value.equals("*") || stripWeak(value).equals(opaque)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * 클라이언트가 가진 버전이 현재 ETag와 같은지 확인합니다.
+     * 핸들러가 데이터 조회나 본문 생성 전에 미리 확인할 때 사용합니다.
+     *
+     * @param request 현재 요청
+     * @param etag 현재 버전 ETag (따옴표 없어도 됨)
+     * @return If-None-Match가 일치하면 true
+     */
+    public static boolean isNotModified(HttpRequest request, String etag) {
+        return isConditionalMethod(request) && matchesAny(request.getHeader("If-None-Match"), quote(etag));
+    }
+
+    /**
+     * ETag를 붙일 수 있는 응답이면 본문 해시로 ETag를 설정합니다. (이미 ETag가 있으면 그대로 둠)
+     *
+     * @return 응답의 ETag, 대상이 아니면 null
+     */
+    public static String assignETag(HttpRequest request, HttpResponse response) {
+        if (!isConditionalMethod(request) || response.getStatus() != 200 || response.getFileBody() != null ||
+                response.getStreamingBody() != null) {
+            return null;
+        }
+        String existing = response.getHeader("ETag");
+        if (existing != null) {
+            return existing;
+        }
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && cacheControl.contains("no-store")) {
+            return null;
+        }
+
+        response.flushWriter(); // 뷰가 Writer로 출력한 내용을 body로 반영
+        String body = response.getBody();
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+
+        String etag = computeETag(body);
+        response.addHeader("ETag", etag);
+        return etag;
+    }
+
+    /**
+     * 응답 후처리: ETag를 설정하고 If-None-Match가 일치하면 본문 없는 304로 바꿉니다.
+     *
+     * @return 304로 바꿨으면 true
+     */
+    public static boolean applyConditional(HttpRequest request, HttpResponse response) {
+        String etag = assignETag(request, response);
+        if (etag == null || !matchesAny(request.getHeader("If-None-Match"), etag)) {
+            return false;
+        }
+
+        response.setStatus(304);
+        response.resetWriter();
+        response.setBody("");
+        System.out.println("304 Not Modified: " + request.getPath() + " ETag=" + etag);
+        return true;
+    }
+
+    private static boolean isConditionalMethod(HttpRequest request) {
+        return request.isGet() || "HEAD".equals(request.getMethod());
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,183 @@
+package winter.http;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파일 영역(region)으로 구성된 응답 본문
+ *
+ * 파일 다운로드 응답을 힙에 올리지 않고 전송하기 위한 본문 표현입니다.
+ * 본문은 "작은 바이트 조각(multipart 경계/헤더 등)"과 "파일의 (위치, 길이) 영역"의 나열이며,
+ * writeTo()는 파일 영역을 FileChannel.transferTo()로 대상 채널에 직접 보냅니다.
+ *
+ * 사용 예:
+ * <pre>
+ * FileRegionBody body = FileRegionBody.builder()
+ *         .addRegion(path, 0, 1024)        // 파일 앞 1KB
+ *         .build();
+ * </pre>
+ */
+public final class FileRegionBody {
+
+    /**
+     * 본문 조각 하나 (bytes 또는 파일 영역 중 하나)
+     */
+    public static final class Segment {
+        private final byte[] bytes;
+        private final Path file;
+        private final long position;
+        private final long count;
+
+        private Segment(byte[] bytes, Path file, long position, long count) {
+            this.bytes = bytes;
+            this.file = file;
+            this.position = position;
+            this.count = count;
+        }
+
+        public boolean isFileRegion() { return file != null; }
+        public byte[] getBytes() { return bytes; }
+        public Path getFile() { return file; }
+        public long getPosition() { return position; }
+        public long getCount() { return count; }
+
+        public long length() {
+            return file != null ? count : bytes.length;
+        }
+    }
+
+    private final List<Segment> segments;
+    private final long contentLength;
+
+    private FileRegionBody(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+        long length = 0;
+        for (Segment segment : segments) {
+            length += segment.length();
+        }
+        this.contentLength = length;
+    }
+
+    /**
+     * 파일 영역 하나로 된 본문을 생성합니다.
+     *
+     * @param file 파일 경로
+     * @param position 시작 위치
+     * @param count 길이
+     * @return 본문
+     */
+    public static FileRegionBody ofRegion(Path file, long position, long count) {
+        return builder().addRegion(file, position, count).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 본문 전체 길이 (Content-Length)
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * 본문을 대상 채널로 전송합니다.
+     * 파일 영역은 FileChannel.transferTo()를 사용하므로 가능한 경우 커널에서 바로 복사됩니다.
+     *
+     * @param target 대상 채널
+     * @return 전송한 바이트 수
+     * @throws IOException 파일 읽기 또는 전송 실패시
+     */
+    public long writeTo(WritableByteChannel target) throws IOException {
+        long written = 0;
+        for (Segment segment : segments) {
+            if (segment.isFileRegion()) {
+                try (FileChannel channel = FileChannel.open(segment.file, StandardOpenOption.READ)) {
+                    long position = segment.position;
+                    long remaining = segment.count;
+                    // transferTo는 요청한 길이보다 적게 보낼 수 있으므로 반복
+                    while (remaining > 0) {
+                        long transferred = channel.transferTo(position, remaining, target);
+                        if (transferred <= 0) {
+                            throw new IOException("File region truncated: " + segment.file +
+                                    " at " + position + " (" + remaining + " bytes left)");
+                        }
+                        position += transferred;
+                        remaining -= transferred;
+                        written += transferred;
+                    }
+                }
+            } else {
+                ByteBuffer buffer = ByteBuffer.wrap(segment.bytes);
+                while (buffer.hasRemaining()) {
+                    written += target.write(buffer);
+                }
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public String toString() {
+        int regions = 0;
+        for (Segment segment : segments) {
+            if (segment.isFileRegion()) {
+                regions++;
+            }
+        }
+        return "FileRegionBody{" +
+                "regions=" + regions +
+                ", segments=" + segments.size() +
+                ", contentLength=" + contentLength +
+                '}';
+    }
+
+    /**
+     * FileRegionBody 빌더
+     */
+    public static final class Builder {
+        private final List<Segment> segments = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 문자열 조각을 추가합니다. (multipart 경계/헤더 등, UTF-8로 인코딩)
+         */
+        public Builder addText(String text) {
+            segments.add(new Segment(text.getBytes(StandardCharsets.UTF_8), null, 0, 0));
+            return this;
+        }
+
+        /**
+         * 파일 영역을 추가합니다.
+         */
+        public Builder addRegion(Path file, long position, long count) {
+            if (file == null) {
+                throw new IllegalArgumentException("File cannot be null");
+            }
+            if (position < 0 || count < 0) {
+                throw new IllegalArgumentException("Invalid region: position=" + position + ", count=" + count);
+            }
+            segments.add(new Segment(null, file, position, count));
+            return this;
+        }
+
+        public FileRegionBody build() {
+            return new FileRegionBody(new ArrayList<>(segments));
+        }
+    }
+}
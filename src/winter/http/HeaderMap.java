@@ -0,0 +1,121 @@
+package winter.http;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대소문자를 구분하지 않는 HTTP 헤더 저장소
+ *
+ * 요청 헤더는 보통 10~20개뿐이므로 해시맵 대신 이름/값 배열 두 개에 순서대로 저장하고
+ * equalsIgnoreCase로 선형 검색합니다. 헤더 이름을 소문자로 바꾼 복사본을 만들지 않고,
+ * 해시 계산이나 엔트리 객체 할당도 없습니다.
+ */
+public final class HeaderMap {
+
+    private String[] names;
+    private String[] values;
+    private int size;
+
+    public HeaderMap() {
+        this(8);
+    }
+
+    public HeaderMap(int initialCapacity) {
+        this.names = new String[Math.max(1, initialCapacity)];
+        this.values = new String[names.length];
+    }
+
+    /**
+     * 기존 Map의 헤더로 채운 HeaderMap을 생성합니다. (같은 이름이 여러 번 있으면 마지막 값)
+     */
+    public static HeaderMap of(Map<String, String> headers) {
+        HeaderMap map = new HeaderMap(headers != null ? headers.size() : 0);
+        if (headers != null) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                map.set(entry.getKey(), entry.getValue());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 헤더 값을 조회합니다. (이름 대소문자 무시)
+     *
+     * @return 헤더 값, 없으면 null
+     */
+    public String get(String name) {
+        int index = indexOf(name);
+        return index >= 0 ? values[index] : null;
+    }
+
+    public boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * 헤더를 설정합니다. 같은 이름(대소문자 무시)이 있으면 값을 바꿉니다.
+     */
+    public void set(String name, String value) {
+        int index = indexOf(name);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    public String valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * 소문자 이름을 키로 하는 Map 복사본을 반환합니다. (기존 getHeaders() 형식 호환)
+     */
+    public Map<String, String> toLowerCaseMap() {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(names[i].toLowerCase(), values[i]);
+        }
+        return result;
+    }
+
+    private int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            String candidate = names[i];
+            if (candidate.length() == name.length() && candidate.equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("HeaderMap{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(names[i]).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+}
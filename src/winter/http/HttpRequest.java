@@ -2,7 +2,9 @@ package winter.http;
 
 import java.io.BufferedReader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * HTTP 요청 정보를 표현하는 클래스
@@ -20,12 +22,22 @@ import java.util.*;
 public class HttpRequest {
     private final String path;
     private final String method;
-    private final Map<String, List<String>> parameters = new HashMap<>();
-    private final Map<String, String> headers = new HashMap<>();
     private final BufferedReader body;
 
+    // 소켓에서 읽은 원본 본문 바이트 (문자열로 변환하면 손상되는 바이너리 본문용, 없으면 null)
+    private byte[] rawBody;
+
+    // 원본 데이터: 실제로 조회될 때 한 번만 파싱 (조회하지 않으면 비용 없음)
+    private final String rawQuery;
+    private Map<String, String> rawHeaders;
+    private Map<String, List<String>> rawParameters;
+
+    // 지연 파싱 결과 (처음 조회할 때 생성)
+    private Map<String, List<String>> parameters;
+    private HeaderMap headers;
+    private Map<String, Cookie> cookies;
+
     // 25단계: 세션 관련 필드 추가
-    private final Map<String, Cookie> cookies = new HashMap<>();
     private HttpSession session;
 
     /**
@@ -42,12 +54,14 @@ public class HttpRequest {
      * @param method "GET", "POST", ...
      */
     public HttpRequest(String rawPath, String method) {
-        this(rawPath, method, new HashMap<>(), new HashMap<>(), null);
+        this(rawPath, method, null, null, null);
     }
 
     /**
      * 완전한 생성자 - 모든 요청 정보를 지정
      *
+     * 쿼리 문자열, 헤더, 쿠키는 여기서 파싱하지 않고 처음 조회될 때 한 번만 파싱합니다.
+     *
      * @param rawPath 요청 경로 (쿼리 파라미터 포함 가능)
      * @param method HTTP 메서드
      * @param headers HTTP 헤더 맵
@@ -58,78 +72,164 @@ public class HttpRequest {
                        Map<String, List<String>> parameters, BufferedReader body) {
         this.method = method != null ? method.toUpperCase() : "GET";
         this.body = body != null ? body : new BufferedReader(new StringReader(""));
+        this.rawHeaders = headers;
+        this.rawParameters = parameters;
 
-        // 기존 헤더 복사
-        if (headers != null) {
-            for (Map.Entry<String, String> entry : headers.entrySet()) {
-                this.headers.put(entry.getKey().toLowerCase(), entry.getValue());
-            }
-        }
+        // 경로와 쿼리 문자열 분리 (정규식 없이 첫 '?' 기준)
+        int question = rawPath.indexOf('?');
+        this.path = question >= 0 ? rawPath.substring(0, question) : rawPath;
+        this.rawQuery = question >= 0 ? rawPath.substring(question + 1) : null;
+    }
 
-        // 기존 파라미터 복사
-        if (parameters != null) {
-            for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
-                this.parameters.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+    /**
+     * 파라미터 맵을 처음 사용할 때 생성 (생성자 파라미터 + 쿼리 문자열)
+     */
+    private Map<String, List<String>> parameters() {
+        if (parameters == null) {
+            Map<String, List<String>> result = new HashMap<>();
+            if (rawParameters != null) {
+                for (Map.Entry<String, List<String>> entry : rawParameters.entrySet()) {
+                    result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+                }
+                rawParameters = null;
             }
+            parseQueryString(rawQuery, result);
+            parameters = result;
         }
+        return parameters;
+    }
 
-        // 경로에서 쿼리 파라미터 파싱
-        String[] parts = rawPath.split("\\?", 2);
-        this.path = parts[0];
-
-        if (parts.length > 1) {
-            parseQueryString(parts[1]);
+    /**
+     * 헤더 저장소를 처음 사용할 때 생성
+     */
+    private HeaderMap headers() {
+        if (headers == null) {
+            headers = HeaderMap.of(rawHeaders);
+            rawHeaders = null;
         }
+        return headers;
+    }
 
-        // 25단계: 쿠키 파싱
-        parseCookies();
+    /**
+     * 쿠키 맵을 처음 사용할 때 생성
+     */
+    private Map<String, Cookie> cookies() {
+        if (cookies == null) {
+            Map<String, Cookie> result = new HashMap<>();
+            parseCookies(getHeader("Cookie"), result);
+            cookies = result;
+        }
+        return cookies;
     }
 
     /**
-     * 쿼리 문자열을 파싱하여 파라미터 맵에 추가
+     * 쿼리 문자열을 한 번 훑으면서 파싱하여 파라미터 맵에 추가 (a=1&b=2&flag)
      */
-    private void parseQueryString(String queryString) {
-        if (queryString == null || queryString.trim().isEmpty()) {
+    private static void parseQueryString(String queryString, Map<String, List<String>> target) {
+        if (queryString == null || queryString.isEmpty()) {
             return;
         }
 
-        String[] pairs = queryString.split("&");
-        for (String pair : pairs) {
-            String[] kv = pair.split("=", 2);
-            if (kv.length >= 1) {
-                String key = urlDecode(kv[0]);
-                String value = kv.length == 2 ? urlDecode(kv[1]) : "";
-                addParameter(key, value);
+        int length = queryString.length();
+        int start = 0;
+        while (start <= length) {
+            int end = queryString.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                int equals = queryString.indexOf('=', start);
+                if (equals < 0 || equals > end) {
+                    equals = end;
+                }
+                String key = urlDecode(queryString, start, equals);
+                String value = equals < end ? urlDecode(queryString, equals + 1, end) : "";
+                if (!key.isEmpty()) {
+                    target.computeIfAbsent(key, k -> new ArrayList<>(1)).add(value);
+                }
             }
+            start = end + 1;
         }
     }
 
     /**
-     * 25단계: 쿠키 헤더를 파싱하여 쿠키 맵에 추가
+     * 25단계: 쿠키 헤더를 파싱하여 쿠키 맵에 추가 (name=value; name2=value2)
      */
-    private void parseCookies() {
-        String cookieHeader = getHeader("Cookie");
-        if (cookieHeader == null || cookieHeader.trim().isEmpty()) {
+    private static void parseCookies(String cookieHeader, Map<String, Cookie> target) {
+        if (cookieHeader == null) {
             return;
         }
 
-        String[] cookiePairs = cookieHeader.split(";");
-        for (String cookiePair : cookiePairs) {
-            String[] parts = cookiePair.trim().split("=", 2);
-            if (parts.length == 2) {
-                String name = parts[0].trim();
-                String value = parts[1].trim();
-                cookies.put(name, new Cookie(name, value));
+        int length = cookieHeader.length();
+        int start = 0;
+        while (start < length) {
+            int end = cookieHeader.indexOf(';', start);
+            if (end < 0) {
+                end = length;
             }
+            int equals = cookieHeader.indexOf('=', start);
+            if (equals > start && equals < end) {
+                String name = cookieHeader.substring(start, equals).trim();
+                String value = cookieHeader.substring(equals + 1, end).trim();
+                if (!name.isEmpty()) {
+                    target.put(name, new Cookie(name, value));
+                }
+            }
+            start = end + 1;
         }
     }
 
     /**
-     * 간단한 URL 디코딩 (+ → 공백, %20 → 공백 등)
-     */
-    private String urlDecode(String value) {
-        if (value == null) return "";
-        return value.replace("+", " ").replace("%20", " ");
+     * URL 디코딩 (application/x-www-form-urlencoded)
+     *
+     * '+'는 공백으로, "%XX" 연속은 바이트로 모은 뒤 UTF-8로 해석합니다. (RFC 3986 percent-encoding)
+     * 잘못된 % 시퀀스는 그대로 둡니다. 인코딩된 문자가 없으면 부분 문자열만 반환합니다.
+     */
+    static String urlDecode(String s, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '%' || c == '+') {
+                break;
+            }
+            i++;
+        }
+        if (i == end) {
+            return s.substring(start, end); // 빠른 경로: 디코딩할 문자 없음
+        }
+
+        StringBuilder result = new StringBuilder(end - start);
+        result.append(s, start, i);
+        byte[] bytes = null;
+        while (i < end) {
+            char c = s.charAt(i);
+            if (c == '+') {
+                result.append(' ');
+                i++;
+            } else if (c == '%' && isHexPair(s, i + 1, end)) {
+                // 연속된 %XX를 모두 바이트로 모아서 한 번에 UTF-8 디코딩 (여러 바이트 문자 처리)
+                if (bytes == null) {
+                    bytes = new byte[(end - i) / 3];
+                }
+                int count = 0;
+                while (i < end && s.charAt(i) == '%' && isHexPair(s, i + 1, end)) {
+                    bytes[count++] = (byte) ((Character.digit(s.charAt(i + 1), 16) << 4) |
+                            Character.digit(s.charAt(i + 2), 16));
+                    i += 3;
+                }
+                result.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isHexPair(String s, int index, int end) {
+        return index + 1 < end &&
+                Character.digit(s.charAt(index), 16) >= 0 &&
+                Character.digit(s.charAt(index + 1), 16) >= 0;
     }
 
     /**
@@ -153,6 +253,22 @@ public class HttpRequest {
         return body;
     }
 
+    /**
+     * 요청 본문 원본 바이트 반환 (바이너리 본문은 getBody()의 문자열 변환을 거치면 손상됨)
+     *
+     * @return 원본 바이트, 소켓 계층을 거치지 않은 요청이면 null
+     */
+    public byte[] getRawBody() {
+        return rawBody;
+    }
+
+    /**
+     * 요청 본문 원본 바이트 설정 (HTTP 파서가 호출)
+     */
+    public void setRawBody(byte[] rawBody) {
+        this.rawBody = rawBody;
+    }
+
     /**
      * 개별 파라미터의 첫 번째 값 조회
      *
@@ -160,7 +276,7 @@ public class HttpRequest {
      * @return 첫 번째 값, 없으면 null
      */
     public String getParameter(String key) {
-        List<String> values = parameters.get(key);
+        List<String> values = parameters().get(key);
         return (values != null && !values.isEmpty()) ? values.get(0) : null;
     }
 
@@ -171,7 +287,7 @@ public class HttpRequest {
      * @return 값 목록, 없으면 빈 리스트
      */
     public List<String> getParameterValues(String key) {
-        return new ArrayList<>(parameters.getOrDefault(key, Collections.emptyList()));
+        return new ArrayList<>(parameters().getOrDefault(key, Collections.emptyList()));
     }
 
     /**
@@ -182,7 +298,7 @@ public class HttpRequest {
     @Deprecated
     public Map<String, String> getParameters() {
         Map<String, String> result = new HashMap<>();
-        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+        for (Map.Entry<String, List<String>> entry : parameters().entrySet()) {
             List<String> values = entry.getValue();
             if (!values.isEmpty()) {
                 result.put(entry.getKey(), values.get(0));
@@ -196,17 +312,31 @@ public class HttpRequest {
      */
     public Map<String, List<String>> getParameterMap() {
         Map<String, List<String>> result = new HashMap<>();
-        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
+        for (Map.Entry<String, List<String>> entry : parameters().entrySet()) {
             result.put(entry.getKey(), new ArrayList<>(entry.getValue()));
         }
         return result;
     }
 
+    /**
+     * 모든 파라미터를 복사 없이 순회합니다.
+     * 전달되는 값 목록은 읽기 전용으로만 사용해야 합니다.
+     *
+     * @param action (파라미터 이름, 값 목록)을 받는 함수
+     */
+    public void forEachParameter(BiConsumer<String, List<String>> action) {
+        for (Map.Entry<String, List<String>> entry : parameters().entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     /**
      * 파라미터 추가 (기존 값에 추가)
      */
     public void addParameter(String key, String value) {
-        parameters.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        parameters().computeIfAbsent(key, k -> new ArrayList<>()).add(value);
     }
 
     /**
@@ -215,56 +345,64 @@ public class HttpRequest {
     public void setParameter(String key, String value) {
         List<String> values = new ArrayList<>();
         values.add(value);
-        parameters.put(key, values);
+        parameters().put(key, values);
     }
 
     /**
      * 파라미터 설정 (다중값)
      */
     public void setParameterValues(String key, List<String> values) {
-        parameters.put(key, new ArrayList<>(values));
+        parameters().put(key, new ArrayList<>(values));
     }
 
     /**
      * 파라미터 존재 여부 확인
      */
     public boolean hasParameter(String key) {
-        return parameters.containsKey(key) && !parameters.get(key).isEmpty();
+        List<String> values = parameters().get(key);
+        return values != null && !values.isEmpty();
     }
 
     /**
      * 모든 파라미터 이름 반환
      */
     public Set<String> getParameterNames() {
-        return new HashSet<>(parameters.keySet());
+        return new HashSet<>(parameters().keySet());
     }
 
     /**
      * 헤더 추가
      */
     public void addHeader(String key, String value) {
-        headers.put(key.toLowerCase(), value);
+        headers().set(key, value);
     }
 
     /**
      * 헤더 조회
      */
     public String getHeader(String key) {
-        return headers.get(key.toLowerCase());
+        if (headers == null && rawHeaders != null) {
+            // 헤더 저장소를 만들기 전이면 원본 맵에서 바로 조회 (대소문자 무시)
+            String value = rawHeaders.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return headers().get(key);
     }
 
     /**
      * 전체 헤더 Map 반환
      */
     public Map<String, String> getHeaders() {
-        return new HashMap<>(headers);
+        return headers().toLowerCaseMap();
     }
 
     /**
      * 헤더 존재 여부 확인
      */
     public boolean hasHeader(String key) {
-        return headers.containsKey(key.toLowerCase());
+        return headers().contains(key);
     }
 
     /**
@@ -376,7 +514,7 @@ public class HttpRequest {
      * @return Cookie 객체 또는 null
      */
     public Cookie getCookie(String name) {
-        return cookies.get(name);
+        return cookies().get(name);
     }
 
     /**
@@ -385,7 +523,7 @@ public class HttpRequest {
      * @return Cookie 배열 (없으면 빈 배열)
      */
     public Cookie[] getCookies() {
-        return cookies.values().toArray(new Cookie[0]);
+        return cookies().values().toArray(new Cookie[0]);
     }
 
     /**
@@ -406,7 +544,7 @@ public class HttpRequest {
      * @return 존재하면 true
      */
     public boolean hasCookie(String name) {
-        return cookies.containsKey(name);
+        return cookies().containsKey(name);
     }
 
     @Override
@@ -414,9 +552,9 @@ public class HttpRequest {
         return "HttpRequest{" +
                 "method='" + method + '\'' +
                 ", path='" + path + '\'' +
-                ", parameters=" + parameters.size() + " entries" +
-                ", headers=" + headers.size() + " entries" +
-                ", cookies=" + cookies.size() + " entries" +
+                ", parameters=" + parameters().size() + " entries" +
+                ", headers=" + headers().size() + " entries" +
+                ", cookies=" + cookies().size() + " entries" +
                 ", sessionId='" + (session != null ? session.getId() : "none") + '\'' +
                 ", contentType='" + getContentType() + '\'' +
                 '}';
@@ -1,6 +1,8 @@
 package winter.http;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Map;
 
@@ -193,6 +195,66 @@ public interface HttpResponse {
      */
     void sendError(int statusCode, String message);
 
+    /**
+     * 파일 영역 본문을 설정 (파일 다운로드용, 문자열 본문을 대체)
+     * @param fileBody 파일 영역 본문 (null이면 해제)
+     */
+    void setFileBody(FileRegionBody fileBody);
+
+    /**
+     * 파일 영역 본문을 반환
+     * @return 파일 영역 본문, 문자열 본문을 사용 중이면 null
+     */
+    FileRegionBody getFileBody();
+
+    /**
+     * 압축 등으로 인코딩된 본문 바이트를 설정 (버퍼 응답용)
+     * Content-Encoding, Content-Length 헤더도 함께 설정하며, getBody()는 원본 문자열을 그대로 반환합니다.
+     * @param encodedBody 인코딩된 본문 바이트
+     * @param encoding Content-Encoding 값 (예: "gzip")
+     */
+    void setEncodedBody(byte[] encodedBody, String encoding);
+
+    /**
+     * 인코딩된 본문 바이트를 반환
+     * @return 인코딩된 본문, 인코딩하지 않았으면 null
+     */
+    byte[] getEncodedBody();
+
+    /**
+     * 파일 영역 본문을 전송할 때 지정한 방식으로 압축하며 보내도록 설정 (스트리밍 응답용)
+     * 압축 후 길이를 미리 알 수 없으므로 Content-Length 헤더는 제거됩니다.
+     * @param encoding Content-Encoding 값 (예: "gzip")
+     */
+    void setStreamingEncoding(String encoding);
+
+    /**
+     * 스트리밍 본문을 설정 (Server-Sent Events 등, 문자열/파일 본문을 대체)
+     * 소켓 계층은 헤더를 보낸 뒤 연결을 이 본문에 넘기며, Content-Length는 보내지 않습니다.
+     * @param streamingBody 스트리밍 본문 (null이면 해제)
+     */
+    void setStreamingBody(StreamingBody streamingBody);
+
+    /**
+     * 스트리밍 본문을 반환
+     * @return 스트리밍 본문, 설정하지 않았으면 null
+     */
+    StreamingBody getStreamingBody();
+
+    /**
+     * 적용된 Content-Encoding 반환
+     * @return "gzip", "deflate" 등, 인코딩하지 않았으면 null
+     */
+    String getContentEncoding();
+
+    /**
+     * 응답 본문을 채널로 전송 (파일 영역 본문은 FileChannel.transferTo 사용)
+     * @param target 대상 채널
+     * @return 전송한 바이트 수
+     * @throws IOException 전송 실패시
+     */
+    long writeBodyTo(WritableByteChannel target) throws IOException;
+
     /**
      * 응답을 출력 (쿠키 헤더 포함, Writer 내용 반영)
      */
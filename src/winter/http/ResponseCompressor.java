@@ -0,0 +1,367 @@
+package winter.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 응답 압축 단계 (gzip / deflate)
+ *
+ * 동작 방식:
+ * - 요청의 Accept-Encoding을 q 값까지 해석하여 gzip 또는 deflate를 선택합니다. (같으면 gzip 우선)
+ * - 작은 본문(MIN_COMPRESS_SIZE 미만)과 이미 압축된 형식(jpg, png, pdf, zip 등)은 압축하지 않습니다.
+ * - Deflater는 스레드마다 하나씩 재사용합니다. (요청마다 네이티브 zlib 스트림을 만들고 해제하지 않음)
+ *   gzip은 GZIPOutputStream 대신 헤더/트레일러를 직접 쓰고 nowrap Deflater를 사용하므로 재사용이 가능합니다.
+ *
+ * 응답 방식별 처리:
+ * - 버퍼 응답 (문자열 본문, Writer 출력): 압축한 바이트를 setEncodedBody()로 설정
+ * - 스트리밍 응답 (파일 영역 본문): setStreamingEncoding()으로 표시하고 전송 시 writeCompressed()로 압축하며 전송
+ *
+ * 압축한 응답의 ETag는 약한 ETag(W/)로 바꿉니다. (압축 결과 바이트가 원본과 다르므로)
+ */
+public final class ResponseCompressor {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    /** 이 크기(바이트) 미만의 본문은 압축하지 않음 (압축 이득보다 헤더/CPU 비용이 큼) */
+    public static final int MIN_COMPRESS_SIZE = 1024;
+
+    private static final int COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    // 스레드별 Deflater 풀 (gzip용 nowrap, deflate용 zlib 형식 각 1개)
+    private static final ThreadLocal<DeflaterPool> POOLS = ThreadLocal.withInitial(DeflaterPool::new);
+
+    private ResponseCompressor() {
+    }
+
+    /**
+     * 압축 단계: 조건에 맞으면 응답을 압축합니다.
+     *
+     * @param request 현재 요청 (Accept-Encoding 확인)
+     * @param response 렌더링이 끝난 응답
+     * @return 압축을 적용했으면 true
+     */
+    public static boolean apply(HttpRequest request, HttpResponse response) {
+        int status = response.getStatus();
+        if (status < 200 || status == 204 || status == 206 || status == 304 ||
+                response.getHeader("Content-Encoding") != null || response.getStreamingBody() != null) {
+            return false;
+        }
+
+        String encoding = negotiate(request.getHeader("Accept-Encoding"));
+        if (encoding == null) {
+            return false;
+        }
+
+        String contentType = response.getHeader("Content-Type");
+        FileRegionBody fileBody = response.getFileBody();
+
+        if (fileBody != null) {
+            // 스트리밍 응답: Content-Type을 알아야 압축 여부를 판단할 수 있음
+            if (contentType == null || !isCompressible(contentType) || fileBody.getContentLength() < MIN_COMPRESS_SIZE) {
+                return false;
+            }
+            response.setStreamingEncoding(encoding);
+        } else {
+            // 버퍼 응답: Content-Type이 없는 본문은 템플릿 HTML로 간주
+            if (contentType != null && !isCompressible(contentType)) {
+                return false;
+            }
+            response.flushWriter();
+            String body = response.getBody();
+            if (body == null || body.length() < MIN_COMPRESS_SIZE / 3) {
+                return false; // UTF-8 한 글자는 최대 3바이트이므로 인코딩 없이 먼저 걸러냄
+            }
+            byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+            if (raw.length < MIN_COMPRESS_SIZE) {
+                return false;
+            }
+            byte[] compressed = compress(raw, encoding);
+            if (compressed.length >= raw.length) {
+                return false; // 압축 이득이 없으면 원본 그대로
+            }
+            response.setEncodedBody(compressed, encoding);
+            System.out.println("응답 압축 (" + encoding + "): " + raw.length + " → " + compressed.length + " 바이트");
+        }
+
+        addVaryAcceptEncoding(response);
+        weakenETag(response);
+        return true;
+    }
+
+    /**
+     * Accept-Encoding 헤더에서 사용할 압축 방식을 선택합니다.
+     *
+     * 예: "gzip, deflate, br" → gzip / "deflate;q=1, gzip;q=0.5" → deflate / "gzip;q=0" → null
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값
+     * @return "gzip", "deflate", 허용되는 방식이 없으면 null
+     */
+    public static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+
+        double gzipQ = -1;
+        double deflateQ = -1;
+        double wildcardQ = -1;
+
+        int length = acceptEncoding.length();
+        int start = 0;
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int semicolon = acceptEncoding.indexOf(';', start);
+            int tokenEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            String coding = acceptEncoding.substring(start, tokenEnd).trim();
+            double q = tokenEnd < end ? parseQuality(acceptEncoding.substring(tokenEnd + 1, end)) : 1.0;
+
+            if (coding.equalsIgnoreCase(GZIP) || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQ = Math.max(gzipQ, q);
+            } else if (coding.equalsIgnoreCase(DEFLATE)) {
+                deflateQ = Math.max(deflateQ, q);
+            } else if (coding.equals("*")) {
+                wildcardQ = q;
+            }
+            start = end + 1;
+        }
+
+        if (gzipQ < 0) {
+            gzipQ = wildcardQ;
+        }
+        if (deflateQ < 0) {
+            deflateQ = wildcardQ;
+        }
+        if (gzipQ <= 0 && deflateQ <= 0) {
+            return null;
+        }
+        return gzipQ >= deflateQ ? GZIP : DEFLATE;
+    }
+
+    private static double parseQuality(String parameters) {
+        String value = parameters.trim();
+        if (!value.startsWith("q=")) {
+            return 1.0;
+        }
+        try {
+            return Double.parseDouble(value.substring(2).trim());
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * 압축할 가치가 있는 Content-Type인지 확인합니다. (텍스트 계열만 압축)
+     *
+     * @param contentType Content-Type 헤더 값 (파라미터 포함 가능)
+     * @return 압축 대상이면 true
+     */
+    public static boolean isCompressible(String contentType) {
+        String type = contentType.toLowerCase();
+        int semicolon = type.indexOf(';');
+        if (semicolon >= 0) {
+            type = type.substring(0, semicolon).trim();
+        }
+        return type.startsWith("text/") ||
+                type.equals("application/json") ||
+                type.equals("application/javascript") ||
+                type.equals("application/xml") ||
+                type.endsWith("+json") ||
+                type.endsWith("+xml") ||
+                type.equals("image/svg+xml");
+    }
+
+    /**
+     * 바이트 배열을 압축합니다. (버퍼 응답, 정적 리소스 사전 압축용)
+     *
+     * @param input 원본 바이트
+     * @param encoding "gzip" 또는 "deflate"
+     * @return 압축된 바이트
+     */
+    public static byte[] compress(byte[] input, String encoding) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 4 + 64);
+        try (OutputStream compressing = wrap(out, encoding)) {
+            compressing.write(input);
+        } catch (IOException e) {
+            throw new IllegalStateException("Compression failed: " + encoding, e); // 메모리 스트림은 실패하지 않음
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 파일 영역 본문을 압축하며 대상 채널로 전송합니다. (스트리밍 응답용, 대상 채널은 닫지 않음)
+     *
+     * @return 대상 채널에 쓴 (압축된) 바이트 수
+     */
+    public static long writeCompressed(FileRegionBody body, WritableByteChannel target, String encoding) throws IOException {
+        ChannelOutputStream channelOut = new ChannelOutputStream(target);
+        try (OutputStream compressing = wrap(channelOut, encoding)) {
+            body.writeTo(Channels.newChannel(compressing));
+        }
+        return channelOut.written;
+    }
+
+    /**
+     * 압축 출력 스트림을 만듭니다. 닫으면 gzip 트레일러를 쓰고 Deflater를 풀에 돌려줍니다.
+     */
+    public static OutputStream wrap(OutputStream out, String encoding) throws IOException {
+        boolean gzip = GZIP.equals(encoding);
+        if (!gzip && !DEFLATE.equals(encoding)) {
+            throw new IllegalArgumentException("Unsupported content encoding: " + encoding);
+        }
+        return new CompressingOutputStream(out, POOLS.get(), gzip);
+    }
+
+    private static void addVaryAcceptEncoding(HttpResponse response) {
+        String vary = response.getHeader("Vary");
+        if (vary == null) {
+            response.addHeader("Vary", "Accept-Encoding");
+        } else if (!vary.toLowerCase().contains("accept-encoding")) {
+            response.addHeader("Vary", vary + ", Accept-Encoding");
+        }
+    }
+
+    private static void weakenETag(HttpResponse response) {
+        String etag = response.getHeader("ETag");
+        if (etag != null && !etag.startsWith("W/")) {
+            response.addHeader("ETag", "W/" + etag);
+        }
+    }
+
+    /**
+     * 스레드별 Deflater 보관소
+     * 같은 스레드에서 압축 스트림이 중첩되면 (드묾) 풀의 것 대신 임시 Deflater를 만들고 사용 후 해제합니다.
+     */
+    private static final class DeflaterPool {
+        private final Deflater gzip = new Deflater(COMPRESSION_LEVEL, true);
+        private final Deflater deflate = new Deflater(COMPRESSION_LEVEL, false);
+        private boolean gzipInUse;
+        private boolean deflateInUse;
+
+        Deflater acquire(boolean nowrap) {
+            if (nowrap && !gzipInUse) {
+                gzipInUse = true;
+                return gzip;
+            }
+            if (!nowrap && !deflateInUse) {
+                deflateInUse = true;
+                return deflate;
+            }
+            return new Deflater(COMPRESSION_LEVEL, nowrap);
+        }
+
+        void release(Deflater deflater) {
+            if (deflater == gzip) {
+                gzip.reset();
+                gzipInUse = false;
+            } else if (deflater == deflate) {
+                deflate.reset();
+                deflateInUse = false;
+            } else {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * 풀의 Deflater를 사용하는 압축 스트림 (gzip이면 헤더/CRC32/길이 트레일러를 직접 기록)
+     */
+    private static final class CompressingOutputStream extends DeflaterOutputStream {
+        private final DeflaterPool pool;
+        private final boolean gzip;
+        private final CRC32 crc;
+        private boolean closed;
+
+        CompressingOutputStream(OutputStream out, DeflaterPool pool, boolean gzip) throws IOException {
+            this(out, pool, pool.acquire(gzip), gzip);
+        }
+
+        private CompressingOutputStream(OutputStream out, DeflaterPool pool, Deflater deflater, boolean gzip) throws IOException {
+            super(out, deflater, BUFFER_SIZE);
+            this.pool = pool;
+            this.gzip = gzip;
+            this.crc = gzip ? new CRC32() : null;
+            if (gzip) {
+                out.write(GZIP_HEADER);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                finish();
+                if (gzip) {
+                    writeIntLE((int) crc.getValue());
+                    writeIntLE((int) def.getBytesRead());
+                }
+                out.close();
+            } finally {
+                pool.release(def);
+            }
+        }
+
+        private void writeIntLE(int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+    }
+
+    /**
+     * 채널에 쓰는 OutputStream (닫아도 채널은 닫지 않고, 쓴 바이트 수를 셈)
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+        private final WritableByteChannel channel;
+        private long written;
+
+        ChannelOutputStream(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() {
+            // 대상 채널은 호출한 쪽이 관리
+        }
+    }
+}
@@ -140,6 +140,25 @@ public class ResponseEntity<T> {
         return body != null;
     }
 
+    /**
+     * 핸들러가 미리 지정한 ETag 반환
+     *
+     * @return ETag 헤더 값, 없으면 null
+     */
+    public String getETag() {
+        return headers.get("ETag");
+    }
+
+    /**
+     * 버전 ETag를 지정한 새로운 ResponseEntity 반환
+     * 요청의 If-None-Match와 일치하면 본문을 직렬화하지 않고 304로 응답합니다.
+     *
+     * @param etag 버전 값 (따옴표가 없으면 자동으로 붙임)
+     */
+    public ResponseEntity<T> eTag(String etag) {
+        return withHeader("ETag", ETagSupport.quote(etag));
+    }
+
     /**
      * 헤더를 추가한 새로운 ResponseEntity 반환
      */
@@ -211,6 +230,11 @@ public class ResponseEntity<T> {
             return this;
         }
 
+        public Builder<T> eTag(String etag) {
+            this.headers.put("ETag", ETagSupport.quote(etag));
+            return this;
+        }
+
         @SuppressWarnings("unchecked")
         public <U> Builder<U> body(U bodyValue) {
             Builder<U> newBuilder = new Builder<>(this.statusCode);
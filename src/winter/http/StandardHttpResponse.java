@@ -1,7 +1,11 @@
 package winter.http;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +30,10 @@ public class StandardHttpResponse implements HttpResponse {
 
     private int status = 200;
     private String body = "";
+    private FileRegionBody fileBody; // 파일 다운로드용 본문 (설정되면 body 대신 사용)
+    private byte[] encodedBody;      // 압축된 본문 (설정되면 전송 시 body 대신 사용)
+    private String contentEncoding;  // 적용된 Content-Encoding (버퍼/스트리밍 공통)
+    private StreamingBody streamingBody; // 헤더 전송 후 연결을 넘겨받는 본문 (SSE 등)
     private final Map<String, String> headers = new HashMap<>();
 
     // 25단계: 쿠키 관리 기능
@@ -62,6 +70,9 @@ public class StandardHttpResponse implements HttpResponse {
     @Override
     public void setBody(String body) {
         this.body = body;
+        this.fileBody = null;
+        this.streamingBody = null;
+        clearEncoding();
     }
 
     @Override
@@ -69,6 +80,94 @@ public class StandardHttpResponse implements HttpResponse {
         return body;
     }
 
+    @Override
+    public void setFileBody(FileRegionBody fileBody) {
+        this.fileBody = fileBody;
+        this.streamingBody = null;
+        clearEncoding();
+        if (fileBody != null) {
+            this.body = "";
+            headers.put("Content-Length", String.valueOf(fileBody.getContentLength()));
+        }
+    }
+
+    @Override
+    public FileRegionBody getFileBody() {
+        return fileBody;
+    }
+
+    @Override
+    public void setEncodedBody(byte[] encodedBody, String encoding) {
+        flushWriter(); // Writer 내용이 나중에 body를 덮어써도 인코딩 본문과 어긋나지 않도록 먼저 반영
+        resetWriter();
+        this.encodedBody = encodedBody;
+        this.contentEncoding = encoding;
+        headers.put("Content-Encoding", encoding);
+        headers.put("Content-Length", String.valueOf(encodedBody.length));
+    }
+
+    @Override
+    public byte[] getEncodedBody() {
+        return encodedBody;
+    }
+
+    @Override
+    public void setStreamingEncoding(String encoding) {
+        if (fileBody == null) {
+            throw new IllegalStateException("Streaming encoding requires a file body");
+        }
+        this.contentEncoding = encoding;
+        headers.put("Content-Encoding", encoding);
+        headers.remove("Content-Length");
+    }
+
+    @Override
+    public void setStreamingBody(StreamingBody streamingBody) {
+        this.streamingBody = streamingBody;
+        if (streamingBody != null) {
+            this.body = "";
+            this.fileBody = null;
+            clearEncoding();
+            headers.remove("Content-Length");
+        }
+    }
+
+    @Override
+    public StreamingBody getStreamingBody() {
+        return streamingBody;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    private void clearEncoding() {
+        if (contentEncoding != null) {
+            headers.remove("Content-Encoding");
+            headers.remove("Content-Length");
+        }
+        this.encodedBody = null;
+        this.contentEncoding = null;
+    }
+
+    @Override
+    public long writeBodyTo(WritableByteChannel target) throws IOException {
+        if (fileBody != null) {
+            return contentEncoding != null
+                    ? ResponseCompressor.writeCompressed(fileBody, target, contentEncoding)
+                    : fileBody.writeTo(target);
+        }
+        flushWriter();
+        ByteBuffer buffer = ByteBuffer.wrap(encodedBody != null ? encodedBody
+                : body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0]);
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += target.write(buffer);
+        }
+        return written;
+    }
+
     // ===== HTTP 헤더 관리 메서드들 =====
 
     @Override
@@ -113,7 +212,10 @@ public class StandardHttpResponse implements HttpResponse {
     public void flushWriter() {
         if (writer != null) { // Writer가 null이 아닌 경우에만 실행
             writer.flush(); // 버퍼에 있는 내용을 StringWriter로 플러시
-            this.body = stringWriter.toString(); // StringWriter의 내용을 body로 설정
+            // Writer로 출력한 내용이 있을 때만 body로 설정 (setBody()로 지정한 본문을 빈 문자열로 덮어쓰지 않음)
+            if (stringWriter.getBuffer().length() > 0) {
+                this.body = stringWriter.toString(); // StringWriter의 내용을 body로 설정
+            }
         }
     }
 
@@ -332,7 +434,15 @@ public class StandardHttpResponse implements HttpResponse {
             System.out.println("Set-Cookie: " + cookie.toHeaderString());
         }
 
-        System.out.println("body = " + body);
+        if (streamingBody != null) {
+            System.out.println("body = [스트리밍] " + streamingBody);
+        } else if (fileBody != null) {
+            System.out.println("body = " + fileBody + (contentEncoding != null ? " (" + contentEncoding + ")" : "")); // 파일 내용은 출력하지 않음
+        } else if (encodedBody != null) {
+            System.out.println("body = [" + contentEncoding + " " + encodedBody.length + " bytes] " + body);
+        } else {
+            System.out.println("body = " + body);
+        }
     }
 
     /**
@@ -363,14 +473,88 @@ public class StandardHttpResponse implements HttpResponse {
         // 헤더 종료
         response.append("\r\n");
 
-        // 본문
-        if (body != null && !body.isEmpty()) {
+        // 본문 (인코딩된 바이너리 본문은 문자열로 표현할 수 없으므로 생략)
+        if (encodedBody == null && body != null && !body.isEmpty()) {
             response.append(body);
         }
 
         return response.toString();
     }
 
+    /**
+     * 상태 라인, 헤더, 본문을 HTTP/1.1 메시지로 채널에 씁니다. (소켓 계층용)
+     *
+     * 지속 연결에서 다음 응답과 구분될 수 있도록 Content-Length와 Connection 헤더를 설정합니다.
+     * - 본문이 없는 상태(1xx, 204, 304)와 HEAD 요청은 본문을 쓰지 않음
+     * - 압축하며 스트리밍하는 파일 본문처럼 길이를 미리 알 수 없으면 연결 종료로 본문 끝을 표시
+     * - 스트리밍 본문(SSE 등)은 헤더만 쓰고, 호출자가 연결을 StreamingBody에 넘김
+     *
+     * @param target 대상 채널
+     * @param keepAlive 응답 후 연결을 유지하려는지 여부
+     * @param headRequest HEAD 요청이면 true (헤더만 전송)
+     * @return 응답 후 연결을 유지할 수 있으면 true
+     * @throws IOException 전송 실패시
+     */
+    public boolean writeTo(WritableByteChannel target, boolean keepAlive, boolean headRequest) throws IOException {
+        flushWriter();
+
+        boolean bodyAllowed = status >= 200 && status != 204 && status != 304;
+        byte[] bodyBytes = null;
+        long contentLength;
+        if (!bodyAllowed) {
+            contentLength = 0;
+        } else if (streamingBody != null) {
+            contentLength = -1;
+        } else if (fileBody != null) {
+            contentLength = contentEncoding != null ? -1 : fileBody.getContentLength();
+        } else if (encodedBody != null) {
+            contentLength = encodedBody.length;
+        } else {
+            bodyBytes = body != null ? body.getBytes(StandardCharsets.UTF_8) : new byte[0];
+            contentLength = bodyBytes.length;
+        }
+        if (contentLength < 0) {
+            keepAlive = false; // 길이를 모르는 본문은 연결 종료로 끝을 알림
+        }
+
+        StringBuilder head = new StringBuilder(256);
+        head.append("HTTP/1.1 ").append(status).append(' ').append(getStatusMessage(status)).append("\r\n");
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            String name = entry.getKey();
+            if (name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Connection")) {
+                continue; // 아래에서 실제 전송 방식에 맞게 다시 설정
+            }
+            if (!keepAlive && name.equalsIgnoreCase("Keep-Alive")) {
+                continue; // 연결을 닫는 응답에는 유지 정보가 의미 없음
+            }
+            head.append(name).append(": ").append(entry.getValue()).append("\r\n");
+        }
+        for (Cookie cookie : cookies) {
+            head.append("Set-Cookie: ").append(cookie.toHeaderString()).append("\r\n");
+        }
+        if (bodyAllowed && contentLength >= 0) {
+            head.append("Content-Length: ").append(contentLength).append("\r\n");
+        }
+        head.append("Connection: ").append(keepAlive ? "keep-alive" : "close").append("\r\n\r\n");
+
+        writeFully(target, ByteBuffer.wrap(head.toString().getBytes(StandardCharsets.ISO_8859_1)));
+
+        if (bodyAllowed && !headRequest && streamingBody == null) {
+            if (bodyBytes != null) {
+                writeFully(target, ByteBuffer.wrap(bodyBytes));
+            } else {
+                writeBodyTo(target);
+            }
+        }
+        return keepAlive;
+    }
+
+    private static void writeFully(WritableByteChannel target, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
     /**
      * 상태 코드에 따른 상태 메시지를 반환합니다. (기존과 완전 동일)
      *
@@ -382,6 +566,7 @@ public class StandardHttpResponse implements HttpResponse {
             case 200: return "OK";
             case 201: return "Created";
             case 204: return "No Content";
+            case 206: return "Partial Content";
             case 302: return "Found";
             case 304: return "Not Modified";
             case 400: return "Bad Request";
@@ -389,9 +574,17 @@ public class StandardHttpResponse implements HttpResponse {
             case 403: return "Forbidden";
             case 404: return "Not Found";
             case 405: return "Method Not Allowed";
+            case 409: return "Conflict";
+            case 411: return "Length Required";
+            case 412: return "Precondition Failed";
+            case 413: return "Payload Too Large";
+            case 416: return "Range Not Satisfiable";
+            case 431: return "Request Header Fields Too Large";
             case 500: return "Internal Server Error";
+            case 501: return "Not Implemented";
             case 502: return "Bad Gateway";
             case 503: return "Service Unavailable";
+            case 505: return "HTTP Version Not Supported";
             default: return "Unknown";
         }
     }
@@ -402,7 +595,7 @@ public class StandardHttpResponse implements HttpResponse {
                 "status=" + status +
                 ", headers=" + headers.size() + " entries" +
                 ", cookies=" + cookies.size() + " entries" +
-                ", bodyLength=" + (body != null ? body.length() : 0) +
+                ", bodyLength=" + (fileBody != null ? fileBody.getContentLength() : (body != null ? body.length() : 0)) +
                 '}';
     }
 }
\ No newline at end of file
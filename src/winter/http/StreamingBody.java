@@ -0,0 +1,24 @@
+package winter.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 응답 헤더를 보낸 뒤 연결을 넘겨받아 본문을 계속 쓰는 스트리밍 본문 (Server-Sent Events 등)
+ *
+ * 소켓 계층은 헤더를 보낸 뒤 attach()로 출력 스트림과 연결을 넘기고, 그 연결에서 더 이상 요청을 읽지 않습니다.
+ * 이후 본문을 쓰고 연결을 닫는 것은 StreamingBody의 책임입니다.
+ * 길이를 미리 알 수 없으므로 Content-Length 없이 연결 종료로 본문 끝을 표시합니다.
+ */
+public interface StreamingBody {
+
+    /**
+     * 응답 헤더 전송 후 호출됩니다.
+     *
+     * @param out 연결의 출력 스트림 (헤더 다음부터 씀)
+     * @param connection 본문이 끝나면 닫아야 하는 연결
+     * @throws IOException 연결을 넘겨받는 중 오류
+     */
+    void attach(OutputStream out, Closeable connection) throws IOException;
+}
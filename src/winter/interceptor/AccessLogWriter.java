@@ -0,0 +1,348 @@
+package winter.interceptor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AccessLogWriter는 요청당 한 줄의 액세스 로그 레코드를 비동기로 파일에 기록하는 클래스입니다.
+ *
+ * 동작 방식:
+ * - 요청 스레드: 스레드별 StringBuilder에 레코드를 조립한 뒤, 최대 크기로 잘린 byte[] 하나만
+ *   큐에 넣고 즉시 반환합니다. 큐가 가득 차면 기다리지 않고 레코드를 버립니다 (drop 카운트 증가).
+ * - 백그라운드 스레드: 큐에 쌓인 레코드를 한 번에 모아(drainTo) FileChannel로 일괄 기록합니다.
+ * - 파일 회전: 활성 파일이 최대 크기를 넘거나 회전 주기가 지나면
+ *   "access.log" → "access-yyyyMMdd-HHmmss.log"로 이름을 바꾸고 새 파일을 엽니다.
+ *
+ * 레코드 형식 (탭 구분, 한 줄):
+ * epochMillis  requestId  METHOD  path  status  durationMicros  responseBytes  handler  exception
+ *
+ * @author Winter Framework
+ * @since 27단계
+ */
+public class AccessLogWriter implements AutoCloseable {
+
+    /**
+     * 레코드 하나의 최대 크기 (바이트) - 요청 스레드의 복사 비용 상한
+     */
+    public static final int MAX_RECORD_BYTES = 1024;
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    private static final long DEFAULT_MAX_FILE_SIZE = 64L * 1024 * 1024;  // 64MB
+    private static final long DEFAULT_ROTATION_INTERVAL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+    private static final long ROTATION_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final DateTimeFormatter ROTATION_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * 레코드 조립용 스레드별 버퍼 (요청마다 새로 할당하지 않음)
+     */
+    private static final ThreadLocal<StringBuilder> RECORD_BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final Path logFile;
+    private final long maxFileSize;
+    private final long rotationIntervalMillis;
+    private final BlockingQueue<byte[]> queue;
+    private final Thread writerThread;
+
+    // 통계
+    private final AtomicLong writtenRecords = new AtomicLong(0);
+    private final AtomicLong droppedRecords = new AtomicLong(0);
+    private final AtomicLong rotations = new AtomicLong(0);
+
+    // 백그라운드 스레드 전용 상태
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private FileChannel channel;
+    private long currentFileSize;
+    private long currentFileOpenedAt;
+    private long nextRotationAttemptAt; // 회전 실패 후 다시 시도할 시각
+
+    private volatile boolean running = true;
+
+    /**
+     * 기본 설정 (64MB / 1시간 회전, 큐 8192개)으로 AccessLogWriter를 생성합니다.
+     *
+     * @param logFile 활성 로그 파일 경로 (예: "./logs/access.log")
+     * @throws IOException 로그 파일을 열 수 없을 때
+     */
+    public AccessLogWriter(String logFile) throws IOException {
+        this(logFile, DEFAULT_MAX_FILE_SIZE, DEFAULT_ROTATION_INTERVAL_MILLIS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * 회전 정책과 큐 크기를 지정하여 AccessLogWriter를 생성합니다.
+     *
+     * @param logFile 활성 로그 파일 경로
+     * @param maxFileSize 회전 기준 파일 크기 (바이트)
+     * @param rotationIntervalMillis 회전 기준 시간 (밀리초)
+     * @param queueCapacity 대기 레코드 최대 개수 (초과 시 레코드 버림)
+     * @throws IOException 로그 파일을 열 수 없을 때
+     */
+    public AccessLogWriter(String logFile, long maxFileSize, long rotationIntervalMillis, int queueCapacity) throws IOException {
+        this.logFile = Paths.get(logFile);
+        this.maxFileSize = Math.max(MAX_RECORD_BYTES, maxFileSize);
+        this.rotationIntervalMillis = Math.max(1000, rotationIntervalMillis);
+        this.queue = new ArrayBlockingQueue<>(Math.max(16, queueCapacity));
+
+        Path parent = this.logFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        openChannel();
+
+        this.writerThread = new Thread(this::runWriter, "winter-access-log");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * 액세스 로그 레코드를 큐에 넣습니다. (요청 스레드에서 호출)
+     * 디스크 I/O를 하지 않으며, 큐가 가득 차면 대기하지 않고 레코드를 버립니다.
+     *
+     * @return 큐에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean append(long epochMillis, String requestId, String method, String path, int status,
+                          long durationMicros, long responseBytes, String handler, String exception) {
+        if (!running) {
+            droppedRecords.incrementAndGet();
+            return false;
+        }
+
+        StringBuilder sb = RECORD_BUFFER.get();
+        sb.setLength(0);
+        sb.append(epochMillis).append('\t')
+                .append(requestId).append('\t')
+                .append(method).append('\t');
+        appendField(sb, path);
+        sb.append('\t').append(status)
+                .append('\t').append(durationMicros)
+                .append('\t').append(responseBytes)
+                .append('\t');
+        appendField(sb, handler);
+        sb.append('\t');
+        appendField(sb, exception);
+
+        byte[] record = encode(sb);
+        if (queue.offer(record)) {
+            return true;
+        }
+        droppedRecords.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 필드 값을 추가합니다. 탭/개행은 레코드 구분을 깨뜨리므로 공백으로 치환합니다.
+     */
+    private static void appendField(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append('-');
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            sb.append(c == '\t' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+    }
+
+    /**
+     * 레코드를 UTF-8로 인코딩하고 MAX_RECORD_BYTES 이내로 자른 뒤 개행을 붙입니다.
+     */
+    private static byte[] encode(StringBuilder sb) {
+        if (sb.length() > MAX_RECORD_BYTES) {
+            sb.setLength(MAX_RECORD_BYTES);
+        }
+        byte[] encoded = sb.toString().getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(encoded.length, MAX_RECORD_BYTES - 1);
+        byte[] record = new byte[length + 1];
+        System.arraycopy(encoded, 0, record, 0, length);
+        record[length] = '\n';
+        return record;
+    }
+
+    /**
+     * 백그라운드 기록 루프: 레코드를 모아서 일괄 기록하고, 필요하면 파일을 회전합니다.
+     */
+    private void runWriter() {
+        List<byte[]> batch = new ArrayList<>(256);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                byte[] first = queue.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                }
+
+                rotateIfNeeded();
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                // 외부 인터럽트: 새 레코드 수신을 멈추고 남은 레코드만 기록한 뒤 종료
+                running = false;
+            } catch (IOException e) {
+                System.err.println("[ACCESS-LOG] 기록 실패: " + e.getMessage());
+                droppedRecords.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+
+        try {
+            queue.drainTo(batch);
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[ACCESS-LOG] 종료 처리 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 레코드 묶음을 direct 버퍼에 채워가며 FileChannel로 기록합니다.
+     */
+    private void writeBatch(List<byte[]> batch) throws IOException {
+        writeBuffer.clear();
+        for (byte[] record : batch) {
+            if (writeBuffer.remaining() < record.length) {
+                flushBuffer();
+            }
+            writeBuffer.put(record);
+        }
+        flushBuffer();
+        writtenRecords.addAndGet(batch.size());
+    }
+
+    private void flushBuffer() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            currentFileSize += channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * 크기 또는 시간 기준을 넘었으면 활성 파일을 회전합니다.
+     */
+    private void rotateIfNeeded() throws IOException {
+        if (!channel.isOpen()) {
+            openChannel(); // 이전 회전에서 다시 열지 못한 파일 복구
+        }
+        if (System.currentTimeMillis() < nextRotationAttemptAt) {
+            return;
+        }
+        boolean sizeExceeded = currentFileSize >= maxFileSize;
+        boolean timeExceeded = currentFileSize > 0 &&
+                System.currentTimeMillis() - currentFileOpenedAt >= rotationIntervalMillis;
+        if (!sizeExceeded && !timeExceeded) {
+            return;
+        }
+
+        channel.force(false);
+        channel.close();
+
+        // 이동에 실패해도 원래 파일을 다시 열어 기록을 이어감 (닫힌 채널로 모든 레코드를 버리지 않도록)
+        try {
+            Path rotated = rotatedFileName();
+            Files.move(logFile, rotated, StandardCopyOption.ATOMIC_MOVE);
+            rotations.incrementAndGet();
+        } catch (IOException e) {
+            nextRotationAttemptAt = System.currentTimeMillis() + ROTATION_RETRY_MILLIS;
+            System.err.println("[ACCESS-LOG] 회전 실패, 기존 파일에 계속 기록: " + e.getMessage());
+        } finally {
+            openChannel();
+        }
+    }
+
+    /**
+     * "access.log" → "access-20250812-153000.log" 형태의 회전 파일명을 만듭니다.
+     * 같은 초에 여러 번 회전하면 "-1", "-2" 접미사를 붙입니다.
+     */
+    private Path rotatedFileName() {
+        String fileName = logFile.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        String ext = dot > 0 ? fileName.substring(dot) : "";
+        String suffix = LocalDateTime.now().format(ROTATION_SUFFIX_FORMATTER);
+
+        Path candidate = logFile.resolveSibling(base + "-" + suffix + ext);
+        for (int i = 1; Files.exists(candidate); i++) {
+            candidate = logFile.resolveSibling(base + "-" + suffix + "-" + i + ext);
+        }
+        return candidate;
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(logFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        currentFileSize = channel.size();
+        currentFileOpenedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 새 레코드 수신을 중단하고, 대기 중인 레코드를 모두 기록한 뒤 파일을 닫습니다.
+     */
+    @Override
+    public void close() {
+        if (!running) {
+            return;
+        }
+        // interrupt를 쓰면 FileChannel이 닫히므로, poll 타임아웃으로 종료를 감지하게 둔다
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getWrittenRecords() {
+        return writtenRecords.get();
+    }
+
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    public long getRotations() {
+        return rotations.get();
+    }
+
+    public int getPendingRecords() {
+        return queue.size();
+    }
+
+    public Path getLogFile() {
+        return logFile;
+    }
+
+    @Override
+    public String toString() {
+        return "AccessLogWriter{" +
+                "logFile=" + logFile +
+                ", written=" + writtenRecords.get() +
+                ", dropped=" + droppedRecords.get() +
+                ", pending=" + queue.size() +
+                ", rotations=" + rotations.get() +
+                '}';
+    }
+}
@@ -5,8 +5,6 @@ import winter.http.HttpResponse;
 import winter.http.HttpSession;
 import winter.view.ModelAndView;
 
-import java.util.Set;
-
 /**
  * AuthenticationInterceptor는 사용자 인증을 담당하는 인터셉터입니다.
  * 세션 기반 인증을 통해 보호된 리소스에 대한 접근을 제어합니다.
@@ -31,21 +29,38 @@ import java.util.Set;
 public class AuthenticationInterceptor implements HandlerInterceptor {
 
     /**
-     * 인증이 필요한 URL 패턴들
+     * 인증이 필요한 URL 패턴들 (이 인터셉터의 기본 적용 경로)
+     */
+    private static final String[] PROTECTED_PATH_PATTERNS = {
+            "/admin/**",        // 관리자 페이지
+            "/secure/**",       // 보안 페이지
+            "/profile/**",      // 사용자 프로필
+            "/api/private/**"   // 인증이 필요한 API
+    };
+
+    /**
+     * 인증이 필요 없는 공개 URL 패턴들 (보호 경로 안에 있더라도 제외)
      */
-    private final Set<String> protectedPaths = Set.of(
-            "/admin",           // 관리자 페이지
-            "/secure",          // 보안 페이지
-            "/profile",         // 사용자 프로필
-            "/api/private"      // 인증이 필요한 API
-    );
+    private static final String[] PUBLIC_PATH_PATTERNS = {
+            "/login",
+            "/static/**",
+            "/",
+            "/hello",
+            "/register",
+            "/api/public/**",
+            "/interceptor/basic",   // 27단계 테스트용
+            "/interceptor/slow",    // 27단계 테스트용
+            "/interceptor/error",   // 27단계 테스트용
+            "/api/interceptor*",    // 27단계 테스트용
+            "/api/cors*"            // 27단계 테스트용
+    };
 
     /**
      * 관리자 권한이 필요한 URL 패턴들
      */
-    private final Set<String> adminPaths = Set.of(
-            "/admin"            // 관리자 전용 페이지
-    );
+    private static final String[] ADMIN_PATH_PATTERNS = {
+            "/admin/**"         // 관리자 전용 페이지
+    };
 
     /**
      * 로그인 페이지 URL
@@ -97,17 +112,8 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
 
         System.out.println("🔐 [AUTH] 인증 확인: " + requestMethod + " " + requestPath);
 
-        // 1. 로그인 페이지나 공개 리소스는 인증 불필요
-        if (isPublicResource(requestPath)) {
-            System.out.println("   ✅ 공개 리소스 - 인증 생략");
-            return true;
-        }
-
-        // 2. 보호된 리소스인지 확인
-        if (!isProtectedResource(requestPath)) {
-            System.out.println("   ✅ 비보호 리소스 - 인증 생략");
-            return true;
-        }
+        // 1~2. 공개/비보호 리소스는 InterceptorChain이 경로 패턴으로 미리 걸러내므로
+        //      여기까지 오는 요청은 모두 보호된 리소스임 (getIncludePathPatterns 참고)
 
         // 3. 세션에서 사용자 인증 정보 확인
         HttpSession session = request.getSession();
@@ -203,34 +209,31 @@ public class AuthenticationInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * 공개 리소스인지 확인합니다.
+     * 이 인터셉터는 보호된 경로에만 적용됩니다.
      */
-    private boolean isPublicResource(String path) {
-        return path.equals(loginUrl) ||
-                path.startsWith("/static/") ||
-                path.equals("/") ||
-                path.equals("/hello") ||
-                path.equals("/register") ||
-                path.startsWith("/api/public") ||
-                path.equals("/interceptor/basic") ||  // 27단계 테스트용
-                path.equals("/interceptor/slow") ||   // 27단계 테스트용
-                path.equals("/interceptor/error") ||  // 27단계 테스트용
-                path.startsWith("/api/interceptor") || // 27단계 테스트용
-                path.startsWith("/api/cors");         // 27단계 테스트용
+    @Override
+    public String[] getIncludePathPatterns() {
+        return PROTECTED_PATH_PATTERNS.clone();
     }
 
     /**
-     * 보호된 리소스인지 확인합니다.
+     * 로그인 페이지와 공개 리소스에는 적용되지 않습니다.
      */
-    private boolean isProtectedResource(String path) {
-        return protectedPaths.stream().anyMatch(path::startsWith);
+    @Override
+    public String[] getExcludePathPatterns() {
+        return PUBLIC_PATH_PATTERNS.clone();
     }
 
     /**
      * 관리자 권한이 필요한 리소스인지 확인합니다.
      */
     private boolean isAdminResource(String path) {
-        return adminPaths.stream().anyMatch(path::startsWith);
+        for (String pattern : ADMIN_PATH_PATTERNS) {
+            if (InterceptorRegistration.matchPattern(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -4,7 +4,12 @@ import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.view.ModelAndView;
 
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CorsInterceptor는 CORS(Cross-Origin Resource Sharing) 정책을 처리하는 인터셉터입니다.
@@ -23,6 +28,12 @@ import java.util.Set;
  * 2. Preflight Request: OPTIONS 요청으로 사전 검증
  * 3. Actual Request: Preflight 성공 후 실제 요청
  *
+ * Preflight 캐시:
+ * - (Origin, Access-Control-Request-Method, Access-Control-Request-Headers) 조합별로
+ *   최종 응답(상태 코드 + 헤더 + 본문)을 한 번만 계산하여 크기 제한이 있는 캐시에 보관합니다.
+ * - Dispatcher는 세션 처리와 핸들러 조회 이전에 handlePreflight()를 호출하므로,
+ *   반복되는 Preflight 요청은 맵 조회 한 번으로 응답됩니다.
+ *
  * @author Winter Framework
  * @since 27단계
  */
@@ -83,6 +94,109 @@ public class CorsInterceptor implements HandlerInterceptor {
      */
     private final boolean allowAllOrigins = false;
 
+    /**
+     * Preflight 캐시 최대 항목 수
+     */
+    private static final int MAX_PREFLIGHT_CACHE_SIZE = 1024;
+
+    /**
+     * 미리 조립해 둔 헤더 값들 (요청마다 String.join 하지 않음)
+     */
+    private final String allowMethodsValue = String.join(", ", allowedMethods);
+    private final String allowHeadersValue = String.join(", ", allowedHeaders);
+    private final String exposedHeadersValue = String.join(", ", exposedHeaders);
+    private final String maxAgeValue = String.valueOf(maxAge);
+
+    /**
+     * (origin, method, requested headers) → 완성된 Preflight 응답
+     */
+    private final Map<PreflightKey, PreflightResponse> preflightCache = new ConcurrentHashMap<>();
+
+    /**
+     * Preflight 캐시 키
+     */
+    private record PreflightKey(String origin, String requestMethod, String requestHeaders) {
+    }
+
+    /**
+     * 미리 계산된 Preflight 응답 (불변)
+     */
+    private static final class PreflightResponse {
+        final int status;
+        final Map<String, String> headers;
+        final String body;
+
+        PreflightResponse(int status, Map<String, String> headers, String body) {
+            this.status = status;
+            this.headers = Collections.unmodifiableMap(headers);
+            this.body = body;
+        }
+
+        void applyTo(HttpResponse response) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                response.addHeader(header.getKey(), header.getValue());
+            }
+            response.setStatus(status);
+            response.setBody(body);
+        }
+    }
+
+    /**
+     * CORS Preflight 요청인지 확인합니다.
+     * OPTIONS 메서드이면서 Origin과 Access-Control-Request-Method 헤더가 모두 있어야 합니다.
+     *
+     * @param request HTTP 요청
+     * @return Preflight 요청이면 true
+     */
+    public boolean isPreflightRequest(HttpRequest request) {
+        return "OPTIONS".equals(request.getMethod()) &&
+                request.getHeader("Origin") != null &&
+                request.getHeader("Access-Control-Request-Method") != null;
+    }
+
+    /**
+     * Preflight 요청에 캐시된 응답을 적용합니다.
+     * Dispatcher가 세션 처리/핸들러 조회 이전에 호출하는 빠른 경로입니다.
+     *
+     * @param request Preflight 요청 (isPreflightRequest()가 true인 요청)
+     * @param response HTTP 응답
+     * @return Preflight가 승인되었으면 true, 거부되었으면 false (어느 쪽이든 응답은 완성됨)
+     */
+    public boolean handlePreflight(HttpRequest request, HttpResponse response) {
+        PreflightKey key = new PreflightKey(
+                request.getHeader("Origin"),
+                request.getHeader("Access-Control-Request-Method"),
+                request.getHeader("Access-Control-Request-Headers"));
+
+        PreflightResponse cached = preflightCache.get(key);
+        if (cached == null) {
+            cached = computePreflight(key);
+            cachePreflight(key, cached);
+        }
+
+        cached.applyTo(response);
+        return cached.status == 200;
+    }
+
+    /**
+     * Preflight 캐시 항목 수를 반환합니다.
+     */
+    public int getPreflightCacheSize() {
+        return preflightCache.size();
+    }
+
+    private void cachePreflight(PreflightKey key, PreflightResponse value) {
+        if (preflightCache.size() >= MAX_PREFLIGHT_CACHE_SIZE) {
+            // 크기 제한 초과 시 임의의 항목 하나를 제거 (조회 경로에 잠금을 두지 않기 위함)
+            Iterator<PreflightKey> it = preflightCache.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        preflightCache.put(key, value);
+    }
+
     /**
      * 요청 처리 전에 CORS 헤더를 설정하고 Preflight 요청을 처리합니다.
      */
@@ -110,14 +224,23 @@ public class CorsInterceptor implements HandlerInterceptor {
 
         System.out.println("   ✅ Origin 허용됨: " + origin);
 
-        // 3. CORS 기본 헤더 설정
-        setCorsHeaders(response, origin);
-
-        // 4. Preflight 요청 처리 (OPTIONS 메서드)
+        // 3. Preflight 요청 처리 (OPTIONS 메서드) - 캐시된 응답 사용
+        //    Dispatcher의 빠른 경로를 거치지 않은 Preflight(인터셉터 단독 사용 등)도 같은 캐시를 씀
         if ("OPTIONS".equalsIgnoreCase(method)) {
-            return handlePreflightRequest(request, response, origin);
+            if (request.getHeader("Access-Control-Request-Method") == null) {
+                setCorsHeaders(response, origin);
+                System.out.println("   ❌ Access-Control-Request-Method 헤더 없음");
+                response.setStatus(400);
+                response.setBody("Bad Request: Missing Access-Control-Request-Method header");
+                return false;
+            }
+            handlePreflight(request, response);
+            return false; // Preflight 요청은 여기서 종료 (실제 핸들러 실행 안 함)
         }
 
+        // 4. CORS 기본 헤더 설정
+        setCorsHeaders(response, origin);
+
         // 5. 실제 요청 처리 (Simple Request 또는 Preflight 후 실제 요청)
         return handleActualRequest(request, response, origin);
     }
@@ -193,8 +316,7 @@ public class CorsInterceptor implements HandlerInterceptor {
 
         // 3. 노출할 응답 헤더 설정
         if (!exposedHeaders.isEmpty()) {
-            response.addHeader("Access-Control-Expose-Headers",
-                    String.join(", ", exposedHeaders));
+            response.addHeader("Access-Control-Expose-Headers", exposedHeadersValue);
         }
 
         // 4. Vary 헤더 설정 (캐싱 최적화)
@@ -202,64 +324,58 @@ public class CorsInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * Preflight 요청을 처리합니다.
+     * Preflight 응답 전체(상태 코드, 헤더, 본문)를 계산합니다.
+     * 결과는 (origin, method, requested headers) 키로 캐시되므로 조합마다 한 번만 호출됩니다.
      */
-    private boolean handlePreflightRequest(HttpRequest request, HttpResponse response, String origin) {
-        System.out.println("🌐 [CORS] Preflight 요청 처리");
-
-        // 1. 요청된 메서드 확인
-        String requestMethod = request.getHeader("Access-Control-Request-Method");
-        if (requestMethod == null) {
-            System.out.println("   ❌ Access-Control-Request-Method 헤더 없음");
-            response.setStatus(400);
-            response.setBody("Bad Request: Missing Access-Control-Request-Method header");
-            return false;
+    private PreflightResponse computePreflight(PreflightKey key) {
+        System.out.println("🌐 [CORS] Preflight 응답 계산 (캐시 미스): " + key);
+
+        // 1. Origin 검증 - 거부 시 CORS 헤더 없이 403
+        if (!isOriginAllowed(key.origin())) {
+            return new PreflightResponse(403, new LinkedHashMap<>(), "CORS: Origin not allowed");
         }
 
+        Map<String, String> headers = new LinkedHashMap<>();
+        collectCorsHeaders(headers, key.origin());
+
         // 2. 메서드 허용 여부 확인
-        if (!allowedMethods.contains(requestMethod.toUpperCase())) {
-            System.out.println("   ❌ 허용되지 않은 메서드: " + requestMethod);
-            response.setStatus(405);
-            response.setBody("Method Not Allowed: " + requestMethod);
-            return false;
+        if (!allowedMethods.contains(key.requestMethod().toUpperCase())) {
+            return new PreflightResponse(405, headers, "Method Not Allowed: " + key.requestMethod());
         }
 
         // 3. 요청된 헤더 확인
-        String requestHeaders = request.getHeader("Access-Control-Request-Headers");
-        if (requestHeaders != null) {
-            String[] headers = requestHeaders.split(",");
-            for (String header : headers) {
+        if (key.requestHeaders() != null) {
+            for (String header : key.requestHeaders().split(",")) {
                 String trimmedHeader = header.trim();
-                if (!isHeaderAllowed(trimmedHeader)) {
-                    System.out.println("   ❌ 허용되지 않은 헤더: " + trimmedHeader);
-                    response.setStatus(400);
-                    response.setBody("Bad Request: Header not allowed: " + trimmedHeader);
-                    return false;
+                if (!trimmedHeader.isEmpty() && !isHeaderAllowed(trimmedHeader)) {
+                    return new PreflightResponse(400, headers, "Bad Request: Header not allowed: " + trimmedHeader);
                 }
             }
         }
 
         // 4. Preflight 응답 헤더 설정
-        response.addHeader("Access-Control-Allow-Methods",
-                String.join(", ", allowedMethods));
-
+        headers.put("Access-Control-Allow-Methods", allowMethodsValue);
         if (!allowedHeaders.isEmpty()) {
-            response.addHeader("Access-Control-Allow-Headers",
-                    String.join(", ", allowedHeaders));
+            headers.put("Access-Control-Allow-Headers", allowHeadersValue);
         }
+        headers.put("Access-Control-Max-Age", maxAgeValue);
 
-        response.addHeader("Access-Control-Max-Age", String.valueOf(maxAge));
-
-        // 5. Preflight 응답 완료
-        response.setStatus(200);
-        response.setBody(""); // Preflight는 빈 응답
-
-        System.out.println("   ✅ Preflight 요청 승인");
-        System.out.println("   허용 메서드: " + String.join(", ", allowedMethods));
-        System.out.println("   허용 헤더: " + String.join(", ", allowedHeaders));
-        System.out.println("   캐시 시간: " + maxAge + "초");
+        // 5. Preflight는 빈 응답
+        return new PreflightResponse(200, headers, "");
+    }
 
-        return false; // Preflight 요청은 여기서 종료 (실제 핸들러 실행 안 함)
+    /**
+     * 기본 CORS 헤더를 맵에 모읍니다. (setCorsHeaders와 같은 규칙)
+     */
+    private void collectCorsHeaders(Map<String, String> headers, String origin) {
+        headers.put("Access-Control-Allow-Origin", allowAllOrigins ? "*" : origin);
+        if (allowCredentials && !allowAllOrigins) {
+            headers.put("Access-Control-Allow-Credentials", "true");
+        }
+        if (!exposedHeaders.isEmpty()) {
+            headers.put("Access-Control-Expose-Headers", exposedHeadersValue);
+        }
+        headers.put("Vary", "Origin");
     }
 
     /**
@@ -24,6 +24,9 @@ import winter.view.ModelAndView;
  * 4. [View 렌더링]
  * 5. afterCompletion() - 모든 처리 완료 후 (예외 발생 시에도 실행)
  *
+ * 비동기 핸들러의 경우 2와 3 사이에 afterConcurrentHandlingStarted()가 호출되고,
+ * 3~5는 결과가 도착한 스레드에서 실행됩니다.
+ *
  * @author Winter Framework
  * @since 27단계
  */
@@ -106,4 +109,43 @@ public interface HandlerInterceptor {
         // 기본 구현: 아무것도 하지 않음
         // 상속받는 인터셉터에서 정리 작업이 필요한 경우에만 오버라이드
     }
+
+    /**
+     * 핸들러가 비동기 결과(CompletableFuture, DeferredResult)를 반환하여
+     * 요청 스레드가 결과를 기다리지 않고 반환될 때 호출되는 메서드입니다.
+     *
+     * 이 시점에는 postHandle, afterCompletion이 아직 호출되지 않았으며,
+     * 두 메서드는 결과가 도착한 뒤 다른 스레드에서 호출됩니다.
+     * 요청 스레드에 묶인 자원(ThreadLocal 등)이 있다면 여기서 정리합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler 실행된 핸들러 객체
+     */
+    default void afterConcurrentHandlingStarted(HttpRequest request, HttpResponse response, Object handler) {
+        // 기본 구현: 아무것도 하지 않음
+    }
+
+    /**
+     * 이 인터셉터가 기본으로 적용될 경로 패턴을 반환합니다.
+     *
+     * InterceptorChain은 라우트 테이블이 만들어질 때 이 패턴으로 라우트별 인터셉터 배열을
+     * 미리 계산하므로, 적용 대상이 아닌 경로에서는 preHandle 자체가 호출되지 않습니다.
+     * 등록 시 InterceptorRegistration.addPathPatterns()로 지정한 패턴이 있으면 그것이 우선합니다.
+     *
+     * @return 포함 경로 패턴 (기본값: 모든 경로 "/**")
+     */
+    default String[] getIncludePathPatterns() {
+        return new String[]{"/**"};
+    }
+
+    /**
+     * 이 인터셉터를 기본으로 적용하지 않을 경로 패턴을 반환합니다.
+     * 등록 시 excludePathPatterns()로 지정한 패턴은 여기에 추가됩니다.
+     *
+     * @return 제외 경로 패턴 (기본값: 없음)
+     */
+    default String[] getExcludePathPatterns() {
+        return new String[0];
+    }
 }
\ No newline at end of file
@@ -1,12 +1,12 @@
 package winter.interceptor;
 
 import winter.http.HttpRequest;
-import winter.http.HttpResponse;
-import winter.view.ModelAndView;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * InterceptorChain은 여러 개의 HandlerInterceptor를 체인으로 연결하여
@@ -26,167 +26,115 @@ import java.util.List;
  * - preHandle에서 false 반환 시: 이후 인터셉터 및 핸들러 실행 중단
  * - 어느 단계에서든 예외 발생 시: afterCompletion은 실행된 인터셉터들에 대해 역순으로 호출
  *
+ * 요청별 상태:
+ * - 체인은 모든 요청이 공유하므로 요청별 실행 상태는 newExecution()이 만드는 InterceptorExecution에 둡니다.
+ *
+ * 경로 기반 적용:
+ * - 인터셉터는 InterceptorRegistration으로 포함/제외 경로 패턴과 함께 등록됩니다.
+ * - precompute()로 라우트 테이블의 각 경로에 적용될 인터셉터 배열을 미리 계산해 둡니다.
+ * - 요청 처리 시에는 경로로 배열 하나를 조회할 뿐 패턴 검사를 하지 않으므로,
+ *   정적/공개 경로는 관련 없는 인터셉터를 비용 없이 건너뜁니다.
+ *
  * @author Winter Framework
  * @since 27단계
  */
 public class InterceptorChain {
 
     /**
-     * 등록된 인터셉터들의 목록
+     * 등록된 인터셉터들의 목록 (경로 패턴 포함)
      * 순서가 중요하므로 ArrayList 사용
      */
-    private final List<HandlerInterceptor> interceptors = new ArrayList<>();
+    private final List<InterceptorRegistration> registrations = new ArrayList<>();
 
     /**
-     * 현재까지 preHandle이 성공적으로 실행된 인터셉터의 최대 인덱스
-     * afterCompletion 호출 시 이 인덱스까지의 인터셉터들만 호출해야 함
-     * -1: 아직 아무 인터셉터도 실행되지 않음
+     * 라우트 경로 → 해당 경로에 적용되는 인터셉터 배열 (등록 순서 유지)
+     * precompute()로 미리 채우며, 등록 정보가 바뀌면 비워집니다.
      */
-    private int interceptorIndex = -1;
+    private final Map<String, HandlerInterceptor[]> routeInterceptors = new ConcurrentHashMap<>();
 
     /**
      * 인터셉터를 체인에 추가합니다.
+     * 반환된 InterceptorRegistration으로 적용 경로 패턴을 지정할 수 있으며,
+     * 지정하지 않으면 인터셉터가 선언한 기본 패턴을 사용합니다.
      *
      * @param interceptor 추가할 인터셉터 (null이면 무시됨)
+     * @return 경로 패턴 설정을 위한 InterceptorRegistration (interceptor가 null이면 null)
      */
-    public void addInterceptor(HandlerInterceptor interceptor) {
-        if (interceptor != null) {
-            interceptors.add(interceptor);
-            System.out.println("인터셉터 등록: " + interceptor.getClass().getSimpleName());
+    public InterceptorRegistration addInterceptor(HandlerInterceptor interceptor) {
+        if (interceptor == null) {
+            return null;
         }
+        InterceptorRegistration registration = new InterceptorRegistration(interceptor, this);
+        registrations.add(registration);
+        invalidateRouteCache();
+        System.out.println("인터셉터 등록: " + registration);
+        return registration;
     }
 
     /**
-     * 등록된 모든 인터셉터들의 preHandle 메서드를 순차적으로 실행합니다.
+     * 라우트 테이블의 각 경로에 적용될 인터셉터 배열을 미리 계산합니다.
+     * Dispatcher가 핸들러 등록을 마친 뒤(또는 인터셉터/컨트롤러가 추가된 뒤) 호출합니다.
      *
-     * 실행 규칙:
-     * - 인터셉터들을 등록된 순서대로 실행
-     * - 하나라도 false를 반환하면 즉시 중단
-     * - 예외 발생 시에도 즉시 중단
-     * - 성공적으로 실행된 인터셉터들의 인덱스를 기록
+     * @param routePaths 라우트 테이블에 등록된 경로 목록
+     */
+    public void precompute(Collection<String> routePaths) {
+        routeInterceptors.clear();
+        for (String path : routePaths) {
+            routeInterceptors.put(path, computeInterceptors(path));
+        }
+        System.out.println("라우트별 인터셉터 체인 계산 완료: " + routeInterceptors.size() + "개 경로");
+    }
+
+    /**
+     * 주어진 경로에 적용되는 인터셉터 배열을 반환합니다.
+     * 미리 계산된 라우트가 아니면 한 번 계산해서 캐시합니다.
      *
-     * @param request HTTP 요청 객체
-     * @param response HTTP 응답 객체
-     * @param handler 실행될 핸들러 객체
-     * @return 모든 인터셉터가 true를 반환했으면 true, 하나라도 false를 반환했으면 false
-     * @throws Exception 인터셉터 실행 중 예외 발생 시
+     * @param path 요청 경로
+     * @return 적용되는 인터셉터 배열 (등록 순서)
      */
-    public boolean applyPreHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
-        System.out.println("=== preHandle 체인 실행 시작 ===");
+    public HandlerInterceptor[] getInterceptors(String path) {
+        return resolve(path).clone();
+    }
 
-        // 등록된 인터셉터가 없으면 바로 성공
-        if (interceptors.isEmpty()) {
-            System.out.println("등록된 인터셉터 없음 - 체인 실행 완료");
-            return true;
+    private HandlerInterceptor[] resolve(String path) {
+        HandlerInterceptor[] resolved = routeInterceptors.get(path);
+        if (resolved == null) {
+            resolved = routeInterceptors.computeIfAbsent(path, this::computeInterceptors);
         }
+        return resolved;
+    }
 
-        // 각 인터셉터의 preHandle을 순차적으로 실행
-        for (int i = 0; i < interceptors.size(); i++) {
-            HandlerInterceptor interceptor = interceptors.get(i);
-            System.out.println("preHandle 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
-
-            try {
-                // preHandle 실행
-                boolean result = interceptor.preHandle(request, response, handler);
-
-                if (result) {
-                    // 성공한 경우 인덱스 업데이트 (afterCompletion에서 사용)
-                    this.interceptorIndex = i;
-                    System.out.println("preHandle 성공: " + interceptor.getClass().getSimpleName());
-                } else {
-                    // false 반환 시 체인 중단
-                    System.out.println("preHandle 중단: " + interceptor.getClass().getSimpleName() + " (false 반환)");
-                    return false;
-                }
-            } catch (Exception ex) {
-                // 예외 발생 시에도 체인 중단
-                System.err.println("preHandle 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + ex.getMessage());
-                throw ex; // 예외를 다시 던져서 상위에서 처리하도록 함
+    private HandlerInterceptor[] computeInterceptors(String path) {
+        List<HandlerInterceptor> matched = new ArrayList<>();
+        for (InterceptorRegistration registration : registrations) {
+            if (registration.matches(path)) {
+                matched.add(registration.getInterceptor());
             }
         }
-
-        System.out.println("=== preHandle 체인 실행 완료 (성공) ===");
-        return true;
+        return matched.toArray(new HandlerInterceptor[0]);
     }
 
     /**
-     * 등록된 모든 인터셉터들의 postHandle 메서드를 역순으로 실행합니다.
-     *
-     * 실행 규칙:
-     * - preHandle이 성공한 인터셉터들만 실행 (interceptorIndex 기준)
-     * - 등록 순서의 역순으로 실행 (후입선출 방식)
-     * - 예외가 발생해도 모든 인터셉터 실행 시도 (로깅 후 계속)
-     *
-     * @param request HTTP 요청 객체
-     * @param response HTTP 응답 객체
-     * @param handler 실행된 핸들러 객체
-     * @param modelAndView 핸들러가 반환한 ModelAndView (null 가능)
+     * 등록 정보가 바뀌었을 때 미리 계산된 라우트별 배열을 비웁니다.
+     * 이후 요청은 경로별로 한 번 다시 계산됩니다.
      */
-    public void applyPostHandle(HttpRequest request, HttpResponse response, Object handler, ModelAndView modelAndView) {
-        System.out.println("=== postHandle 체인 실행 시작 ===");
-
-        // preHandle이 성공한 인터셉터들만 역순으로 실행
-        for (int i = interceptorIndex; i >= 0; i--) {
-            HandlerInterceptor interceptor = interceptors.get(i);
-            System.out.println("postHandle 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
-
-            try {
-                interceptor.postHandle(request, response, handler, modelAndView);
-                System.out.println("postHandle 완료: " + interceptor.getClass().getSimpleName());
-            } catch (Exception ex) {
-                // postHandle에서 예외가 발생해도 다른 인터셉터들은 계속 실행
-                System.err.println("postHandle 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + ex.getMessage());
-                ex.printStackTrace(); // 로깅 목적
-                // 예외를 던지지 않고 계속 진행 (다른 인터셉터들도 실행되어야 함)
-            }
-        }
-
-        System.out.println("=== postHandle 체인 실행 완료 ===");
+    void invalidateRouteCache() {
+        routeInterceptors.clear();
     }
 
     /**
-     * 등록된 모든 인터셉터들의 afterCompletion 메서드를 역순으로 실행합니다.
-     *
-     * 실행 규칙:
-     * - preHandle이 성공한 인터셉터들만 실행 (interceptorIndex 기준)
-     * - 등록 순서의 역순으로 실행 (후입선출 방식)
-     * - 예외 발생 여부와 관계없이 반드시 모든 인터셉터 실행
-     * - 이 메서드에서 발생한 예외는 로깅만 하고 전파하지 않음
+     * 요청 하나에 대한 인터셉터 체인 실행을 시작합니다.
      *
-     * 주의사항:
-     * - 이 메서드는 반드시 finally 블록에서 호출되어야 함
-     * - 리소스 정리의 마지막 기회이므로 모든 인터셉터가 실행되어야 함
+     * 요청마다 달라지는 상태(적용 인터셉터 배열, preHandle 성공 인덱스)는 반환된
+     * InterceptorExecution에 보관되므로, 여러 요청이 동시에 체인을 사용해도 서로 간섭하지 않고
+     * 비동기 요청은 다른 스레드에서 같은 실행 상태로 postHandle/afterCompletion을 이어갈 수 있습니다.
      *
-     * @param request HTTP 요청 객체
-     * @param response HTTP 응답 객체
-     * @param handler 실행된 핸들러 객체 (핸들러까지 도달하지 못한 경우 null 가능)
-     * @param ex 처리 중 발생한 예외 (정상 처리된 경우 null)
+     * @param request HTTP 요청 객체 (경로로 적용 인터셉터 배열을 조회)
+     * @return 이 요청의 체인 실행 상태
      */
-    public void triggerAfterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) {
-        System.out.println("=== afterCompletion 체인 실행 시작 ===");
-        System.out.println("처리 예외: " + (ex != null ? ex.getClass().getSimpleName() + " - " + ex.getMessage() : "없음"));
-
-        // preHandle이 성공한 인터셉터들만 역순으로 실행
-        for (int i = interceptorIndex; i >= 0; i--) {
-            HandlerInterceptor interceptor = interceptors.get(i);
-            System.out.println("afterCompletion 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
-
-            try {
-                interceptor.afterCompletion(request, response, handler, ex);
-                System.out.println("afterCompletion 완료: " + interceptor.getClass().getSimpleName());
-            } catch (Exception afterEx) {
-                // afterCompletion에서 예외가 발생해도 다른 인터셉터들은 계속 실행
-                // 클라이언트에게는 영향을 주지 않음 (로깅만)
-                System.err.println("afterCompletion 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + afterEx.getMessage());
-                afterEx.printStackTrace(); // 로깅 목적
-                // 예외를 던지지 않고 계속 진행 (정리 작업은 반드시 완료되어야 함)
-            }
-        }
-
-        System.out.println("=== afterCompletion 체인 실행 완료 ===");
-
-        // 체인 실행 완료 후 상태 초기화
-        this.interceptorIndex = -1;
+    public InterceptorExecution newExecution(HttpRequest request) {
+        // 이 경로에 적용되는 인터셉터 배열 (미리 계산됨, 공유 배열이므로 읽기만 함)
+        return new InterceptorExecution(resolve(request.getPath()));
     }
 
     /**
@@ -195,7 +143,18 @@ public class InterceptorChain {
      * @return 등록된 인터셉터들의 불변 리스트
      */
     public List<HandlerInterceptor> getInterceptors() {
-        return Collections.unmodifiableList(interceptors);
+        return registrations.stream()
+                .map(InterceptorRegistration::getInterceptor)
+                .toList();
+    }
+
+    /**
+     * 등록 정보(인터셉터 + 경로 패턴) 목록을 반환합니다 (읽기 전용).
+     *
+     * @return InterceptorRegistration 불변 리스트
+     */
+    public List<InterceptorRegistration> getRegistrations() {
+        return List.copyOf(registrations);
     }
 
     /**
@@ -204,7 +163,7 @@ public class InterceptorChain {
      * @return 인터셉터 개수
      */
     public int size() {
-        return interceptors.size();
+        return registrations.size();
     }
 
     /**
@@ -212,8 +171,8 @@ public class InterceptorChain {
      * 테스트 시나리오나 동적 구성 변경 시 사용할 수 있습니다.
      */
     public void clear() {
-        interceptors.clear();
-        interceptorIndex = -1;
+        registrations.clear();
+        routeInterceptors.clear();
         System.out.println("모든 인터셉터 제거됨");
     }
 
@@ -226,10 +185,10 @@ public class InterceptorChain {
     @Override
     public String toString() {
         return "InterceptorChain{" +
-                "size=" + interceptors.size() +
-                ", currentIndex=" + interceptorIndex +
-                ", interceptors=" + interceptors.stream()
-                .map(i -> i.getClass().getSimpleName())
+                "size=" + registrations.size() +
+                ", precomputedRoutes=" + routeInterceptors.size() +
+                ", interceptors=" + registrations.stream()
+                .map(r -> r.getInterceptor().getClass().getSimpleName())
                 .reduce((a, b) -> a + " → " + b)
                 .orElse("none") +
                 '}';
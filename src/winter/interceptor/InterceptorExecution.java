@@ -0,0 +1,213 @@
+package winter.interceptor;
+
+import winter.http.HttpRequest;
+import winter.http.HttpResponse;
+import winter.view.ModelAndView;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 요청 하나에 대한 인터셉터 체인 실행 상태
+ *
+ * InterceptorChain은 여러 요청이 공유하므로, 요청마다 달라지는 상태
+ * (적용되는 인터셉터 배열, preHandle이 성공한 마지막 인덱스)는 이 객체에 둡니다.
+ * 비동기 핸들러는 preHandle과 afterCompletion이 서로 다른 스레드에서 실행되므로
+ * 이 객체를 요청과 함께 넘겨 같은 상태를 사용합니다.
+ *
+ * postHandle과 afterCompletion은 여러 번 호출되어도 처음 한 번만 실행됩니다.
+ * (비동기 결과 도착과 타임아웃이 겹치는 경우 등)
+ *
+ * @author Winter Framework
+ * @since 27단계
+ */
+public class InterceptorExecution {
+
+    /**
+     * 이 요청의 경로에 적용되는 인터셉터 배열 (InterceptorChain이 미리 계산한 배열, 수정하지 않음)
+     */
+    private final HandlerInterceptor[] interceptors;
+
+    /**
+     * 현재까지 preHandle이 성공적으로 실행된 인터셉터의 최대 인덱스
+     * afterCompletion 호출 시 이 인덱스까지의 인터셉터들만 호출해야 함
+     * -1: 아직 아무 인터셉터도 실행되지 않음
+     */
+    private volatile int interceptorIndex = -1;
+
+    private final AtomicBoolean postHandled = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    InterceptorExecution(HandlerInterceptor[] interceptors) {
+        this.interceptors = interceptors;
+    }
+
+    /**
+     * 적용되는 인터셉터들의 preHandle 메서드를 순차적으로 실행합니다.
+     *
+     * 실행 규칙:
+     * - 인터셉터들을 등록된 순서대로 실행
+     * - 하나라도 false를 반환하면 즉시 중단
+     * - 예외 발생 시에도 즉시 중단
+     * - 성공적으로 실행된 인터셉터들의 인덱스를 기록
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler 실행될 핸들러 객체
+     * @return 모든 인터셉터가 true를 반환했으면 true, 하나라도 false를 반환했으면 false
+     * @throws Exception 인터셉터 실행 중 예외 발생 시
+     */
+    public boolean applyPreHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        System.out.println("=== preHandle 체인 실행 시작 ===");
+
+        // 적용되는 인터셉터가 없으면 바로 성공
+        if (interceptors.length == 0) {
+            System.out.println("적용되는 인터셉터 없음 - 체인 실행 완료");
+            return true;
+        }
+
+        // 각 인터셉터의 preHandle을 순차적으로 실행
+        for (int i = 0; i < interceptors.length; i++) {
+            HandlerInterceptor interceptor = interceptors[i];
+            System.out.println("preHandle 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
+
+            try {
+                // preHandle 실행
+                boolean result = interceptor.preHandle(request, response, handler);
+
+                if (result) {
+                    // 성공한 경우 인덱스 업데이트 (afterCompletion에서 사용)
+                    this.interceptorIndex = i;
+                    System.out.println("preHandle 성공: " + interceptor.getClass().getSimpleName());
+                } else {
+                    // false 반환 시 체인 중단
+                    System.out.println("preHandle 중단: " + interceptor.getClass().getSimpleName() + " (false 반환)");
+                    return false;
+                }
+            } catch (Exception ex) {
+                // 예외 발생 시에도 체인 중단
+                System.err.println("preHandle 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + ex.getMessage());
+                throw ex; // 예외를 다시 던져서 상위에서 처리하도록 함
+            }
+        }
+
+        System.out.println("=== preHandle 체인 실행 완료 (성공) ===");
+        return true;
+    }
+
+    /**
+     * preHandle이 성공한 인터셉터들의 postHandle 메서드를 역순으로 실행합니다.
+     *
+     * 실행 규칙:
+     * - preHandle이 성공한 인터셉터들만 실행 (interceptorIndex 기준)
+     * - 등록 순서의 역순으로 실행 (후입선출 방식)
+     * - 예외가 발생해도 모든 인터셉터 실행 시도 (로깅 후 계속)
+     * - 요청당 한 번만 실행
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler 실행된 핸들러 객체
+     * @param modelAndView 핸들러가 반환한 ModelAndView (null 가능)
+     */
+    public void applyPostHandle(HttpRequest request, HttpResponse response, Object handler, ModelAndView modelAndView) {
+        if (!postHandled.compareAndSet(false, true)) {
+            System.out.println("postHandle 이미 실행됨 - 건너뜀");
+            return;
+        }
+        System.out.println("=== postHandle 체인 실행 시작 ===");
+
+        // preHandle이 성공한 인터셉터들만 역순으로 실행
+        for (int i = Math.min(interceptorIndex, interceptors.length - 1); i >= 0; i--) {
+            HandlerInterceptor interceptor = interceptors[i];
+            System.out.println("postHandle 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
+
+            try {
+                interceptor.postHandle(request, response, handler, modelAndView);
+                System.out.println("postHandle 완료: " + interceptor.getClass().getSimpleName());
+            } catch (Exception ex) {
+                // postHandle에서 예외가 발생해도 다른 인터셉터들은 계속 실행
+                System.err.println("postHandle 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + ex.getMessage());
+                ex.printStackTrace(); // 로깅 목적
+            }
+        }
+
+        System.out.println("=== postHandle 체인 실행 완료 ===");
+    }
+
+    /**
+     * 핸들러가 비동기 결과를 반환해 요청 스레드가 반환될 때 호출합니다.
+     * preHandle이 성공한 인터셉터들의 afterConcurrentHandlingStarted를 역순으로 실행합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler 실행된 핸들러 객체
+     */
+    public void applyAfterConcurrentHandlingStarted(HttpRequest request, HttpResponse response, Object handler) {
+        for (int i = Math.min(interceptorIndex, interceptors.length - 1); i >= 0; i--) {
+            HandlerInterceptor interceptor = interceptors[i];
+            try {
+                interceptor.afterConcurrentHandlingStarted(request, response, handler);
+            } catch (Exception ex) {
+                System.err.println("afterConcurrentHandlingStarted 예외 발생: " +
+                        interceptor.getClass().getSimpleName() + " - " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * preHandle이 성공한 인터셉터들의 afterCompletion 메서드를 역순으로 실행합니다.
+     *
+     * 실행 규칙:
+     * - preHandle이 성공한 인터셉터들만 실행 (interceptorIndex 기준)
+     * - 등록 순서의 역순으로 실행 (후입선출 방식)
+     * - 예외 발생 여부와 관계없이 반드시 모든 인터셉터 실행
+     * - 이 메서드에서 발생한 예외는 로깅만 하고 전파하지 않음
+     * - 요청당 한 번만 실행 (동기 처리는 finally 블록, 비동기 처리는 결과 처리 후)
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param handler 실행된 핸들러 객체 (핸들러까지 도달하지 못한 경우 null 가능)
+     * @param ex 처리 중 발생한 예외 (정상 처리된 경우 null)
+     */
+    public void triggerAfterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) {
+        if (!completed.compareAndSet(false, true)) {
+            System.out.println("afterCompletion 이미 실행됨 - 건너뜀");
+            return;
+        }
+        System.out.println("=== afterCompletion 체인 실행 시작 ===");
+        System.out.println("처리 예외: " + (ex != null ? ex.getClass().getSimpleName() + " - " + ex.getMessage() : "없음"));
+
+        // preHandle이 성공한 인터셉터들만 역순으로 실행
+        for (int i = Math.min(interceptorIndex, interceptors.length - 1); i >= 0; i--) {
+            HandlerInterceptor interceptor = interceptors[i];
+            System.out.println("afterCompletion 실행: " + interceptor.getClass().getSimpleName() + " [" + i + "]");
+
+            try {
+                interceptor.afterCompletion(request, response, handler, ex);
+                System.out.println("afterCompletion 완료: " + interceptor.getClass().getSimpleName());
+            } catch (Exception afterEx) {
+                // afterCompletion에서 예외가 발생해도 다른 인터셉터들은 계속 실행
+                // 클라이언트에게는 영향을 주지 않음 (로깅만)
+                System.err.println("afterCompletion 예외 발생: " + interceptor.getClass().getSimpleName() + " - " + afterEx.getMessage());
+                afterEx.printStackTrace(); // 로깅 목적
+            }
+        }
+
+        System.out.println("=== afterCompletion 체인 실행 완료 ===");
+    }
+
+    /**
+     * afterCompletion까지 실행되었는지 확인합니다.
+     */
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorExecution{" +
+                "interceptors=" + interceptors.length +
+                ", currentIndex=" + interceptorIndex +
+                ", completed=" + completed.get() +
+                '}';
+    }
+}
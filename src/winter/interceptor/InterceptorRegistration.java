@@ -0,0 +1,208 @@
+package winter.interceptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * InterceptorRegistration은 인터셉터 하나와 그 인터셉터가 적용될 경로 패턴을 묶는 클래스입니다.
+ * Spring MVC의 InterceptorRegistration / MappedInterceptor 구조를 참고했습니다.
+ *
+ * 사용 예:
+ * <pre>
+ * chain.addInterceptor(new AuthenticationInterceptor())
+ *      .addPathPatterns("/admin/**", "/secure/**")
+ *      .excludePathPatterns("/login");
+ * </pre>
+ *
+ * 패턴 규칙:
+ * - "/**"        : 모든 경로
+ * - "/admin/**"  : "/admin" 자신과 그 하위 경로 전체
+ * - "/api/*"     : "/api/" 바로 아래 한 단계 경로
+ * - "/api/cors*" : 세그먼트 안의 와일드카드 ("/api/cors-test" 등)
+ * - 그 외        : 정확히 일치하는 경로
+ *
+ * 포함 패턴을 지정하지 않으면 인터셉터가 선언한 기본 포함 패턴
+ * (HandlerInterceptor.getIncludePathPatterns())을 사용하고,
+ * 제외 패턴은 인터셉터의 기본 제외 패턴에 추가로 지정한 패턴을 더해 사용합니다.
+ *
+ * 패턴 검사는 라우트 테이블이 만들어질 때 InterceptorChain이 라우트별로 한 번만 수행하며,
+ * 요청 처리 시점에는 미리 계산된 인터셉터 배열만 사용합니다.
+ *
+ * @author Winter Framework
+ * @since 27단계
+ */
+public class InterceptorRegistration {
+
+    private final HandlerInterceptor interceptor;
+    private final InterceptorChain owner;
+    private final List<String> includePatterns = new ArrayList<>();
+    private final List<String> excludePatterns = new ArrayList<>();
+
+    InterceptorRegistration(HandlerInterceptor interceptor, InterceptorChain owner) {
+        this.interceptor = interceptor;
+        this.owner = owner;
+    }
+
+    /**
+     * 인터셉터를 적용할 경로 패턴을 추가합니다.
+     *
+     * @param patterns 포함할 경로 패턴들
+     * @return 체이닝을 위한 this 객체
+     */
+    public InterceptorRegistration addPathPatterns(String... patterns) {
+        includePatterns.addAll(Arrays.asList(patterns));
+        owner.invalidateRouteCache();
+        return this;
+    }
+
+    /**
+     * 인터셉터를 적용하지 않을 경로 패턴을 추가합니다.
+     *
+     * @param patterns 제외할 경로 패턴들
+     * @return 체이닝을 위한 this 객체
+     */
+    public InterceptorRegistration excludePathPatterns(String... patterns) {
+        excludePatterns.addAll(Arrays.asList(patterns));
+        owner.invalidateRouteCache();
+        return this;
+    }
+
+    /**
+     * 등록된 인터셉터를 반환합니다.
+     */
+    public HandlerInterceptor getInterceptor() {
+        return interceptor;
+    }
+
+    /**
+     * 실제로 적용되는 포함 패턴 목록을 반환합니다.
+     */
+    public List<String> getIncludePatterns() {
+        if (!includePatterns.isEmpty()) {
+            return Collections.unmodifiableList(includePatterns);
+        }
+        String[] defaults = interceptor.getIncludePathPatterns();
+        return defaults != null ? Arrays.asList(defaults) : List.of("/**");
+    }
+
+    /**
+     * 실제로 적용되는 제외 패턴 목록을 반환합니다.
+     */
+    public List<String> getExcludePatterns() {
+        List<String> result = new ArrayList<>();
+        String[] defaults = interceptor.getExcludePathPatterns();
+        if (defaults != null) {
+            result.addAll(Arrays.asList(defaults));
+        }
+        result.addAll(excludePatterns);
+        return result;
+    }
+
+    /**
+     * 이 인터셉터가 주어진 경로에 적용되는지 확인합니다.
+     * 제외 패턴이 포함 패턴보다 우선합니다.
+     *
+     * @param path 요청 경로 (쿼리 스트링 제외)
+     * @return 적용 대상이면 true
+     */
+    public boolean matches(String path) {
+        for (String pattern : getExcludePatterns()) {
+            if (matchPattern(pattern, path)) {
+                return false;
+            }
+        }
+        for (String pattern : getIncludePatterns()) {
+            if (matchPattern(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 경로 패턴 하나와 경로를 비교합니다.
+     *
+     * @param pattern 경로 패턴 ("/**", "/admin/**", "/api/*", "/api/cors*" 등)
+     * @param path 요청 경로
+     * @return 일치하면 true
+     */
+    public static boolean matchPattern(String pattern, String path) {
+        if (pattern == null || path == null) {
+            return false;
+        }
+        if (pattern.indexOf('*') == -1) {
+            return pattern.equals(path);
+        }
+        if (pattern.equals("/**")) {
+            return true;
+        }
+
+        String[] patternSegments = tokenize(pattern);
+        String[] pathSegments = tokenize(path);
+        return matchSegments(patternSegments, 0, pathSegments, 0);
+    }
+
+    private static boolean matchSegments(String[] pattern, int pi, String[] path, int si) {
+        while (pi < pattern.length) {
+            String segment = pattern[pi];
+            if (segment.equals("**")) {
+                // 마지막 "**"는 남은 경로 전체(0개 이상)와 일치
+                if (pi == pattern.length - 1) {
+                    return true;
+                }
+                for (int k = si; k <= path.length; k++) {
+                    if (matchSegments(pattern, pi + 1, path, k)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (si >= path.length || !matchSegment(segment, path[si])) {
+                return false;
+            }
+            pi++;
+            si++;
+        }
+        return si == path.length;
+    }
+
+    /**
+     * 세그먼트 하나를 '*' 와일드카드 규칙으로 비교합니다.
+     */
+    private static boolean matchSegment(String pattern, String segment) {
+        int star = pattern.indexOf('*');
+        if (star == -1) {
+            return pattern.equals(segment);
+        }
+        String prefix = pattern.substring(0, star);
+        String rest = pattern.substring(star + 1);
+        if (!segment.startsWith(prefix)) {
+            return false;
+        }
+        String remaining = segment.substring(prefix.length());
+        if (rest.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i <= remaining.length(); i++) {
+            if (matchSegment(rest, remaining.substring(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] tokenize(String path) {
+        return Arrays.stream(path.split("/"))
+                .filter(s -> !s.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public String toString() {
+        return interceptor.getClass().getSimpleName() +
+                "{include=" + getIncludePatterns() +
+                ", exclude=" + getExcludePatterns() + '}';
+    }
+}
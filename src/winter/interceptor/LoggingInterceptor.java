@@ -7,6 +7,7 @@ import winter.view.ModelAndView;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * LoggingInterceptor는 요청 처리 과정의 상세한 로깅을 담당하는 인터셉터입니다.
@@ -24,10 +25,15 @@ import java.util.UUID;
  * - 보안 감사 로그
  * - API 사용량 추적
  *
+ * 액세스 로그 모드:
+ * - AccessLogWriter를 넘겨 생성하면 콘솔 배너 대신 요청당 한 줄의 레코드만 기록합니다.
+ * - 요청 스레드는 시작 시각 기록과 레코드 복사만 수행하고, 디스크 기록은 백그라운드 스레드가 담당합니다.
+ * - 요청 ID는 UUID 대신 증가하는 시퀀스 번호(16진수)를 사용합니다.
+ *
  * @author Winter Framework
  * @since 27단계
  */
-public class LoggingInterceptor implements HandlerInterceptor {
+public class LoggingInterceptor implements HandlerInterceptor, AutoCloseable {
 
     /**
      * 요청 시작 시간을 저장하기 위한 요청 파라미터 키
@@ -44,6 +50,46 @@ public class LoggingInterceptor implements HandlerInterceptor {
      */
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
+    /**
+     * 액세스 로그 기록기 (null이면 기존 콘솔 로깅 모드)
+     */
+    private final AccessLogWriter accessLogWriter;
+
+    /**
+     * 액세스 로그 모드의 요청 ID 시퀀스
+     */
+    private final AtomicLong requestSequence = new AtomicLong(0);
+
+    /**
+     * 기존 콘솔 로깅 모드로 생성합니다.
+     */
+    public LoggingInterceptor() {
+        this(null);
+    }
+
+    /**
+     * 액세스 로그 모드로 생성합니다.
+     *
+     * @param accessLogWriter 레코드를 기록할 AccessLogWriter (null이면 콘솔 로깅 모드)
+     */
+    public LoggingInterceptor(AccessLogWriter accessLogWriter) {
+        this.accessLogWriter = accessLogWriter;
+    }
+
+    /**
+     * 액세스 로그 모드인지 확인합니다.
+     */
+    public boolean isAccessLogMode() {
+        return accessLogWriter != null;
+    }
+
+    /**
+     * 액세스 로그 기록기를 반환합니다.
+     */
+    public AccessLogWriter getAccessLogWriter() {
+        return accessLogWriter;
+    }
+
     /**
      * 요청 처리 시작 시점에 호출되어 요청 정보를 로깅하고 처리 시간 측정을 시작합니다.
      *
@@ -54,6 +100,13 @@ public class LoggingInterceptor implements HandlerInterceptor {
      */
     @Override
     public boolean preHandle(HttpRequest request, HttpResponse response, Object handler) throws Exception {
+        // 액세스 로그 모드: 시작 시각과 요청 ID만 기록 (포맷팅/출력 없음)
+        if (accessLogWriter != null) {
+            request.addParameter(REQUEST_ID_PARAM, Long.toHexString(requestSequence.incrementAndGet()));
+            request.addParameter(START_TIME_PARAM, String.valueOf(System.nanoTime()));
+            return true;
+        }
+
         // 요청별 고유 ID 생성
         String requestId = generateRequestId();
         request.addParameter(REQUEST_ID_PARAM, requestId);
@@ -108,6 +161,10 @@ public class LoggingInterceptor implements HandlerInterceptor {
      */
     @Override
     public void postHandle(HttpRequest request, HttpResponse response, Object handler, ModelAndView modelAndView) throws Exception {
+        if (accessLogWriter != null) {
+            return; // 액세스 로그 모드는 afterCompletion에서 한 번만 기록
+        }
+
         String requestId = request.getParameter(REQUEST_ID_PARAM);
         String startTimeStr = request.getParameter(START_TIME_PARAM);
 
@@ -153,6 +210,11 @@ public class LoggingInterceptor implements HandlerInterceptor {
      */
     @Override
     public void afterCompletion(HttpRequest request, HttpResponse response, Object handler, Exception ex) throws Exception {
+        if (accessLogWriter != null) {
+            writeAccessLog(request, response, handler, ex);
+            return;
+        }
+
         String requestId = request.getParameter(REQUEST_ID_PARAM);
         String startTimeStr = request.getParameter(START_TIME_PARAM);
 
@@ -198,6 +260,45 @@ public class LoggingInterceptor implements HandlerInterceptor {
         System.out.println("└─────────────────────────────────────────────────────────────");
     }
 
+    /**
+     * 액세스 로그 레코드 하나를 AccessLogWriter에 넘깁니다.
+     * 디스크 기록은 백그라운드 스레드에서 이루어지므로 요청 스레드는 대기하지 않습니다.
+     */
+    private void writeAccessLog(HttpRequest request, HttpResponse response, Object handler, Exception ex) {
+        long durationMicros = 0;
+        String startTimeStr = request.getParameter(START_TIME_PARAM);
+        if (startTimeStr != null) {
+            try {
+                durationMicros = (System.nanoTime() - Long.parseLong(startTimeStr)) / 1000;
+            } catch (NumberFormatException e) {
+                durationMicros = 0;
+            }
+        }
+
+        String body = response.getBody();
+        accessLogWriter.append(
+                System.currentTimeMillis(),
+                request.getParameter(REQUEST_ID_PARAM),
+                request.getMethod(),
+                request.getPath(),
+                response.getStatus(),
+                durationMicros,
+                body != null ? body.length() : 0,
+                handler != null ? handler.getClass().getSimpleName() : null,
+                ex != null ? ex.getClass().getSimpleName() : null
+        );
+    }
+
+    /**
+     * 액세스 로그 모드인 경우 대기 중인 레코드를 모두 기록하고 기록기를 닫습니다.
+     */
+    @Override
+    public void close() {
+        if (accessLogWriter != null) {
+            accessLogWriter.close();
+        }
+    }
+
     /**
      * 고유한 요청 ID를 생성합니다.
      *
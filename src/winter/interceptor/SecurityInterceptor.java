@@ -4,8 +4,6 @@ import winter.http.HttpRequest;
 import winter.http.HttpResponse;
 import winter.view.ModelAndView;
 
-import java.util.Set;
-
 /**
  * SecurityInterceptor는 웹 애플리케이션의 보안 헤더를 자동으로 설정하는 인터셉터입니다.
  * OWASP 보안 가이드라인에 따라 다양한 보안 위협을 방지하는 HTTP 헤더들을 추가합니다.
@@ -34,13 +32,14 @@ import java.util.Set;
 public class SecurityInterceptor implements HandlerInterceptor {
 
     /**
-     * 보안 헤더가 필요 없는 경로들 (정적 리소스 등)
+     * 보안 헤더가 필요 없는 경로 패턴들 (정적 리소스 등)
+     * InterceptorChain이 이 경로들을 미리 제외하므로 preHandle/postHandle에서 다시 검사하지 않습니다.
      */
-    private final Set<String> excludePaths = Set.of(
-            "/static/",
+    private static final String[] EXCLUDE_PATH_PATTERNS = {
+            "/static/**",
             "/favicon.ico",
             "/robots.txt"
-    );
+    };
 
     /**
      * 개발 모드 여부 (프로덕션에서는 false로 설정)
@@ -64,11 +63,7 @@ public class SecurityInterceptor implements HandlerInterceptor {
 
         System.out.println("🛡️ [SECURITY] 보안 검사: " + requestPath);
 
-        // 1. 보안 헤더가 필요 없는 경로 확인
-        if (isExcludedPath(requestPath)) {
-            System.out.println("   ✅ 제외 경로 - 보안 헤더 생략");
-            return true;
-        }
+        // 1. 보안 헤더가 필요 없는 경로는 InterceptorChain이 미리 제외함 (getExcludePathPatterns 참고)
 
         // 2. 위험한 요청 패턴 검사
         if (containsSuspiciousPatterns(request)) {
@@ -103,13 +98,9 @@ public class SecurityInterceptor implements HandlerInterceptor {
      */
     @Override
     public void postHandle(HttpRequest request, HttpResponse response, Object handler, ModelAndView modelAndView) throws Exception {
-        String requestPath = request.getPath();
-
-        // 제외 경로가 아닌 경우에만 보안 헤더 추가
-        if (!isExcludedPath(requestPath)) {
-            addSecurityHeaders(response);
-            System.out.println("🛡️ [SECURITY] 보안 헤더 추가 완료: " + requestPath);
-        }
+        // 제외 경로는 체인에서 미리 걸러지므로 항상 보안 헤더 추가
+        addSecurityHeaders(response);
+        System.out.println("🛡️ [SECURITY] 보안 헤더 추가 완료: " + request.getPath());
     }
 
     /**
@@ -174,10 +165,11 @@ public class SecurityInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * 제외 경로인지 확인합니다.
+     * 정적 리소스 등 보안 헤더가 필요 없는 경로에는 적용되지 않습니다.
      */
-    private boolean isExcludedPath(String path) {
-        return excludePaths.stream().anyMatch(path::startsWith);
+    @Override
+    public String[] getExcludePathPatterns() {
+        return EXCLUDE_PATH_PATTERNS.clone();
     }
 
     /**
@@ -308,7 +300,7 @@ public class SecurityInterceptor implements HandlerInterceptor {
                         "  Pattern Detection: SQL Injection, XSS, Path Traversal",
                 developmentMode,
                 contentSecurityPolicy,
-                String.join(", ", excludePaths)
+                String.join(", ", EXCLUDE_PATH_PATTERNS)
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package winter.loadtest;
+
+import winter.dispatcher.Dispatcher;
+import winter.http.Cookie;
+import winter.http.HttpRequest;
+import winter.http.StandardHttpResponse;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 같은 JVM의 Dispatcher를 직접 호출하는 대상 (소켓/파싱 비용 제외)
+ *
+ * 비동기 핸들러도 응답이 완료될 때까지 기다립니다. (dispatchAsync().join())
+ * 부하 스레드마다 받은 JSESSIONID를 다시 보내 요청마다 세션이 새로 만들어지지 않게 합니다.
+ */
+final class InProcessTarget implements LoadTarget {
+
+    private final Dispatcher dispatcher;
+    private final ThreadLocal<String> sessionIds = new ThreadLocal<>();
+
+    InProcessTarget(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public int send(MixEntry entry) {
+        Map<String, String> headers = new HashMap<>(entry.getHeaders());
+        String sessionId = sessionIds.get();
+        if (sessionId != null && !headers.containsKey("Cookie")) {
+            headers.put("Cookie", "JSESSIONID=" + sessionId);
+        }
+        BufferedReader body = null;
+        if (entry.getBody() != null) {
+            body = new BufferedReader(new StringReader(entry.getBody()));
+            headers.putIfAbsent("Content-Length",
+                    String.valueOf(entry.getBody().getBytes(StandardCharsets.UTF_8).length));
+        }
+
+        HttpRequest request = new HttpRequest(entry.getTarget(), entry.getMethod(), headers, null, body);
+        StandardHttpResponse response = new StandardHttpResponse();
+        dispatcher.dispatchAsync(request, response).join();
+
+        Cookie sessionCookie = response.getCookie("JSESSIONID");
+        if (sessionCookie != null) {
+            sessionIds.set(sessionCookie.getValue());
+        }
+        return response.getStatus();
+    }
+
+    @Override
+    public String describe() {
+        return "in-process";
+    }
+
+    @Override
+    public void close() {
+        // Dispatcher 종료는 만든 쪽에서 처리
+    }
+}
@@ -0,0 +1,140 @@
+package winter.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 시간 히스토그램 (마이크로초 단위, 여러 스레드가 동시에 기록 가능)
+ *
+ * HdrHistogram과 같은 로그-선형 버킷을 사용합니다.
+ * - 0~127µs는 1µs 단위
+ * - 그 이상은 2의 거듭제곱 구간마다 64개 버킷 (상대 오차 약 1.6% 이내)
+ * - 최대 약 1시간까지 기록하고, 그보다 큰 값은 마지막 버킷에 넣음
+ *
+ * 백분위수는 해당 버킷의 최댓값으로 보고합니다. (실제보다 작게 보고하지 않음)
+ */
+public final class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;  // 0~127은 값 그대로
+    private static final int SUB_BUCKETS = 64;      // 그 이상은 구간마다 64개
+    private static final long MAX_TRACKABLE_MICROS = 3_600_000_000L; // 1시간
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * 값 하나를 기록합니다.
+     *
+     * @param micros 지연 시간 (마이크로초, 음수는 0으로 기록)
+     */
+    public void record(long micros) {
+        record(micros, 1);
+    }
+
+    private void record(long micros, long count) {
+        long value = Math.max(0, Math.min(micros, MAX_TRACKABLE_MICROS));
+        counts.addAndGet(bucketIndex(value), count);
+        totalCount.addAndGet(count);
+        totalMicros.addAndGet(value * count);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * 다른 히스토그램의 기록을 모두 더합니다.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    /**
+     * coordinated omission을 보정한 복사본을 만듭니다. (HdrHistogram의 copyCorrectedForCoordinatedOmission)
+     *
+     * 닫힌 루프에서는 느린 응답을 기다리는 동안 보냈어야 할 요청들이 아예 측정되지 않습니다.
+     * expectedInterval보다 긴 값마다 그 사이에 보냈어야 할 요청의 지연 시간
+     * (value - interval, value - 2*interval, ... > interval)을 추가로 기록해 이를 보정합니다.
+     *
+     * @param expectedIntervalMicros 요청 사이의 기대 간격 (0 이하이면 보정 없이 복사)
+     */
+    public LatencyHistogram correctedCopy(long expectedIntervalMicros) {
+        LatencyHistogram corrected = new LatencyHistogram();
+        corrected.add(this);
+        if (expectedIntervalMicros <= 0) {
+            return corrected;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count == 0) {
+                continue;
+            }
+            long value = highestEquivalentValue(i);
+            for (long missing = value - expectedIntervalMicros; missing >= expectedIntervalMicros;
+                 missing -= expectedIntervalMicros) {
+                corrected.record(missing, count);
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 백분위수 값 (마이크로초)
+     *
+     * @param percentile 0~100
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public double getMean() {
+        long total = totalCount.get();
+        return total == 0 ? 0 : (double) totalMicros.get() / total;
+    }
+
+    public long getMax() {
+        return maxMicros.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        // 최상위 7비트만 남기도록 시프트 (시프트 후 값은 64~127)
+        int shift = 64 - Long.numberOfLeadingZeros(value) - 7;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,164 @@
+package winter.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 구성에 따라 대상에 부하를 주고 라우트별 지연 시간을 기록
+ *
+ * 열린 루프 (OPEN):
+ * - 스케줄러 스레드가 i번째 요청을 start + i/rate 시각에 작업 스레드 풀로 넘김
+ * - 지연 시간은 "예정 출발 시각"부터 잼 → 서버가 밀려 대기열에서 기다린 시간도 포함
+ *   (coordinated omission이 생기지 않음, wrk2와 같은 방식)
+ * - 종료 후 DRAIN_SECONDS 안에 처리되지 못한 요청도 그때까지의 지연 시간으로 오류 기록
+ *
+ * 닫힌 루프 (CLOSED):
+ * - concurrency개 스레드가 응답을 받자마자 다음 요청을 보냄
+ * - 원본 지연 시간을 기록하고, 리포트에서 기대 간격으로 보정한 값을 함께 보여줌
+ *
+ * 워밍업 동안 출발한 요청은 기록하지 않습니다.
+ */
+final class LoadGenerator {
+
+    private static final int DRAIN_SECONDS = 30;
+
+    private final LoadTestConfig config;
+    private final RequestMix mix;
+    private final LoadTarget target;
+    private final Map<String, RouteStats> routes = new TreeMap<>(); // 실행 전에 모두 만들고 이후 읽기만 함
+
+    LoadGenerator(LoadTestConfig config, RequestMix mix, LoadTarget target) {
+        this.config = config;
+        this.mix = mix;
+        this.target = target;
+        for (MixEntry entry : mix.getEntries()) {
+            routes.computeIfAbsent(entry.getName(), RouteStats::new);
+        }
+    }
+
+    /**
+     * 워밍업 + 측정 시간 동안 부하를 주고 결과를 반환합니다.
+     */
+    LoadReport run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        if (config.getMode() == LoadTestConfig.Mode.OPEN) {
+            runOpenLoop(start, measureStart, end);
+        } else {
+            runClosedLoop(measureStart, end);
+        }
+        return new LoadReport(config, target.describe(), new ArrayList<>(routes.values()));
+    }
+
+    private void runOpenLoop(long start, long measureStart, long end) throws InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(config.getConcurrency(), config.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "winter-load-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Random random = new Random(config.getSeed());
+        int rate = config.getRate();
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * 1_000_000_000L / rate;
+            if (intendedStart >= end) {
+                break;
+            }
+            waitUntil(intendedStart);
+            workers.execute(new ScheduledRequest(mix.next(random), intendedStart, intendedStart >= measureStart));
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(DRAIN_SECONDS, TimeUnit.SECONDS)) {
+            // 끝내 처리되지 못한 요청: 버리면 꼬리 지연이 사라지므로 지금까지 기다린 시간으로 기록
+            long now = System.nanoTime();
+            for (Runnable pending : workers.shutdownNow()) {
+                ScheduledRequest request = (ScheduledRequest) pending;
+                if (request.measured) {
+                    routes.get(request.entry.getName()).recordException(micros(now - request.intendedStart), 0);
+                }
+            }
+        }
+    }
+
+    private void runClosedLoop(long measureStart, long end) throws InterruptedException {
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < config.getConcurrency(); i++) {
+            Random random = new Random(config.getSeed() + i);
+            Thread worker = new Thread(() -> {
+                long sendStart;
+                while ((sendStart = System.nanoTime()) < end) {
+                    MixEntry entry = mix.next(random);
+                    execute(entry, sendStart, sendStart, sendStart >= measureStart);
+                }
+            }, "winter-load-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void execute(MixEntry entry, long intendedStart, long sendStart, boolean measured) {
+        RouteStats stats = routes.get(entry.getName());
+        try {
+            int status = target.send(entry);
+            long now = System.nanoTime();
+            if (measured) {
+                stats.recordResponse(status, micros(now - intendedStart), micros(now - sendStart));
+            }
+        } catch (Exception e) {
+            long now = System.nanoTime();
+            if (measured) {
+                stats.recordException(micros(now - intendedStart), micros(now - sendStart));
+            }
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000;
+    }
+
+    /**
+     * 열린 루프에서 예정 시각에 출발한 요청 하나
+     */
+    private final class ScheduledRequest implements Runnable {
+        private final MixEntry entry;
+        private final long intendedStart;
+        private final boolean measured;
+
+        ScheduledRequest(MixEntry entry, long intendedStart, boolean measured) {
+            this.entry = entry;
+            this.intendedStart = intendedStart;
+            this.measured = measured;
+        }
+
+        @Override
+        public void run() {
+            execute(entry, intendedStart, System.nanoTime(), measured);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package winter.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 리포트 (커밋 간 diff로 비교할 수 있는 고정 형식 텍스트)
+ *
+ * - 실행 시각 같은 매번 바뀌는 값은 넣지 않고, 라우트는 이름순으로 정렬
+ * - 지연 시간은 ms (소수점 3자리), 처리량은 측정 시간 기준 초당 요청 수
+ * - 닫힌 루프의 latency 표는 coordinated omission 보정 값, service 표는 보정 전 원본
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String LATENCY_FORMAT = "%-24s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n";
+    private static final String STATUS_FORMAT = "%-24s %9s %9s %9s %9s %9s %9s%n";
+
+    private final LoadTestConfig config;
+    private final String targetDescription;
+    private final List<RouteStats> routes;
+
+    LoadReport(LoadTestConfig config, String targetDescription, List<RouteStats> routes) {
+        this.config = config;
+        this.targetDescription = targetDescription;
+        this.routes = routes;
+    }
+
+    /**
+     * 리포트 본문
+     */
+    String format() {
+        StringBuilder report = new StringBuilder(4096);
+        report.append("# Winter load test report\n");
+        report.append("# ").append(config).append('\n');
+        report.append("# target: ").append(targetDescription).append('\n');
+        if (config.getMode() == LoadTestConfig.Mode.OPEN) {
+            report.append("# latency: measured from intended send time (open loop, free of coordinated omission)\n");
+        } else {
+            report.append("# latency: corrected for coordinated omission, expected interval = ")
+                    .append(config.getExpectedIntervalMicros() > 0
+                            ? config.getExpectedIntervalMicros() + "us"
+                            : "per-route mean service time")
+                    .append(" (closed loop)\n");
+        }
+
+        report.append("\n[latency ms]\n");
+        appendLatencyTable(report, true);
+        report.append("\n[service time ms, uncorrected]\n");
+        appendLatencyTable(report, false);
+        report.append("\n[responses]\n");
+        appendStatusTable(report);
+        return report.toString();
+    }
+
+    private void appendLatencyTable(StringBuilder report, boolean userLatency) {
+        report.append(String.format(LATENCY_FORMAT, "route", "count", "errors", "rps", "mean",
+                "p50", "p90", "p99", "p99.9", "max"));
+        LatencyHistogram total = new LatencyHistogram();
+        long totalErrors = 0;
+        long totalRequests = 0;
+        for (RouteStats route : routes) {
+            LatencyHistogram histogram = userLatency ? latencyOf(route) : route.getServiceTime();
+            long requests = route.getServiceTime().getTotalCount();
+            total.add(histogram);
+            totalErrors += route.getErrors();
+            totalRequests += requests;
+            appendLatencyRow(report, route.getName(), histogram, route.getErrors(), requests);
+        }
+        appendLatencyRow(report, "TOTAL", total, totalErrors, totalRequests);
+    }
+
+    // 보정된 히스토그램은 가상 요청을 포함하므로 개수/처리량은 실제 요청 수로 표시
+    private void appendLatencyRow(StringBuilder report, String name, LatencyHistogram histogram,
+                                  long errors, long requests) {
+        double rps = requests / (double) config.getDurationSeconds();
+        report.append(String.format(LATENCY_FORMAT, name, requests, errors, String.format("%.1f", rps),
+                millis(histogram.getMean()),
+                millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                millis(histogram.getMax())));
+    }
+
+    private LatencyHistogram latencyOf(RouteStats route) {
+        if (config.getMode() == LoadTestConfig.Mode.OPEN) {
+            return route.getLatency();
+        }
+        long interval = config.getExpectedIntervalMicros() > 0
+                ? config.getExpectedIntervalMicros()
+                : Math.round(route.getLatency().getMean());
+        return route.getLatency().correctedCopy(interval);
+    }
+
+    private void appendStatusTable(StringBuilder report) {
+        report.append(String.format(STATUS_FORMAT, "route", "1xx", "2xx", "3xx", "4xx", "5xx", "failed"));
+        long[] totals = new long[7];
+        for (RouteStats route : routes) {
+            long[] row = new long[7];
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                row[statusClass] = route.getStatusCount(statusClass);
+            }
+            row[6] = route.getExceptions();
+            for (int i = 1; i < row.length; i++) {
+                totals[i] += row[i];
+            }
+            appendStatusRow(report, route.getName(), row);
+        }
+        appendStatusRow(report, "TOTAL", totals);
+    }
+
+    private static void appendStatusRow(StringBuilder report, String name, long[] row) {
+        report.append(String.format(STATUS_FORMAT, name, row[1], row[2], row[3], row[4], row[5], row[6]));
+    }
+
+    private static String millis(double micros) {
+        return String.format("%.3f", micros / 1000.0);
+    }
+
+    /**
+     * 리포트를 파일로 저장 (상위 디렉토리가 없으면 생성)
+     */
+    void writeTo(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,25 @@
+package winter.loadtest;
+
+/**
+ * 부하를 받는 대상 (프로세스 내 Dispatcher 또는 루프백 소켓)
+ *
+ * 여러 부하 스레드가 동시에 호출합니다.
+ */
+interface LoadTarget extends AutoCloseable {
+
+    /**
+     * 요청 하나를 보내고 응답이 완료될 때까지 기다립니다.
+     *
+     * @return HTTP 상태 코드
+     * @throws Exception 전송 실패 (리포트에 오류로 집계)
+     */
+    int send(MixEntry entry) throws Exception;
+
+    /**
+     * 리포트에 표시할 대상 설명
+     */
+    String describe();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,100 @@
+package winter.loadtest;
+
+import winter.dispatcher.Dispatcher;
+import winter.server.ServerConfig;
+import winter.server.WinterServer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 종단 간 부하 테스트 실행기
+ *
+ * JSONL 요청 구성을 Dispatcher에 재생하고 라우트별 지연 시간 분포를 리포트로 출력합니다.
+ * 리포트는 고정 형식 텍스트이므로 커밋마다 --report로 저장해 diff로 비교할 수 있습니다.
+ *
+ * 대상 (--target):
+ * - in-process: 같은 JVM의 Dispatcher를 직접 호출 (기본)
+ * - socket:     같은 JVM에 루프백 WinterServer를 띄워 HTTP/1.1 keep-alive로 호출
+ * - host:port:  이미 실행 중인 서버를 호출
+ *
+ * 실행 예 (프로젝트 루트에서):
+ *   java -cp out winter.loadtest.LoadTest --mode=open --rate=500 --duration=30 --report=build/load-open.txt
+ *   java -cp out winter.loadtest.LoadTest --mode=closed --concurrency=16 --target=socket
+ *
+ * 프레임워크 로그는 측정을 왜곡하므로 기본으로 버립니다. (--verbose로 출력)
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config;
+        RequestMix mix;
+        try {
+            config = LoadTestConfig.fromArgs(args);
+            mix = RequestMix.load(Paths.get(config.getMixFile()));
+        } catch (IllegalArgumentException e) {
+            System.err.println("부하 테스트 설정 오류: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        PrintStream console = System.out;
+        console.println("부하 테스트 시작: " + config);
+        for (MixEntry entry : mix.getEntries()) {
+            console.println("  - " + entry);
+        }
+        if (!config.isVerbose()) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        Dispatcher dispatcher = null;
+        WinterServer server = null;
+        LoadTarget target;
+        String targetOption = config.getTarget();
+        if ("in-process".equals(targetOption)) {
+            dispatcher = new Dispatcher();
+            target = new InProcessTarget(dispatcher);
+        } else if ("socket".equals(targetOption)) {
+            dispatcher = new Dispatcher();
+            server = new WinterServer(dispatcher, new ServerConfig()
+                    .setPort(0)
+                    .setWorkerThreads(Math.max(config.getConcurrency() + 4, 16)));
+            server.start();
+            target = new SocketTarget("127.0.0.1", server.getPort());
+        } else {
+            int colon = targetOption.lastIndexOf(':');
+            if (colon <= 0) {
+                System.err.println("부하 테스트 설정 오류: --target은 in-process, socket 또는 host:port");
+                System.exit(2);
+                return;
+            }
+            target = new SocketTarget(targetOption.substring(0, colon),
+                    Integer.parseInt(targetOption.substring(colon + 1)));
+        }
+
+        LoadReport report;
+        try {
+            report = new LoadGenerator(config, mix, target).run();
+        } finally {
+            target.close();
+            if (server != null) {
+                server.stop();
+            }
+            if (dispatcher != null) {
+                dispatcher.shutdown();
+            }
+            System.setOut(console);
+        }
+
+        console.println();
+        console.print(report.format());
+        if (config.getReportFile() != null) {
+            Path reportFile = Paths.get(config.getReportFile());
+            report.writeTo(reportFile);
+            console.println("\n리포트 저장: " + reportFile.toAbsolutePath());
+        }
+        System.exit(0); // 프레임워크가 만든 비데몬 스레드가 남아 있어도 종료
+    }
+}
@@ -0,0 +1,190 @@
+package winter.loadtest;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 명령행 인자(--이름=값)로 만들거나 setter 체이닝으로 구성합니다.
+ */
+public class LoadTestConfig {
+
+    /**
+     * 부하 모델
+     * - OPEN:   정해진 속도(rate)로 요청을 보냄. 응답이 늦어도 다음 요청은 예정 시각에 출발
+     * - CLOSED: concurrency개 스레드가 응답을 받자마자 다음 요청을 보냄
+     */
+    public enum Mode {
+        OPEN, CLOSED
+    }
+
+    private String mixFile = "src/winter/loadtest/default-mix.jsonl";
+    private Mode mode = Mode.OPEN;
+    private int rate = 200;                 // OPEN: 초당 요청 수
+    private int concurrency = 8;            // OPEN: 작업 스레드 수, CLOSED: 동시 사용자 수
+    private int durationSeconds = 20;
+    private int warmupSeconds = 5;
+    private String target = "in-process";   // in-process | socket | host:port
+    private long expectedIntervalMicros;    // CLOSED 보정 간격 (0이면 라우트별 평균 지연 시간)
+    private long seed = 42;
+    private String reportFile;
+    private boolean verbose;
+
+    /**
+     * --mix=파일 --mode=open|closed --rate=200 --concurrency=8 --duration=20 --warmup=5
+     * --target=in-process|socket|host:port --expected-interval-us=0 --seed=42 --report=파일 --verbose
+     *
+     * @throws IllegalArgumentException 알 수 없는 인자나 잘못된 값
+     */
+    public static LoadTestConfig fromArgs(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            String name = equals > 0 ? arg.substring(2, equals) : arg.substring(2);
+            String value = equals > 0 ? arg.substring(equals + 1) : "true";
+            switch (name) {
+                case "mix": config.setMixFile(value); break;
+                case "mode": config.setMode(Mode.valueOf(value.toUpperCase())); break;
+                case "rate": config.setRate(Integer.parseInt(value)); break;
+                case "concurrency": config.setConcurrency(Integer.parseInt(value)); break;
+                case "duration": config.setDurationSeconds(Integer.parseInt(value)); break;
+                case "warmup": config.setWarmupSeconds(Integer.parseInt(value)); break;
+                case "target": config.setTarget(value); break;
+                case "expected-interval-us": config.setExpectedIntervalMicros(Long.parseLong(value)); break;
+                case "seed": config.setSeed(Long.parseLong(value)); break;
+                case "report": config.setReportFile(value); break;
+                case "verbose": config.setVerbose(Boolean.parseBoolean(value)); break;
+                default: throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        config.validate();
+        return config;
+    }
+
+    /**
+     * 설정 유효성 검증
+     */
+    public void validate() {
+        if (mode == Mode.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive in open mode");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        if (durationSeconds <= 0 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("duration must be positive and warmup non-negative");
+        }
+    }
+
+    public String getMixFile() {
+        return mixFile;
+    }
+
+    public LoadTestConfig setMixFile(String mixFile) {
+        this.mixFile = mixFile;
+        return this;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public LoadTestConfig setMode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public LoadTestConfig setRate(int rate) {
+        this.rate = rate;
+        return this;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public LoadTestConfig setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public LoadTestConfig setDurationSeconds(int durationSeconds) {
+        this.durationSeconds = durationSeconds;
+        return this;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public LoadTestConfig setWarmupSeconds(int warmupSeconds) {
+        this.warmupSeconds = warmupSeconds;
+        return this;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public LoadTestConfig setTarget(String target) {
+        this.target = target;
+        return this;
+    }
+
+    public long getExpectedIntervalMicros() {
+        return expectedIntervalMicros;
+    }
+
+    public LoadTestConfig setExpectedIntervalMicros(long expectedIntervalMicros) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+        return this;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LoadTestConfig setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public String getReportFile() {
+        return reportFile;
+    }
+
+    public LoadTestConfig setReportFile(String reportFile) {
+        this.reportFile = reportFile;
+        return this;
+    }
+
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    public LoadTestConfig setVerbose(boolean verbose) {
+        this.verbose = verbose;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "mode=" + mode.name().toLowerCase() +
+                (mode == Mode.OPEN ? ", rate=" + rate + "/s" : "") +
+                ", concurrency=" + concurrency +
+                ", duration=" + durationSeconds + "s" +
+                ", warmup=" + warmupSeconds + "s" +
+                ", target=" + target +
+                ", mix=" + mixFile +
+                ", seed=" + seed;
+    }
+}
@@ -0,0 +1,64 @@
+package winter.loadtest;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 요청 구성 파일의 요청 한 종류 (JSONL 한 줄)
+ */
+final class MixEntry {
+
+    private final String name;
+    private final String method;
+    private final String target;
+    private final Map<String, String> headers;
+    private final String body;
+    private final int weight;
+
+    MixEntry(String name, String method, String target, Map<String, String> headers, String body, int weight) {
+        this.name = name;
+        this.method = method;
+        this.target = target;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.body = body;
+        this.weight = weight;
+    }
+
+    /**
+     * 리포트에 표시할 라우트 이름
+     */
+    String getName() {
+        return name;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    /**
+     * 경로 + 쿼리 문자열
+     */
+    String getTarget() {
+        return target;
+    }
+
+    Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * 요청 본문 (없으면 null)
+     */
+    String getBody() {
+        return body;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + method + " " + target + ", weight=" + weight + ")";
+    }
+}
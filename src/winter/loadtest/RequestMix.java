@@ -0,0 +1,130 @@
+package winter.loadtest;
+
+import winter.util.JsonParser;
+import winter.util.JsonSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * JSONL 파일로 정의한 요청 구성 (가중치에 따라 요청 종류를 고름)
+ *
+ * 한 줄에 요청 한 종류:
+ * {"name": "products", "method": "GET", "path": "/products", "headers": {"Accept": "text/html"}, "weight": 4}
+ *
+ * - name:    리포트의 라우트 이름 (생략하면 "METHOD path")
+ * - method:  HTTP 메서드 (기본 GET)
+ * - path:    경로 + 쿼리 문자열 (필수)
+ * - headers: 요청 헤더 (선택)
+ * - body:    요청 본문 - 문자열이면 그대로, 객체/배열이면 JSON으로 (선택)
+ * - weight:  상대 비율 (기본 1)
+ *
+ * 빈 줄과 #으로 시작하는 줄은 무시합니다.
+ */
+final class RequestMix {
+
+    private final List<MixEntry> entries;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private RequestMix(List<MixEntry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+        this.cumulativeWeights = new int[entries.size()];
+        int sum = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            sum += entries.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+    }
+
+    /**
+     * JSONL 파일을 읽습니다.
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 줄이 있거나 요청이 하나도 없는 경우 (줄 번호 포함)
+     */
+    static RequestMix load(Path file) throws IOException {
+        List<MixEntry> entries = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                entries.add(parseEntry(line));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(file + ":" + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        if (entries.isEmpty()) {
+            throw new IllegalArgumentException("No requests defined in " + file);
+        }
+        return new RequestMix(entries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MixEntry parseEntry(String line) {
+        Object parsed = JsonParser.parse(line);
+        if (!(parsed instanceof Map)) {
+            throw new IllegalArgumentException("Each line must be a JSON object");
+        }
+        Map<String, Object> json = (Map<String, Object>) parsed;
+
+        Object path = json.get("path");
+        if (!(path instanceof String) || !((String) path).startsWith("/")) {
+            throw new IllegalArgumentException("'path' must be a string starting with '/'");
+        }
+        String method = json.get("method") instanceof String ? ((String) json.get("method")).toUpperCase() : "GET";
+        String name = json.get("name") instanceof String ? (String) json.get("name") : method + " " + path;
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        Object headerJson = json.get("headers");
+        if (headerJson instanceof Map) {
+            for (Map.Entry<String, Object> header : ((Map<String, Object>) headerJson).entrySet()) {
+                headers.put(header.getKey(), String.valueOf(header.getValue()));
+            }
+        } else if (headerJson != null) {
+            throw new IllegalArgumentException("'headers' must be an object");
+        }
+
+        Object bodyJson = json.get("body");
+        String body = bodyJson == null || bodyJson instanceof String
+                ? (String) bodyJson
+                : JsonSerializer.toJson(bodyJson);
+
+        int weight = 1;
+        if (json.get("weight") instanceof Number) {
+            weight = ((Number) json.get("weight")).intValue();
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("'weight' must be positive");
+        }
+        return new MixEntry(name, method, (String) path, headers, body, weight);
+    }
+
+    /**
+     * 가중치에 따라 요청 종류 하나를 고릅니다.
+     */
+    MixEntry next(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return entries.get(i);
+            }
+        }
+        return entries.get(entries.size() - 1);
+    }
+
+    List<MixEntry> getEntries() {
+        return entries;
+    }
+}
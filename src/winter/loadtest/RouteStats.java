@@ -0,0 +1,65 @@
+package winter.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트(요청 종류) 하나의 측정 결과
+ *
+ * - latency:     사용자가 겪는 지연 시간 (열린 루프는 예정 출발 시각부터, 닫힌 루프는 보정 전 원본)
+ * - serviceTime: 실제 전송 시작부터 응답 완료까지 (대기열 시간 제외)
+ */
+final class RouteStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram serviceTime = new LatencyHistogram();
+    private final LongAdder[] statusClasses = new LongAdder[6]; // 인덱스 1~5 → 1xx~5xx
+    private final LongAdder exceptions = new LongAdder();
+
+    RouteStats(String name) {
+        this.name = name;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    void recordResponse(int status, long latencyMicros, long serviceMicros) {
+        latency.record(latencyMicros);
+        serviceTime.record(serviceMicros);
+        int statusClass = status / 100;
+        statusClasses[statusClass >= 1 && statusClass <= 5 ? statusClass : 0].increment();
+    }
+
+    void recordException(long latencyMicros, long serviceMicros) {
+        latency.record(latencyMicros);
+        serviceTime.record(serviceMicros);
+        exceptions.increment();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    long getStatusCount(int statusClass) {
+        return statusClasses[statusClass].sum();
+    }
+
+    long getExceptions() {
+        return exceptions.sum();
+    }
+
+    /**
+     * 오류 수 (5xx 응답 + 전송 실패)
+     */
+    long getErrors() {
+        return statusClasses[5].sum() + exceptions.sum();
+    }
+}
@@ -0,0 +1,221 @@
+package winter.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HTTP/1.1 소켓으로 요청을 보내는 대상 (루프백의 WinterServer 등)
+ *
+ * 부하 스레드마다 keep-alive 연결 하나를 재사용합니다.
+ * 서버가 Connection: close로 응답하거나 연결이 끊기면 다음 요청에서 다시 연결합니다.
+ * 응답 본문은 Content-Length 또는 chunked 인코딩으로 읽고 버립니다.
+ */
+final class SocketTarget implements LoadTarget {
+
+    private static final int TIMEOUT_MILLIS = 30_000;
+
+    private final String host;
+    private final int port;
+    private final ThreadLocal<Connection> connections = new ThreadLocal<>();
+    private final Queue<Connection> openConnections = new ConcurrentLinkedQueue<>();
+
+    SocketTarget(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    @Override
+    public int send(MixEntry entry) throws IOException {
+        Connection connection = connections.get();
+        if (connection == null || connection.closed) {
+            connection = new Connection(host, port);
+            connections.set(connection);
+            openConnections.add(connection);
+        }
+        try {
+            return connection.exchange(entry, host + ":" + port);
+        } catch (IOException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public String describe() {
+        return "socket " + host + ":" + port;
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = openConnections.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * keep-alive 연결 하나 (한 스레드만 사용)
+     */
+    private static final class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private String sessionId;
+        private volatile boolean closed;
+
+        Connection(String host, int port) throws IOException {
+            socket = new Socket();
+            socket.connect(new InetSocketAddress(host, port), TIMEOUT_MILLIS);
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            in = new BufferedInputStream(socket.getInputStream(), 16 * 1024);
+            out = new BufferedOutputStream(socket.getOutputStream(), 16 * 1024);
+        }
+
+        int exchange(MixEntry entry, String hostHeader) throws IOException {
+            byte[] body = entry.getBody() != null ? entry.getBody().getBytes(StandardCharsets.UTF_8) : new byte[0];
+
+            StringBuilder head = new StringBuilder(256);
+            head.append(entry.getMethod()).append(' ').append(entry.getTarget()).append(" HTTP/1.1\r\n");
+            head.append("Host: ").append(hostHeader).append("\r\n");
+            for (Map.Entry<String, String> header : entry.getHeaders().entrySet()) {
+                head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+            }
+            if (sessionId != null && !entry.getHeaders().containsKey("Cookie")) {
+                head.append("Cookie: JSESSIONID=").append(sessionId).append("\r\n");
+            }
+            if (body.length > 0) {
+                head.append("Content-Length: ").append(body.length).append("\r\n");
+            }
+            head.append("\r\n");
+            out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(body);
+            out.flush();
+
+            return readResponse(!"HEAD".equals(entry.getMethod()));
+        }
+
+        private int readResponse(boolean hasBody) throws IOException {
+            String statusLine = readLine();
+            if (statusLine == null) {
+                throw new ProtocolException("Connection closed before response");
+            }
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+                throw new ProtocolException("Invalid status line: " + statusLine);
+            }
+            int status = Integer.parseInt(parts[1]);
+
+            long contentLength = -1;
+            boolean chunked = false;
+            boolean closeAfter = false;
+            String line;
+            while ((line = readLine()) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                String name = line.substring(0, colon).trim();
+                String value = line.substring(colon + 1).trim();
+                if (name.equalsIgnoreCase("Content-Length")) {
+                    contentLength = Long.parseLong(value);
+                } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+                    chunked = value.toLowerCase().contains("chunked");
+                } else if (name.equalsIgnoreCase("Connection")) {
+                    closeAfter = value.equalsIgnoreCase("close");
+                } else if (name.equalsIgnoreCase("Set-Cookie") && value.startsWith("JSESSIONID=")) {
+                    int end = value.indexOf(';');
+                    sessionId = value.substring("JSESSIONID=".length(), end > 0 ? end : value.length());
+                }
+            }
+
+            if (hasBody && status >= 200 && status != 204 && status != 304) {
+                if (chunked) {
+                    skipChunkedBody();
+                } else if (contentLength >= 0) {
+                    skip(contentLength);
+                } else {
+                    // 길이 정보가 없으면 연결 종료까지가 본문
+                    while (in.read() >= 0) {
+                        // 버림
+                    }
+                    closeAfter = true;
+                }
+            }
+            if (closeAfter) {
+                close();
+            }
+            return status;
+        }
+
+        private void skipChunkedBody() throws IOException {
+            while (true) {
+                String sizeLine = readLine();
+                if (sizeLine == null) {
+                    throw new ProtocolException("Connection closed inside chunked body");
+                }
+                int extension = sizeLine.indexOf(';');
+                long size = Long.parseLong((extension >= 0 ? sizeLine.substring(0, extension) : sizeLine).trim(), 16);
+                if (size == 0) {
+                    // 트레일러 헤더 건너뜀
+                    String trailer;
+                    while ((trailer = readLine()) != null && !trailer.isEmpty()) {
+                        // 버림
+                    }
+                    return;
+                }
+                skip(size);
+                readLine(); // 청크 뒤 CRLF
+            }
+        }
+
+        private void skip(long length) throws IOException {
+            long remaining = length;
+            while (remaining > 0) {
+                long skipped = in.skip(remaining);
+                if (skipped <= 0) {
+                    if (in.read() < 0) {
+                        throw new ProtocolException("Connection closed inside response body");
+                    }
+                    skipped = 1;
+                }
+                remaining -= skipped;
+            }
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == '\n') {
+                    byte[] bytes = line.toByteArray();
+                    int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+                    return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+                }
+                line.write(b);
+            }
+            return line.size() == 0 ? null : line.toString(StandardCharsets.ISO_8859_1);
+        }
+
+        void close() {
+            closed = true;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // 이미 닫힘
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package winter.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 증가만 하는 카운터 (LongAdder 기반 - 여러 스레드가 동시에 증가해도 경합 없음)
+ */
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    public void inc() {
+        value.increment();
+    }
+
+    /**
+     * @param amount 증가량 (0 이상)
+     */
+    public void inc(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("카운터는 감소할 수 없습니다: " + amount);
+        }
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
@@ -0,0 +1,66 @@
+package winter.metrics;
+
+/**
+ * 프레임워크가 기록하는 메트릭 (기본 레지스트리에 등록)
+ *
+ * 레이블 값은 모두 개수가 제한된 값만 사용합니다.
+ * - route: 매핑된 URL 패턴, 핸들러가 없으면 (static), (batch), (unmatched) - 요청 경로를 그대로 쓰지 않음
+ * - view: View 구현 클래스 이름, exception: 예외 클래스 이름
+ */
+public final class FrameworkMetrics {
+
+    private static final MetricRegistry REGISTRY = MetricRegistry.getDefault();
+
+    // ===== 요청 처리 (Dispatcher) =====
+
+    public static final MetricFamily<Counter> HTTP_REQUESTS = REGISTRY.counter(
+            "winter_http_requests_total", "HTTP requests completed, by method, route and status",
+            "method", "route", "status");
+
+    public static final MetricFamily<Timer> HTTP_REQUEST_DURATION = REGISTRY.timer(
+            "winter_http_request_duration_seconds", "Time from dispatch to response completion, by method and route",
+            "method", "route");
+
+    public static final MetricFamily<Gauge> HTTP_REQUESTS_IN_FLIGHT = REGISTRY.gauge(
+            "winter_http_requests_in_flight", "Requests currently being dispatched (including pending async results)");
+
+    public static final MetricFamily<Timer> VIEW_RENDER_DURATION = REGISTRY.timer(
+            "winter_view_render_duration_seconds", "View rendering time, by view type",
+            "view");
+
+    public static final MetricFamily<Counter> EXCEPTIONS = REGISTRY.counter(
+            "winter_exceptions_total", "Exceptions raised while dispatching, by exception type and how they were resolved",
+            "exception", "outcome");
+
+    // ===== 세션 (SessionManager) =====
+
+    public static final MetricFamily<Counter> SESSIONS_CREATED = REGISTRY.counter(
+            "winter_sessions_created_total", "Sessions created");
+
+    public static final MetricFamily<Counter> SESSIONS_EXPIRED = REGISTRY.counter(
+            "winter_sessions_expired_total", "Sessions removed because they expired");
+
+    // winter_sessions_active 게이지는 SessionManager가 생성될 때 등록
+
+    // ===== 파일 업로드 (Multipart) =====
+
+    public static final MetricFamily<Counter> UPLOAD_REQUESTS = REGISTRY.counter(
+            "winter_upload_requests_total", "Multipart requests parsed");
+
+    public static final MetricFamily<Counter> UPLOAD_FILES = REGISTRY.counter(
+            "winter_upload_files_total", "Files received in multipart requests");
+
+    public static final MetricFamily<Counter> UPLOAD_BYTES = REGISTRY.counter(
+            "winter_upload_bytes_total", "Bytes of files received in multipart requests");
+
+    public static final MetricFamily<Timer> MULTIPART_PARSE_DURATION = REGISTRY.timer(
+            "winter_multipart_parse_duration_seconds", "Multipart request parsing time");
+
+    static {
+        // 요청별 할당 바이트/CPU 시간 (측정이 켜져 있을 때만 값이 생김)
+        REGISTRY.register(RequestResourceTracker.getDefault());
+    }
+
+    private FrameworkMetrics() {
+    }
+}
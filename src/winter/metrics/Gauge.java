@@ -0,0 +1,29 @@
+package winter.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 증가/감소하는 현재 값 (처리 중인 요청 수 등)
+ *
+ * 값을 다른 객체에서 읽어오는 게이지는 MetricRegistry.gauge(name, help, supplier)를 사용합니다.
+ */
+public final class Gauge {
+
+    private final LongAdder value = new LongAdder();
+
+    public void inc() {
+        value.increment();
+    }
+
+    public void dec() {
+        value.decrement();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
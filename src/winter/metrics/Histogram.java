@@ -0,0 +1,68 @@
+package winter.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 버킷 히스토그램 (Prometheus histogram과 같은 구조)
+ *
+ * 버킷 i는 bounds[i] 이하인 값을 셉니다. (마지막 버킷은 +Inf)
+ * 기록은 이진 탐색 + LongAdder 증가라 요청 경로에서 써도 부담이 없습니다.
+ */
+public final class Histogram {
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    /**
+     * @param bounds 버킷 상한 (오름차순)
+     */
+    public Histogram(double[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1]) {
+                throw new IllegalArgumentException("버킷 상한은 오름차순이어야 합니다: " + Arrays.toString(bounds));
+            }
+        }
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(double value) {
+        int index = Arrays.binarySearch(bounds, value);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        count.increment();
+        sum.add(value);
+    }
+
+    /**
+     * 버킷 상한 (+Inf 제외)
+     */
+    public double[] getBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * 버킷별 개수 스냅샷 (누적 아님, 마지막 원소가 +Inf 버킷)
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package winter.metrics;
+
+import java.util.List;
+
+/**
+ * 스크레이프 시점에 값을 읽어 메트릭 패밀리를 만들어 주는 수집기
+ *
+ * MetricFamily처럼 레지스트리가 값을 직접 들고 있지 않은 메트릭 (다른 객체의 통계 등)을 노출할 때 구현합니다.
+ * 스크레이프마다 호출되므로 요청 수에 비례하는 작업을 하면 안 됩니다.
+ */
+public interface MetricCollector {
+
+    List<MetricSnapshot.Family> collect();
+}
@@ -0,0 +1,182 @@
+package winter.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 이름이 같고 레이블 값만 다른 메트릭 묶음 (Counter, Gauge, Histogram, Timer)
+ *
+ * 사용 예:
+ *   MetricFamily<Counter> requests = registry.counter("winter_http_requests_total", "...", "method", "status");
+ *   requests.labels("GET", "200").inc();
+ *
+ * 시계열 수는 maxSeries로 제한합니다. 한도를 넘는 레이블 조합은 모든 레이블 값이 "_other"인
+ * 시계열 하나로 합쳐지므로, 잘못된 레이블(경로, 사용자 ID 등)이 들어와도 메모리와 스크레이프 비용이 늘지 않습니다.
+ */
+public final class MetricFamily<T> implements MetricCollector {
+
+    public static final String OVERFLOW_LABEL_VALUE = "_other";
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final String[] NO_LABELS = new String[0];
+
+    private final String name;
+    private final String help;
+    private final Class<T> metricClass;
+    private final String[] labelNames;
+    private final Supplier<T> factory;
+    private final int maxSeries;
+    private final Map<List<String>, T> series = new ConcurrentHashMap<>();
+    private final T unlabeled;
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+
+    MetricFamily(String name, String help, Class<T> metricClass, Supplier<T> factory,
+                 String[] labelNames, int maxSeries) {
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("잘못된 메트릭 이름: " + name);
+        }
+        for (String labelName : labelNames) {
+            if (!NAME_PATTERN.matcher(labelName).matches() || labelName.startsWith("__") || "le".equals(labelName)) {
+                throw new IllegalArgumentException("잘못된 레이블 이름: " + labelName);
+            }
+        }
+        this.name = name;
+        this.help = help;
+        this.metricClass = metricClass;
+        this.labelNames = labelNames.clone();
+        this.factory = factory;
+        this.maxSeries = maxSeries;
+        if (labelNames.length == 0) {
+            this.unlabeled = factory.get();
+            series.put(List.of(), unlabeled);
+        } else {
+            this.unlabeled = null;
+        }
+    }
+
+    /**
+     * 레이블이 없는 패밀리의 메트릭
+     */
+    public T get() {
+        if (unlabeled == null) {
+            throw new IllegalStateException(name + "은 레이블이 필요합니다: " + Arrays.toString(labelNames));
+        }
+        return unlabeled;
+    }
+
+    /**
+     * 레이블 값에 해당하는 메트릭 (없으면 생성)
+     *
+     * @param labelValues labelNames와 같은 순서, 같은 개수
+     */
+    public T labels(String... labelValues) {
+        if (labelValues.length != labelNames.length) {
+            throw new IllegalArgumentException(name + " 레이블 개수 불일치: 필요 " + labelNames.length
+                    + ", 전달 " + labelValues.length);
+        }
+        // 조회는 배열을 감싸기만 하고 복사하지 않음 (이미 있는 시계열은 할당 없음)
+        T metric = series.get(Arrays.asList(labelValues));
+        return metric != null ? metric : createSeries(labelValues);
+    }
+
+    private T createSeries(String[] labelValues) {
+        String[] values = new String[labelValues.length];
+        if (series.size() >= maxSeries) {
+            Arrays.fill(values, OVERFLOW_LABEL_VALUE);
+            if (overflowReported.compareAndSet(false, true)) {
+                System.out.println("[Metrics] " + name + " 시계열 한도(" + maxSeries + ") 초과 - 이후 레이블 조합은 "
+                        + OVERFLOW_LABEL_VALUE + "로 집계");
+            }
+        } else {
+            for (int i = 0; i < labelValues.length; i++) {
+                values[i] = labelValues[i] != null ? labelValues[i] : "";
+            }
+        }
+        return series.computeIfAbsent(List.of(values), key -> factory.get());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    Class<T> getMetricClass() {
+        return metricClass;
+    }
+
+    String[] getLabelNames() {
+        return labelNames.clone();
+    }
+
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    /**
+     * 현재 값으로 패밀리 스냅샷을 만듭니다. (레이블 값 순서로 정렬 - 스크레이프마다 같은 순서)
+     */
+    @Override
+    public List<MetricSnapshot.Family> collect() {
+        List<Map.Entry<List<String>, T>> entries = new ArrayList<>(series.entrySet());
+        entries.sort((a, b) -> compareLabels(a.getKey(), b.getKey()));
+
+        MetricSnapshot.Family family = new MetricSnapshot.Family(name, help, typeName());
+        for (Map.Entry<List<String>, T> entry : entries) {
+            String[] values = entry.getKey().toArray(NO_LABELS);
+            Object metric = entry.getValue();
+            if (metric instanceof Counter) {
+                family.addSample(name, labelNames, values, ((Counter) metric).get());
+            } else if (metric instanceof Gauge) {
+                family.addSample(name, labelNames, values, ((Gauge) metric).get());
+            } else if (metric instanceof Timer) {
+                addHistogramSamples(family, values, ((Timer) metric).getHistogram());
+            } else if (metric instanceof Histogram) {
+                addHistogramSamples(family, values, (Histogram) metric);
+            }
+        }
+        return List.of(family);
+    }
+
+    // Prometheus histogram: 누적 _bucket{le=...}, _sum, _count
+    private void addHistogramSamples(MetricSnapshot.Family family, String[] values, Histogram histogram) {
+        String[] bucketLabelNames = Arrays.copyOf(labelNames, labelNames.length + 1);
+        bucketLabelNames[labelNames.length] = "le";
+        double[] bounds = histogram.getBounds();
+        long[] counts = histogram.getBucketCounts();
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            String[] bucketValues = Arrays.copyOf(values, values.length + 1);
+            bucketValues[values.length] = i < bounds.length ? MetricSnapshot.formatValue(bounds[i]) : "+Inf";
+            family.addSample(name + "_bucket", bucketLabelNames, bucketValues, cumulative);
+        }
+        family.addSample(name + "_sum", labelNames, values, histogram.getSum());
+        // 버킷과 count를 따로 읽으므로 기록 중에는 어긋날 수 있어 +Inf 버킷 값을 count로 사용
+        family.addSample(name + "_count", labelNames, values, cumulative);
+    }
+
+    private String typeName() {
+        if (metricClass == Counter.class) {
+            return "counter";
+        }
+        if (metricClass == Gauge.class) {
+            return "gauge";
+        }
+        return "histogram";
+    }
+
+    private static int compareLabels(List<String> a, List<String> b) {
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            int result = a.get(i).compareTo(b.get(i));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.size(), b.size());
+    }
+}
@@ -0,0 +1,172 @@
+package winter.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 프레임워크 메트릭 레지스트리
+ *
+ * 카운터, 게이지, 히스토그램, 타이머를 이름으로 등록하고 스크레이프 시점에 스냅샷으로 모읍니다.
+ * - 기록: LongAdder/DoubleAdder 증가뿐이라 요청 스레드끼리 경합하지 않음
+ * - 스크레이프: snapshot()은 snapshotCacheMillis 동안 같은 스냅샷을 돌려줌 (여러 수집기가 동시에 긁어도 한 번만 계산)
+ * - 스크레이프 비용은 시계열 수에만 비례하고, 시계열 수는 패밀리마다 maxSeriesPerFamily로 제한
+ *   → 트래픽이 아무리 많아도 /metrics 응답 비용은 일정
+ *
+ * 같은 이름으로 다시 등록하면 기존 패밀리를 돌려줍니다. (형식이나 레이블이 다르면 IllegalArgumentException)
+ */
+public final class MetricRegistry {
+
+    private static final MetricRegistry DEFAULT = new MetricRegistry();
+
+    private final Map<String, MetricCollector> families = new ConcurrentHashMap<>();
+    private final List<MetricCollector> collectors = new CopyOnWriteArrayList<>();
+    private final Object snapshotLock = new Object();
+    private volatile MetricSnapshot cachedSnapshot;
+    private volatile long snapshotCacheMillis = 1000;
+    private volatile int maxSeriesPerFamily = 500;
+
+    /**
+     * 프레임워크 전체가 함께 쓰는 기본 레지스트리 (/metrics가 노출)
+     */
+    public static MetricRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    public MetricFamily<Counter> counter(String name, String help, String... labelNames) {
+        return family(name, help, Counter.class, labelNames, Counter::new);
+    }
+
+    public MetricFamily<Gauge> gauge(String name, String help, String... labelNames) {
+        return family(name, help, Gauge.class, labelNames, Gauge::new);
+    }
+
+    /**
+     * 스크레이프 시점에 supplier에서 값을 읽는 게이지 (같은 이름으로 다시 등록하면 supplier를 교체)
+     */
+    public void gauge(String name, String help, DoubleSupplier supplier) {
+        MetricCollector gauge = () -> List.of(new MetricSnapshot.Family(name, help, "gauge")
+                .addSample(name, new String[0], new String[0], supplier.getAsDouble()));
+        families.compute(name, (key, previous) -> {
+            if (previous instanceof MetricFamily) {
+                throw new IllegalArgumentException("이미 다른 형식으로 등록된 메트릭: " + name);
+            }
+            return gauge;
+        });
+    }
+
+    public MetricFamily<Histogram> histogram(String name, String help, double[] buckets, String... labelNames) {
+        double[] bounds = buckets.clone();
+        return family(name, help, Histogram.class, labelNames, () -> new Histogram(bounds));
+    }
+
+    /**
+     * 기본 버킷(0.5ms ~ 10s)을 쓰는 타이머
+     */
+    public MetricFamily<Timer> timer(String name, String help, String... labelNames) {
+        return family(name, help, Timer.class, labelNames, Timer::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MetricFamily<T> family(String name, String help, Class<T> metricClass, String[] labelNames,
+                                       Supplier<T> factory) {
+        MetricCollector existing = families.computeIfAbsent(name,
+                key -> new MetricFamily<>(name, help, metricClass, factory, labelNames, maxSeriesPerFamily));
+        if (!(existing instanceof MetricFamily)
+                || ((MetricFamily<?>) existing).getMetricClass() != metricClass
+                || !Arrays.equals(((MetricFamily<?>) existing).getLabelNames(), labelNames)) {
+            throw new IllegalArgumentException("이미 다른 형식으로 등록된 메트릭: " + name);
+        }
+        return (MetricFamily<T>) existing;
+    }
+
+    /**
+     * 스크레이프마다 호출할 수집기 등록 (다른 객체의 통계를 노출할 때)
+     */
+    public MetricRegistry register(MetricCollector collector) {
+        if (!collectors.contains(collector)) {
+            collectors.add(collector);
+        }
+        return this;
+    }
+
+    /**
+     * 캐시된 스냅샷 (snapshotCacheMillis보다 오래됐으면 새로 수집)
+     * 동시에 여러 스레드가 요청해도 수집은 한 스레드만 하고 나머지는 그 결과를 사용합니다.
+     */
+    public MetricSnapshot snapshot() {
+        MetricSnapshot snapshot = cachedSnapshot;
+        if (snapshot != null && !isExpired(snapshot)) {
+            return snapshot;
+        }
+        synchronized (snapshotLock) {
+            snapshot = cachedSnapshot;
+            if (snapshot == null || isExpired(snapshot)) {
+                snapshot = collect();
+                cachedSnapshot = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    private boolean isExpired(MetricSnapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.getTimestampMillis() >= snapshotCacheMillis;
+    }
+
+    /**
+     * 캐시를 거치지 않고 지금 값을 수집합니다. (패밀리 이름순)
+     */
+    public MetricSnapshot collect() {
+        List<MetricSnapshot.Family> collected = new ArrayList<>();
+        for (MetricCollector collector : families.values()) {
+            collectSafely(collector, collected);
+        }
+        for (MetricCollector collector : collectors) {
+            collectSafely(collector, collected);
+        }
+        collected.sort(Comparator.comparing(MetricSnapshot.Family::getName));
+        return new MetricSnapshot(System.currentTimeMillis(), collected);
+    }
+
+    // 수집기 하나가 실패해도 나머지 메트릭은 노출
+    private static void collectSafely(MetricCollector collector, List<MetricSnapshot.Family> collected) {
+        try {
+            collected.addAll(collector.collect());
+        } catch (RuntimeException e) {
+            System.err.println("[Metrics] 수집 실패: " + collector + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 캐시 시간 (0이면 스크레이프마다 새로 수집)
+     */
+    public MetricRegistry setSnapshotCacheMillis(long snapshotCacheMillis) {
+        this.snapshotCacheMillis = Math.max(0, snapshotCacheMillis);
+        return this;
+    }
+
+    public long getSnapshotCacheMillis() {
+        return snapshotCacheMillis;
+    }
+
+    /**
+     * 이후 등록하는 패밀리의 시계열 한도
+     */
+    public MetricRegistry setMaxSeriesPerFamily(int maxSeriesPerFamily) {
+        if (maxSeriesPerFamily < 1) {
+            throw new IllegalArgumentException("maxSeriesPerFamily는 1 이상이어야 합니다: " + maxSeriesPerFamily);
+        }
+        this.maxSeriesPerFamily = maxSeriesPerFamily;
+        return this;
+    }
+
+    public int getMaxSeriesPerFamily() {
+        return maxSeriesPerFamily;
+    }
+}
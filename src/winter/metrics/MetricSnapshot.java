@@ -0,0 +1,219 @@
+package winter.metrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 시점의 메트릭 값 (읽기 전용)
+ *
+ * - toPrometheusText(): Prometheus 텍스트 형식 (version 0.0.4), 처음 호출할 때 한 번만 만듦
+ * - toMap(): JSON 응답용
+ */
+public final class MetricSnapshot {
+
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final long timestampMillis;
+    private final List<Family> families;
+    private volatile String prometheusText;
+
+    MetricSnapshot(long timestampMillis, List<Family> families) {
+        this.timestampMillis = timestampMillis;
+        this.families = Collections.unmodifiableList(families);
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public List<Family> getFamilies() {
+        return families;
+    }
+
+    public int getSampleCount() {
+        int count = 0;
+        for (Family family : families) {
+            count += family.samples.size();
+        }
+        return count;
+    }
+
+    /**
+     * Prometheus 텍스트 형식
+     */
+    public String toPrometheusText() {
+        String text = prometheusText;
+        if (text == null) {
+            StringBuilder out = new StringBuilder(256 + getSampleCount() * 64);
+            for (Family family : families) {
+                out.append("# HELP ").append(family.name).append(' ').append(escapeHelp(family.help)).append('\n');
+                out.append("# TYPE ").append(family.name).append(' ').append(family.type).append('\n');
+                for (Sample sample : family.samples) {
+                    out.append(sample.name);
+                    if (sample.labelNames.length > 0) {
+                        out.append('{');
+                        for (int i = 0; i < sample.labelNames.length; i++) {
+                            if (i > 0) {
+                                out.append(',');
+                            }
+                            out.append(sample.labelNames[i]).append("=\"")
+                                    .append(escapeLabelValue(sample.labelValues[i])).append('"');
+                        }
+                        out.append('}');
+                    }
+                    out.append(' ').append(formatValue(sample.value)).append('\n');
+                }
+            }
+            text = out.toString();
+            prometheusText = text;
+        }
+        return text;
+    }
+
+    /**
+     * JSON 응답용 - {timestamp, families: [{name, type, help, samples: [{name, labels, value}]}]}
+     */
+    public Map<String, Object> toMap() {
+        List<Object> familyList = new ArrayList<>(families.size());
+        for (Family family : families) {
+            List<Object> sampleList = new ArrayList<>(family.samples.size());
+            for (Sample sample : family.samples) {
+                Map<String, Object> labels = new LinkedHashMap<>();
+                for (int i = 0; i < sample.labelNames.length; i++) {
+                    labels.put(sample.labelNames[i], sample.labelValues[i]);
+                }
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("name", sample.name);
+                item.put("labels", labels);
+                item.put("value", jsonValue(sample.value));
+                sampleList.add(item);
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", family.name);
+            item.put("type", family.type);
+            item.put("help", family.help);
+            item.put("samples", sampleList);
+            familyList.add(item);
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timestamp", timestampMillis);
+        snapshot.put("families", familyList);
+        return snapshot;
+    }
+
+    static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    private static Object jsonValue(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return formatValue(value); // JSON에는 NaN/Infinity 숫자가 없으므로 문자열로 표시
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return (long) value;
+        }
+        return value;
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * 이름, 설명, 형식이 같은 샘플 묶음 (Prometheus의 metric family)
+     */
+    public static final class Family {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final List<Sample> samples = new ArrayList<>();
+
+        /**
+         * @param type counter, gauge, histogram, summary 중 하나
+         */
+        public Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        /**
+         * 샘플 추가
+         *
+         * @param sampleName 패밀리 이름 또는 이름 + 접미사 (_bucket, _sum, _count)
+         * @param labelNames 레이블 이름
+         * @param labelValues 레이블 값 (labelNames와 같은 길이)
+         */
+        public Family addSample(String sampleName, String[] labelNames, String[] labelValues, double value) {
+            samples.add(new Sample(sampleName, labelNames, labelValues, value));
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public List<Sample> getSamples() {
+            return Collections.unmodifiableList(samples);
+        }
+    }
+
+    /**
+     * 시계열 값 하나
+     */
+    public static final class Sample {
+        private final String name;
+        private final String[] labelNames;
+        private final String[] labelValues;
+        private final double value;
+
+        Sample(String name, String[] labelNames, String[] labelValues, double value) {
+            this.name = name;
+            this.labelNames = labelNames;
+            this.labelValues = labelValues;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLabel(String labelName) {
+            for (int i = 0; i < labelNames.length; i++) {
+                if (labelNames[i].equals(labelName)) {
+                    return labelValues[i];
+                }
+            }
+            return null;
+        }
+
+        public double getValue() {
+            return value;
+        }
+    }
+}
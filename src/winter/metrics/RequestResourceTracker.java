@@ -0,0 +1,210 @@
+package winter.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청별 할당 바이트와 CPU 시간을 핸들러별로 집계 (선택 기능, 기본 꺼짐)
+ *
+ * Dispatcher가 요청 처리 전후에 현재 스레드의
+ * - 누적 할당 바이트 (com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes)
+ * - 누적 CPU 시간 (ThreadMXBean.getCurrentThreadCpuTime)
+ * 을 읽어 차이를 핸들러별 분포에 기록합니다. 프로파일러 없이 운영 중에 할당이 많은 엔드포인트를 찾는 용도입니다.
+ *
+ * 측정 범위: 요청 스레드에서 실행된 부분 (비동기 핸들러의 결과 처리, 배치 하위 요청은 각자 다른 스레드에서 따로 측정)
+ * 비용: 켜져 있을 때 요청마다 MXBean 호출 4번 (수백 ns), 꺼져 있으면 volatile 읽기 한 번
+ *
+ * 켜기: -Dwinter.metrics.requestResources=true 또는 getDefault().setEnabled(true)
+ * 조회: GET /metrics (Prometheus summary - winter_request_allocated_bytes, winter_request_cpu_seconds)
+ */
+public final class RequestResourceTracker implements MetricCollector {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final RequestResourceTracker DEFAULT =
+            new RequestResourceTracker(Boolean.getBoolean("winter.metrics.requestResources"));
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final boolean allocationSupported;
+    private final boolean cpuTimeSupported;
+    private final Map<String, HandlerResources> handlers = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public RequestResourceTracker(boolean enabled) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        this.threadBean = bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+        this.allocationSupported = threadBean != null && threadBean.isThreadAllocatedMemorySupported();
+        this.cpuTimeSupported = threadBean != null && threadBean.isCurrentThreadCpuTimeSupported();
+        setEnabled(enabled);
+    }
+
+    /**
+     * Dispatcher와 /metrics가 함께 쓰는 기본 인스턴스
+     */
+    public static RequestResourceTracker getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 측정을 켜거나 끕니다. (JVM이 지원하지 않으면 켜지지 않음)
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && (allocationSupported || cpuTimeSupported)) {
+            if (allocationSupported && !threadBean.isThreadAllocatedMemoryEnabled()) {
+                threadBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (cpuTimeSupported && !threadBean.isThreadCpuTimeEnabled()) {
+                threadBean.setThreadCpuTimeEnabled(true);
+            }
+            this.enabled = true;
+        } else {
+            this.enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 처리 직전에 호출 (꺼져 있으면 null)
+     */
+    public Sample start() {
+        if (!enabled) {
+            return null;
+        }
+        return new Sample(allocatedBytes(), cpuTime());
+    }
+
+    /**
+     * 요청 처리 직후 같은 스레드에서 호출하여 차이를 handlerKey의 분포에 기록
+     *
+     * @param sample start()의 반환값 (null이면 무시)
+     * @param handlerKey 핸들러 시그니처 등 집계 키 (라우트 수만큼으로 제한된 값이어야 함)
+     */
+    public void stop(Sample sample, String handlerKey) {
+        if (sample == null) {
+            return;
+        }
+        long allocated = allocatedBytes() - sample.allocatedBytes;
+        long cpu = cpuTime() - sample.cpuTimeNanos;
+        HandlerResources resources = handlers.computeIfAbsent(handlerKey, key -> new HandlerResources());
+        if (allocationSupported) {
+            resources.allocatedBytes.record(allocated);
+        }
+        if (cpuTimeSupported) {
+            resources.cpuNanos.record(cpu);
+        }
+    }
+
+    private long allocatedBytes() {
+        return allocationSupported ? threadBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private long cpuTime() {
+        return cpuTimeSupported ? threadBean.getCurrentThreadCpuTime() : 0;
+    }
+
+    /**
+     * 핸들러별 집계 (읽기 전용)
+     */
+    public Map<String, HandlerResources> getHandlers() {
+        return Collections.unmodifiableMap(handlers);
+    }
+
+    /**
+     * 집계 초기화 (측정 구간을 새로 시작할 때)
+     */
+    public void reset() {
+        handlers.clear();
+    }
+
+    /**
+     * JSON 응답용 요약 - 핸들러 이름순, 요청당 할당 바이트와 CPU 시간(ns) 분포
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", enabled);
+        summary.put("allocationSupported", allocationSupported);
+        summary.put("cpuTimeSupported", cpuTimeSupported);
+
+        Map<String, Object> perHandler = new LinkedHashMap<>();
+        for (Map.Entry<String, HandlerResources> entry : new TreeMap<>(handlers).entrySet()) {
+            Map<String, Object> handler = new LinkedHashMap<>();
+            handler.put("allocatedBytesPerRequest", entry.getValue().allocatedBytes.toMap());
+            handler.put("cpuNanosPerRequest", entry.getValue().cpuNanos.toMap());
+            perHandler.put(entry.getKey(), handler);
+        }
+        summary.put("handlers", perHandler);
+        return summary;
+    }
+
+    /**
+     * 핸들러별 분포를 Prometheus summary로 노출 (분위수는 버킷 상한 근사값)
+     */
+    @Override
+    public List<MetricSnapshot.Family> collect() {
+        if (handlers.isEmpty()) {
+            return List.of();
+        }
+        MetricSnapshot.Family allocated = new MetricSnapshot.Family("winter_request_allocated_bytes",
+                "Bytes allocated on the request thread per request, by handler", "summary");
+        MetricSnapshot.Family cpu = new MetricSnapshot.Family("winter_request_cpu_seconds",
+                "CPU time spent on the request thread per request, by handler", "summary");
+        for (Map.Entry<String, HandlerResources> entry : new TreeMap<>(handlers).entrySet()) {
+            addSummary(allocated, entry.getKey(), entry.getValue().allocatedBytes, 1);
+            addSummary(cpu, entry.getKey(), entry.getValue().cpuNanos, 1e-9);
+        }
+        return List.of(allocated, cpu);
+    }
+
+    private static void addSummary(MetricSnapshot.Family family, String handler,
+                                   ResourceDistribution distribution, double scale) {
+        if (distribution.getCount() == 0) {
+            return;
+        }
+        String[] handlerLabel = {"handler"};
+        String[] quantileLabels = {"handler", "quantile"};
+        for (double quantile : QUANTILES) {
+            family.addSample(family.getName(), quantileLabels,
+                    new String[]{handler, MetricSnapshot.formatValue(quantile)},
+                    distribution.getPercentile(quantile * 100) * scale);
+        }
+        family.addSample(family.getName() + "_sum", handlerLabel, new String[]{handler}, distribution.getSum() * scale);
+        family.addSample(family.getName() + "_count", handlerLabel, new String[]{handler}, distribution.getCount());
+    }
+
+    /**
+     * 요청 시작 시점의 스레드 누적값
+     */
+    public static final class Sample {
+        private final long allocatedBytes;
+        private final long cpuTimeNanos;
+
+        private Sample(long allocatedBytes, long cpuTimeNanos) {
+            this.allocatedBytes = allocatedBytes;
+            this.cpuTimeNanos = cpuTimeNanos;
+        }
+    }
+
+    /**
+     * 핸들러 하나의 요청당 자원 사용 분포
+     */
+    public static final class HandlerResources {
+        private final ResourceDistribution allocatedBytes = new ResourceDistribution();
+        private final ResourceDistribution cpuNanos = new ResourceDistribution();
+
+        public ResourceDistribution getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public ResourceDistribution getCpuNanos() {
+            return cpuNanos;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package winter.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 값 분포 (2의 거듭제곱 버킷)
+ *
+ * 버킷 i는 (2^(i-1), 2^i] 범위의 값을 셉니다. (버킷 0은 1 이하)
+ * 바이트/나노초처럼 범위가 넓은 값에 맞고, 기록은 LongAdder 증가 몇 번뿐이라
+ * 여러 요청 스레드가 동시에 기록해도 경합이 없습니다.
+ *
+ * 백분위수는 버킷 상한으로 근사합니다. (실제 값보다 최대 2배까지 크게 보고, 최댓값은 넘지 않음)
+ */
+public final class ResourceDistribution {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public ResourceDistribution() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 값 하나를 기록합니다. (음수는 0으로 기록)
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets[bucketIndex(v)].increment();
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    static int bucketIndex(long value) {
+        return value <= 1 ? 0 : 64 - Long.numberOfLeadingZeros(value - 1);
+    }
+
+    /**
+     * 버킷 i의 상한 (포함)
+     */
+    public static long bucketUpperBound(int index) {
+        return index >= 63 ? Long.MAX_VALUE : 1L << index;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * 버킷별 개수 스냅샷 (길이 64, 누적 아님)
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * 근사 백분위수
+     *
+     * @param percentile 0~100
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(percentile, 100.0) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * JSON 응답용 요약 (count, mean, p50, p90, p99, max)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCount());
+        summary.put("mean", Math.round(getMean()));
+        summary.put("p50", getPercentile(50));
+        summary.put("p90", getPercentile(90));
+        summary.put("p99", getPercentile(99));
+        summary.put("max", getMax());
+        return summary;
+    }
+}
@@ -0,0 +1,37 @@
+package winter.metrics;
+
+/**
+ * 소요 시간 히스토그램 (나노초로 기록하고 초 단위로 노출)
+ *
+ * 사용 예:
+ *   long start = System.nanoTime();
+ *   ...
+ *   timer.record(System.nanoTime() - start);
+ */
+public final class Timer {
+
+    /**
+     * 기본 버킷 (초) - 0.5ms ~ 10s
+     */
+    public static final double[] DEFAULT_BUCKETS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private final Histogram histogram;
+
+    public Timer() {
+        this(DEFAULT_BUCKETS);
+    }
+
+    public Timer(double[] bucketSeconds) {
+        this.histogram = new Histogram(bucketSeconds);
+    }
+
+    public void record(long nanos) {
+        histogram.observe(Math.max(0, nanos) / 1_000_000_000.0);
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+}
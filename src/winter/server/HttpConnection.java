@@ -0,0 +1,315 @@
+package winter.server;
+
+import winter.dispatcher.Dispatcher;
+import winter.http.StandardHttpResponse;
+import winter.http.StreamingBody;
+import winter.websocket.WebSocketEndpointRegistry;
+import winter.websocket.WebSocketHandshake;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지속 연결(HTTP/1.1 keep-alive) 하나를 처리하는 클래스
+ *
+ * 처리 흐름:
+ * 1. 읽기 버퍼에 들어 있는 완성된 요청을 모두 파싱 (파이프라이닝된 요청 포함)
+ * 2. 파싱한 순서대로 Dispatcher로 처리하고 응답을 같은 순서로 출력 버퍼에 씀
+ * 3. 한 묶음의 응답을 모두 쓴 뒤 한 번에 flush
+ * 4. 다음 요청 바이트를 기다림 (유휴 시간 초과, 최대 요청 수 도달, Connection: close면 종료)
+ *    요청 하나는 첫 바이트부터 requestReadTimeout 안에 다 도착해야 함 (읽을 때마다 다시 시작하는 유휴 시간과 별개)
+ *
+ * 읽기 버퍼는 연결마다 하나이며, 처리한 요청 바이트는 버퍼 앞쪽으로 당겨서 재사용합니다.
+ *
+ * 스트리밍 응답(SSE 등)은 헤더를 보낸 뒤 연결을 StreamingBody에 넘기고 워커 스레드를 반환합니다.
+ * 이후 연결은 StreamingBody가 닫습니다.
+ *
+ * 등록된 WebSocket 엔드포인트로 온 업그레이드 요청은 Dispatcher를 거치지 않고 101 응답 후
+ * 연결을 WebSocketEndpointRegistry에 넘깁니다. (업그레이드 요청 뒤에 이미 읽은 바이트는 프레임으로 전달)
+ */
+public class HttpConnection implements Runnable {
+
+    private final Socket socket;
+    private final Dispatcher dispatcher;
+    private final ServerConfig config;
+    private final HttpRequestParser parser;
+    private final WinterServer server;
+
+    private byte[] buffer;
+    private int start; // 아직 처리하지 않은 데이터 시작
+    private int end;   // 읽은 데이터 끝 (제외)
+    private int served;
+    private BufferedOutputStream out;
+    private boolean handedOff; // 연결을 스트리밍 본문에 넘겼으면 true (여기서 닫지 않음)
+    private long requestStartNanos; // 받는 중인 요청의 첫 바이트 시각 (0이면 요청 사이)
+    private int soTimeout;          // 현재 소켓에 설정한 읽기 타임아웃
+
+    public HttpConnection(Socket socket, Dispatcher dispatcher, ServerConfig config, WinterServer server) {
+        this.socket = socket;
+        this.dispatcher = dispatcher;
+        this.config = config;
+        this.parser = new HttpRequestParser(config);
+        this.server = server;
+        this.buffer = new byte[config.getReadBufferSize()];
+    }
+
+    @Override
+    public void run() {
+        try {
+            soTimeout = config.getIdleTimeoutMillis();
+            socket.setSoTimeout(soTimeout);
+            socket.setTcpNoDelay(true);
+
+            InputStream in = socket.getInputStream();
+            out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+            WritableByteChannel channel = Channels.newChannel(out);
+
+            boolean open = true;
+            while (open) {
+                // 1. 버퍼에 있는 완성된 요청을 모두 파싱
+                List<HttpRequestParser.ParsedRequest> batch = new ArrayList<>();
+                HttpRequestParser.RequestParseException parseError = null;
+                try {
+                    HttpRequestParser.ParsedRequest parsed;
+                    while ((parsed = parser.parse(buffer, start, end)) != null) {
+                        batch.add(parsed);
+                        start += parsed.getConsumed();
+                        if (isWebSocketUpgrade(parsed)) {
+                            break; // 이후 바이트는 HTTP가 아니라 WebSocket 프레임
+                        }
+                    }
+                } catch (HttpRequestParser.RequestParseException e) {
+                    parseError = e;
+                }
+
+                if (!batch.isEmpty()) {
+                    // 파이프라인 뒤에 남은 일부 바이트는 새 요청의 시작
+                    requestStartNanos = start < end ? System.nanoTime() : 0;
+                }
+                if (batch.size() > 1) {
+                    server.recordPipelined(batch.size() - 1);
+                }
+
+                // 2. 요청 순서대로 처리하고 응답도 같은 순서로 씀
+                for (HttpRequestParser.ParsedRequest parsed : batch) {
+                    open = handle(parsed, channel);
+                    if (!open) {
+                        break; // Connection: close 이후의 파이프라인 요청은 버림
+                    }
+                }
+
+                if (open && parseError != null) {
+                    writeError(channel, parseError.getStatus(), parseError.getMessage());
+                    open = false;
+                }
+
+                // 3. 묶음 단위로 한 번에 전송 (스트리밍으로 넘긴 연결은 이미 flush됨)
+                if (handedOff) {
+                    break;
+                }
+                out.flush();
+
+                // 4. 다음 요청 대기
+                if (open && !readMore(in)) {
+                    open = false;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("연결 처리 중 오류: " + e.getMessage());
+        } finally {
+            if (!handedOff) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // 이미 닫힌 연결
+                }
+            }
+            server.connectionClosed();
+        }
+    }
+
+    /**
+     * 요청 하나를 처리하고 응답을 씁니다.
+     *
+     * @return 연결을 유지하면 true
+     */
+    private boolean handle(HttpRequestParser.ParsedRequest parsed, WritableByteChannel channel) throws IOException {
+        served++;
+        server.recordRequest(served > 1);
+
+        if (isWebSocketUpgrade(parsed)) {
+            return upgradeToWebSocket(parsed, channel);
+        }
+
+        boolean keepAlive = parsed.isKeepAliveRequested() && served < config.getMaxRequestsPerConnection();
+
+        StandardHttpResponse response = new StandardHttpResponse();
+        if (keepAlive) {
+            response.addHeader("Keep-Alive", "timeout=" + Math.max(1, config.getIdleTimeoutMillis() / 1000) +
+                    ", max=" + (config.getMaxRequestsPerConnection() - served));
+        }
+
+        // 비동기 핸들러도 응답이 완성된 뒤에 써야 파이프라인 응답 순서가 유지됨
+        dispatcher.dispatchAsync(parsed.toHttpRequest(), response).join();
+
+        boolean headRequest = "HEAD".equals(parsed.getMethod());
+        boolean open = response.writeTo(channel, keepAlive, headRequest);
+
+        // 스트리밍 응답: 헤더까지 보낸 뒤 연결을 넘기고 이 연결의 요청 처리는 끝냄
+        StreamingBody streamingBody = response.getStreamingBody();
+        if (streamingBody != null && !headRequest && response.getStatus() == 200) {
+            out.flush();
+            socket.setSoTimeout(0);
+            streamingBody.attach(socket.getOutputStream(), socket);
+            handedOff = true;
+            server.recordStreamingHandoff();
+            return false;
+        }
+        return open;
+    }
+
+    private boolean isWebSocketUpgrade(HttpRequestParser.ParsedRequest parsed) {
+        if (!WebSocketHandshake.isUpgradeRequest(parsed.header("Upgrade"), parsed.header("Connection"))) {
+            return false;
+        }
+        String target = parsed.getTarget();
+        int queryStart = target.indexOf('?');
+        return server.getWebSocketEndpoints().hasEndpoint(queryStart >= 0 ? target.substring(0, queryStart) : target);
+    }
+
+    /**
+     * 101 응답을 보내고 연결을 WebSocket 세션으로 넘깁니다.
+     *
+     * @return 항상 false (이 연결의 HTTP 처리는 끝남)
+     */
+    private boolean upgradeToWebSocket(HttpRequestParser.ParsedRequest parsed, WritableByteChannel channel) throws IOException {
+        String key = parsed.header("Sec-WebSocket-Key");
+        String error = WebSocketHandshake.validate(parsed.getMethod(), key, parsed.header("Sec-WebSocket-Version"));
+        if (error != null) {
+            System.err.println("WebSocket 업그레이드 거부: " + error);
+            StandardHttpResponse response = new StandardHttpResponse();
+            response.setStatus(400);
+            response.addHeader("Sec-WebSocket-Version", WebSocketHandshake.SUPPORTED_VERSION);
+            response.setTextResponse();
+            response.setBody("400 " + error);
+            response.writeTo(channel, false, false);
+            return false;
+        }
+
+        WebSocketEndpointRegistry endpoints = server.getWebSocketEndpoints();
+        if (!endpoints.reserveSession()) {
+            System.err.println("WebSocket 업그레이드 거부: 동시 연결 " + endpoints.getMaxSessions() + "개 초과");
+            StandardHttpResponse response = new StandardHttpResponse();
+            response.setStatus(503);
+            response.addHeader("Retry-After", "5");
+            response.setTextResponse();
+            response.setBody("503 Too many WebSocket connections");
+            response.writeTo(channel, false, false);
+            return false;
+        }
+
+        try {
+            out.write(WebSocketHandshake.switchingProtocolsResponse(key));
+            out.flush();
+
+            // 핸드셰이크 직후 클라이언트가 이미 보낸 프레임이 버퍼에 있을 수 있음
+            InputStream in = socket.getInputStream();
+            if (start < end) {
+                in = new SequenceInputStream(new ByteArrayInputStream(Arrays.copyOfRange(buffer, start, end)), in);
+                start = end;
+            }
+            // 응답 없는 연결은 하트비트가 닫지만, 읽기 스레드가 영원히 블록되지 않도록 타임아웃도 둠
+            socket.setSoTimeout(endpoints.getReadTimeoutMillis());
+            endpoints.open(parsed.getTarget(), parsed.getHeaders(), in, socket.getOutputStream(), socket);
+        } catch (IOException | RuntimeException e) {
+            endpoints.releaseSession();
+            throw e;
+        }
+        handedOff = true;
+        server.recordWebSocketUpgrade();
+        return false;
+    }
+
+    private void writeError(WritableByteChannel channel, int status, String message) throws IOException {
+        System.err.println("잘못된 요청 (" + status + "): " + message);
+        StandardHttpResponse response = new StandardHttpResponse();
+        response.setStatus(status);
+        response.setTextResponse();
+        response.setBody(status + " " + message);
+        response.writeTo(channel, false, false);
+    }
+
+    /**
+     * 소켓에서 데이터를 더 읽습니다. 처리한 데이터는 버퍼 앞으로 당기고, 버퍼가 가득 차면 늘립니다.
+     *
+     * @return 데이터를 읽었으면 true, 연결이 끝났거나 유휴 시간/요청 읽기 제한 시간이 지났으면 false
+     */
+    private boolean readMore(InputStream in) throws IOException {
+        // 받는 중인 요청이 있으면 남은 요청 읽기 시간까지만 기다림
+        int timeout = config.getIdleTimeoutMillis();
+        if (requestStartNanos != 0) {
+            long remaining = config.getRequestReadTimeoutMillis()
+                    - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStartNanos);
+            if (remaining <= 0) {
+                return requestReadTimedOut();
+            }
+            timeout = (int) Math.min(timeout, remaining);
+        }
+        if (timeout != soTimeout) {
+            socket.setSoTimeout(timeout);
+            soTimeout = timeout;
+        }
+
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        if (end == buffer.length) {
+            // 헤더/본문 크기 제한은 파서가 검사하므로 여기서는 필요한 만큼 늘림
+            int limit = config.getMaxHeaderSize() + config.getMaxBodySize() + config.getReadBufferSize();
+            if (buffer.length >= limit) {
+                throw new IOException("Request exceeds buffer limit: " + limit);
+            }
+            buffer = Arrays.copyOf(buffer, (int) Math.min((long) buffer.length * 2, limit));
+        }
+
+        try {
+            int read = in.read(buffer, end, buffer.length - end);
+            if (read < 0) {
+                return false; // 클라이언트가 연결을 닫음
+            }
+            if (requestStartNanos == 0) {
+                requestStartNanos = System.nanoTime();
+            }
+            end += read;
+            return true;
+        } catch (SocketTimeoutException e) {
+            if (requestStartNanos != 0 && System.nanoTime() - requestStartNanos
+                    >= TimeUnit.MILLISECONDS.toNanos(config.getRequestReadTimeoutMillis())) {
+                return requestReadTimedOut();
+            }
+            server.recordIdleTimeout();
+            System.out.println("유휴 시간 초과로 연결 종료 (" + served + "개 요청 처리)");
+            return false;
+        }
+    }
+
+    private boolean requestReadTimedOut() {
+        server.recordRequestReadTimeout();
+        System.out.println("요청 읽기 제한 시간 초과로 연결 종료 (" + config.getRequestReadTimeoutMillis() + "ms, 받은 "
+                + (end - start) + "바이트)");
+        return false;
+    }
+}
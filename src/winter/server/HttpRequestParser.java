@@ -0,0 +1,280 @@
+package winter.server;
+
+import winter.http.HttpRequest;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP/1.1 요청 파서 (파이프라이닝 지원)
+ *
+ * 연결의 읽기 버퍼(byte[] 구간)에서 완성된 요청 하나를 파싱하고 사용한 바이트 수를 돌려줍니다.
+ * 요청이 아직 다 도착하지 않았으면 아무것도 소비하지 않고 null을 반환하므로,
+ * 한 번 읽은 버퍼에 여러 요청이 들어 있으면(파이프라이닝) 반복 호출로 모두 꺼낼 수 있습니다.
+ *
+ * 지원 범위:
+ * - 요청 라인 + 헤더 (ISO-8859-1), Content-Length 본문
+ * - Content-Length가 여러 개이거나 숫자가 아닌 값, 이름에 공백이 있는 헤더는 400
+ * - Transfer-Encoding 요청 본문은 지원하지 않음 (501)
+ */
+public class HttpRequestParser {
+
+    private final int maxHeaderSize;
+    private final int maxBodySize;
+
+    public HttpRequestParser(ServerConfig config) {
+        this.maxHeaderSize = config.getMaxHeaderSize();
+        this.maxBodySize = config.getMaxBodySize();
+    }
+
+    /**
+     * 파싱된 요청 하나
+     */
+    public static final class ParsedRequest {
+        private final String method;
+        private final String target;
+        private final String version;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final int consumed;
+
+        private ParsedRequest(String method, String target, String version,
+                              Map<String, String> headers, byte[] body, int consumed) {
+            this.method = method;
+            this.target = target;
+            this.version = version;
+            this.headers = headers;
+            this.body = body;
+            this.consumed = consumed;
+        }
+
+        public String getMethod() { return method; }
+        public String getTarget() { return target; }
+        public String getVersion() { return version; }
+        public Map<String, String> getHeaders() { return headers; }
+        public byte[] getBody() { return body; }
+
+        /**
+         * 이 요청이 버퍼에서 차지한 바이트 수 (요청 라인 ~ 본문 끝)
+         */
+        public int getConsumed() { return consumed; }
+
+        /**
+         * 클라이언트가 연결 유지를 원하는지 확인합니다.
+         * HTTP/1.1은 "Connection: close"가 없으면 유지, HTTP/1.0은 "Connection: keep-alive"일 때만 유지
+         */
+        public boolean isKeepAliveRequested() {
+            String connection = header("Connection");
+            if ("HTTP/1.1".equals(version)) {
+                return connection == null || !containsToken(connection, "close");
+            }
+            return connection != null && containsToken(connection, "keep-alive");
+        }
+
+        public String header(String name) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(name)) {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 프레임워크 요청 객체로 변환합니다.
+         * application/x-www-form-urlencoded 본문은 쿼리 문자열과 같은 방식으로 파라미터에 포함됩니다.
+         */
+        public HttpRequest toHttpRequest() {
+            String text = new String(body, StandardCharsets.UTF_8);
+            String rawPath = target;
+
+            String contentType = header("Content-Type");
+            if (body.length > 0 && contentType != null &&
+                    contentType.toLowerCase().startsWith("application/x-www-form-urlencoded")) {
+                rawPath = target + (target.indexOf('?') >= 0 ? "&" : "?") + text;
+            }
+
+            HttpRequest request = new HttpRequest(rawPath, method, headers, null, new BufferedReader(new StringReader(text)));
+            request.setRawBody(body); // 바이너리 본문(이어 받기 청크 등)은 원본 바이트로 읽음
+            return request;
+        }
+
+        private static boolean containsToken(String value, String token) {
+            for (String part : value.split(",")) {
+                if (part.trim().equalsIgnoreCase(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 요청 파싱 실패 (응답 상태 코드 포함, 응답 후 연결을 닫아야 함)
+     */
+    public static final class RequestParseException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        public RequestParseException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * 버퍼 구간에서 요청 하나를 파싱합니다.
+     *
+     * @param data 읽기 버퍼
+     * @param start 읽지 않은 데이터 시작 위치
+     * @param end 읽은 데이터 끝 위치 (제외)
+     * @return 파싱된 요청, 아직 요청이 다 도착하지 않았으면 null
+     * @throws RequestParseException 요청 형식 오류 또는 크기 제한 초과
+     */
+    public ParsedRequest parse(byte[] data, int start, int end) throws RequestParseException {
+        // 요청 사이의 빈 줄은 무시 (RFC 7230 3.5)
+        int begin = start;
+        while (begin + 1 < end && data[begin] == '\r' && data[begin + 1] == '\n') {
+            begin += 2;
+        }
+
+        int headerEnd = indexOfHeaderEnd(data, begin, end);
+        if (headerEnd < 0) {
+            if (end - begin > maxHeaderSize) {
+                throw new RequestParseException(431, "Request header too large");
+            }
+            return null;
+        }
+        if (headerEnd - begin > maxHeaderSize) {
+            throw new RequestParseException(431, "Request header too large");
+        }
+
+        // 요청 라인
+        int lineEnd = indexOfCrlf(data, begin, headerEnd);
+        String requestLine = new String(data, begin, lineEnd - begin, StandardCharsets.ISO_8859_1);
+        int firstSpace = requestLine.indexOf(' ');
+        int lastSpace = requestLine.lastIndexOf(' ');
+        if (firstSpace <= 0 || lastSpace <= firstSpace) {
+            throw new RequestParseException(400, "Malformed request line: " + requestLine);
+        }
+        String method = requestLine.substring(0, firstSpace);
+        String target = requestLine.substring(firstSpace + 1, lastSpace);
+        String version = requestLine.substring(lastSpace + 1);
+        if (!version.equals("HTTP/1.1") && !version.equals("HTTP/1.0")) {
+            throw new RequestParseException(505, "Unsupported HTTP version: " + version);
+        }
+
+        // 헤더
+        Map<String, String> headers = new LinkedHashMap<>();
+        int contentLength = -1;
+        int lineStart = lineEnd + 2;
+        while (lineStart < headerEnd) {
+            int next = indexOfCrlf(data, lineStart, headerEnd);
+            int colon = indexOf(data, (byte) ':', lineStart, next);
+            if (colon <= lineStart) {
+                throw new RequestParseException(400, "Malformed header line");
+            }
+            // 이름과 콜론 사이 공백, 줄 앞 공백(obs-fold)은 요청 스머글링에 쓰이므로 거부 (RFC 9112 5.1, 5.2)
+            if (containsWhitespace(data, lineStart, colon)) {
+                throw new RequestParseException(400, "Whitespace in header name");
+            }
+            String name = new String(data, lineStart, colon - lineStart, StandardCharsets.ISO_8859_1);
+            String value = new String(data, colon + 1, next - colon - 1, StandardCharsets.ISO_8859_1).trim();
+            if (name.equalsIgnoreCase("Transfer-Encoding")) {
+                throw new RequestParseException(501, "Transfer-Encoding request bodies are not supported");
+            }
+            if (name.equalsIgnoreCase("Content-Length")) {
+                // 대소문자만 다른 이름으로 반복해도 같은 헤더 (여러 개면 본문 경계가 모호해지므로 400, RFC 9112 6.3)
+                if (contentLength >= 0) {
+                    throw new RequestParseException(400, "Multiple Content-Length headers");
+                }
+                contentLength = parseContentLength(value);
+            }
+            headers.put(name, value);
+            lineStart = next + 2;
+        }
+
+        // 본문 (Content-Length)
+        int bodyStart = headerEnd + 4;
+        if (contentLength < 0) {
+            contentLength = 0;
+        }
+        if (contentLength > maxBodySize) {
+            throw new RequestParseException(413, "Request body too large: " + contentLength);
+        }
+        if (end - bodyStart < contentLength) {
+            return null; // 본문이 아직 다 도착하지 않음
+        }
+
+        byte[] body = new byte[contentLength];
+        System.arraycopy(data, bodyStart, body, 0, contentLength);
+        return new ParsedRequest(method, target, version, headers, body, bodyStart + contentLength - start);
+    }
+
+    // 숫자만 허용 ("+5", "5, 5" 같은 값은 거부)
+    private static int parseContentLength(String value) throws RequestParseException {
+        if (value.isEmpty()) {
+            throw new RequestParseException(400, "Invalid Content-Length: " + value);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new RequestParseException(400, "Invalid Content-Length: " + value);
+            }
+        }
+        try {
+            long length = Long.parseLong(value);
+            if (length < 0 || length > Integer.MAX_VALUE) {
+                throw new RequestParseException(400, "Invalid Content-Length: " + value);
+            }
+            return (int) length;
+        } catch (NumberFormatException e) {
+            throw new RequestParseException(400, "Invalid Content-Length: " + value);
+        }
+    }
+
+    private static int indexOfHeaderEnd(byte[] data, int start, int end) {
+        for (int i = start; i + 3 < end; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n' && data[i + 2] == '\r' && data[i + 3] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // end 위치에는 항상 헤더 끝의 CRLF가 있으므로 end까지 검사해도 범위를 벗어나지 않음
+    private static int indexOfCrlf(byte[] data, int start, int end) {
+        for (int i = start; i <= end; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private static boolean containsWhitespace(byte[] data, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (data[i] == ' ' || data[i] == '\t') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] data, byte value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,190 @@
+package winter.server;
+
+/**
+ * HTTP 서버(소켓 계층) 설정을 관리하는 클래스
+ *
+ * 포트, 워커 스레드 수, 지속 연결(keep-alive) 관련 제한 등을 설정합니다.
+ */
+public class ServerConfig {
+
+    // 기본 설정값들
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_WORKER_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int DEFAULT_IDLE_TIMEOUT_MILLIS = 5_000;           // 5초
+    private static final int DEFAULT_MAX_REQUESTS_PER_CONNECTION = 100;
+    private static final int DEFAULT_MAX_HEADER_SIZE = 8 * 1024;            // 8KB
+    private static final int DEFAULT_MAX_BODY_SIZE = 10 * 1024 * 1024;      // 10MB
+    private static final int DEFAULT_READ_BUFFER_SIZE = 8 * 1024;           // 8KB
+    private static final int DEFAULT_REQUEST_READ_TIMEOUT_MILLIS = 30_000;  // 30초
+    private static final int DEFAULT_MAX_CONNECTIONS = 512;
+
+    private int port;
+    private int workerThreads;
+    private int idleTimeoutMillis;
+    private int maxRequestsPerConnection;
+    private int maxHeaderSize;
+    private int maxBodySize;
+    private int readBufferSize;
+    private int requestReadTimeoutMillis;
+    private int maxConnections;
+
+    /**
+     * 기본 설정으로 ServerConfig를 생성합니다.
+     */
+    public ServerConfig() {
+        this.port = DEFAULT_PORT;
+        this.workerThreads = DEFAULT_WORKER_THREADS;
+        this.idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+        this.maxRequestsPerConnection = DEFAULT_MAX_REQUESTS_PER_CONNECTION;
+        this.maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
+        this.maxBodySize = DEFAULT_MAX_BODY_SIZE;
+        this.readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+        this.requestReadTimeoutMillis = DEFAULT_REQUEST_READ_TIMEOUT_MILLIS;
+        this.maxConnections = DEFAULT_MAX_CONNECTIONS;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * 수신 포트를 설정합니다. (0이면 임의의 빈 포트)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setPort(int port) {
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Invalid port: " + port);
+        }
+        this.port = port;
+        return this;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * 연결을 처리하는 워커 스레드 수를 설정합니다. (동시에 처리할 수 있는 연결 수)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setWorkerThreads(int workerThreads) {
+        this.workerThreads = Math.max(1, workerThreads);
+        return this;
+    }
+
+    public int getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    /**
+     * 지속 연결에서 다음 요청을 기다리는 최대 시간을 설정합니다. (넘으면 연결 종료)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setIdleTimeoutMillis(int idleTimeoutMillis) {
+        this.idleTimeoutMillis = Math.max(1, idleTimeoutMillis);
+        return this;
+    }
+
+    public int getMaxRequestsPerConnection() {
+        return maxRequestsPerConnection;
+    }
+
+    /**
+     * 연결 하나에서 처리할 최대 요청 수를 설정합니다. (마지막 응답에 Connection: close)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setMaxRequestsPerConnection(int maxRequestsPerConnection) {
+        this.maxRequestsPerConnection = Math.max(1, maxRequestsPerConnection);
+        return this;
+    }
+
+    public int getMaxHeaderSize() {
+        return maxHeaderSize;
+    }
+
+    /**
+     * 요청 라인 + 헤더의 최대 크기를 설정합니다. (넘으면 431)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setMaxHeaderSize(int maxHeaderSize) {
+        this.maxHeaderSize = Math.max(256, maxHeaderSize);
+        return this;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * 요청 본문의 최대 크기를 설정합니다. (넘으면 413)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setMaxBodySize(int maxBodySize) {
+        this.maxBodySize = Math.max(0, maxBodySize);
+        return this;
+    }
+
+    public int getReadBufferSize() {
+        return readBufferSize;
+    }
+
+    /**
+     * 연결별 읽기 버퍼의 초기 크기를 설정합니다. (큰 요청이 오면 필요한 만큼 늘어남)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setReadBufferSize(int readBufferSize) {
+        this.readBufferSize = Math.max(512, readBufferSize);
+        return this;
+    }
+
+    public int getRequestReadTimeoutMillis() {
+        return requestReadTimeoutMillis;
+    }
+
+    /**
+     * 요청 하나(헤더 + 본문)를 다 받을 때까지의 최대 시간을 설정합니다.
+     * 첫 바이트부터 재며, 조금씩 보내 유휴 시간 초과를 피하는 느린 클라이언트도 이 시간이 지나면 연결을 닫습니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setRequestReadTimeoutMillis(int requestReadTimeoutMillis) {
+        this.requestReadTimeoutMillis = Math.max(1, requestReadTimeoutMillis);
+        return this;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * 동시에 받을 최대 연결 수를 설정합니다. (처리 중 + 워커를 기다리는 연결, 넘으면 503으로 거부)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public ServerConfig setMaxConnections(int maxConnections) {
+        this.maxConnections = Math.max(1, maxConnections);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerConfig{" +
+                "port=" + port +
+                ", workerThreads=" + workerThreads +
+                ", idleTimeoutMillis=" + idleTimeoutMillis +
+                ", maxRequestsPerConnection=" + maxRequestsPerConnection +
+                ", maxHeaderSize=" + maxHeaderSize +
+                ", maxBodySize=" + maxBodySize +
+                ", readBufferSize=" + readBufferSize +
+                ", requestReadTimeoutMillis=" + requestReadTimeoutMillis +
+                ", maxConnections=" + maxConnections +
+                '}';
+    }
+}
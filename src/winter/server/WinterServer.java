@@ -0,0 +1,279 @@
+package winter.server;
+
+import winter.dispatcher.Dispatcher;
+import winter.websocket.WebSocketEndpointRegistry;
+
+import winter.http.StandardHttpResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.channels.Channels;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Winter 프레임워크를 실제 소켓으로 서비스하는 HTTP/1.1 서버
+ *
+ * 연결마다 워커 스레드 하나가 HttpConnection으로 여러 요청을 처리합니다. (keep-alive, 파이프라이닝)
+ * 서비스 간 REST 호출처럼 같은 클라이언트가 요청을 반복하는 경우 TCP 연결 수립 비용을 한 번만 냅니다.
+ * @WebSocketEndpoint 경로로 온 업그레이드 요청은 WebSocket 연결로 전환합니다.
+ *
+ * 워커를 기다리는 연결 큐는 유한하며, 동시 연결이 maxConnections를 넘으면 새 연결은 503 응답 후 바로 닫습니다.
+ *
+ * 실행: java -cp out winter.server.WinterServer [포트] [액세스 로그 파일]
+ * (액세스 로그 파일을 지정하면 콘솔 요청 로그 대신 파일에 요청당 한 줄씩 기록)
+ */
+public class WinterServer {
+
+    private final Dispatcher dispatcher;
+    private final ServerConfig config;
+    private final WebSocketEndpointRegistry webSocketEndpoints;
+
+    private ServerSocket serverSocket;
+    private ExecutorService workers;
+    private Thread acceptor;
+    private volatile boolean running;
+
+    // 통계
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final AtomicLong totalConnections = new AtomicLong();
+    private final AtomicLong totalRequests = new AtomicLong();
+    private final AtomicLong reusedRequests = new AtomicLong();
+    private final AtomicLong pipelinedRequests = new AtomicLong();
+    private final AtomicLong idleTimeouts = new AtomicLong();
+    private final AtomicLong streamingHandoffs = new AtomicLong();
+    private final AtomicLong webSocketUpgrades = new AtomicLong();
+    private final AtomicLong rejectedConnections = new AtomicLong();
+    private final AtomicLong requestReadTimeouts = new AtomicLong();
+
+    public WinterServer(Dispatcher dispatcher, ServerConfig config) {
+        this.dispatcher = dispatcher;
+        this.config = config;
+        this.webSocketEndpoints = new WebSocketEndpointRegistry();
+    }
+
+    /**
+     * 서버를 시작합니다. (수신 스레드는 데몬이 아니므로 stop() 전까지 JVM이 유지됨)
+     *
+     * @throws IOException 포트 바인딩 실패시
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(config.getPort()));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        int pending = Math.max(1, config.getMaxConnections() - config.getWorkerThreads());
+        workers = new ThreadPoolExecutor(config.getWorkerThreads(), config.getWorkerThreads(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(pending), runnable -> {
+                    Thread thread = new Thread(runnable, "winter-http-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        running = true;
+        acceptor = new Thread(this::acceptLoop, "winter-http-acceptor");
+        acceptor.start();
+
+        System.out.println("WinterServer 시작: port=" + getPort() + ", " + config);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (activeConnections.incrementAndGet() > config.getMaxConnections()) {
+                    activeConnections.decrementAndGet();
+                    reject(socket);
+                    continue;
+                }
+                totalConnections.incrementAndGet();
+                try {
+                    workers.execute(new HttpConnection(socket, dispatcher, config, this));
+                } catch (RejectedExecutionException e) {
+                    activeConnections.decrementAndGet();
+                    reject(socket);
+                }
+            } catch (SocketException e) {
+                if (running) {
+                    System.err.println("연결 수락 실패: " + e.getMessage());
+                }
+            } catch (IOException e) {
+                System.err.println("연결 수락 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    // 연결 수 초과: 503만 보내고 닫음 (새 소켓의 송신 버퍼는 비어 있어 작은 응답은 블록되지 않음)
+    private void reject(Socket socket) {
+        rejectedConnections.incrementAndGet();
+        try (socket) {
+            StandardHttpResponse response = new StandardHttpResponse();
+            response.setStatus(503);
+            response.addHeader("Retry-After", "1");
+            response.setTextResponse();
+            response.setBody("503 Too many connections");
+            response.writeTo(Channels.newChannel(socket.getOutputStream()), false, false);
+        } catch (IOException e) {
+            // 클라이언트가 이미 끊음
+        }
+    }
+
+    /**
+     * 서버를 중지합니다. (새 연결을 받지 않고, 처리 중인 연결은 현재 요청까지 처리)
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            System.err.println("서버 소켓 종료 실패: " + e.getMessage());
+        }
+        workers.shutdown();
+        System.out.println("WinterServer 중지: " + this);
+    }
+
+    /**
+     * WebSocket 엔드포인트 레지스트리 (추가 엔드포인트는 start() 전에 registerEndpoint()로 등록)
+     */
+    public WebSocketEndpointRegistry getWebSocketEndpoints() {
+        return webSocketEndpoints;
+    }
+
+    /**
+     * 실제 수신 중인 포트 (설정 포트가 0이면 할당된 포트)
+     */
+    public int getPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : config.getPort();
+    }
+
+    // ===== HttpConnection이 호출하는 통계 메서드 =====
+
+    void recordRequest(boolean reused) {
+        totalRequests.incrementAndGet();
+        if (reused) {
+            reusedRequests.incrementAndGet();
+        }
+    }
+
+    void recordPipelined(int count) {
+        pipelinedRequests.addAndGet(count);
+    }
+
+    void recordIdleTimeout() {
+        idleTimeouts.incrementAndGet();
+    }
+
+    void recordStreamingHandoff() {
+        streamingHandoffs.incrementAndGet();
+    }
+
+    void recordWebSocketUpgrade() {
+        webSocketUpgrades.incrementAndGet();
+    }
+
+    void recordRequestReadTimeout() {
+        requestReadTimeouts.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        activeConnections.decrementAndGet();
+    }
+
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    public long getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    public long getTotalRequests() {
+        return totalRequests.get();
+    }
+
+    /**
+     * 기존 연결을 재사용하여 처리한 요청 수 (연결의 두 번째 이후 요청)
+     */
+    public long getReusedRequests() {
+        return reusedRequests.get();
+    }
+
+    public long getPipelinedRequests() {
+        return pipelinedRequests.get();
+    }
+
+    public long getIdleTimeouts() {
+        return idleTimeouts.get();
+    }
+
+    /**
+     * 스트리밍 응답(SSE 등)에 넘긴 연결 수 (워커 스레드 없이 열려 있음)
+     */
+    public long getStreamingHandoffs() {
+        return streamingHandoffs.get();
+    }
+
+    /**
+     * WebSocket으로 전환한 연결 수
+     */
+    public long getWebSocketUpgrades() {
+        return webSocketUpgrades.get();
+    }
+
+    /**
+     * 연결 수 초과로 503 응답 후 닫은 연결 수
+     */
+    public long getRejectedConnections() {
+        return rejectedConnections.get();
+    }
+
+    /**
+     * 요청을 제한 시간 안에 다 보내지 못해 닫은 연결 수
+     */
+    public long getRequestReadTimeouts() {
+        return requestReadTimeouts.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WinterServer{" +
+                "port=" + getPort() +
+                ", activeConnections=" + activeConnections.get() +
+                ", totalConnections=" + totalConnections.get() +
+                ", totalRequests=" + totalRequests.get() +
+                ", reusedRequests=" + reusedRequests.get() +
+                ", pipelinedRequests=" + pipelinedRequests.get() +
+                ", idleTimeouts=" + idleTimeouts.get() +
+                ", streamingHandoffs=" + streamingHandoffs.get() +
+                ", webSocketUpgrades=" + webSocketUpgrades.get() +
+                ", rejectedConnections=" + rejectedConnections.get() +
+                ", requestReadTimeouts=" + requestReadTimeouts.get() +
+                '}';
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        Dispatcher dispatcher = new Dispatcher(args.length > 1 ? args[1] : null);
+        WinterServer server = new WinterServer(dispatcher, new ServerConfig().setPort(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            dispatcher.shutdown();
+        }));
+        server.start();
+    }
+}
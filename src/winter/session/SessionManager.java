@@ -2,6 +2,8 @@ package winter.session;
 
 import winter.http.HttpSession;
 import winter.http.StandardHttpSession;
+import winter.metrics.FrameworkMetrics;
+import winter.metrics.MetricRegistry;
 
 import java.security.SecureRandom;
 import java.util.Map;
@@ -9,6 +11,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 세션의 생명주기를 관리하는 중앙 관리자
@@ -20,10 +23,10 @@ public class SessionManager {
     private final ScheduledExecutorService cleanupExecutor;
     private final SecureRandom secureRandom = new SecureRandom();
 
-    // 통계 정보
-    private volatile long totalSessionsCreated = 0;
-    private volatile long totalSessionsExpired = 0;
-    private volatile long totalSessionsInvalidated = 0;
+    // 통계 정보 (요청 스레드와 정리 스레드가 동시에 증가시키므로 LongAdder 사용)
+    private final LongAdder totalSessionsCreated = new LongAdder();
+    private final LongAdder totalSessionsExpired = new LongAdder();
+    private final LongAdder totalSessionsInvalidated = new LongAdder();
 
     /**
      * SessionManager 생성자
@@ -51,6 +54,10 @@ public class SessionManager {
                 config.getCleanupInterval(),
                 TimeUnit.SECONDS
         );
+
+        // 활성 세션 수 게이지 (가장 최근에 만든 SessionManager 기준)
+        MetricRegistry.getDefault().gauge("winter_sessions_active", "Sessions currently held in memory",
+                sessions::size);
     }
 
     /**
@@ -62,7 +69,8 @@ public class SessionManager {
         StandardHttpSession session = new StandardHttpSession(sessionId, config.getMaxInactiveInterval());
 
         sessions.put(sessionId, session);
-        totalSessionsCreated++;
+        totalSessionsCreated.increment();
+        FrameworkMetrics.SESSIONS_CREATED.get().inc();
 
         return session;
     }
@@ -86,7 +94,8 @@ public class SessionManager {
             } else {
                 // 무효하거나 만료된 세션 제거
                 removeSession(sessionId);
-                totalSessionsExpired++;
+                totalSessionsExpired.increment();
+                FrameworkMetrics.SESSIONS_EXPIRED.get().inc();
             }
         }
 
@@ -101,7 +110,7 @@ public class SessionManager {
         if (sessionId != null) {
             StandardHttpSession removed = sessions.remove(sessionId);
             if (removed != null) {
-                totalSessionsInvalidated++;
+                totalSessionsInvalidated.increment();
             }
         }
     }
@@ -132,7 +141,8 @@ public class SessionManager {
             if (!session.isValid()) {
                 sessions.remove(entry.getKey());
                 expiredCount++;
-                totalSessionsExpired++;
+                totalSessionsExpired.increment();
+                FrameworkMetrics.SESSIONS_EXPIRED.get().inc();
             }
         }
 
@@ -158,7 +168,7 @@ public class SessionManager {
                 }
             }
         }
-        totalSessionsInvalidated += invalidatedCount;
+        totalSessionsInvalidated.add(invalidatedCount);
         sessions.clear();
     }
 
@@ -231,21 +241,21 @@ public class SessionManager {
      * 총 생성된 세션 수
      */
     public long getTotalSessionsCreated() {
-        return totalSessionsCreated;
+        return totalSessionsCreated.sum();
     }
 
     /**
      * 총 만료된 세션 수
      */
     public long getTotalSessionsExpired() {
-        return totalSessionsExpired;
+        return totalSessionsExpired.sum();
     }
 
     /**
      * 총 무효화된 세션 수
      */
     public long getTotalSessionsInvalidated() {
-        return totalSessionsInvalidated;
+        return totalSessionsInvalidated.sum();
     }
 
     /**
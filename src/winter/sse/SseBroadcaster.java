@@ -0,0 +1,143 @@
+package winter.sse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 SSE 구독자에게 같은 이벤트를 보내는 브로드캐스터
+ *
+ * - subscribe()로 만든 emitter를 구독자 집합에 보관하고, 스트림이 끝나면 자동으로 제거
+ * - broadcast()는 이벤트를 한 번만 인코딩하여 같은 프레임을 각 구독자 큐에 넣고 바로 반환
+ * - 큐가 가득 찬 구독자(느린 소비자)는 끊어서 다른 구독자의 전송이 밀리지 않게 함
+ *
+ * 사용 예:
+ * private static final SseBroadcaster PRICES = new SseBroadcaster("prices");
+ *
+ * public SseEmitter subscribe() { return PRICES.subscribe(); }
+ * void onPriceChanged(Quote quote) { PRICES.broadcast(SseEmitter.event().name("price").data(quote)); }
+ */
+public class SseBroadcaster {
+
+    private final String name;
+    private final long subscriberTimeoutMillis;
+    private final int queueCapacity;
+
+    private final Set<SseEmitter> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 통계
+    private final AtomicLong totalSubscriptions = new AtomicLong();
+    private final AtomicLong broadcasts = new AtomicLong();
+    private final AtomicLong deliveredFrames = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * 타임아웃 없는 구독자, 기본 큐 크기로 브로드캐스터를 생성합니다.
+     */
+    public SseBroadcaster(String name) {
+        this(name, 0, SseEmitter.DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param name 이름 (로그용)
+     * @param subscriberTimeoutMillis 구독 최대 유지 시간 (0 이하면 무제한, 클라이언트는 재연결)
+     * @param queueCapacity 구독자별 전송 대기 프레임 최대 개수
+     */
+    public SseBroadcaster(String name, long subscriberTimeoutMillis, int queueCapacity) {
+        this.name = name;
+        this.subscriberTimeoutMillis = subscriberTimeoutMillis;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 새 구독자를 등록하고 핸들러가 반환할 emitter를 돌려줍니다.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(subscriberTimeoutMillis, queueCapacity);
+        emitter.onCompletion(() -> {
+            if (subscribers.remove(emitter) && emitter.isEvicted()) {
+                evictions.incrementAndGet();
+            }
+        });
+        subscribers.add(emitter);
+        totalSubscriptions.incrementAndGet();
+        System.out.println("SSE 구독 [" + name + "]: 현재 " + subscribers.size() + "명");
+        return emitter;
+    }
+
+    /**
+     * 데이터만 있는 이벤트를 모든 구독자에게 보냅니다.
+     *
+     * @return 큐에 넣은 구독자 수
+     */
+    public int broadcast(Object data) {
+        return broadcast(SseEmitter.event().data(data));
+    }
+
+    /**
+     * 이벤트를 모든 구독자에게 보냅니다. (인코딩은 한 번만, 전송은 writer 스레드가 처리)
+     *
+     * @return 큐에 넣은 구독자 수
+     */
+    public int broadcast(SseEvent event) {
+        byte[] frame = event.encode();
+        int delivered = 0;
+        for (SseEmitter emitter : subscribers) {
+            if (emitter.offer(frame)) {
+                delivered++;
+            }
+        }
+        broadcasts.incrementAndGet();
+        deliveredFrames.addAndGet(delivered);
+        return delivered;
+    }
+
+    /**
+     * 모든 구독자의 스트림을 정상 종료합니다. (남은 이벤트는 보낸 뒤 종료)
+     */
+    public void close() {
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        System.out.println("SSE 브로드캐스터 종료 [" + name + "]");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getTotalSubscriptions() {
+        return totalSubscriptions.get();
+    }
+
+    public long getBroadcasts() {
+        return broadcasts.get();
+    }
+
+    public long getDeliveredFrames() {
+        return deliveredFrames.get();
+    }
+
+    /**
+     * 느린 소비자로 끊은 구독자 수
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "SseBroadcaster{" +
+                "name='" + name + '\'' +
+                ", subscribers=" + subscribers.size() +
+                ", totalSubscriptions=" + totalSubscriptions.get() +
+                ", broadcasts=" + broadcasts.get() +
+                ", deliveredFrames=" + deliveredFrames.get() +
+                ", evictions=" + evictions.get() +
+                '}';
+    }
+}
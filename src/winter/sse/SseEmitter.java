@@ -0,0 +1,405 @@
+package winter.sse;
+
+import winter.http.StreamingBody;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Server-Sent Events 스트림 하나 (@RestController 메서드의 반환 타입)
+ *
+ * 핸들러가 SseEmitter를 반환하면 응답 헤더(text/event-stream)만 보내고 연결을 열어 둔 채
+ * send()로 넣은 이벤트를 프레임 단위로 계속 씁니다. 폴링 대신 서버가 변경 사항을 밀어줄 때 사용합니다.
+ *
+ * 사용 예:
+ * public SseEmitter stream() {
+ *     SseEmitter emitter = new SseEmitter(60_000);
+ *     emitter.send(SseEmitter.event().name("init").data(snapshot));
+ *     return emitter;
+ * }
+ *
+ * 전송 구조:
+ * - send()는 프레임을 클라이언트별 유한 큐에 넣기만 하고 바로 반환 (보내는 쪽 스레드는 블록되지 않음)
+ * - 공용 writer 스레드 풀이 큐를 비우며 모아서 쓰고 한 번 flush
+ * - 큐가 가득 차면(느린 소비자) 그 클라이언트를 끊음 - 다른 구독자나 보내는 쪽이 느려지지 않도록
+ * - 하트비트와 타임아웃은 SseHeartbeatScheduler 스레드 하나가 모든 emitter를 처리
+ * - 쓰기 마감: 한 번의 drain이 writeTimeout을 넘기거나, 보낼 프레임이 있는데 writeTimeout 동안 한 번도
+ *   쓰지 못하면 죽은 연결로 보고 소켓을 닫음 (막힌 write가 예외로 풀려 공용 writer 스레드가 반환됨)
+ *
+ * 연결에 붙기 전에 보낸 이벤트도 큐에 있다가 연결되면 전송됩니다.
+ * 인터셉터의 afterCompletion은 응답 헤더를 보낼 때 실행되며, 스트림 종료는 onCompletion()으로 받습니다.
+ */
+public class SseEmitter implements StreamingBody {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    public static final long DEFAULT_HEARTBEAT_MILLIS = 15_000;
+    public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 10_000;
+
+    // 연결에 붙지 못한 emitter(소켓 없이 dispatch된 경우 등)를 정리하기까지의 시간
+    private static final long ATTACH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static final byte[] HEARTBEAT_FRAME = ": heartbeat\n\n".getBytes(StandardCharsets.US_ASCII);
+
+    // 모든 emitter가 공유하는 전송 스레드 풀 (클라이언트 수와 무관하게 고정)
+    private static final ExecutorService WRITERS = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "winter-sse-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final int OPEN = 0;
+    private static final int COMPLETING = 1; // complete() 호출됨: 남은 프레임을 보낸 뒤 닫음
+    private static final int CLOSED = 2;
+
+    private final long timeoutMillis;
+    private final ArrayBlockingQueue<byte[]> queue;
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final long createdNanos = System.nanoTime();
+
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Runnable> timeoutCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Throwable>> errorCallbacks = new CopyOnWriteArrayList<>();
+
+    private volatile long heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_HEARTBEAT_MILLIS);
+    private volatile long writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_WRITE_TIMEOUT_MILLIS);
+    private volatile long lastWriteNanos = createdNanos;
+    private volatile long drainStartNanos;   // 실행 중인 drain의 시작 시각 (0이면 실행 중 아님)
+    private volatile long pendingSinceNanos; // 큐가 빈 상태에서 처음 프레임이 들어온 시각 (0이면 큐가 빔)
+    private volatile OutputStream out;
+    private volatile Closeable connection;
+    private volatile boolean evicted;
+
+    /**
+     * 타임아웃 없는 emitter를 생성합니다.
+     */
+    public SseEmitter() {
+        this(0);
+    }
+
+    /**
+     * @param timeoutMillis 스트림 최대 유지 시간 (0 이하면 무제한)
+     */
+    public SseEmitter(long timeoutMillis) {
+        this(timeoutMillis, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param timeoutMillis 스트림 최대 유지 시간 (0 이하면 무제한)
+     * @param queueCapacity 전송 대기 프레임 최대 개수 (넘으면 느린 소비자로 보고 연결 종료)
+     */
+    public SseEmitter(long timeoutMillis, int queueCapacity) {
+        this.timeoutMillis = timeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        SseHeartbeatScheduler.register(this);
+    }
+
+    /**
+     * 새 이벤트 빌더를 생성합니다.
+     */
+    public static SseEvent event() {
+        return new SseEvent();
+    }
+
+    /**
+     * 데이터만 있는 이벤트를 보냅니다. (문자열은 그대로, 그 밖의 객체는 JSON)
+     *
+     * @throws IOException 스트림이 이미 끝났거나 느린 소비자로 끊긴 경우
+     */
+    public void send(Object data) throws IOException {
+        send(event().data(data));
+    }
+
+    /**
+     * 이벤트를 전송 큐에 넣습니다. (실제 전송은 writer 스레드가 처리)
+     *
+     * @throws IOException 스트림이 이미 끝났거나 느린 소비자로 끊긴 경우
+     */
+    public void send(SseEvent event) throws IOException {
+        if (!offer(event.encode())) {
+            throw new IOException(evicted ? "SSE client evicted (slow consumer)" : "SSE stream already closed");
+        }
+    }
+
+    /**
+     * 인코딩된 프레임을 큐에 넣습니다. (브로드캐스트는 한 번 인코딩한 프레임을 공유)
+     *
+     * @return 큐에 넣었으면 true, 닫혔거나 큐가 가득 차 연결을 끊었으면 false
+     */
+    boolean offer(byte[] frame) {
+        if (state.get() != OPEN) {
+            return false;
+        }
+        if (pendingSinceNanos == 0) {
+            pendingSinceNanos = System.nanoTime();
+        }
+        if (!queue.offer(frame)) {
+            evicted = true;
+            System.out.println("SSE 느린 소비자 연결 종료 (대기 프레임 " + queue.size() + "개)");
+            close(new IOException("Slow consumer: send queue full (" + queue.size() + " frames)"));
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 남은 이벤트를 모두 보낸 뒤 스트림을 정상 종료합니다.
+     */
+    public void complete() {
+        if (state.compareAndSet(OPEN, COMPLETING)) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 남은 이벤트를 버리고 오류로 스트림을 종료합니다.
+     */
+    public void completeWithError(Throwable error) {
+        close(error);
+    }
+
+    /**
+     * 하트비트 간격을 설정합니다. (0 이하면 하트비트 없음)
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public SseEmitter setHeartbeatInterval(long heartbeatMillis) {
+        this.heartbeatNanos = heartbeatMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(heartbeatMillis) : 0;
+        return this;
+    }
+
+    /**
+     * 쓰기 마감 시간을 설정합니다. (기본 10초)
+     * 프레임 전송이 이 시간 안에 끝나지 않으면 소켓을 닫고 오류로 종료합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public SseEmitter setWriteTimeout(long writeTimeoutMillis) {
+        if (writeTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("writeTimeoutMillis must be positive: " + writeTimeoutMillis);
+        }
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        return this;
+    }
+
+    /**
+     * 스트림이 끝났을 때 (정상, 오류, 타임아웃, 클라이언트 종료 모두) 실행할 콜백을 등록합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public SseEmitter onCompletion(Runnable callback) {
+        completionCallbacks.add(callback);
+        return this;
+    }
+
+    /**
+     * 타임아웃 시 (스트림 종료 전에) 실행할 콜백을 등록합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public SseEmitter onTimeout(Runnable callback) {
+        timeoutCallbacks.add(callback);
+        return this;
+    }
+
+    /**
+     * 오류로 끝났을 때 (쓰기 실패, 느린 소비자, completeWithError) 실행할 콜백을 등록합니다.
+     *
+     * @return 체이닝을 위한 this 객체
+     */
+    public SseEmitter onError(Consumer<Throwable> callback) {
+        errorCallbacks.add(callback);
+        return this;
+    }
+
+    /**
+     * 소켓 계층이 응답 헤더를 보낸 뒤 호출합니다. 대기 중인 이벤트부터 전송을 시작합니다.
+     */
+    @Override
+    public void attach(OutputStream out, Closeable connection) {
+        this.connection = connection;
+        this.out = new BufferedOutputStream(out, 8192);
+        this.lastWriteNanos = System.nanoTime();
+        if (state.get() == CLOSED) {
+            closeQuietly(connection); // 붙기 전에 이미 끝난 스트림
+            return;
+        }
+        System.out.println("SSE 스트림 연결됨 (대기 프레임 " + queue.size() + "개)");
+        scheduleDrain();
+    }
+
+    public boolean isOpen() {
+        return state.get() == OPEN;
+    }
+
+    /**
+     * 느린 소비자로 판단되어 끊겼는지 확인합니다.
+     */
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * 아직 전송하지 못한 프레임 수
+     */
+    public int getQueuedFrames() {
+        return queue.size();
+    }
+
+    private void scheduleDrain() {
+        if (out != null && state.get() != CLOSED && draining.compareAndSet(false, true)) {
+            try {
+                WRITERS.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                close(e);
+            }
+        }
+    }
+
+    /**
+     * 큐에 쌓인 프레임을 모두 쓰고 한 번 flush합니다. (emitter당 동시에 하나만 실행)
+     */
+    private void drain() {
+        drainStartNanos = System.nanoTime();
+        try {
+            OutputStream target = out;
+            int written = 0;
+            byte[] frame;
+            while ((frame = queue.poll()) != null) {
+                target.write(frame);
+                written++;
+            }
+            if (written > 0) {
+                target.flush();
+                lastWriteNanos = System.nanoTime();
+            }
+            if (queue.isEmpty()) {
+                pendingSinceNanos = 0;
+            }
+            if (state.get() == COMPLETING && queue.isEmpty()) {
+                close(null);
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊음
+            close(e);
+        } finally {
+            drainStartNanos = 0;
+            draining.set(false);
+        }
+
+        // drain 중에 들어온 프레임이나 complete() 요청을 놓치지 않도록 다시 확인
+        if (state.get() != CLOSED && (!queue.isEmpty() || state.get() == COMPLETING)) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 하트비트 스케줄러가 주기적으로 호출합니다.
+     */
+    void tick(long now) {
+        if (state.get() == CLOSED) {
+            SseHeartbeatScheduler.unregister(this);
+            return;
+        }
+        if (timeoutMillis > 0 && now - createdNanos >= TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) {
+            System.out.println("SSE 스트림 타임아웃 (" + timeoutMillis + "ms)");
+            for (Runnable callback : timeoutCallbacks) {
+                runSafely(callback);
+            }
+            // 남은 프레임을 기다리지 않고 소켓까지 닫음 (쓰기가 막힌 연결도 확실히 정리)
+            close(null);
+            return;
+        }
+        if (out == null) {
+            if (now - createdNanos >= ATTACH_TIMEOUT_NANOS) {
+                close(new IOException("SSE stream was never attached to a connection"));
+            }
+            return;
+        }
+        // 죽은 연결 감지: drain이 마감을 넘겼거나, 보낼 프레임이 쌓였는데 마감 동안 쓰지 못함
+        long writeTimeout = writeTimeoutNanos;
+        long drainStart = drainStartNanos;
+        long pendingSince = pendingSinceNanos;
+        if (pendingSince == 0 && !queue.isEmpty()) {
+            pendingSinceNanos = now; // drain이 0으로 돌린 직후 들어온 프레임
+        }
+        if ((drainStart != 0 && now - drainStart >= writeTimeout)
+                || (pendingSince != 0 && !queue.isEmpty()
+                && now - pendingSince >= writeTimeout && now - lastWriteNanos >= writeTimeout)) {
+            System.out.println("SSE 쓰기 마감 초과 - 연결 종료 (대기 프레임 " + queue.size() + "개)");
+            close(new IOException("SSE write timed out after " + TimeUnit.NANOSECONDS.toMillis(writeTimeout) + "ms"));
+            return;
+        }
+        long heartbeat = heartbeatNanos;
+        if (heartbeat > 0 && state.get() == OPEN && queue.isEmpty() && now - lastWriteNanos >= heartbeat) {
+            offer(HEARTBEAT_FRAME);
+        }
+    }
+
+    private void close(Throwable error) {
+        if (state.getAndSet(CLOSED) == CLOSED) {
+            return;
+        }
+        queue.clear();
+        SseHeartbeatScheduler.unregister(this);
+        Closeable target = connection;
+        if (target != null) {
+            closeQuietly(target);
+        }
+
+        if (error != null) {
+            for (Consumer<Throwable> callback : errorCallbacks) {
+                try {
+                    callback.accept(error);
+                } catch (RuntimeException e) {
+                    System.err.println("SSE onError 콜백 예외: " + e.getMessage());
+                }
+            }
+        }
+        for (Runnable callback : completionCallbacks) {
+            runSafely(callback);
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private static void runSafely(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            System.err.println("SSE 콜백 예외: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        String[] states = {"OPEN", "COMPLETING", "CLOSED"};
+        return "SseEmitter{" +
+                "state=" + states[state.get()] +
+                ", queued=" + queue.size() +
+                ", attached=" + (out != null) +
+                ", timeoutMillis=" + timeoutMillis +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package winter.sse;
+
+import winter.util.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Server-Sent Events 이벤트 하나 (text/event-stream 프레임)
+ *
+ * 사용 예:
+ * SseEmitter.event().id("42").name("price").data(quote)
+ *
+ * 인코딩 결과:
+ * id: 42
+ * event: price
+ * data: {"symbol":"WNTR","price":1000}
+ * (빈 줄)
+ *
+ * 데이터가 문자열이 아니면 JsonSerializer로 직렬화하며, 여러 줄 데이터는 줄마다 "data:" 필드로 나눕니다.
+ * 브로드캐스트할 때는 encode()를 한 번만 호출하고 같은 바이트 배열을 모든 구독자에게 보냅니다.
+ */
+public final class SseEvent {
+
+    private String id;
+    private String name;
+    private Long retryMillis;
+    private String comment;
+    private Object data;
+
+    SseEvent() {
+    }
+
+    /**
+     * 이벤트 ID (클라이언트가 재연결 시 Last-Event-ID 헤더로 보냄)
+     */
+    public SseEvent id(String id) {
+        this.id = id;
+        return this;
+    }
+
+    /**
+     * 이벤트 이름 (클라이언트의 addEventListener(name, ...)로 구분)
+     */
+    public SseEvent name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * 연결이 끊겼을 때 클라이언트가 재연결을 시도할 간격
+     */
+    public SseEvent reconnectTime(long retryMillis) {
+        this.retryMillis = retryMillis;
+        return this;
+    }
+
+    /**
+     * 주석 (클라이언트에는 전달되지 않음)
+     */
+    public SseEvent comment(String comment) {
+        this.comment = comment;
+        return this;
+    }
+
+    /**
+     * 이벤트 데이터 (문자열은 그대로, 그 밖의 객체는 JSON으로 직렬화)
+     */
+    public SseEvent data(Object data) {
+        this.data = data;
+        return this;
+    }
+
+    /**
+     * text/event-stream 프레임으로 인코딩합니다.
+     *
+     * @return UTF-8 프레임 바이트 (빈 줄로 끝남)
+     */
+    public byte[] encode() {
+        StringBuilder frame = new StringBuilder(64);
+        if (comment != null) {
+            appendField(frame, "", comment);
+        }
+        if (id != null) {
+            appendField(frame, "id", id);
+        }
+        if (name != null) {
+            appendField(frame, "event", name);
+        }
+        if (retryMillis != null) {
+            frame.append("retry: ").append(retryMillis).append('\n');
+        }
+        if (data != null) {
+            String text = data instanceof String ? (String) data : JsonSerializer.toJson(data);
+            appendField(frame, "data", text);
+        }
+        frame.append('\n');
+        return frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 값에 줄바꿈이 있으면 줄마다 같은 필드로 나눔 (줄바꿈이 이벤트 경계로 해석되지 않도록)
+    private static void appendField(StringBuilder frame, String field, String value) {
+        int start = 0;
+        int length = value.length();
+        while (true) {
+            int end = start;
+            while (end < length && value.charAt(end) != '\n' && value.charAt(end) != '\r') {
+                end++;
+            }
+            frame.append(field).append(": ").append(value, start, end).append('\n');
+            if (end >= length) {
+                break;
+            }
+            start = (value.charAt(end) == '\r' && end + 1 < length && value.charAt(end + 1) == '\n') ? end + 2 : end + 1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SseEvent{" +
+                "id=" + id +
+                ", name=" + name +
+                ", data=" + data +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package winter.sse;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 SseEmitter의 하트비트와 타임아웃을 처리하는 단일 스케줄러
+ *
+ * 클라이언트마다 타이머 스레드를 두지 않고, 스레드 하나가 주기적으로 열린 emitter 전체를 훑으며
+ * - 마지막 전송 후 하트비트 간격이 지났으면 주석 프레임(": heartbeat")을 큐에 넣고
+ * - 타임아웃이 지났으면 스트림을 종료합니다.
+ * 하트비트는 프록시의 유휴 연결 종료를 막고, 끊긴 클라이언트를 쓰기 실패로 빨리 발견하게 해 줍니다.
+ */
+final class SseHeartbeatScheduler {
+
+    private static final long TICK_MILLIS = 500;
+
+    private static final Set<SseEmitter> EMITTERS = ConcurrentHashMap.newKeySet();
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "winter-sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        SCHEDULER.scheduleWithFixedDelay(SseHeartbeatScheduler::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private SseHeartbeatScheduler() {
+    }
+
+    static void register(SseEmitter emitter) {
+        EMITTERS.add(emitter);
+    }
+
+    static void unregister(SseEmitter emitter) {
+        EMITTERS.remove(emitter);
+    }
+
+    static int size() {
+        return EMITTERS.size();
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        for (SseEmitter emitter : EMITTERS) {
+            try {
+                emitter.tick(now);
+            } catch (RuntimeException e) {
+                System.err.println("SSE 하트비트 처리 실패: " + e.getMessage());
+            }
+        }
+    }
+}
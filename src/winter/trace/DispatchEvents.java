@@ -0,0 +1,88 @@
+package winter.trace;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import winter.http.HttpRequest;
+
+/**
+ * Dispatcher 처리 단계별 JFR 이벤트
+ *
+ * 단계마다 이벤트 종류가 달라서 JFR 설정에서 필요한 단계만 켜거나 임계값을 줄 수 있습니다.
+ * (예: jfr configure winter.ViewRender#threshold=5ms)
+ */
+public final class DispatchEvents {
+
+    public static final String REQUEST = "winter.Request";
+    public static final String SESSION_LOOKUP = "winter.SessionLookup";
+    public static final String MULTIPART_PARSE = "winter.MultipartParse";
+    public static final String HANDLER_LOOKUP = "winter.HandlerLookup";
+    public static final String PRE_HANDLE = "winter.InterceptorPreHandle";
+    public static final String HANDLER_INVOCATION = "winter.HandlerInvocation";
+    public static final String VIEW_RESOLUTION = "winter.ViewResolution";
+    public static final String VIEW_RENDER = "winter.ViewRender";
+
+    private DispatchEvents() {
+    }
+
+    @Name(REQUEST)
+    @Label("Request")
+    @Description("Whole dispatch from session handling until the response is sent (async requests until completion)")
+    public static final class Request extends DispatchPhaseEvent {
+
+        @Label("Status")
+        int status;
+
+        /**
+         * 요청 전체를 끝내고 응답 상태와 함께 커밋합니다.
+         */
+        public void complete(HttpRequest request, Object handler, int status) {
+            if (shouldCommit()) {
+                this.status = status;
+                finish(request, handler, null);
+            }
+        }
+    }
+
+    @Name(SESSION_LOOKUP)
+    @Label("Session Lookup")
+    @Description("Session lookup or creation for the request")
+    public static final class SessionLookup extends DispatchPhaseEvent {
+    }
+
+    @Name(MULTIPART_PARSE)
+    @Label("Multipart Parse")
+    @Description("MultipartParser.parseRequest for multipart/form-data requests")
+    public static final class MultipartParse extends DispatchPhaseEvent {
+    }
+
+    @Name(HANDLER_LOOKUP)
+    @Label("Handler Lookup")
+    @Description("Handler mapping lookup for the request path and method")
+    public static final class HandlerLookup extends DispatchPhaseEvent {
+    }
+
+    @Name(PRE_HANDLE)
+    @Label("Interceptor PreHandle")
+    @Description("InterceptorChain preHandle for the matched route")
+    public static final class PreHandle extends DispatchPhaseEvent {
+    }
+
+    @Name(HANDLER_INVOCATION)
+    @Label("Handler Invocation")
+    @Description("HandlerAdapter.handle including argument binding and the controller method")
+    public static final class HandlerInvocation extends DispatchPhaseEvent {
+    }
+
+    @Name(VIEW_RESOLUTION)
+    @Label("View Resolution")
+    @Description("ContentNegotiatingViewResolver.resolveViewName")
+    public static final class ViewResolution extends DispatchPhaseEvent {
+    }
+
+    @Name(VIEW_RENDER)
+    @Label("View Render")
+    @Description("View.render including template engine rendering or JSON serialization")
+    public static final class ViewRender extends DispatchPhaseEvent {
+    }
+}
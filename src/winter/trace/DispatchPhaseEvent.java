@@ -0,0 +1,63 @@
+package winter.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import winter.dispatcher.HandlerMethod;
+import winter.http.HttpRequest;
+
+/**
+ * Dispatcher 처리 단계 하나를 기록하는 JFR 이벤트의 공통 부분
+ *
+ * 사용 방법 (Dispatcher):
+ *   SessionLookupEvent event = new SessionLookupEvent();
+ *   event.begin();
+ *   ... 단계 실행 ...
+ *   event.finish(request, handler, viewName);
+ *
+ * 기록 중이 아니면 shouldCommit()이 false이므로 라우트/핸들러 문자열도 만들지 않습니다.
+ * (이벤트 객체는 탈출 분석으로 제거되어 비활성 상태의 비용은 begin/shouldCommit 호출뿐)
+ *
+ * 기록: java -XX:StartFlightRecording=filename=winter.jfr ...
+ * 분석: java winter.trace.DispatchTraceAnalyzer winter.jfr
+ */
+@Category({"Winter", "Dispatch"})
+@StackTrace(false)
+public abstract class DispatchPhaseEvent extends Event {
+
+    @Label("Route")
+    String route;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("View")
+    String view;
+
+    /**
+     * 단계를 끝내고, 기록 중이면 요청 정보를 채워 커밋합니다.
+     *
+     * @param request 요청 (라우트 = "METHOD 경로")
+     * @param handler 핸들러 (아직 찾기 전이면 null)
+     * @param viewName 뷰 이름 (없으면 null)
+     */
+    public void finish(HttpRequest request, Object handler, String viewName) {
+        if (shouldCommit()) {
+            this.route = request.getMethod() + " " + request.getPath();
+            this.handler = describeHandler(handler);
+            this.view = viewName;
+            commit();
+        }
+    }
+
+    private static String describeHandler(Object handler) {
+        if (handler == null) {
+            return null;
+        }
+        if (handler instanceof HandlerMethod) {
+            return ((HandlerMethod) handler).getHandlerSignature();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
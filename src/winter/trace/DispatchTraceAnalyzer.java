@@ -0,0 +1,194 @@
+package winter.trace;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import winter.loadtest.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * .jfr 파일의 winter.* 이벤트를 읽어 라우트별 단계 시간 분포를 출력
+ *
+ * 실행: java -cp out winter.trace.DispatchTraceAnalyzer winter.jfr [최대 라우트 수]
+ *
+ * 출력 예:
+ *   GET /products  handler=ProductController.getAllProducts  view=products
+ *     requests=1200  mean=0.512 ms  p50=0.401 ms  p99=2.113 ms  max=8.020 ms
+ *     phase                       count    mean ms    total ms  % of request
+ *     Session Lookup               1200      0.010      12.004          2.0%
+ *     ...
+ *     (unaccounted)                                    61.210         10.0%
+ *
+ * 라우트는 요청 시간 합계가 큰 순서로 정렬합니다. (가장 많은 시간을 쓰는 라우트가 먼저)
+ * unaccounted는 요청 전체에서 기록된 단계를 뺀 시간입니다. (postHandle, 응답 압축/전송 등)
+ */
+public class DispatchTraceAnalyzer {
+
+    // 처리 순서대로 표시
+    private static final Map<String, String> PHASES = new LinkedHashMap<>();
+
+    static {
+        PHASES.put(DispatchEvents.SESSION_LOOKUP, "Session Lookup");
+        PHASES.put(DispatchEvents.MULTIPART_PARSE, "Multipart Parse");
+        PHASES.put(DispatchEvents.HANDLER_LOOKUP, "Handler Lookup");
+        PHASES.put(DispatchEvents.PRE_HANDLE, "Interceptor PreHandle");
+        PHASES.put(DispatchEvents.HANDLER_INVOCATION, "Handler Invocation");
+        PHASES.put(DispatchEvents.VIEW_RESOLUTION, "View Resolution");
+        PHASES.put(DispatchEvents.VIEW_RENDER, "View Render");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("사용법: java winter.trace.DispatchTraceAnalyzer <recording.jfr> [최대 라우트 수]");
+            System.exit(2);
+            return;
+        }
+        Path file = Paths.get(args[0]);
+        int maxRoutes = args.length > 1 ? Integer.parseInt(args[1]) : Integer.MAX_VALUE;
+
+        Map<String, RouteBreakdown> routes = analyze(file);
+        System.out.print(format(file, routes, maxRoutes));
+    }
+
+    /**
+     * 기록 파일을 읽어 라우트별로 집계합니다.
+     */
+    static Map<String, RouteBreakdown> analyze(Path file) throws IOException {
+        Map<String, RouteBreakdown> routes = new HashMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (!type.startsWith("winter.")) {
+                    continue;
+                }
+                String route = event.getString("route");
+                if (route == null) {
+                    continue;
+                }
+                RouteBreakdown breakdown = routes.computeIfAbsent(route, RouteBreakdown::new);
+                breakdown.record(type, event.getDuration().toNanos(), event.getString("handler"), event.getString("view"));
+            }
+        }
+        return routes;
+    }
+
+    static String format(Path file, Map<String, RouteBreakdown> routes, int maxRoutes) {
+        StringBuilder out = new StringBuilder();
+        out.append("=== Winter dispatch phase breakdown: ").append(file.getFileName()).append(" ===\n");
+        if (routes.isEmpty()) {
+            out.append("winter.* 이벤트가 없습니다. (-XX:StartFlightRecording으로 기록했는지 확인)\n");
+            return out.toString();
+        }
+
+        List<RouteBreakdown> sorted = new ArrayList<>(routes.values());
+        sorted.sort((a, b) -> Long.compare(b.totalNanos(), a.totalNanos()));
+
+        for (RouteBreakdown route : sorted.subList(0, Math.min(maxRoutes, sorted.size()))) {
+            out.append('\n').append(route.route);
+            if (route.handler != null) {
+                out.append("  handler=").append(route.handler);
+            }
+            if (route.view != null) {
+                out.append("  view=").append(route.view);
+            }
+            out.append('\n');
+            LatencyHistogram requests = route.requests;
+            if (requests.getTotalCount() > 0) {
+                out.append(String.format("  requests=%d  mean=%.3f ms  p50=%.3f ms  p99=%.3f ms  max=%.3f ms%n",
+                        requests.getTotalCount(), requests.getMean() / 1000.0,
+                        requests.getValueAtPercentile(50) / 1000.0, requests.getValueAtPercentile(99) / 1000.0,
+                        requests.getMax() / 1000.0));
+            }
+
+            String format = "  %-24s %8s %10s %12s %13s%n";
+            out.append(String.format(format, "phase", "count", "mean ms", "total ms", "% of request"));
+            long requestNanos = route.totalNanos();
+            long phaseNanos = 0;
+            for (Map.Entry<String, String> phase : PHASES.entrySet()) {
+                PhaseStats stats = route.phases.get(phase.getKey());
+                if (stats == null) {
+                    continue;
+                }
+                phaseNanos += stats.totalNanos;
+                out.append(String.format(format, phase.getValue(), stats.count,
+                        String.format("%.3f", stats.totalNanos / 1e6 / stats.count),
+                        String.format("%.3f", stats.totalNanos / 1e6),
+                        percent(stats.totalNanos, requestNanos)));
+            }
+            if (route.requestNanos > 0) {
+                long unaccounted = Math.max(0, route.requestNanos - phaseNanos);
+                out.append(String.format(format, "(unaccounted)", "", "",
+                        String.format("%.3f", unaccounted / 1e6), percent(unaccounted, requestNanos)));
+            }
+        }
+        if (sorted.size() > maxRoutes) {
+            out.append("\n... ").append(sorted.size() - maxRoutes).append("개 라우트 생략\n");
+        }
+        return out.toString();
+    }
+
+    private static String percent(long part, long whole) {
+        return whole > 0 ? String.format("%.1f%%", part * 100.0 / whole) : "-";
+    }
+
+    /**
+     * 라우트 하나의 집계
+     */
+    static final class RouteBreakdown {
+        final String route;
+        final Map<String, PhaseStats> phases = new HashMap<>();
+        final LatencyHistogram requests = new LatencyHistogram();
+        long requestNanos;
+        String handler;
+        String view;
+
+        RouteBreakdown(String route) {
+            this.route = route;
+        }
+
+        void record(String type, long nanos, String handlerSignature, String viewName) {
+            if (handlerSignature != null) {
+                handler = handlerSignature;
+            }
+            if (viewName != null) {
+                view = viewName;
+            }
+            if (DispatchEvents.REQUEST.equals(type)) {
+                requests.record(nanos / 1000);
+                requestNanos += nanos;
+            } else {
+                phases.computeIfAbsent(type, ignored -> new PhaseStats()).add(nanos);
+            }
+        }
+
+        // 요청 이벤트가 없으면 (Request 이벤트만 꺼진 경우) 단계 합계로 대신함
+        long totalNanos() {
+            if (requestNanos > 0) {
+                return requestNanos;
+            }
+            long total = 0;
+            for (PhaseStats stats : phases.values()) {
+                total += stats.totalNanos;
+            }
+            return total;
+        }
+    }
+
+    static final class PhaseStats {
+        long count;
+        long totalNanos;
+
+        void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,482 @@
+package winter.upload;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 주소 기반(content-addressed) 중복 제거 업로드 저장소
+ *
+ * 업로드된 파일의 SHA-256 해시를 스트리밍으로 계산하여, 같은 내용은 디스크에 한 번만 저장합니다.
+ * 논리 파일명(저장 시 생성한 파일명)은 참조 인덱스를 통해 해시로 연결됩니다.
+ *
+ * 디렉토리 구조:
+ * <pre>
+ * {root}/blobs/ab/cd/abcd1234...   해시 앞 2바이트로 샤딩된 실제 파일
+ * {root}/.tmp/                     새 blob을 기록하는 임시 디렉토리
+ * {root}/index.log                 추가 전용(append-only) 참조 로그
+ * </pre>
+ *
+ * 참조 로그 형식 (탭 구분, 한 줄에 한 레코드):
+ * <pre>
+ * +  논리명  해시  크기  Content-Type   참조 추가/변경
+ * -  논리명                            참조 삭제
+ * </pre>
+ *
+ * 같은 내용이 다시 업로드되면 해시 계산과 인덱스 한 줄 기록만 발생합니다.
+ * 로그가 살아있는 참조 수보다 충분히 커지면 백그라운드에서 현재 인덱스 스냅샷으로 압축하고,
+ * 더 이상 참조되지 않는 blob을 삭제합니다.
+ */
+public class ContentAddressedStore implements AutoCloseable {
+
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+    private static final long COMPACTION_CHECK_INTERVAL_SECONDS = 30;
+    private static final int COMPACTION_MIN_RECORDS = 1000;
+
+    private final Path rootDir;
+    private final Path blobDir;
+    private final Path tempDir;
+    private final Path indexFile;
+
+    // 논리명 → 참조 정보
+    private final Map<String, StoredFile> index = new ConcurrentHashMap<>();
+    // 해시 → 참조 수 (lock으로 보호)
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    private final Object lock = new Object();
+    private FileChannel indexChannel;
+    private long logRecords;
+    private long deduplicatedUploads;
+    private long storedBlobs;
+
+    private final ScheduledExecutorService compactor;
+
+    // 루트 디렉토리별 공유 인스턴스 (같은 index.log에 두 저장소가 동시에 쓰지 않도록)
+    private static final Map<Path, ContentAddressedStore> OPEN_STORES = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 파일 하나의 참조 정보
+     */
+    public static final class StoredFile {
+        private final String logicalName;
+        private final String hash;
+        private final long size;
+        private final String contentType;
+        private final Path path;
+        private final boolean deduplicated;
+
+        StoredFile(String logicalName, String hash, long size, String contentType, Path path, boolean deduplicated) {
+            this.logicalName = logicalName;
+            this.hash = hash;
+            this.size = size;
+            this.contentType = contentType;
+            this.path = path;
+            this.deduplicated = deduplicated;
+        }
+
+        public String getLogicalName() { return logicalName; }
+        public String getHash() { return hash; }
+        public long getSize() { return size; }
+        public String getContentType() { return contentType; }
+        public Path getPath() { return path; }
+        public boolean isDeduplicated() { return deduplicated; }
+
+        @Override
+        public String toString() {
+            return "StoredFile{" +
+                    "logicalName='" + logicalName + '\'' +
+                    ", hash='" + hash + '\'' +
+                    ", size=" + size +
+                    ", deduplicated=" + deduplicated +
+                    '}';
+        }
+    }
+
+    /**
+     * 지정된 루트 디렉토리에 저장소를 열고 기존 참조 로그를 재생합니다.
+     *
+     * @param rootDir 저장소 루트 디렉토리
+     * @throws IOException 디렉토리 생성 또는 로그 읽기 실패시
+     */
+    public ContentAddressedStore(Path rootDir) throws IOException {
+        this.rootDir = rootDir;
+        this.blobDir = rootDir.resolve("blobs");
+        this.tempDir = rootDir.resolve(".tmp");
+        this.indexFile = rootDir.resolve("index.log");
+
+        Files.createDirectories(blobDir);
+        Files.createDirectories(tempDir);
+
+        replayIndex();
+        this.indexChannel = openIndexChannel();
+
+        this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "winter-upload-index-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.compactor.scheduleWithFixedDelay(this::compactIfNeeded,
+                COMPACTION_CHECK_INTERVAL_SECONDS, COMPACTION_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 저장소가 루트 디렉토리에 만드는 내부 파일/디렉토리 이름인지 확인합니다.
+     * (index.log, 압축 중인 로그, blobs, .tmp 등 - 다운로드로 노출하면 안 됨)
+     *
+     * @param name 루트 바로 아래의 파일 이름
+     */
+    public static boolean isStoreMetadata(String name) {
+        return name.startsWith(".") || name.startsWith("index.log") || "blobs".equals(name);
+    }
+
+    /**
+     * 지정된 루트 디렉토리의 공유 저장소를 반환합니다. 처음 호출 시에만 저장소를 엽니다.
+     * 여러 컨트롤러가 같은 업로드 디렉토리를 쓰는 경우 반드시 이 메서드를 사용해야 합니다.
+     *
+     * @param rootDir 저장소 루트 디렉토리
+     * @return 공유 저장소
+     * @throws IOException 저장소 열기 실패시
+     */
+    public static ContentAddressedStore open(Path rootDir) throws IOException {
+        Path key = rootDir.toAbsolutePath().normalize();
+        ContentAddressedStore store = OPEN_STORES.get(key);
+        if (store != null) {
+            return store;
+        }
+        synchronized (OPEN_STORES) {
+            store = OPEN_STORES.get(key);
+            if (store == null) {
+                store = new ContentAddressedStore(key);
+                OPEN_STORES.put(key, store);
+            }
+            return store;
+        }
+    }
+
+    /**
+     * 업로드 파일을 저장합니다.
+     * 같은 내용의 blob이 이미 있으면 파일을 다시 쓰지 않고 참조만 추가합니다.
+     *
+     * @param logicalName 논리 파일명 (탭/줄바꿈 불가)
+     * @param file 업로드 파일
+     * @return 저장 결과
+     * @throws IOException 해시 계산 또는 저장 실패시
+     */
+    public StoredFile store(String logicalName, MultipartFile file) throws IOException {
+        validateLogicalName(logicalName);
+
+        // 1. 내용 해시 계산 (읽기만 함)
+        String hash;
+        try (InputStream is = file.getInputStream()) {
+            hash = sha256(is);
+        }
+        Path blob = blobPath(hash);
+        long size = file.getSize();
+        String contentType = file.getContentType();
+
+        // 2. 이미 있는 blob이면 참조만 추가 (존재 확인과 참조 추가는 GC와 원자적으로)
+        synchronized (lock) {
+            if (Files.exists(blob)) {
+                deduplicatedUploads++;
+                StoredFile stored = new StoredFile(logicalName, hash, size, contentType, blob, true);
+                addReference(stored);
+                return stored;
+            }
+        }
+
+        // 3. 새 blob: 임시 파일로 옮긴 뒤 최종 위치로 원자적 이동
+        Path temp = Files.createTempFile(tempDir, "blob-", ".tmp");
+        try {
+            file.transferTo(temp.toFile());
+            Files.createDirectories(blob.getParent());
+            Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        synchronized (lock) {
+            storedBlobs++;
+            StoredFile stored = new StoredFile(logicalName, hash, size, contentType, blob, false);
+            addReference(stored);
+            return stored;
+        }
+    }
+
+    /**
+     * 논리명으로 저장된 파일 정보를 조회합니다.
+     *
+     * @param logicalName 논리 파일명
+     * @return 저장 정보, 없으면 null
+     */
+    public StoredFile lookup(String logicalName) {
+        return index.get(logicalName);
+    }
+
+    /**
+     * 논리명의 참조를 삭제합니다.
+     * blob 자체는 다음 압축 시 참조가 없으면 삭제됩니다.
+     *
+     * @param logicalName 논리 파일명
+     * @return 참조가 있었으면 true
+     * @throws IOException 로그 기록 실패시
+     */
+    public boolean delete(String logicalName) throws IOException {
+        synchronized (lock) {
+            StoredFile removed = index.remove(logicalName);
+            if (removed == null) {
+                return false;
+            }
+            appendRecord("-\t" + logicalName + "\n");
+            releaseReference(removed.getHash());
+            return true;
+        }
+    }
+
+    /**
+     * 참조 로그를 현재 인덱스 스냅샷으로 다시 쓰고, 참조되지 않는 blob을 삭제합니다.
+     *
+     * @throws IOException 압축 실패시
+     */
+    public void compact() throws IOException {
+        synchronized (lock) {
+            Path compacted = rootDir.resolve("index.log.compact");
+            try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                StringBuilder sb = new StringBuilder();
+                for (StoredFile stored : index.values()) {
+                    appendPutRecord(sb, stored);
+                    if (sb.length() >= HASH_BUFFER_SIZE) {
+                        writeFully(out, sb.toString());
+                        sb.setLength(0);
+                    }
+                }
+                writeFully(out, sb.toString());
+                out.force(true);
+            }
+
+            indexChannel.close();
+            Files.move(compacted, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            indexChannel = openIndexChannel();
+            logRecords = index.size();
+
+            // 참조 수가 0인 blob 삭제
+            List<String> orphans = new ArrayList<>();
+            for (Map.Entry<String, Integer> entry : referenceCounts.entrySet()) {
+                if (entry.getValue() <= 0) {
+                    orphans.add(entry.getKey());
+                }
+            }
+            for (String hash : orphans) {
+                referenceCounts.remove(hash);
+                Files.deleteIfExists(blobPath(hash));
+            }
+
+            System.out.println("업로드 인덱스 압축 완료: 참조 " + index.size() + "개, 삭제된 blob " + orphans.size() + "개");
+        }
+    }
+
+    /**
+     * 로그 레코드 수가 살아있는 참조 수의 두 배를 넘으면 압축합니다. (백그라운드 호출)
+     */
+    private void compactIfNeeded() {
+        try {
+            boolean needed;
+            synchronized (lock) {
+                needed = logRecords >= COMPACTION_MIN_RECORDS && logRecords > (long) index.size() * 2;
+            }
+            if (needed) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.err.println("업로드 인덱스 압축 실패: " + e.getMessage());
+        }
+    }
+
+    // lock 보유 상태에서 호출
+    private void addReference(StoredFile stored) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        appendPutRecord(sb, stored);
+        appendRecord(sb.toString());
+
+        StoredFile previous = index.put(stored.getLogicalName(), stored);
+        if (previous != null) {
+            releaseReference(previous.getHash());
+        }
+        referenceCounts.merge(stored.getHash(), 1, Integer::sum);
+    }
+
+    // lock 보유 상태에서 호출
+    private void releaseReference(String hash) {
+        referenceCounts.computeIfPresent(hash, (k, count) -> count - 1);
+    }
+
+    // lock 보유 상태에서 호출
+    private void appendRecord(String record) throws IOException {
+        writeFully(indexChannel, record);
+        logRecords++;
+    }
+
+    private static void appendPutRecord(StringBuilder sb, StoredFile stored) {
+        sb.append("+\t").append(stored.getLogicalName())
+                .append('\t').append(stored.getHash())
+                .append('\t').append(stored.getSize())
+                .append('\t').append(stored.getContentType() != null ? stored.getContentType() : "-")
+                .append('\n');
+    }
+
+    private static void writeFully(FileChannel channel, String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private FileChannel openIndexChannel() throws IOException {
+        return FileChannel.open(indexFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 참조 로그를 처음부터 읽어 인덱스와 참조 수를 복원합니다.
+     * 비정상 종료로 잘린 마지막 줄은 무시합니다.
+     */
+    private void replayIndex() throws IOException {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                logRecords++;
+                String[] fields = line.split("\t");
+                if (fields.length == 5 && fields[0].equals("+")) {
+                    String contentType = fields[4].equals("-") ? null : fields[4];
+                    long size;
+                    try {
+                        size = Long.parseLong(fields[3]);
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                    StoredFile stored = new StoredFile(fields[1], fields[2], size, contentType,
+                            blobPath(fields[2]), false);
+                    StoredFile previous = index.put(fields[1], stored);
+                    if (previous != null) {
+                        releaseReference(previous.getHash());
+                    }
+                    referenceCounts.merge(fields[2], 1, Integer::sum);
+                } else if (fields.length == 2 && fields[0].equals("-")) {
+                    StoredFile removed = index.remove(fields[1]);
+                    if (removed != null) {
+                        releaseReference(removed.getHash());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 해시에 해당하는 blob 경로를 반환합니다. (앞 2바이트로 2단계 샤딩)
+     */
+    private Path blobPath(String hash) {
+        return blobDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private static void validateLogicalName(String logicalName) {
+        if (logicalName == null || logicalName.isEmpty()) {
+            throw new IllegalArgumentException("Logical name cannot be null or empty");
+        }
+        if (logicalName.indexOf('\t') >= 0 || logicalName.indexOf('\n') >= 0 || logicalName.indexOf('\r') >= 0) {
+            throw new IllegalArgumentException("Logical name cannot contain tab or line breaks: " + logicalName);
+        }
+    }
+
+    private static String sha256(InputStream is) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+
+        byte[] hash = digest.digest();
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    // ===== 통계 =====
+
+    public int getReferenceCount() {
+        return index.size();
+    }
+
+    public long getLogRecords() {
+        synchronized (lock) {
+            return logRecords;
+        }
+    }
+
+    public long getDeduplicatedUploads() {
+        synchronized (lock) {
+            return deduplicatedUploads;
+        }
+    }
+
+    public long getStoredBlobs() {
+        synchronized (lock) {
+            return storedBlobs;
+        }
+    }
+
+    public Path getRootDir() {
+        return rootDir;
+    }
+
+    /**
+     * 백그라운드 압축을 멈추고 참조 로그를 닫습니다.
+     */
+    @Override
+    public void close() throws IOException {
+        OPEN_STORES.remove(rootDir.toAbsolutePath().normalize(), this);
+        compactor.shutdown();
+        synchronized (lock) {
+            indexChannel.force(false);
+            indexChannel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ContentAddressedStore{" +
+                "rootDir=" + rootDir +
+                ", references=" + getReferenceCount() +
+                ", storedBlobs=" + getStoredBlobs() +
+                ", deduplicatedUploads=" + getDeduplicatedUploads() +
+                ", logRecords=" + getLogRecords() +
+                '}';
+    }
+}
@@ -0,0 +1,189 @@
+package winter.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 임시 파일에 저장된 업로드 파일을 나타내는 MultipartFile 구현체
+ *
+ * MultipartParser는 UploadConfig.fileSizeThreshold보다 큰 파일 파트를
+ * 메모리에 올리지 않고 바로 임시 파일로 내려쓴 뒤 이 객체로 감쌉니다.
+ *
+ * transferTo() 동작:
+ * - 같은 파일시스템이면 Files.move(ATOMIC_MOVE)로 이름만 바꿉니다. (데이터 복사 없음)
+ * - 파일시스템이 다르면 FileChannel.transferTo()로 커널 수준 복사 후 임시 파일을 삭제합니다.
+ * - 이동이 끝난 뒤에는 임시 파일이 없으므로 내용에 다시 접근할 수 없습니다.
+ */
+public class DiskMultipartFile implements MultipartFile {
+    private final String name;
+    private final String originalFilename;
+    private final String contentType;
+    private final Path tempFile;
+    private final long size;
+
+    // transferTo()로 임시 파일이 이동된 위치 (이동 전에는 null)
+    private volatile Path transferredTo;
+
+    /**
+     * DiskMultipartFile 생성자
+     *
+     * @param name 폼 필드명
+     * @param originalFilename 원본 파일명
+     * @param contentType MIME 타입
+     * @param tempFile 파일 내용이 기록된 임시 파일
+     * @param size 파일 크기 (바이트)
+     */
+    public DiskMultipartFile(String name, String originalFilename,
+                             String contentType, Path tempFile, long size) {
+        if (tempFile == null) {
+            throw new IllegalArgumentException("Temp file cannot be null");
+        }
+        this.name = name != null ? name : "";
+        this.originalFilename = originalFilename != null ? originalFilename : "";
+        this.contentType = contentType;
+        this.tempFile = tempFile;
+        this.size = Math.max(0, size);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        checkNotTransferred();
+        return Files.readAllBytes(tempFile);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        checkNotTransferred();
+        return Files.newInputStream(tempFile);
+    }
+
+    @Override
+    public synchronized void transferTo(File dest) throws IOException {
+        if (dest == null) {
+            throw new IllegalArgumentException("Destination file cannot be null");
+        }
+        checkNotTransferred();
+
+        // 목적지 디렉토리가 존재하지 않으면 생성
+        Path target = dest.toPath();
+        Path parentDir = target.toAbsolutePath().getParent();
+        if (parentDir != null) {
+            Files.createDirectories(parentDir);
+        }
+
+        try {
+            // 같은 파일시스템: 원자적 이름 변경
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 다른 파일시스템: 채널 간 직접 복사 후 임시 파일 삭제
+            copyWithChannels(tempFile, target);
+            Files.deleteIfExists(tempFile);
+        }
+
+        transferredTo = target;
+    }
+
+    /**
+     * 임시 파일을 삭제합니다.
+     * transferTo()가 호출되지 않은 파일은 요청 처리 후 이 메서드로 정리해야 합니다.
+     *
+     * @return 임시 파일이 삭제되었으면 true
+     */
+    public boolean delete() {
+        if (transferredTo != null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            System.err.println("임시 파일 삭제 실패: " + tempFile + " - " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 임시 파일 경로를 반환합니다.
+     *
+     * @return 임시 파일 경로
+     */
+    public Path getTempFile() {
+        return tempFile;
+    }
+
+    /**
+     * transferTo()가 이미 호출되었는지 확인합니다.
+     *
+     * @return 이동 완료 여부
+     */
+    public boolean isTransferred() {
+        return transferredTo != null;
+    }
+
+    private void checkNotTransferred() {
+        if (transferredTo != null) {
+            throw new IllegalStateException("File has already been moved to " + transferredTo);
+        }
+    }
+
+    private static void copyWithChannels(Path source, Path target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long remaining = in.size();
+            // transferTo는 한 번에 전부 옮기지 못할 수 있으므로 반복
+            while (remaining > 0) {
+                long transferred = in.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DiskMultipartFile{" +
+                "name='" + name + '\'' +
+                ", originalFilename='" + originalFilename + '\'' +
+                ", contentType='" + contentType + '\'' +
+                ", size=" + size +
+                ", tempFile=" + tempFile +
+                ", transferred=" + isTransferred() +
+                '}';
+    }
+}
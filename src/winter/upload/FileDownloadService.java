@@ -0,0 +1,245 @@
+package winter.upload;
+
+import winter.http.ETagSupport;
+import winter.http.FileRegionBody;
+import winter.http.HttpRequest;
+import winter.http.HttpStatus;
+import winter.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 저장된 파일을 HTTP Range / 조건부 요청 규칙에 맞게 내려주는 서비스
+ *
+ * 지원 기능:
+ * - Range: bytes=a-b / a- / -n (단일 범위는 206 + Content-Range, 여러 범위는 multipart/byteranges)
+ * - If-Range: ETag 또는 Last-Modified가 일치할 때만 Range 적용, 다르면 전체(200) 응답
+ * - If-None-Match / If-Modified-Since: 변경이 없으면 304
+ * - If-Match: 일치하지 않으면 412
+ * - 만족할 수 없는 범위는 416 + Content-Range: bytes &#42;/size
+ *
+ * 본문은 FileRegionBody로 만들어지므로 파일 내용은 힙에 올라오지 않고,
+ * 전송 시점에 FileChannel.transferTo()로 바로 복사됩니다.
+ */
+public class FileDownloadService {
+
+    /**
+     * 한 요청에서 허용하는 최대 범위 수 (겹치는 범위를 병합한 뒤 기준)
+     * 수백 개의 작은 범위로 서버를 괴롭히는 요청을 막기 위한 상한입니다.
+     */
+    public static final int MAX_RANGES = 32;
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    /**
+     * 파일 다운로드 응답을 생성합니다.
+     *
+     * @param file 내려줄 파일
+     * @param contentType 파일의 Content-Type (null이면 application/octet-stream)
+     * @param etag 강한 ETag (따옴표 포함). null이면 파일 크기와 수정 시각으로 생성
+     * @param request HTTP 요청 (Range / 조건부 헤더 확인용)
+     * @return 200, 206, 304, 412, 416 중 하나의 응답
+     * @throws IOException 파일 메타데이터 조회 실패시
+     */
+    public ResponseEntity<Object> serve(Path file, String contentType, String etag, HttpRequest request) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        // HTTP 날짜는 초 단위이므로 비교를 위해 초 단위로 잘라서 사용
+        long lastModifiedSeconds = attributes.lastModifiedTime().toInstant().getEpochSecond();
+        String lastModified = HTTP_DATE.format(Instant.ofEpochSecond(lastModifiedSeconds));
+        if (etag == null) {
+            etag = metadataETag(size, attributes.lastModifiedTime().toMillis());
+        }
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("ETag", etag);
+        headers.put("Last-Modified", lastModified);
+        headers.put("Accept-Ranges", "bytes");
+
+        // 1. If-Match: 다른 버전이면 412
+        String ifMatch = request.getHeader("If-Match");
+        if (ifMatch != null && !ETagSupport.matchesAny(ifMatch, etag)) {
+            return ResponseEntity.<Object>withStatus(HttpStatus.PRECONDITION_FAILED, null).withHeaders(headers);
+        }
+
+        // 2. If-None-Match (있으면 If-Modified-Since보다 우선) / If-Modified-Since: 변경 없으면 304
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            if (ETagSupport.matchesAny(ifNoneMatch, etag)) {
+                return ResponseEntity.<Object>withStatus(HttpStatus.NOT_MODIFIED, null).withHeaders(headers);
+            }
+        } else {
+            Long ifModifiedSince = parseHttpDate(request.getHeader("If-Modified-Since"));
+            if (ifModifiedSince != null && lastModifiedSeconds <= ifModifiedSince) {
+                return ResponseEntity.<Object>withStatus(HttpStatus.NOT_MODIFIED, null).withHeaders(headers);
+            }
+        }
+
+        // 3. Range + If-Range
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader != null && ifRangeMatches(request.getHeader("If-Range"), etag, lastModifiedSeconds)) {
+            List<long[]> ranges = parseRanges(rangeHeader, size);
+            if (ranges == null) {
+                // 문법이 잘못된 Range는 무시하고 전체 응답 (RFC 7233 3.1)
+                System.out.println("잘못된 Range 헤더 무시: " + rangeHeader);
+            } else if (ranges.isEmpty()) {
+                headers.put("Content-Range", "bytes */" + size);
+                return ResponseEntity.<Object>withStatus(HttpStatus.RANGE_NOT_SATISFIABLE, null).withHeaders(headers);
+            } else if (ranges.size() == 1) {
+                long[] range = ranges.get(0);
+                headers.put("Content-Type", contentType);
+                headers.put("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + size);
+                System.out.println("단일 범위 응답: " + file.getFileName() + " " + range[0] + "-" + range[1] + "/" + size);
+                return ResponseEntity.<Object>withStatus(HttpStatus.PARTIAL_CONTENT,
+                        FileRegionBody.ofRegion(file, range[0], range[1] - range[0] + 1)).withHeaders(headers);
+            } else {
+                String boundary = UUID.randomUUID().toString().replace("-", "");
+                headers.put("Content-Type", "multipart/byteranges; boundary=" + boundary);
+                System.out.println("다중 범위 응답: " + file.getFileName() + " " + ranges.size() + "개 범위");
+                return ResponseEntity.<Object>withStatus(HttpStatus.PARTIAL_CONTENT,
+                        buildByteRanges(file, contentType, size, ranges, boundary)).withHeaders(headers);
+            }
+        }
+
+        // 4. 전체 응답
+        headers.put("Content-Type", contentType);
+        return ResponseEntity.<Object>withStatus(HttpStatus.OK, FileRegionBody.ofRegion(file, 0, size)).withHeaders(headers);
+    }
+
+    /**
+     * 파일 크기와 수정 시각으로 ETag를 생성합니다. (파일 내용을 읽지 않음)
+     */
+    public static String metadataETag(long size, long lastModifiedMillis) {
+        return "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModifiedMillis) + "\"";
+    }
+
+    /**
+     * Range 헤더를 파싱합니다.
+     *
+     * @param header Range 헤더 값 (예: "bytes=0-99,200-")
+     * @param size 파일 크기
+     * @return 정렬/병합된 [start, end] 목록 (end 포함).
+     *         문법 오류면 null, 만족 가능한 범위가 하나도 없으면 빈 목록
+     */
+    public static List<long[]> parseRanges(String header, long size) {
+        String value = header.trim();
+        if (!value.regionMatches(true, 0, "bytes=", 0, 6)) {
+            return null;
+        }
+
+        String[] specs = value.substring(6).split(",");
+        if (specs.length > MAX_RANGES * 4) {
+            return null; // 병합 전에도 비정상적으로 많은 범위는 거부
+        }
+
+        List<long[]> ranges = new ArrayList<>();
+        for (String rawSpec : specs) {
+            String spec = rawSpec.trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                long start;
+                long end;
+                if (dash == 0) {
+                    // -n: 마지막 n 바이트
+                    long suffix = Long.parseLong(spec.substring(1));
+                    if (suffix <= 0) {
+                        continue;
+                    }
+                    start = Math.max(0, size - suffix);
+                    end = size - 1;
+                } else {
+                    start = Long.parseLong(spec.substring(0, dash));
+                    end = dash == spec.length() - 1 ? size - 1 : Long.parseLong(spec.substring(dash + 1));
+                    if (end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, size - 1);
+                }
+                if (start >= size || size == 0) {
+                    continue; // 만족할 수 없는 범위는 건너뜀
+                }
+                ranges.add(new long[]{start, end});
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        // 시작 위치 순으로 정렬 후 겹치거나 붙어 있는 범위 병합
+        ranges.sort((a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>();
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        if (merged.size() > MAX_RANGES) {
+            return null;
+        }
+        return merged;
+    }
+
+    /**
+     * multipart/byteranges 본문을 구성합니다. (경계/헤더는 텍스트, 내용은 파일 영역)
+     */
+    private FileRegionBody buildByteRanges(Path file, String contentType, long size,
+                                           List<long[]> ranges, String boundary) {
+        FileRegionBody.Builder builder = FileRegionBody.builder();
+        for (long[] range : ranges) {
+            builder.addText("\r\n--" + boundary + "\r\n" +
+                    "Content-Type: " + contentType + "\r\n" +
+                    "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + size + "\r\n\r\n");
+            builder.addRegion(file, range[0], range[1] - range[0] + 1);
+        }
+        builder.addText("\r\n--" + boundary + "--\r\n");
+        return builder.build();
+    }
+
+    /**
+     * If-Range 확인: 헤더가 없거나 현재 버전과 일치하면 Range를 적용
+     */
+    private boolean ifRangeMatches(String ifRange, String etag, long lastModifiedSeconds) {
+        if (ifRange == null) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            // If-Range는 강한 비교만 허용
+            return value.equals(etag);
+        }
+        Long date = parseHttpDate(value);
+        return date != null && date == lastModifiedSeconds;
+    }
+
+    private Long parseHttpDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), HTTP_DATE).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -3,7 +3,17 @@ package winter.upload;
 import winter.http.HttpRequest;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 /**
@@ -11,6 +21,9 @@ import java.util.*;
  *
  * RFC 2388 Multipart 표준에 따라 multipart/form-data를 처리합니다.
  * boundary를 기준으로 각 part를 분리하고, 파일과 일반 파라미터를 구분합니다.
+ *
+ * UploadConfig.fileSizeThreshold보다 큰 파일 파트는 byte 배열로 복사하지 않고
+ * 버퍼 단위로 인코딩하며 임시 파일에 바로 기록합니다. (DiskMultipartFile)
  */
 public class MultipartParser {
 
@@ -21,6 +34,9 @@ public class MultipartParser {
     private static final String FILENAME = "filename";
     private static final String NAME = "name";
     private static final String CRLF = "\r\n";
+    private static final int SPILL_BUFFER_SIZE = 64 * 1024;
+
+    private static final UploadConfig DEFAULT_CONFIG = new UploadConfig();
 
     /**
      * HttpRequest를 MultipartRequest로 파싱합니다.
@@ -33,6 +49,18 @@ public class MultipartParser {
      * @throws IllegalArgumentException multipart 요청이 아니거나 boundary가 없을 때
      */
     public static MultipartRequest parseRequest(HttpRequest request) throws IOException {
+        return parseRequest(request, DEFAULT_CONFIG);
+    }
+
+    /**
+     * 지정된 업로드 설정으로 HttpRequest를 MultipartRequest로 파싱합니다.
+     *
+     * @param request 원본 HTTP 요청
+     * @param config 디스크 저장 임계값과 임시 디렉토리를 제공하는 업로드 설정
+     * @return 파싱된 Multipart 요청
+     * @throws IOException 파싱 또는 임시 파일 기록 실패시
+     */
+    public static MultipartRequest parseRequest(HttpRequest request, UploadConfig config) throws IOException {
         // Content-Type 검증
         String contentType = request.getHeader("Content-Type");
         if (contentType == null || !contentType.toLowerCase().startsWith("multipart/form-data")) {
@@ -52,7 +80,7 @@ public class MultipartParser {
         Map<String, List<String>> parameters = new HashMap<>(request.getParameterMap());
         Map<String, List<MultipartFile>> files = new HashMap<>();
 
-        parseParts(body, boundary, parameters, files);
+        parseParts(body, boundary, parameters, files, config);
 
         return new MultipartRequest(
                 request.getPath(),
@@ -120,10 +148,13 @@ public class MultipartParser {
      * @param boundary boundary 문자열
      * @param parameters 일반 파라미터 맵 (출력)
      * @param files 파일 맵 (출력)
+     * @param config 업로드 설정
+     * @throws IOException 임시 파일 기록 실패시
      */
     private static void parseParts(String body, String boundary,
                                    Map<String, List<String>> parameters,
-                                   Map<String, List<MultipartFile>> files) {
+                                   Map<String, List<MultipartFile>> files,
+                                   UploadConfig config) throws IOException {
 
         String delimiter = BOUNDARY_PREFIX + boundary;
         String endDelimiter = delimiter + BOUNDARY_PREFIX;
@@ -145,7 +176,7 @@ public class MultipartParser {
         for (String part : parts) {
             part = part.trim();
             if (!part.isEmpty()) {
-                parsePart(part, parameters, files);
+                parsePart(part, parameters, files, config);
             }
         }
     }
@@ -156,10 +187,13 @@ public class MultipartParser {
      * @param part 파트 내용
      * @param parameters 일반 파라미터 맵 (출력)
      * @param files 파일 맵 (출력)
+     * @param config 업로드 설정
+     * @throws IOException 임시 파일 기록 실패시
      */
     private static void parsePart(String part,
                                   Map<String, List<String>> parameters,
-                                  Map<String, List<MultipartFile>> files) {
+                                  Map<String, List<MultipartFile>> files,
+                                  UploadConfig config) throws IOException {
 
         // 헤더와 바디 분리
         int headerEndIndex = part.indexOf(CRLF + CRLF);
@@ -190,11 +224,17 @@ public class MultipartParser {
         if (filename != null) {
             // 파일 파라미터
             String contentType = headers.get(CONTENT_TYPE.toLowerCase());
-            byte[] fileContent = bodySection.getBytes(StandardCharsets.UTF_8);
-
-            MultipartFile multipartFile = new StandardMultipartFile(
-                    name, filename, contentType, fileContent
-            );
+            MultipartFile multipartFile;
+
+            if (shouldSpillToDisk(bodySection, config)) {
+                // 큰 파일: 임시 파일로 바로 기록
+                multipartFile = spillToDisk(name, filename, contentType, bodySection, config);
+            } else {
+                byte[] fileContent = bodySection.getBytes(StandardCharsets.UTF_8);
+                multipartFile = new StandardMultipartFile(
+                        name, filename, contentType, fileContent
+                );
+            }
 
             files.computeIfAbsent(name, k -> new ArrayList<>()).add(multipartFile);
         } else {
@@ -203,6 +243,60 @@ public class MultipartParser {
         }
     }
 
+    /**
+     * 파일 파트를 임시 파일로 내려쓸지 결정합니다.
+     * UTF-8 바이트 수는 문자 수 이상이므로 문자 수로 먼저 판단합니다.
+     */
+    private static boolean shouldSpillToDisk(String content, UploadConfig config) {
+        long threshold = config.getFileSizeThreshold();
+        return threshold == 0 || content.length() > threshold;
+    }
+
+    /**
+     * 파일 파트 내용을 임시 파일에 기록하고 DiskMultipartFile을 생성합니다.
+     * 전체 byte 배열을 만들지 않고 고정 크기 버퍼로 인코딩하며 기록합니다.
+     *
+     * @return 임시 파일 기반 MultipartFile
+     * @throws IOException 임시 파일 생성/기록 실패시
+     */
+    private static MultipartFile spillToDisk(String name, String filename, String contentType,
+                                             String content, UploadConfig config) throws IOException {
+        Path tempDir = Paths.get(config.resolveTempDir());
+        Files.createDirectories(tempDir);
+        Path tempFile = Files.createTempFile(tempDir, "upload-", ".part");
+
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.wrap(content);
+        ByteBuffer out = ByteBuffer.allocate(SPILL_BUFFER_SIZE);
+        long written = 0;
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            boolean flushing = false;
+            while (true) {
+                CoderResult result = flushing ? encoder.flush(out) : encoder.encode(in, out, true);
+                out.flip();
+                while (out.hasRemaining()) {
+                    written += channel.write(out);
+                }
+                out.clear();
+
+                if (result.isUnderflow()) {
+                    if (flushing) {
+                        break;
+                    }
+                    flushing = true;
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        return new DiskMultipartFile(name, filename, contentType, tempFile, written);
+    }
+
     /**
      * 헤더 섹션을 파싱하여 맵으로 변환합니다.
      *
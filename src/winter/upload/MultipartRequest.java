@@ -138,6 +138,24 @@ public class MultipartRequest extends HttpRequest {
                 .sum();
     }
 
+    /**
+     * transferTo()로 옮겨지지 않은 임시 파일들을 삭제합니다.
+     * 요청 처리가 끝난 뒤 Dispatcher가 호출합니다.
+     *
+     * @return 삭제된 임시 파일 개수
+     */
+    public int cleanupTempFiles() {
+        int deleted = 0;
+        for (List<MultipartFile> fileList : files.values()) {
+            for (MultipartFile file : fileList) {
+                if (file instanceof DiskMultipartFile && ((DiskMultipartFile) file).delete()) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
     @Override
     public String toString() {
         return "MultipartRequest{" +
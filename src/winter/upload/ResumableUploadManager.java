@@ -0,0 +1,466 @@
+package winter.upload;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 재개 가능한(resumable) 청크 업로드를 관리하는 클래스
+ *
+ * 프로토콜:
+ * 1. initiate  : 파일명, 전체 크기, 청크 크기를 받아 업로드 세션을 만들고 전체 크기의 파일을 미리 할당
+ * 2. chunk     : "Content-Range: bytes start-end/total" 로 청크 하나를 해당 오프셋에 기록
+ * 3. status    : 받은 범위/빠진 범위 조회 (클라이언트는 빠진 범위만 다시 전송)
+ * 4. complete  : 모든 청크가 도착했으면 미리 할당한 파일을 그대로 업로드 파일로 넘김 (추가 복사 없음)
+ *
+ * 청크는 FileChannel의 위치 지정 쓰기(write(buffer, position))로 기록하므로
+ * 여러 청크를 동시에 병렬로 받아도 서로의 위치에 영향을 주지 않습니다.
+ * 어떤 청크를 받았는지는 청크당 1비트의 비트맵(AtomicLongArray)으로 관리합니다.
+ * 청크 크기는 64KB 이상, 청크 수는 MAX_TOTAL_CHUNKS 이하로 제한합니다. (세션당 메모리와 상태 조회 비용 제한)
+ *
+ * 세션 하나가 전체 크기의 파일과 열린 FileChannel을 잡고 있으므로
+ * - 동시에 진행할 수 있는 세션 수를 maxActiveUploads로 제한하고 (초과하면 initiate 거부)
+ * - 백그라운드 데몬 스레드가 maxIdleMillis 동안 청크가 오지 않은 세션의 채널을 닫고 작업 파일을 삭제합니다.
+ */
+public class ResumableUploadManager {
+
+    private static final long DEFAULT_CHUNK_SIZE = 1024 * 1024; // 1MB
+    public static final long MIN_CHUNK_SIZE = 64 * 1024;        // 64KB
+    // 세션당 비트맵(8KB)과 청크마다 다시 만드는 범위 목록의 크기를 제한 (1MB 청크면 64GB까지)
+    public static final int MAX_TOTAL_CHUNKS = 65_536;
+    public static final int DEFAULT_MAX_ACTIVE_UPLOADS = 32;
+    public static final long DEFAULT_MAX_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long EXPIRY_CHECK_INTERVAL_SECONDS = 60;
+
+    private final UploadConfig uploadConfig;
+    private final Path workDir;
+    private final Map<String, ResumableUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger activeUploads = new AtomicInteger(); // initiate 중인 세션까지 포함한 예약 수
+    private final ScheduledExecutorService expiryExecutor;
+    private volatile int maxActiveUploads = DEFAULT_MAX_ACTIVE_UPLOADS;
+    private volatile long maxIdleMillis = DEFAULT_MAX_IDLE_MILLIS;
+
+    /**
+     * 업로드 세션 하나 (청크 비트맵 + 미리 할당된 파일)
+     */
+    public static final class ResumableUpload {
+        private final String uploadId;
+        private final String filename;
+        private final String contentType;
+        private final long totalSize;
+        private final long chunkSize;
+        private final int totalChunks;
+        private final Path partFile;
+        private final FileChannel channel;
+        private final AtomicLongArray receivedBitmap;
+        private volatile long lastActivity;
+
+        ResumableUpload(String uploadId, String filename, String contentType,
+                        long totalSize, long chunkSize, Path partFile, FileChannel channel) {
+            this.uploadId = uploadId;
+            this.filename = filename;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            this.partFile = partFile;
+            this.channel = channel;
+            this.receivedBitmap = new AtomicLongArray((totalChunks + 63) / 64);
+            this.lastActivity = System.currentTimeMillis();
+        }
+
+        public String getUploadId() { return uploadId; }
+        public String getFilename() { return filename; }
+        public String getContentType() { return contentType; }
+        public long getTotalSize() { return totalSize; }
+        public long getChunkSize() { return chunkSize; }
+        public int getTotalChunks() { return totalChunks; }
+        public long getLastActivity() { return lastActivity; }
+
+        /**
+         * 청크 수신 여부를 확인합니다.
+         */
+        public boolean isChunkReceived(int chunkIndex) {
+            return (receivedBitmap.get(chunkIndex >>> 6) & (1L << (chunkIndex & 63))) != 0;
+        }
+
+        private void markReceived(int chunkIndex) {
+            int word = chunkIndex >>> 6;
+            long bit = 1L << (chunkIndex & 63);
+            long current;
+            do {
+                current = receivedBitmap.get(word);
+            } while ((current & bit) == 0 && !receivedBitmap.compareAndSet(word, current, current | bit));
+        }
+
+        /**
+         * 받은 청크 수를 반환합니다.
+         */
+        public int getReceivedChunks() {
+            int count = 0;
+            for (int i = 0; i < receivedBitmap.length(); i++) {
+                count += Long.bitCount(receivedBitmap.get(i));
+            }
+            return count;
+        }
+
+        public boolean isComplete() {
+            return getReceivedChunks() == totalChunks;
+        }
+
+        /**
+         * 받은 바이트 범위 목록을 반환합니다. (연속된 청크는 하나의 범위로 합침, "start-end" 포함 범위)
+         */
+        public List<String> getReceivedRanges() {
+            return collectRanges(true);
+        }
+
+        /**
+         * 아직 받지 못한 바이트 범위 목록을 반환합니다.
+         */
+        public List<String> getMissingRanges() {
+            return collectRanges(false);
+        }
+
+        private List<String> collectRanges(boolean received) {
+            List<String> ranges = new ArrayList<>();
+            int start = -1;
+            for (int i = 0; i <= totalChunks; i++) {
+                boolean match = i < totalChunks && isChunkReceived(i) == received;
+                if (match && start == -1) {
+                    start = i;
+                } else if (!match && start != -1) {
+                    long from = start * chunkSize;
+                    long to = Math.min((long) i * chunkSize, totalSize) - 1;
+                    ranges.add(from + "-" + to);
+                    start = -1;
+                }
+            }
+            return ranges;
+        }
+
+        @Override
+        public String toString() {
+            return "ResumableUpload{" +
+                    "uploadId='" + uploadId + '\'' +
+                    ", filename='" + filename + '\'' +
+                    ", totalSize=" + totalSize +
+                    ", chunks=" + getReceivedChunks() + "/" + totalChunks +
+                    '}';
+        }
+    }
+
+    /**
+     * 업로드 설정으로 관리자를 생성합니다.
+     * 작업 파일은 업로드 임시 디렉토리 아래 "resumable"에 만들어지므로 완료 시 이동이 원자적 이름 변경이 됩니다.
+     *
+     * @param uploadConfig 업로드 설정
+     */
+    public ResumableUploadManager(UploadConfig uploadConfig) {
+        this.uploadConfig = uploadConfig;
+        this.workDir = Paths.get(uploadConfig.resolveTempDir(), "resumable");
+
+        // 유휴 세션 정리 (SessionManager와 같은 방식의 데몬 스케줄러)
+        this.expiryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ResumableUploadExpiry");
+            t.setDaemon(true);
+            return t;
+        });
+        expiryExecutor.scheduleAtFixedRate(() -> {
+            try {
+                int expired = expireIdleUploads(maxIdleMillis);
+                if (expired > 0) {
+                    System.out.println("[ResumableUploadManager] 유휴 업로드 세션 " + expired + "개 정리. 진행 중: " + uploads.size());
+                }
+            } catch (RuntimeException e) {
+                System.err.println("유휴 업로드 세션 정리 실패: " + e.getMessage());
+            }
+        }, EXPIRY_CHECK_INTERVAL_SECONDS, EXPIRY_CHECK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 동시에 진행할 수 있는 업로드 세션 수 (기본 32)
+     */
+    public ResumableUploadManager setMaxActiveUploads(int maxActiveUploads) {
+        if (maxActiveUploads < 1) {
+            throw new IllegalArgumentException("maxActiveUploads must be positive: " + maxActiveUploads);
+        }
+        this.maxActiveUploads = maxActiveUploads;
+        return this;
+    }
+
+    public int getMaxActiveUploads() {
+        return maxActiveUploads;
+    }
+
+    /**
+     * 청크가 오지 않으면 세션을 정리할 유휴 시간 (기본 30분, 1분 간격으로 확인)
+     */
+    public ResumableUploadManager setMaxIdleMillis(long maxIdleMillis) {
+        if (maxIdleMillis <= 0) {
+            throw new IllegalArgumentException("maxIdleMillis must be positive: " + maxIdleMillis);
+        }
+        this.maxIdleMillis = maxIdleMillis;
+        return this;
+    }
+
+    public long getMaxIdleMillis() {
+        return maxIdleMillis;
+    }
+
+    /**
+     * 업로드 세션을 시작하고 전체 크기의 파일을 미리 할당합니다.
+     *
+     * @param filename 원본 파일명
+     * @param contentType MIME 타입 (null 가능)
+     * @param totalSize 전체 파일 크기 (바이트)
+     * @param chunkSize 청크 크기 (0 이하이면 기본값 1MB, 파일 전체가 한 청크가 아니면 64KB 이상)
+     * @return 생성된 업로드 세션
+     * @throws IOException 파일 할당 실패시
+     * @throws IllegalArgumentException 크기가 허용 범위를 벗어나거나 청크가 너무 작거나 많을 때
+     * @throws UploadLimitExceededException 진행 중인 세션이 maxActiveUploads개일 때
+     */
+    public ResumableUpload initiate(String filename, String contentType, long totalSize, long chunkSize) throws IOException {
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException("Total size must be positive: " + totalSize);
+        }
+        if (!FileUploadUtil.isValidFileSize(totalSize, uploadConfig.getMaxFileSize())) {
+            throw new IllegalArgumentException("File too large: " + totalSize + " bytes (max " +
+                    uploadConfig.getMaxFileSize() + ")");
+        }
+        long effectiveChunkSize;
+        if (chunkSize > 0) {
+            if (chunkSize < MIN_CHUNK_SIZE && chunkSize < totalSize) {
+                throw new IllegalArgumentException("Chunk size too small: " + chunkSize + " bytes (min " + MIN_CHUNK_SIZE + ")");
+            }
+            effectiveChunkSize = chunkSize;
+        } else {
+            // 기본 청크로 청크 수 상한을 넘는 큰 파일은 청크를 키움
+            effectiveChunkSize = Math.max(DEFAULT_CHUNK_SIZE, (totalSize + MAX_TOTAL_CHUNKS - 1) / MAX_TOTAL_CHUNKS);
+        }
+        long totalChunks = (totalSize + effectiveChunkSize - 1) / effectiveChunkSize;
+        if (totalChunks > MAX_TOTAL_CHUNKS) {
+            throw new IllegalArgumentException("Too many chunks: " + totalChunks + " (max " + MAX_TOTAL_CHUNKS +
+                    "), use a chunk size of at least " + ((totalSize + MAX_TOTAL_CHUNKS - 1) / MAX_TOTAL_CHUNKS) + " bytes");
+        }
+
+        // 파일을 할당하기 전에 자리를 예약 (동시 initiate가 한도를 넘지 않도록)
+        if (activeUploads.incrementAndGet() > maxActiveUploads) {
+            activeUploads.decrementAndGet();
+            throw new UploadLimitExceededException("Too many active uploads (max " + maxActiveUploads + ")");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path partFile = workDir.resolve(uploadId + ".part");
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(workDir);
+            // 전체 크기로 미리 할당 (파일시스템이 지원하면 희소 파일)
+            try (RandomAccessFile raf = new RandomAccessFile(partFile.toFile(), "rw")) {
+                raf.setLength(totalSize);
+            }
+            channel = FileChannel.open(partFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            activeUploads.decrementAndGet();
+            if (channel != null) {
+                channel.close();
+            }
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+
+        ResumableUpload upload = new ResumableUpload(uploadId, filename, contentType,
+                totalSize, effectiveChunkSize, partFile, channel);
+        uploads.put(uploadId, upload);
+
+        System.out.println("재개 가능 업로드 시작: " + upload);
+        return upload;
+    }
+
+    /**
+     * 청크 하나를 기록합니다.
+     * 범위는 청크 경계에 맞아야 하며, 마지막 청크를 제외하면 정확히 청크 크기여야 합니다.
+     * 이미 받은 청크를 다시 보내면 같은 위치에 덮어씁니다. (재전송 허용)
+     *
+     * @param uploadId 업로드 ID
+     * @param start 시작 오프셋 (포함)
+     * @param end 끝 오프셋 (포함)
+     * @param data 청크 내용
+     * @return 업로드 세션
+     * @throws IOException 기록 실패시
+     * @throws IllegalArgumentException 범위가 올바르지 않을 때
+     * @throws IllegalStateException 업로드 세션이 없을 때
+     */
+    public ResumableUpload writeChunk(String uploadId, long start, long end, byte[] data) throws IOException {
+        ResumableUpload upload = getRequired(uploadId);
+
+        if (start < 0 || end < start || end >= upload.totalSize) {
+            throw new IllegalArgumentException("Invalid range: " + start + "-" + end + "/" + upload.totalSize);
+        }
+        if (start % upload.chunkSize != 0) {
+            throw new IllegalArgumentException("Range start is not aligned to chunk size " + upload.chunkSize + ": " + start);
+        }
+        long length = end - start + 1;
+        long expected = Math.min(upload.chunkSize, upload.totalSize - start);
+        if (length != expected || data.length != length) {
+            throw new IllegalArgumentException("Chunk length mismatch: range " + length +
+                    ", body " + data.length + ", expected " + expected);
+        }
+
+        // 위치 지정 쓰기: 채널의 공유 position을 건드리지 않으므로 병렬 청크 업로드에 안전
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = start;
+        while (buffer.hasRemaining()) {
+            position += upload.channel.write(buffer, position);
+        }
+
+        upload.markReceived((int) (start / upload.chunkSize));
+        upload.lastActivity = System.currentTimeMillis();
+        return upload;
+    }
+
+    /**
+     * 업로드 세션을 조회합니다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 업로드 세션, 없으면 null
+     */
+    public ResumableUpload getUpload(String uploadId) {
+        return uploadId != null ? uploads.get(uploadId) : null;
+    }
+
+    /**
+     * 모든 청크가 도착한 업로드를 완료하고, 미리 할당한 파일을 감싼 MultipartFile을 반환합니다.
+     * 반환된 파일의 transferTo()는 원자적 이름 변경이므로 완료 과정에서 데이터 복사가 없습니다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 완성된 파일 (DiskMultipartFile)
+     * @throws IOException 파일 동기화 실패시
+     * @throws IllegalStateException 세션이 없거나 빠진 청크가 있을 때
+     */
+    public DiskMultipartFile complete(String uploadId) throws IOException {
+        ResumableUpload upload = getRequired(uploadId);
+        if (!upload.isComplete()) {
+            throw new IllegalStateException("Upload is incomplete, missing ranges: " + upload.getMissingRanges());
+        }
+
+        if (uploads.remove(uploadId) == null) {
+            throw new IllegalStateException("Upload already completed: " + uploadId);
+        }
+        activeUploads.decrementAndGet();
+        upload.channel.force(true);
+        upload.channel.close();
+
+        System.out.println("재개 가능 업로드 완료: " + upload);
+        return new DiskMultipartFile("file", upload.filename, upload.contentType,
+                upload.partFile, upload.totalSize);
+    }
+
+    /**
+     * 업로드 세션을 취소하고 작업 파일을 삭제합니다.
+     *
+     * @param uploadId 업로드 ID
+     * @return 세션이 있었으면 true
+     */
+    public boolean abort(String uploadId) {
+        ResumableUpload upload = uploadId != null ? uploads.remove(uploadId) : null;
+        if (upload == null) {
+            return false;
+        }
+        activeUploads.decrementAndGet();
+        try {
+            upload.channel.close();
+            Files.deleteIfExists(upload.partFile);
+        } catch (IOException e) {
+            System.err.println("업로드 작업 파일 삭제 실패: " + upload.partFile + " - " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 지정 시간 동안 청크가 오지 않은 업로드 세션을 정리합니다.
+     *
+     * @param maxIdleMillis 최대 유휴 시간 (밀리초)
+     * @return 정리된 세션 수
+     */
+    public int expireIdleUploads(long maxIdleMillis) {
+        long now = System.currentTimeMillis();
+        int expired = 0;
+        for (ResumableUpload upload : new ArrayList<>(uploads.values())) {
+            if (now - upload.lastActivity > maxIdleMillis && abort(upload.uploadId)) {
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * 정리 스케줄러를 멈추고 진행 중인 모든 세션의 채널을 닫고 작업 파일을 삭제합니다.
+     */
+    public void shutdown() {
+        expiryExecutor.shutdownNow();
+        for (String uploadId : new ArrayList<>(uploads.keySet())) {
+            abort(uploadId);
+        }
+    }
+
+    /**
+     * 진행 중인 업로드 세션 수를 반환합니다.
+     */
+    public int getActiveUploadCount() {
+        return uploads.size();
+    }
+
+    private ResumableUpload getRequired(String uploadId) {
+        ResumableUpload upload = getUpload(uploadId);
+        if (upload == null) {
+            throw new IllegalStateException("Unknown upload: " + uploadId);
+        }
+        return upload;
+    }
+
+    /**
+     * "bytes start-end/total" 형식의 Content-Range 헤더를 파싱합니다.
+     *
+     * @param contentRange Content-Range 헤더값
+     * @return {start, end, total} 배열, 형식이 올바르지 않으면 null
+     */
+    public static long[] parseContentRange(String contentRange) {
+        if (contentRange == null) {
+            return null;
+        }
+        String value = contentRange.trim();
+        if (!value.startsWith("bytes ")) {
+            return null;
+        }
+        value = value.substring("bytes ".length()).trim();
+        int dash = value.indexOf('-');
+        int slash = value.indexOf('/');
+        if (dash <= 0 || slash <= dash) {
+            return null;
+        }
+        try {
+            long start = Long.parseLong(value.substring(0, dash).trim());
+            long end = Long.parseLong(value.substring(dash + 1, slash).trim());
+            long total = Long.parseLong(value.substring(slash + 1).trim());
+            return new long[]{start, end, total};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,348 @@
+package winter.upload;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드된 이미지의 썸네일을 백그라운드에서 생성하는 서비스
+ *
+ * 동작 방식:
+ * - 이미지가 저장된 뒤 requestThumbnails()를 호출하면 작업만 큐에 넣고 즉시 반환합니다. (업로드는 기다리지 않음)
+ * - 작업은 CPU 코어 수만큼의 워커 스레드가 javax.imageio로 처리합니다.
+ * - 같은 원본에 대한 요청이 진행 중이면 새 작업을 만들지 않고 진행 중인 작업을 공유합니다.
+ * - 결과는 ".thumbs/원본파일명_크기.확장자"로 디스크에 캐시되며, 원본보다 새로우면 다시 만들지 않습니다.
+ * - 큐가 가득 차면 작업을 버립니다. 썸네일은 나중에 조회될 때 다시 요청되므로 안전합니다.
+ *
+ * 조회는 resolve()를 사용합니다. 썸네일이 준비되어 있으면 썸네일 경로를, 아니면 원본 경로를 반환합니다.
+ *
+ * 디코딩 전에 헤더에서 가로/세로 크기만 먼저 읽어, 픽셀 수가 상한을 넘는 이미지(압축 폭탄)는 거부하고
+ * 가장 큰 썸네일보다 훨씬 큰 이미지는 서브샘플링으로 줄여 읽습니다. (원본 크기의 픽셀 버퍼를 만들지 않음)
+ */
+public class ThumbnailService {
+
+    private static final int WORKER_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = 256;
+
+    // 디코딩을 허용하는 최대 픽셀 수 (약 50MP, 서브샘플링 전 기준)
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    /** 썸네일 디렉토리별 공유 인스턴스 (진행 중인 작업 병합을 위해 하나만 사용) */
+    private static final Map<Path, ThumbnailService> SERVICES = new ConcurrentHashMap<>();
+
+    private static final ThreadPoolExecutor WORKERS = new ThreadPoolExecutor(
+            WORKER_THREADS, WORKER_THREADS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            new java.util.concurrent.ThreadFactory() {
+                private final AtomicInteger sequence = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "winter-thumbnail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1); // 요청 처리 스레드보다 낮은 우선순위
+                    return thread;
+                }
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    private final Path thumbnailDir;
+    private final int[] sizes;
+    private final Map<Path, CompletableFuture<Map<Integer, Path>>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public ThumbnailService(Path thumbnailDir, int... sizes) {
+        this.thumbnailDir = thumbnailDir.toAbsolutePath().normalize();
+        this.sizes = sizes.clone();
+        Arrays.sort(this.sizes);
+    }
+
+    /**
+     * 업로드 설정에 해당하는 공유 서비스를 반환합니다.
+     *
+     * @param config 업로드 설정 (썸네일 크기, 업로드 디렉토리)
+     * @return 공유 서비스
+     */
+    public static ThumbnailService forConfig(UploadConfig config) {
+        Path dir = Paths.get(config.resolveThumbnailDir()).toAbsolutePath().normalize();
+        return SERVICES.computeIfAbsent(dir, key -> new ThumbnailService(key, config.getThumbnailSizes()));
+    }
+
+    /**
+     * 원본 이미지의 썸네일 생성을 요청합니다. 호출 스레드는 기다리지 않습니다.
+     *
+     * @param source 저장된 원본 이미지
+     * @return 크기별 썸네일 경로 Future (실패하거나 버려지면 예외로 완료)
+     */
+    public CompletableFuture<Map<Integer, Path>> requestThumbnails(Path source) {
+        Path key = source.toAbsolutePath().normalize();
+        if (sizes.length == 0) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        CompletableFuture<Map<Integer, Path>> created = new CompletableFuture<>();
+        CompletableFuture<Map<Integer, Path>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+
+        try {
+            WORKERS.execute(() -> {
+                try {
+                    created.complete(generateAll(key));
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    System.err.println("썸네일 생성 실패: " + key.getFileName() + " - " + e.getMessage());
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            System.out.println("썸네일 큐가 가득 차서 요청을 버립니다: " + key.getFileName());
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    /**
+     * 요청한 크기에 맞는 이미지를 반환합니다.
+     * 요청 크기 이상인 썸네일 중 가장 작은 것이 준비되어 있으면 그 경로를, 아니면 원본 경로를 반환합니다.
+     * 썸네일이 없으면 백그라운드 생성을 요청해 두므로 다음 조회부터는 썸네일이 반환됩니다.
+     *
+     * @param source 원본 이미지
+     * @param requestedSize 원하는 크기 (픽셀)
+     * @return 썸네일 또는 원본 경로
+     */
+    public Path resolve(Path source, int requestedSize) {
+        Integer size = selectSize(requestedSize);
+        if (size == null) {
+            return source;
+        }
+        Path thumbnail = thumbnailPath(source, size);
+        if (isFresh(thumbnail, source)) {
+            cacheHits.incrementAndGet();
+            return thumbnail;
+        }
+        if (Files.exists(source)) {
+            requestThumbnails(source);
+        }
+        return source;
+    }
+
+    /**
+     * 크기별 썸네일을 생성합니다. (워커 스레드에서 실행)
+     */
+    private Map<Integer, Path> generateAll(Path source) throws IOException {
+        Map<Integer, Path> result = new LinkedHashMap<>();
+        BufferedImage original = null;
+
+        for (int size : sizes) {
+            Path target = thumbnailPath(source, size);
+            if (isFresh(target, source)) {
+                result.put(size, target);
+                continue;
+            }
+            if (original == null) {
+                // 모든 크기가 캐시되어 있으면 원본을 디코딩하지 않음
+                original = readImage(source);
+            }
+            writeAtomically(resize(original, size), formatOf(source), target);
+            generated.incrementAndGet();
+            result.put(size, target);
+        }
+
+        System.out.println("썸네일 준비 완료: " + source.getFileName() + " " + result.keySet());
+        return result;
+    }
+
+    /**
+     * 크기를 먼저 확인한 뒤 가장 큰 썸네일의 2배 정도까지만 서브샘플링하여 디코딩합니다.
+     *
+     * @throws IOException 지원하지 않는 형식이거나 픽셀 수가 상한을 넘는 경우
+     */
+    private BufferedImage readImage(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식: " + source.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width <= 0 || height <= 0 || (long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("이미지가 너무 큽니다: " + source.getFileName() + " (" + width + "x" + height + ")");
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (sizes[sizes.length - 1] * 2));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSize가 되도록 비율을 유지해 축소합니다. (원본이 더 작으면 그대로 사용)
+     */
+    private BufferedImage resize(BufferedImage original, int maxSize) {
+        int width = original.getWidth();
+        int height = original.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        int type = original.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 이동합니다. (조회 스레드가 쓰다 만 파일을 보지 않도록)
+     */
+    private void writeAtomically(BufferedImage image, String format, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".thumb-", ".tmp");
+        try {
+            if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("이미지 인코더가 없습니다: " + format);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 모든 썸네일보다 큰 크기를 요청하면 원본을 사용 (null)
+    private Integer selectSize(int requestedSize) {
+        for (int size : sizes) {
+            if (size >= requestedSize) {
+                return size;
+            }
+        }
+        return null;
+    }
+
+    private boolean isFresh(Path thumbnail, Path source) {
+        try {
+            return Files.exists(thumbnail) &&
+                    Files.getLastModifiedTime(thumbnail).compareTo(Files.getLastModifiedTime(source)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 썸네일 캐시 경로: .thumbs/원본파일명_크기.확장자
+     * 중복 제거 저장소의 blob은 파일명이 내용 해시이므로 같은 이미지의 썸네일도 한 번만 생성됩니다.
+     */
+    public Path thumbnailPath(Path source, int size) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return thumbnailDir.resolve(base + "_" + size + "." + formatOf(source));
+    }
+
+    /**
+     * JPEG 원본은 JPEG로, 그 외(PNG, GIF, 확장자 없는 blob 등)는 투명도를 보존하도록 PNG로 저장합니다.
+     */
+    private String formatOf(Path source) {
+        String name = source.getFileName().toString().toLowerCase();
+        return name.endsWith(".jpg") || name.endsWith(".jpeg") ? "jpg" : "png";
+    }
+
+    public int[] getSizes() {
+        return sizes.clone();
+    }
+
+    public Path getThumbnailDir() {
+        return thumbnailDir;
+    }
+
+    public int getPendingCount() {
+        return inFlight.size();
+    }
+
+    public long getGeneratedCount() {
+        return generated.get();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ThumbnailService{" +
+                "thumbnailDir=" + thumbnailDir +
+                ", sizes=" + Arrays.toString(sizes) +
+                ", pending=" + inFlight.size() +
+                ", generated=" + generated.get() +
+                ", cacheHits=" + cacheHits.get() +
+                ", coalesced=" + coalesced.get() +
+                ", rejected=" + rejected.get() +
+                ", failed=" + failed.get() +
+                '}';
+    }
+}
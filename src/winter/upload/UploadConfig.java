@@ -1,5 +1,6 @@
 package winter.upload;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 
 /**
@@ -20,6 +21,7 @@ public class UploadConfig {
             ".zip", ".rar", ".7z",                    // 압축
             ".mp3", ".wav", ".mp4", ".avi"            // 미디어
     };
+    private static final long DEFAULT_FILE_SIZE_THRESHOLD = 64 * 1024; // 64KB
 
     private String uploadDir;
     private long maxFileSize;
@@ -27,6 +29,10 @@ public class UploadConfig {
     private String[] allowedExtensions;
     private boolean createUploadDir;
     private boolean overwriteExisting;
+    private long fileSizeThreshold;
+    private String tempDir;
+    private boolean deduplicateStorage;
+    private int[] thumbnailSizes;
 
     /**
      * 기본 설정으로 UploadConfig를 생성합니다.
@@ -38,6 +44,10 @@ public class UploadConfig {
         this.allowedExtensions = DEFAULT_ALLOWED_EXTENSIONS.clone();
         this.createUploadDir = true;
         this.overwriteExisting = true;
+        this.fileSizeThreshold = DEFAULT_FILE_SIZE_THRESHOLD;
+        this.tempDir = null;
+        this.deduplicateStorage = false;
+        this.thumbnailSizes = new int[0];
     }
 
     /**
@@ -171,6 +181,117 @@ public class UploadConfig {
         return this;
     }
 
+    /**
+     * 파일 파트를 임시 파일로 내려쓰기 시작하는 크기를 반환합니다. (바이트 단위)
+     *
+     * @return 디스크 저장 임계값
+     */
+    public long getFileSizeThreshold() {
+        return fileSizeThreshold;
+    }
+
+    /**
+     * 파일 파트를 임시 파일로 내려쓰기 시작하는 크기를 설정합니다. (바이트 단위)
+     * 이 크기를 넘는 파일은 메모리 대신 임시 파일(DiskMultipartFile)에 보관됩니다.
+     * 0이면 모든 파일을 임시 파일로 저장합니다.
+     *
+     * @param fileSizeThreshold 디스크 저장 임계값
+     * @return 체이닝을 위한 this 객체
+     */
+    public UploadConfig setFileSizeThreshold(long fileSizeThreshold) {
+        this.fileSizeThreshold = Math.max(0, fileSizeThreshold);
+        return this;
+    }
+
+    /**
+     * 업로드 임시 파일 디렉토리를 반환합니다.
+     *
+     * @return 임시 디렉토리 경로, 지정하지 않았다면 null (업로드 디렉토리 아래 ".tmp" 사용)
+     */
+    public String getTempDir() {
+        return tempDir;
+    }
+
+    /**
+     * 업로드 임시 파일 디렉토리를 설정합니다.
+     * 업로드 디렉토리와 같은 파일시스템에 두어야 transferTo()가 원자적 이동으로 처리됩니다.
+     *
+     * @param tempDir 임시 디렉토리 경로
+     * @return 체이닝을 위한 this 객체
+     */
+    public UploadConfig setTempDir(String tempDir) {
+        this.tempDir = tempDir;
+        return this;
+    }
+
+    /**
+     * 실제로 사용할 임시 디렉토리를 반환합니다.
+     * 별도로 지정하지 않았다면 업로드 디렉토리 아래의 ".tmp"를 사용합니다.
+     *
+     * @return 임시 디렉토리 경로
+     */
+    public String resolveTempDir() {
+        return tempDir != null ? tempDir : Paths.get(uploadDir, ".tmp").toString();
+    }
+
+    /**
+     * 내용 기반 중복 제거 저장 모드 사용 여부를 반환합니다.
+     *
+     * @return 중복 제거 저장 여부
+     */
+    public boolean isDeduplicateStorage() {
+        return deduplicateStorage;
+    }
+
+    /**
+     * 내용 기반 중복 제거 저장 모드를 설정합니다.
+     * 활성화하면 파일은 ContentAddressedStore를 통해 SHA-256 해시 경로에 한 번만 저장됩니다.
+     *
+     * @param deduplicateStorage 중복 제거 저장 여부
+     * @return 체이닝을 위한 this 객체
+     */
+    public UploadConfig setDeduplicateStorage(boolean deduplicateStorage) {
+        this.deduplicateStorage = deduplicateStorage;
+        return this;
+    }
+
+    /**
+     * 이미지 업로드 후 생성할 썸네일 크기 목록을 반환합니다.
+     *
+     * @return 썸네일 크기 목록 (픽셀, 긴 변 기준). 비어 있으면 썸네일을 만들지 않음
+     */
+    public int[] getThumbnailSizes() {
+        return thumbnailSizes.clone();
+    }
+
+    /**
+     * 이미지 업로드 후 생성할 썸네일 크기 목록을 설정합니다.
+     * 썸네일은 ThumbnailService가 백그라운드에서 생성하므로 업로드 응답은 기다리지 않습니다.
+     *
+     * @param thumbnailSizes 썸네일 크기 목록 (픽셀, 긴 변 기준)
+     * @return 체이닝을 위한 this 객체
+     */
+    public UploadConfig setThumbnailSizes(int... thumbnailSizes) {
+        int[] sizes = thumbnailSizes != null ? thumbnailSizes.clone() : new int[0];
+        for (int size : sizes) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("Thumbnail size must be positive: " + size);
+            }
+        }
+        Arrays.sort(sizes);
+        this.thumbnailSizes = sizes;
+        return this;
+    }
+
+    /**
+     * 썸네일 캐시 디렉토리를 반환합니다. (업로드 디렉토리 아래의 ".thumbs")
+     *
+     * @return 썸네일 디렉토리 경로
+     */
+    public String resolveThumbnailDir() {
+        return Paths.get(uploadDir, ".thumbs").toString();
+    }
+
     /**
      * 편의 메서드: 이미지 파일만 허용하도록 설정합니다.
      *
@@ -232,6 +353,10 @@ public class UploadConfig {
                 ", allowedExtensions=" + Arrays.toString(allowedExtensions) +
                 ", createUploadDir=" + createUploadDir +
                 ", overwriteExisting=" + overwriteExisting +
+                ", fileSizeThreshold=" + fileSizeThreshold + " bytes" +
+                ", tempDir='" + resolveTempDir() + '\'' +
+                ", deduplicateStorage=" + deduplicateStorage +
+                ", thumbnailSizes=" + Arrays.toString(thumbnailSizes) +
                 '}';
     }
 }
\ No newline at end of file
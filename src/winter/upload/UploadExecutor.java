@@ -0,0 +1,83 @@
+package winter.upload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 파일 저장 같은 디스크 I/O 작업을 병렬로 실행하는 공용 실행기
+ *
+ * 다중 파일 업로드에서 파일마다 저장 작업을 제출하고 모두 끝날 때까지 기다리므로,
+ * 전체 소요 시간은 파일별 저장 시간의 합이 아니라 가장 느린 파일 하나의 시간에 가깝습니다.
+ *
+ * 스레드는 데몬 스레드이므로 애플리케이션 종료를 막지 않습니다.
+ */
+public class UploadExecutor {
+
+    private static final int IO_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(IO_THREADS, new java.util.concurrent.ThreadFactory() {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "winter-upload-io-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private UploadExecutor() {
+        // 유틸리티 클래스는 인스턴스 생성 방지
+    }
+
+    /**
+     * 작업 하나를 I/O 실행기에 제출합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 Future (작업 예외는 CompletionException으로 감싸짐)
+     */
+    public static <T> CompletableFuture<T> submit(Callable<T> task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, IO_EXECUTOR);
+    }
+
+    /**
+     * 여러 작업을 병렬로 실행하고 모두 끝날 때까지 기다립니다.
+     * 결과 목록의 순서는 작업 목록의 순서와 같습니다.
+     *
+     * @param tasks 실행할 작업 목록
+     * @return 작업별 Future 목록 (모두 완료된 상태)
+     */
+    public static <T> List<CompletableFuture<T>> invokeAll(List<Callable<T>> tasks) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(submit(task));
+        }
+
+        // 실패한 작업이 있어도 나머지 작업이 모두 끝날 때까지 기다림
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .join();
+        return futures;
+    }
+
+    /**
+     * I/O 스레드 수를 반환합니다.
+     *
+     * @return 스레드 수
+     */
+    public static int getIoThreads() {
+        return IO_THREADS;
+    }
+}
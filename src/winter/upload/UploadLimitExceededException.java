@@ -0,0 +1,13 @@
+package winter.upload;
+
+/**
+ * 동시에 진행할 수 있는 업로드 세션 수를 넘었을 때 발생 (잠시 후 다시 시도해야 함)
+ */
+public class UploadLimitExceededException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UploadLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,337 @@
+package winter.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 클래스별로 한 번만 만들어지는 바인딩 계획
+ *
+ * ModelAttributeBinder가 처음 사용하는 클래스마다 아래 정보를 미리 만들어 둡니다.
+ * - 객체 생성 핸들: 기본 생성자, 또는 record의 정식(canonical) 생성자
+ * - 속성 테이블: 파라미터 이름 → 속성 (충돌 없는 해시 테이블, 한 번의 배열 접근으로 조회)
+ * - 속성마다 setter MethodHandle과 미리 찾아 둔 TypeConverter 변환 함수
+ *
+ * 속성 종류:
+ * - SIMPLE:  TypeConverter로 변환 가능한 값 (String, int, LocalDate, String[] 등)
+ * - NESTED:  다른 객체 (address.city)
+ * - LIST:    List 속성 (items[0].name, tags[2], 또는 tags=a&amp;tags=b)
+ */
+final class BinderPlan {
+
+    enum Kind { SIMPLE, NESTED, LIST }
+
+    /**
+     * 바인딩 가능한 속성 하나
+     */
+    static final class Property {
+        final String name;
+        final int slot;
+        final Kind kind;
+        final Class<?> type;
+        /** LIST: 원소 타입, NESTED: 중첩 객체 타입 */
+        final Class<?> elementType;
+        /** SIMPLE: 속성 타입 변환 함수, LIST: 원소가 단순 타입이면 원소 변환 함수 */
+        final Function<String, Object> converter;
+        /** bean 속성의 setter ((Object,Object)void), record 컴포넌트는 null */
+        final MethodHandle setter;
+
+        Property(String name, int slot, Kind kind, Class<?> type, Class<?> elementType,
+                 Function<String, Object> converter, MethodHandle setter) {
+            this.name = name;
+            this.slot = slot;
+            this.kind = kind;
+            this.type = type;
+            this.elementType = elementType;
+            this.converter = converter;
+            this.setter = setter;
+        }
+    }
+
+    private final Class<?> type;
+    private final boolean record;
+    /** bean: ()Object, record: (Object[])Object */
+    private final MethodHandle constructor;
+    private final Property[] properties;
+    private final PropertyTable table;
+    /** record 생성자 인자 기본값 (기본 타입 컴포넌트는 0/false, 나머지는 null) */
+    private final Object[] recordDefaults;
+
+    private BinderPlan(Class<?> type, boolean record, MethodHandle constructor, Property[] properties) {
+        this.type = type;
+        this.record = record;
+        this.constructor = constructor;
+        this.properties = properties;
+        this.table = PropertyTable.build(properties);
+        this.recordDefaults = new Object[record ? properties.length : 0];
+        for (int i = 0; i < recordDefaults.length; i++) {
+            Class<?> componentType = properties[i].type;
+            if (componentType.isPrimitive()) {
+                recordDefaults[i] = Array.get(Array.newInstance(componentType, 1), 0);
+            }
+        }
+    }
+
+    Class<?> getType() {
+        return type;
+    }
+
+    boolean isRecord() {
+        return record;
+    }
+
+    int getPropertyCount() {
+        return properties.length;
+    }
+
+    Property getProperty(int slot) {
+        return properties[slot];
+    }
+
+    /**
+     * 파라미터 이름의 한 구간(예: "address.city"의 "address")으로 속성을 찾습니다.
+     */
+    Property find(String name, int start, int end) {
+        return table.get(name, start, end);
+    }
+
+    /**
+     * 기본 생성자로 bean 인스턴스를 만듭니다.
+     */
+    Object newBean() throws Throwable {
+        return (Object) constructor.invokeExact();
+    }
+
+    /**
+     * record 생성자 인자 배열을 기본값으로 채워 새로 만듭니다.
+     */
+    Object[] newRecordArguments() {
+        return recordDefaults.clone();
+    }
+
+    /**
+     * record 정식 생성자를 호출합니다.
+     */
+    Object newRecord(Object[] arguments) throws Throwable {
+        return (Object) constructor.invokeExact(arguments);
+    }
+
+    /**
+     * 클래스의 바인딩 계획을 만듭니다. (클래스당 한 번, ClassValue에서 호출)
+     */
+    static BinderPlan compile(Class<?> clazz) {
+        try {
+            MethodHandles.Lookup lookup = lookupFor(clazz);
+            BinderPlan plan = clazz.isRecord() ? compileRecord(clazz, lookup) : compileBean(clazz, lookup);
+            System.out.println("바인딩 계획 생성: " + clazz.getSimpleName() +
+                    " (" + plan.properties.length + "개 속성" + (plan.record ? ", record" : "") + ")");
+            return plan;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create binder plan for " + clazz.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static BinderPlan compileBean(Class<?> clazz, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        MethodHandle constructor = lookup.unreflectConstructor(clazz.getDeclaredConstructor())
+                .asType(MethodType.methodType(Object.class));
+
+        // 이름이 같은 setter가 여러 개면(오버로드) 먼저 찾은 것만 사용
+        Map<String, Method> setters = new HashMap<>();
+        for (Method method : clazz.getMethods()) {
+            if (isSetter(method)) {
+                setters.putIfAbsent(propertyName(method.getName()), method);
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (Map.Entry<String, Method> entry : setters.entrySet()) {
+            Method method = entry.getValue();
+            MethodHandle setter = lookup.unreflect(method)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            properties.add(property(entry.getKey(), properties.size(), method.getParameterTypes()[0],
+                    method.getGenericParameterTypes()[0], setter));
+        }
+        return new BinderPlan(clazz, false, constructor, properties.toArray(new Property[0]));
+    }
+
+    private static BinderPlan compileRecord(Class<?> clazz, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        RecordComponent[] components = clazz.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        Property[] properties = new Property[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+            properties[i] = property(components[i].getName(), i, types[i], components[i].getGenericType(), null);
+        }
+
+        Constructor<?> canonical = clazz.getDeclaredConstructor(types);
+        MethodHandle constructor = lookup.unreflectConstructor(canonical)
+                .asSpreader(Object[].class, components.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return new BinderPlan(clazz, true, constructor, properties);
+    }
+
+    private static Property property(String name, int slot, Class<?> type, Type genericType, MethodHandle setter) {
+        if (TypeConverter.isSupported(type)) {
+            return new Property(name, slot, Kind.SIMPLE, type, null, TypeConverter.converterFor(type), setter);
+        }
+
+        if (List.class.equals(type) || Collection.class.equals(type)) {
+            Class<?> elementType = String.class;
+            if (genericType instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    elementType = (Class<?>) argument;
+                }
+            }
+            Function<String, Object> converter = TypeConverter.isSupported(elementType)
+                    ? TypeConverter.converterFor(elementType)
+                    : null;
+            return new Property(name, slot, Kind.LIST, type, elementType, converter, setter);
+        }
+
+        if (isBindableObject(type)) {
+            return new Property(name, slot, Kind.NESTED, type, type, null, setter);
+        }
+
+        // 변환할 수 없는 타입 (Map, Set, 인터페이스 등): 계획에는 넣되 값이 들어오면 변환 오류
+        return new Property(name, slot, Kind.SIMPLE, type, null, value -> {
+            throw new IllegalArgumentException("Unsupported type for conversion: " + type.getName());
+        }, setter);
+    }
+
+    /**
+     * 중첩 바인딩이 가능한 타입인지 확인 (record 또는 기본 생성자가 있는 구체 클래스)
+     */
+    static boolean isBindableObject(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface() ||
+                Modifier.isAbstract(type.getModifiers()) || Set.class.isAssignableFrom(type) ||
+                Map.class.isAssignableFrom(type) || type.getName().startsWith("java.")) {
+            return false;
+        }
+        if (type.isRecord()) {
+            return true;
+        }
+        try {
+            type.getDeclaredConstructor();
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> clazz) {
+        try {
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup(); // 다른 모듈의 클래스는 public 멤버만 사용
+        }
+    }
+
+    /**
+     * 메서드가 setter인지 판단 (이름이 set으로 시작하고, 파라미터가 1개, 반환값이 void여야 함)
+     */
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") &&
+                method.getName().length() > 3 &&
+                method.getParameterCount() == 1 &&
+                method.getReturnType().equals(void.class) &&
+                !Modifier.isStatic(method.getModifiers());
+    }
+
+    /**
+     * setter 메서드 이름으로부터 속성 이름을 추출 (setUserId → userId)
+     */
+    private static String propertyName(String setterName) {
+        String raw = setterName.substring(3);
+        return Character.toLowerCase(raw.charAt(0)) + raw.substring(1);
+    }
+
+    /**
+     * 충돌 없는(perfect) 해시 테이블
+     *
+     * 속성 이름들의 해시값이 서로 다른 칸에 들어가는 가장 작은 2의 거듭제곱 크기를 찾아 만듭니다.
+     * 조회는 해시 계산 한 번, 배열 접근 한 번, 문자열 비교 한 번으로 끝납니다.
+     * 파라미터 이름의 일부 구간(start~end)으로 바로 조회할 수 있어 substring을 만들지 않습니다.
+     */
+    static final class PropertyTable {
+        private static final int MAX_TABLE_SIZE = 1 << 16;
+
+        private final String[] keys;
+        private final Property[] values;
+        private final int mask;
+        private final Map<String, Property> fallback; // 충돌 없는 크기를 못 찾은 경우에만 사용
+
+        private PropertyTable(String[] keys, Property[] values, int mask, Map<String, Property> fallback) {
+            this.keys = keys;
+            this.values = values;
+            this.mask = mask;
+            this.fallback = fallback;
+        }
+
+        static PropertyTable build(Property[] properties) {
+            int size = Integer.highestOneBit(Math.max(1, properties.length * 2 - 1)) << 1;
+            for (; size <= MAX_TABLE_SIZE; size <<= 1) {
+                String[] keys = new String[size];
+                Property[] values = new Property[size];
+                boolean collision = false;
+                for (Property property : properties) {
+                    int index = spread(hash(property.name, 0, property.name.length())) & (size - 1);
+                    if (keys[index] != null) {
+                        collision = true;
+                        break;
+                    }
+                    keys[index] = property.name;
+                    values[index] = property;
+                }
+                if (!collision) {
+                    return new PropertyTable(keys, values, size - 1, null);
+                }
+            }
+
+            Map<String, Property> fallback = new HashMap<>();
+            for (Property property : properties) {
+                fallback.put(property.name, property);
+            }
+            return new PropertyTable(null, null, 0, fallback);
+        }
+
+        Property get(String name, int start, int end) {
+            if (fallback != null) {
+                return fallback.get(name.substring(start, end));
+            }
+            int index = spread(hash(name, start, end)) & mask;
+            String key = keys[index];
+            if (key != null && key.length() == end - start && name.regionMatches(start, key, 0, key.length())) {
+                return values[index];
+            }
+            return null;
+        }
+
+        /** String.hashCode()와 같은 계산을 구간에 대해 수행 */
+        private static int hash(String s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + s.charAt(i);
+            }
+            return h;
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+}
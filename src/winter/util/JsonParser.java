@@ -0,0 +1,261 @@
+package winter.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 간단한 JSON 파서 (JsonSerializer의 반대 방향)
+ *
+ * 변환 결과:
+ * - 객체 → LinkedHashMap<String, Object> (키 순서 유지)
+ * - 배열 → ArrayList<Object>
+ * - 문자열 → String, true/false → Boolean, null → null
+ * - 숫자 → 정수는 Long, 소수/지수는 Double
+ *
+ * 잘못된 JSON이면 위치를 포함한 IllegalArgumentException을 던집니다.
+ */
+public class JsonParser {
+
+    // 중첩 깊이 제한 (악의적인 입력으로 스택이 넘치지 않도록)
+    private static final int MAX_DEPTH = 256;
+
+    private final String json;
+    private int pos;
+    private int depth;
+
+    private JsonParser(String json) {
+        this.json = json;
+    }
+
+    /**
+     * JSON 문자열을 Java 객체로 변환
+     *
+     * @param json JSON 문자열
+     * @return Map, List, String, Long, Double, Boolean 또는 null
+     * @throws IllegalArgumentException JSON 형식이 잘못된 경우
+     */
+    public static Object parse(String json) {
+        JsonParser parser = new JsonParser(json);
+        parser.skipWhitespace();
+        Object value = parser.readValue();
+        parser.skipWhitespace();
+        if (parser.pos < json.length()) {
+            throw parser.error("Unexpected trailing content");
+        }
+        return value;
+    }
+
+    private Object readValue() {
+        if (pos >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        char c = json.charAt(pos);
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                expectWord("true");
+                return Boolean.TRUE;
+            case 'f':
+                expectWord("false");
+                return Boolean.FALSE;
+            case 'n':
+                expectWord("null");
+                return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        enter();
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++; // {
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            depth--;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected object key");
+            }
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect('}');
+                depth--;
+                return object;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        enter();
+        List<Object> array = new ArrayList<>();
+        pos++; // [
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            depth--;
+            return array;
+        }
+        while (true) {
+            skipWhitespace();
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect(']');
+                depth--;
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        pos++; // "
+        StringBuilder sb = null;
+        int start = pos;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                String value = sb == null ? json.substring(start, pos) : sb.append(json, start, pos).toString();
+                pos++;
+                return value;
+            }
+            if (c == '\\') {
+                if (sb == null) {
+                    sb = new StringBuilder();
+                }
+                sb.append(json, start, pos);
+                pos++;
+                sb.append(readEscape());
+                start = pos;
+                continue;
+            }
+            if (c < 0x20) {
+                throw error("Control character in string");
+            }
+            pos++;
+        }
+        throw error("Unterminated string");
+    }
+
+    private char readEscape() {
+        if (pos >= json.length()) {
+            throw error("Unterminated escape");
+        }
+        char c = json.charAt(pos++);
+        switch (c) {
+            case '"': return '"';
+            case '\\': return '\\';
+            case '/': return '/';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'u':
+                if (pos + 4 > json.length()) {
+                    throw error("Invalid unicode escape");
+                }
+                try {
+                    char unicode = (char) Integer.parseInt(json.substring(pos, pos + 4), 16);
+                    pos += 4;
+                    return unicode;
+                } catch (NumberFormatException e) {
+                    throw error("Invalid unicode escape");
+                }
+            default:
+                throw error("Invalid escape '\\" + c + "'");
+        }
+    }
+
+    private Object readNumber() {
+        int start = pos;
+        boolean decimal = false;
+        if (peek() == '-') {
+            pos++;
+        }
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c >= '0' && c <= '9') {
+                pos++;
+            } else if (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+                decimal = true;
+                pos++;
+            } else {
+                break;
+            }
+        }
+        String number = json.substring(start, pos);
+        try {
+            if (!decimal) {
+                return Long.parseLong(number);
+            }
+            return Double.parseDouble(number);
+        } catch (NumberFormatException e) {
+            if (!decimal) {
+                return Double.parseDouble(number); // long 범위를 넘는 정수
+            }
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("JSON nested too deeply");
+        }
+    }
+
+    private void expectWord(String word) {
+        if (!json.startsWith(word, pos)) {
+            throw error("Expected '" + word + "'");
+        }
+        pos += word.length();
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        pos++;
+    }
+
+    private char peek() {
+        return pos < json.length() ? json.charAt(pos) : '\0';
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Invalid JSON at position " + pos + ": " + message);
+    }
+}
@@ -1,6 +1,8 @@
 package winter.util;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -10,6 +12,7 @@ import java.util.Map;
  * 지원하는 타입 :
  * - String, Number, Boolean (기본 타입)
  * - Map<String, Object>(JSON 객체 형태)
+ * - List, Set, Object[] (JSON 배열 형태)
  * - 일반 JAVA 객체 (Reflection을 통한 getter 호출)
  * */
 public class JsonSerializer {
@@ -38,6 +41,14 @@ public class JsonSerializer {
             return mapToJson((Map<?,?>) obj);
         }
 
+        //List, Set, 배열 처리 (JSON 배열)
+        if (obj instanceof Collection<?>){
+            return iterableToJson((Collection<?>) obj);
+        }
+        if (obj instanceof Object[]){
+            return iterableToJson(Arrays.asList((Object[]) obj));
+        }
+
         //일반 객체 처리 (Reflection 사용)
         return objectToJson(obj);
     }
@@ -64,6 +75,26 @@ public class JsonSerializer {
         return sb.toString();
     }
 
+    /**
+     * 컬렉션을 JSON 배열 문자열로 변환
+     * 예 : ["a", 1, {"key":"value"}]*/
+    private static String iterableToJson(Collection<?> items){
+        StringBuilder sb = new StringBuilder("[");
+        boolean first = true;
+
+        for(Object item : items){
+            if(!first){
+                sb.append(",");
+            }
+            first = false;
+            //요소는 재귀적으로 json 변환
+            sb.append(toJson(item));
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+
     /**
      * 일반 Java객체를 JSON으로 변환
      * Reflection을 사용하여 getter 메서드를 호출하고결과를
@@ -2,14 +2,38 @@ package winter.util;
 
 import winter.http.HttpRequest;
 
-import java.lang.reflect.Method;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * HttpRequest의 파라미터 값을 기반으로 Java 객체의 필드(setter)를 자동으로 채워주는 바인딩 유틸리티
- * 예: request에 name=jun, age=25가 있을 때, User 객체의 setName("jun"), setAge("25")를 자동 호출
+ * 예: request에 name=jun, age=25가 있을 때, User 객체의 setName("jun"), setAge(25)를 자동 호출
+ *
+ * 클래스마다 처음 한 번만 BinderPlan(속성 테이블, setter MethodHandle, 변환 함수)을 만들어
+ * ClassValue에 캐시하고, 이후에는 "요청에 들어온 파라미터"만 순회하며 바인딩합니다.
+ * 따라서 바인딩 비용은 클래스의 메서드 수가 아니라 전달된 파라미터 수에 비례합니다.
+ *
+ * 지원하는 파라미터 형태:
+ * - name=jun                     단순 속성
+ * - address.city=Seoul           중첩 객체 (없으면 생성)
+ * - items[0].name=pen            List 원소 객체
+ * - tags[1]=b, tags=a&amp;tags=b     List 원소 값
+ * - record 클래스                 정식 생성자로 생성 (전달되지 않은 컴포넌트는 null/0)
  */
 public class ModelAttributeBinder {
 
+    /** 인덱스 속성의 최대 인덱스 (items[99999999] 같은 요청으로 큰 리스트를 만들지 않도록 제한) */
+    public static final int MAX_INDEX = 1024;
+
+    private static final ClassValue<BinderPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BinderPlan computeValue(Class<?> type) {
+            return BinderPlan.compile(type);
+        }
+    };
+
     /**
      * 요청 파라미터 값을 클래스 객체로 바인딩하여 반환
      *
@@ -20,53 +44,227 @@ public class ModelAttributeBinder {
      */
     public static <T> T bind(HttpRequest request, Class<T> clazz) {
         try {
-            // 전달받은 클래스 타입으로 객체 생성 (기본 생성자 호출)
-            T instance = clazz.getDeclaredConstructor().newInstance();
-
-            // 클래스의 public 메서드 중 setter에 해당하는 것만 골라 파라미터 값을 넣어준다
-            for (Method method : clazz.getMethods()) {
-                if (isSetter(method)) {
-                    // 메서드 이름(setName → name 등)을 기반으로 파라미터 이름 추출
-                    String paramName = getParamNameFromSetter(method.getName());
-
-                    // 요청에서 해당 파라미터 이름의 값 조회
-                    String paramValue = request.getParameter(paramName);
-
-                    // 파라미터가 존재한다면 setter 메서드 호출로 값 세팅
-                    if (paramValue != null) {
-                        // setter 메서드의 파라미터 타입 가져오기
-                        Class<?> paramType = method.getParameterTypes()[0];
-                        
-                        // TypeConverter를 사용하여 타입 변환
-                        Object convertedValue = TypeConverter.convert(paramValue, paramType);
-                        
-                        method.invoke(instance, convertedValue);
-                    }
-                }
-            }
-            return instance;
+            ObjectNode root = new ObjectNode(PLANS.get(clazz));
 
-        } catch (Exception e) {
+            // 요청에 들어온 파라미터만 순회하며 속성 테이블에서 바로 찾음
+            request.forEachParameter((name, values) -> root.apply(name, 0, values));
+
+            return clazz.cast(root.build());
+        } catch (Throwable e) {
             throw new RuntimeException("Binding failed for " + clazz.getName(), e);
         }
     }
 
     /**
-     * 메서드가 setter인지 판단 (이름이 set으로 시작하고, 파라미터가 1개, 반환값이 void여야 함)
+     * 바인딩 중인 객체 하나 (bean 또는 record)
+     * 값을 모았다가 build()에서 한 번에 객체를 만듭니다. (record는 생성 후 값을 바꿀 수 없으므로)
      */
-    private static boolean isSetter(Method method) {
-        return method.getName().startsWith("set") &&
-                method.getParameterCount() == 1 &&
-                method.getReturnType().equals(void.class);
+    private static final class ObjectNode {
+        private final BinderPlan plan;
+        private Object[] slots;      // 속성 slot별 값 (변환된 값, ObjectNode, ListNode)
+        private int[] touched;       // 값이 들어온 slot 목록 (들어온 순서)
+        private int touchedCount;
+
+        ObjectNode(BinderPlan plan) {
+            this.plan = plan;
+        }
+
+        /**
+         * 파라미터 하나를 적용합니다. name의 start 위치부터가 이 객체 기준의 속성 경로입니다.
+         */
+        void apply(String name, int start, List<String> values) {
+            int end = start;
+            while (end < name.length() && name.charAt(end) != '.' && name.charAt(end) != '[') {
+                end++;
+            }
+
+            BinderPlan.Property property = plan.find(name, start, end);
+            if (property == null) {
+                return; // 대상 클래스에 없는 파라미터는 무시
+            }
+
+            if (end == name.length()) {
+                applyValue(property, values);
+            } else if (name.charAt(end) == '.') {
+                if (property.kind == BinderPlan.Kind.NESTED) {
+                    ((ObjectNode) slot(property, true)).apply(name, end + 1, values);
+                }
+            } else {
+                applyIndexed(property, name, end, values);
+            }
+        }
+
+        private void applyValue(BinderPlan.Property property, List<String> values) {
+            switch (property.kind) {
+                case SIMPLE:
+                    if (property.type.isArray() && values.size() > 1) {
+                        // tags=a&tags=b → 각 값을 원소로 변환
+                        Class<?> componentType = property.type.getComponentType();
+                        Object array = Array.newInstance(componentType, values.size());
+                        for (int i = 0; i < values.size(); i++) {
+                            Array.set(array, i, TypeConverter.convert(values.get(i).trim(), componentType));
+                        }
+                        put(property, array);
+                    } else {
+                        put(property, property.converter.apply(values.get(0)));
+                    }
+                    break;
+                case LIST:
+                    ListNode list = (ListNode) slot(property, true);
+                    for (String value : values) {
+                        list.add(convertElement(property, value));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported type for conversion: " + property.type.getName());
+            }
+        }
+
+        private void applyIndexed(BinderPlan.Property property, String name, int open, List<String> values) {
+            int close = name.indexOf(']', open);
+            if (close < 0 || property.kind != BinderPlan.Kind.LIST) {
+                return;
+            }
+            int index = parseIndex(name, open + 1, close);
+            ListNode list = (ListNode) slot(property, true);
+
+            if (close == name.length() - 1) {
+                list.set(index, convertElement(property, values.get(0)));
+            } else if (name.charAt(close + 1) == '.') {
+                list.element(index, property).apply(name, close + 2, values);
+            }
+        }
+
+        private Object convertElement(BinderPlan.Property property, String value) {
+            if (property.converter == null) {
+                throw new IllegalArgumentException("Unsupported list element type: " + property.elementType.getName());
+            }
+            return property.converter.apply(value);
+        }
+
+        private Object slot(BinderPlan.Property property, boolean create) {
+            Object value = slots != null ? slots[property.slot] : null;
+            if (value == null && create) {
+                value = property.kind == BinderPlan.Kind.LIST
+                        ? new ListNode()
+                        : new ObjectNode(PLANS.get(property.elementType));
+                put(property, value);
+            }
+            return value;
+        }
+
+        private void put(BinderPlan.Property property, Object value) {
+            if (slots == null) {
+                slots = new Object[plan.getPropertyCount()];
+                touched = new int[Math.min(4, plan.getPropertyCount())];
+            }
+            if (slots[property.slot] == null) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touched.length * 2);
+                }
+                touched[touchedCount++] = property.slot;
+            }
+            slots[property.slot] = value;
+        }
+
+        /**
+         * 모은 값으로 객체를 생성합니다. (중첩 객체와 리스트도 재귀적으로 생성)
+         */
+        Object build() throws Throwable {
+            if (plan.isRecord()) {
+                Object[] arguments = plan.newRecordArguments();
+                for (int i = 0; i < touchedCount; i++) {
+                    int slot = touched[i];
+                    Object value = materialize(slots[slot]);
+                    if (value != null) {
+                        arguments[slot] = value;
+                    }
+                }
+                return plan.newRecord(arguments);
+            }
+
+            Object instance = plan.newBean();
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                Object value = materialize(slots[slot]);
+                plan.getProperty(slot).setter.invokeExact(instance, value);
+            }
+            return instance;
+        }
     }
 
     /**
-     * setter 메서드 이름으로부터 파라미터 이름을 추출
-     * 예: setName → name, setUserId → userId
+     * 바인딩 중인 List 속성 (원소는 변환된 값 또는 ObjectNode)
      */
-    private static String getParamNameFromSetter(String setterName) {
-        String raw = setterName.substring(3); // 앞의 "set" 제거
-        // 첫 글자를 소문자로 변환: "Name" → "name"
-        return Character.toLowerCase(raw.charAt(0)) + raw.substring(1);
+    private static final class ListNode {
+        private final List<Object> elements = new ArrayList<>();
+
+        void add(Object value) {
+            if (elements.size() > MAX_INDEX) {
+                throw new IllegalArgumentException("Too many list elements (max " + (MAX_INDEX + 1) + ")");
+            }
+            elements.add(value);
+        }
+
+        void set(int index, Object value) {
+            grow(index);
+            elements.set(index, value);
+        }
+
+        ObjectNode element(int index, BinderPlan.Property property) {
+            grow(index);
+            Object element = elements.get(index);
+            if (!(element instanceof ObjectNode)) {
+                if (!BinderPlan.isBindableObject(property.elementType)) {
+                    throw new IllegalArgumentException("Cannot bind nested property of list element type " +
+                            property.elementType.getName());
+                }
+                element = new ObjectNode(PLANS.get(property.elementType));
+                elements.set(index, element);
+            }
+            return (ObjectNode) element;
+        }
+
+        private void grow(int index) {
+            while (elements.size() <= index) {
+                elements.add(null);
+            }
+        }
+
+        List<Object> build() throws Throwable {
+            List<Object> result = new ArrayList<>(elements.size());
+            for (Object element : elements) {
+                result.add(materialize(element));
+            }
+            return result;
+        }
+    }
+
+    private static Object materialize(Object value) throws Throwable {
+        if (value instanceof ObjectNode) {
+            return ((ObjectNode) value).build();
+        }
+        if (value instanceof ListNode) {
+            return ((ListNode) value).build();
+        }
+        return value;
+    }
+
+    private static int parseIndex(String name, int start, int end) {
+        if (start == end || end - start > 4) {
+            throw new IllegalArgumentException("Invalid index in parameter: " + name);
+        }
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("Invalid index in parameter: " + name);
+            }
+            index = index * 10 + (c - '0');
+        }
+        if (index > MAX_INDEX) {
+            throw new IllegalArgumentException("Index " + index + " exceeds maximum " + MAX_INDEX + ": " + name);
+        }
+        return index;
     }
 }
@@ -1,11 +1,18 @@
 package winter.util;
 
-import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -18,33 +25,56 @@ import java.util.function.Function;
  * - 기본 타입: int, long, double, boolean
  * - 래퍼 타입: Integer, Long, Double, Boolean
  * - 문자열: String
- * - 날짜: LocalDate, LocalDateTime
- * - 배열: String[]
+ * - 날짜/시간: LocalDate, LocalDateTime, LocalTime, Instant, OffsetDateTime, ZonedDateTime, Duration
+ * - 기타: UUID, BigDecimal, BigInteger, 모든 enum (이름, 대소문자 무시)
+ * - 배열: 위 타입들의 배열 (쉼표 구분, int[]/long[]/double[]/boolean[]는 박싱 없이 직접 생성)
+ * - registerConverter()로 등록한 사용자 정의 타입
+ *
+ * 기본 타입은 CharSequence의 구간에서 바로 파싱하는 메서드(parseInt 등)를 제공하므로
+ * 쉼표로 구분된 배열도 부분 문자열을 만들지 않고 변환합니다.
+ * 타입별 변환 함수는 처음 조회할 때 한 번 결정되어 ClassValue에 캐시됩니다.
  */
 public class TypeConverter {
 
-    // 타입별 변환 함수를 저장하는 맵
-    private static final Map<Class<?>, Function<String, Object>> CONVERTERS = new HashMap<>();
+    // 명시적으로 등록된 타입별 변환 함수 (기본 제공 + registerConverter)
+    private static final Map<Class<?>, Function<String, Object>> CONVERTERS = new ConcurrentHashMap<>();
+
+    // 타입별로 결정된 변환 함수 캐시 (등록 함수, enum, 배열 등을 한 번만 판단)
+    private static final ClassValue<Function<String, Object>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected Function<String, Object> computeValue(Class<?> type) {
+            return resolveConverter(type);
+        }
+    };
+
+    // 빠른 double 파싱에서 정확하게 표현되는 10의 거듭제곱 (10^0 ~ 10^22)
+    private static final double[] POWERS_OF_TEN = new double[23];
 
     static {
+        double power = 1;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+
         // 기본 타입 및 래퍼 타입 변환기 등록
         CONVERTERS.put(String.class, value -> value);  // 문자열은 그대로
 
         // 정수 타입
-        CONVERTERS.put(int.class, Integer::parseInt);
-        CONVERTERS.put(Integer.class, value -> value.isEmpty() ? null : Integer.parseInt(value));
+        CONVERTERS.put(int.class, value -> parseInt(value, 0, value.length()));
+        CONVERTERS.put(Integer.class, value -> value.isEmpty() ? null : parseInt(value, 0, value.length()));
 
         // 긴 정수 타입
-        CONVERTERS.put(long.class, Long::parseLong);
-        CONVERTERS.put(Long.class, value -> value.isEmpty() ? null : Long.parseLong(value));
+        CONVERTERS.put(long.class, value -> parseLong(value, 0, value.length()));
+        CONVERTERS.put(Long.class, value -> value.isEmpty() ? null : parseLong(value, 0, value.length()));
 
         // 실수 타입
-        CONVERTERS.put(double.class, Double::parseDouble);
-        CONVERTERS.put(Double.class, value -> value.isEmpty() ? null : Double.parseDouble(value));
+        CONVERTERS.put(double.class, value -> parseDouble(value, 0, value.length()));
+        CONVERTERS.put(Double.class, value -> value.isEmpty() ? null : parseDouble(value, 0, value.length()));
 
         // 부울 타입
-        CONVERTERS.put(boolean.class, Boolean::parseBoolean);
-        CONVERTERS.put(Boolean.class, value -> value.isEmpty() ? null : Boolean.parseBoolean(value));
+        CONVERTERS.put(boolean.class, value -> parseBoolean(value, 0, value.length()));
+        CONVERTERS.put(Boolean.class, value -> value.isEmpty() ? null : parseBoolean(value, 0, value.length()));
 
         // 날짜 타입
         CONVERTERS.put(LocalDate.class, value -> {
@@ -56,6 +86,41 @@ public class TypeConverter {
             if (value == null || value.isEmpty()) return null;
             return LocalDateTime.parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME);  // yyyy-MM-ddTHH:mm:ss
         });
+
+        // 추가 기본 제공 타입 (빈 문자열은 null)
+        registerConverter(LocalTime.class, LocalTime::parse);              // HH:mm[:ss]
+        registerConverter(Instant.class, Instant::parse);                  // 2024-01-01T00:00:00Z
+        registerConverter(OffsetDateTime.class, OffsetDateTime::parse);
+        registerConverter(ZonedDateTime.class, ZonedDateTime::parse);
+        registerConverter(Duration.class, Duration::parse);                // PT30S
+        registerConverter(UUID.class, UUID::fromString);
+        registerConverter(BigDecimal.class, BigDecimal::new);
+        registerConverter(BigInteger.class, BigInteger::new);
+    }
+
+    /**
+     * 사용자 정의 타입 변환기를 등록합니다. 빈 문자열은 변환기를 호출하지 않고 null로 처리합니다.
+     * 같은 타입을 다시 등록하면 기존 변환기를 대체합니다.
+     *
+     * 사용 예:
+     * <pre>
+     * TypeConverter.registerConverter(Money.class, Money::parse);
+     * </pre>
+     *
+     * @param type 대상 타입
+     * @param converter 문자열 → 대상 타입 변환 함수
+     */
+    public static <T> void registerConverter(Class<T> type, Function<String, ? extends T> converter) {
+        if (type == null || converter == null) {
+            throw new IllegalArgumentException("Type and converter must not be null");
+        }
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Primitive converters are built in: " + type.getName());
+        }
+        CONVERTERS.put(type, value -> value.isEmpty() ? null : converter.apply(value));
+        // 캐시된 결정을 무효화 (다음 조회 때 다시 결정)
+        RESOLVED.remove(type);
+        RESOLVED.remove(type.arrayType());
     }
 
     /**
@@ -72,56 +137,304 @@ public class TypeConverter {
             return null;
         }
 
-        // 배열 타입 처리
-        if (targetType.isArray()) {
-            return (T) convertArray(value, targetType);
+        Function<String, Object> converter = RESOLVED.get(targetType);
+        if (converter == null) {
+            throw new IllegalArgumentException("Unsupported type for conversion: " + targetType.getName());
         }
+        return (T) apply(converter, value, targetType);
+    }
 
-        // 등록된 변환기 찾기
-        Function<String, Object> converter = CONVERTERS.get(targetType);
+    /**
+     * 지정된 타입의 변환 함수를 반환합니다.
+     * 바인딩 계획처럼 같은 타입을 반복 변환하는 곳에서 조회를 한 번만 하도록 미리 꺼내 둘 때 사용합니다.
+     *
+     * @param targetType 변환할 목표 타입
+     * @return 변환 함수 (null 입력은 null 반환, 실패시 IllegalArgumentException)
+     * @throws IllegalArgumentException 지원하지 않는 타입인 경우
+     */
+    public static Function<String, Object> converterFor(Class<?> targetType) {
+        Function<String, Object> converter = RESOLVED.get(targetType);
         if (converter == null) {
             throw new IllegalArgumentException("Unsupported type for conversion: " + targetType.getName());
         }
 
+        return value -> value == null ? null : apply(converter, value, targetType);
+    }
+
+    private static Object apply(Function<String, Object> converter, String value, Class<?> targetType) {
         try {
-            return (T) converter.apply(value);
+            return converter.apply(value);
         } catch (Exception e) {
-            throw new IllegalArgumentException(
-                    String.format("Cannot convert '%s' to type %s: %s",
-                            value, targetType.getSimpleName(), e.getMessage()), e);
+            throw conversionError(value, targetType, e);
         }
     }
 
+    private static IllegalArgumentException conversionError(CharSequence value, Class<?> targetType, Exception cause) {
+        return new IllegalArgumentException(
+                String.format("Cannot convert '%s' to type %s: %s",
+                        value, targetType.getSimpleName(), cause.getMessage()), cause);
+    }
+
     /**
-     * 문자열을 배열로 변환
-     * 쉼표로 구분된 값들을 배열로 변환합니다.
+     * 타입의 변환 함수를 결정합니다. (타입당 한 번, ClassValue에서 호출)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> resolveConverter(Class<?> type) {
+        Function<String, Object> registered = CONVERTERS.get(type);
+        if (registered != null) {
+            return registered;
+        }
+
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return value -> {
+                if (value.isEmpty()) {
+                    return null;
+                }
+                String name = value.trim();
+                for (Object constant : constants) {
+                    if (((Enum) constant).name().equalsIgnoreCase(name)) {
+                        return constant;
+                    }
+                }
+                throw new IllegalArgumentException("No enum constant " + type.getSimpleName() + "." + name);
+            };
+        }
+
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            if (componentType == int.class) {
+                return value -> parseIntArray(value);
+            }
+            if (componentType == long.class) {
+                return value -> parseLongArray(value);
+            }
+            if (componentType == double.class) {
+                return value -> parseDoubleArray(value);
+            }
+            if (componentType == boolean.class) {
+                return value -> parseBooleanArray(value);
+            }
+            if (!componentType.isPrimitive() && RESOLVED.get(componentType) != null) {
+                return value -> convertObjectArray(value, componentType);
+            }
+        }
+
+        return null;
+    }
+
+    // ===== CharSequence 구간에서 직접 파싱 (부분 문자열 생성 없음) =====
+
+    /**
+     * 구간 [start, end)를 int로 파싱합니다.
      *
-     * @param value 변환할 문자열 (예: "apple,banana,cherry")
-     * @param arrayType 배열 타입 (예: String[].class)
-     * @return 변환된 배열
+     * @throws NumberFormatException 형식이 잘못된 경우
      */
-    private static Object convertArray(String value, Class<?> arrayType) {
-        Class<?> componentType = arrayType.getComponentType();
+    public static int parseInt(CharSequence s, int start, int end) {
+        return Integer.parseInt(s, start, end, 10);
+    }
 
-        // 빈 값이면 빈 배열 반환
-        if (value == null || value.trim().isEmpty()) {
-            return java.lang.reflect.Array.newInstance(componentType, 0);
+    /**
+     * 구간 [start, end)를 long으로 파싱합니다.
+     *
+     * @throws NumberFormatException 형식이 잘못된 경우
+     */
+    public static long parseLong(CharSequence s, int start, int end) {
+        return Long.parseLong(s, start, end, 10);
+    }
+
+    /**
+     * 구간 [start, end)를 boolean으로 파싱합니다. (Boolean.parseBoolean과 같이 "true"만 true)
+     */
+    public static boolean parseBoolean(CharSequence s, int start, int end) {
+        if (end - start != 4) {
+            return false;
         }
+        return (s.charAt(start) | 0x20) == 't' && (s.charAt(start + 1) | 0x20) == 'r' &&
+                (s.charAt(start + 2) | 0x20) == 'u' && (s.charAt(start + 3) | 0x20) == 'e';
+    }
 
-        // 쉼표로 분리
-        String[] parts = value.split(",");
-        Object array = java.lang.reflect.Array.newInstance(componentType, parts.length);
+    /**
+     * 구간 [start, end)를 double로 파싱합니다.
+     *
+     * "-12.345"처럼 지수가 없고 유효 숫자가 15자리 이하인 일반적인 값은
+     * 정확히 표현되는 정수 / 10^n 한 번의 나눗셈으로 계산하므로 Double.parseDouble과 같은 결과를
+     * 할당 없이 얻습니다. 그 외 형식(지수, NaN, 긴 숫자 등)은 Double.parseDouble로 처리합니다.
+     *
+     * @throws NumberFormatException 형식이 잘못된 경우
+     */
+    public static double parseDouble(CharSequence s, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            negative = s.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = -1; // 소수점 이후 자릿수 (-1: 소수점 없음)
+        boolean sawDigit = false;
+        for (; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || c != '0') {
+                    significantDigits++; // 앞쪽 0은 유효 숫자로 세지 않음
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (i != end || !sawDigit || significantDigits > 15 || fractionDigits > 22) {
+            // 지수 표기, NaN/Infinity, 공백, 긴 숫자 등은 표준 파서로 처리
+            return Double.parseDouble(s.subSequence(start, end).toString());
+        }
+
+        // 10^15 미만 정수와 10^22 이하 거듭제곱은 double로 정확하므로 나눗셈 한 번의 결과가 정확히 반올림됨
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    // ===== 배열 변환 (쉼표 구분, 원소 앞뒤 공백 무시, String.split처럼 끝쪽 빈 원소는 버림) =====
+
+    /**
+     * 쉼표로 구분된 값을 int[]로 변환합니다. (박싱/부분 문자열 없음)
+     *
+     * @throws NumberFormatException 원소 형식이 잘못된 경우
+     */
+    public static int[] parseIntArray(CharSequence s) {
+        int limit = contentEnd(s);
+        int[] result = new int[countElements(s, limit)];
+        int start = 0;
+        for (int i = 0; i < result.length; i++) {
+            int end = nextComma(s, start, limit);
+            int first = skipLeading(s, start, end);
+            result[i] = parseInt(s, first, skipTrailing(s, first, end));
+            start = end + 1;
+        }
+        return result;
+    }
+
+    /**
+     * 쉼표로 구분된 값을 long[]로 변환합니다. (박싱/부분 문자열 없음)
+     *
+     * @throws NumberFormatException 원소 형식이 잘못된 경우
+     */
+    public static long[] parseLongArray(CharSequence s) {
+        int limit = contentEnd(s);
+        long[] result = new long[countElements(s, limit)];
+        int start = 0;
+        for (int i = 0; i < result.length; i++) {
+            int end = nextComma(s, start, limit);
+            int first = skipLeading(s, start, end);
+            result[i] = parseLong(s, first, skipTrailing(s, first, end));
+            start = end + 1;
+        }
+        return result;
+    }
+
+    private static double[] parseDoubleArray(CharSequence s) {
+        int limit = contentEnd(s);
+        double[] result = new double[countElements(s, limit)];
+        int start = 0;
+        for (int i = 0; i < result.length; i++) {
+            int end = nextComma(s, start, limit);
+            int first = skipLeading(s, start, end);
+            result[i] = parseDouble(s, first, skipTrailing(s, first, end));
+            start = end + 1;
+        }
+        return result;
+    }
 
-        // 각 요소를 해당 타입으로 변환
-        for (int i = 0; i < parts.length; i++) {
-            String part = parts[i].trim();
-            Object convertedValue = convert(part, componentType);
-            java.lang.reflect.Array.set(array, i, convertedValue);
+    private static boolean[] parseBooleanArray(CharSequence s) {
+        int limit = contentEnd(s);
+        boolean[] result = new boolean[countElements(s, limit)];
+        int start = 0;
+        for (int i = 0; i < result.length; i++) {
+            int end = nextComma(s, start, limit);
+            int first = skipLeading(s, start, end);
+            result[i] = parseBoolean(s, first, skipTrailing(s, first, end));
+            start = end + 1;
         }
+        return result;
+    }
 
+    /**
+     * 참조 타입 배열 변환 (String[], LocalDate[], enum[] 등)
+     * 원소마다 해당 타입의 변환 함수를 적용하고 배열에 직접 대입합니다. (Array.set 미사용)
+     */
+    private static Object convertObjectArray(String value, Class<?> componentType) {
+        int limit = contentEnd(value);
+        Object[] array = (Object[]) java.lang.reflect.Array.newInstance(componentType, countElements(value, limit));
+        Function<String, Object> converter = RESOLVED.get(componentType);
+        int start = 0;
+        for (int i = 0; i < array.length; i++) {
+            int end = nextComma(value, start, limit);
+            int first = skipLeading(value, start, end);
+            array[i] = apply(converter, value.substring(first, skipTrailing(value, first, end)), componentType);
+            start = end + 1;
+        }
         return array;
     }
 
+    /**
+     * 끝쪽의 공백/빈 원소를 제외한 내용의 끝 위치
+     */
+    private static int contentEnd(CharSequence s) {
+        int end = s.length();
+        while (end > 0 && (s.charAt(end - 1) == ',' || s.charAt(end - 1) <= ' ')) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 원소 개수 (내용이 없으면 0, 그 외 쉼표 수 + 1)
+     */
+    private static int countElements(CharSequence s, int limit) {
+        if (skipLeading(s, 0, limit) == limit) {
+            return 0;
+        }
+        int count = 1;
+        for (int i = 0; i < limit; i++) {
+            if (s.charAt(i) == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int nextComma(CharSequence s, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (s.charAt(i) == ',') {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private static int skipLeading(CharSequence s, int start, int end) {
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int skipTrailing(CharSequence s, int start, int end) {
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
     /**
      * 지원하는 타입인지 확인
      *
@@ -129,7 +442,7 @@ public class TypeConverter {
      * @return 지원 여부
      */
     public static boolean isSupported(Class<?> type) {
-        return CONVERTERS.containsKey(type) || type.isArray();
+        return RESOLVED.get(type) != null;
     }
 
     /**
@@ -186,4 +499,4 @@ public class TypeConverter {
 
         throw new IllegalArgumentException("Unsupported primitive type: " + primitiveType);
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,30 @@
 package winter.validation;
 
-import java.lang.reflect.Field;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * 어노테이션을 기반으로 객체를 검증하는 검증기
- * 리플렉션을 사용하여 필드의 어노테이션을 확인하고 해당 검증을 수행
+ *
+ * 클래스마다 처음 한 번만 리플렉션으로 어노테이션을 읽어 ValidationPlan을 만들고
+ * ClassValue에 캐시합니다. 이후 검증은 미리 만든 필드 접근자와 검사기만 실행합니다.
+ *
+ * - 상속받은 필드의 어노테이션도 검증
+ * - @Valid가 붙은 필드는 중첩 객체(컬렉션/배열은 각 원소)까지 재귀 검증
+ *   오류 필드명은 "address.city", "items[0].name" 형태
  */
 public class AnnotationBasedValidator implements Validator {
 
+    private static final ClassValue<ValidationPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return ValidationPlan.compile(type);
+        }
+    };
+
     @Override
     public boolean supports(Class<?> clazz) {
         // 모든 클래스를 지원 (null 제외)
@@ -20,133 +37,67 @@ public class AnnotationBasedValidator implements Validator {
             return;
         }
 
-        validateFields(target, bindingResult);
-    }
-
-    /**
-     * 객체의 모든 필드를 검증
-     */
-    private void validateFields(Object target, BindingResult bindingResult) {
-        Class<?> clazz = target.getClass();
-        Field[] fields = clazz.getDeclaredFields();
-
-        for (Field field : fields) {
-            field.setAccessible(true);
-            try {
-                Object value = field.get(target);
-                validateField(field, value, bindingResult);
-            } catch (IllegalAccessException e) {
-                System.err.println("Failed to access field: " + field.getName());
-            }
-        }
+        // 순환 참조(@Valid 필드가 서로를 가리키는 경우) 방지용 방문 집합 - 중첩 검증이 있을 때만 생성
+        Set<Object> visited = PLANS.get(target.getClass()).isCascading()
+                ? Collections.newSetFromMap(new IdentityHashMap<>())
+                : null;
+        validateObject(target, null, bindingResult, visited);
     }
 
     /**
-     * 개별 필드 검증
+     * 객체 하나를 클래스별 검증 계획으로 검증
      */
-    private void validateField(Field field, Object value, BindingResult bindingResult) {
-        String fieldName = field.getName();
-
-        // @NotNull 검증
-        if (field.isAnnotationPresent(NotNull.class)) {
-            validateNotNull(fieldName, value, field.getAnnotation(NotNull.class), bindingResult);
-        }
-
-        // @NotEmpty 검증
-        if (field.isAnnotationPresent(NotEmpty.class)) {
-            validateNotEmpty(fieldName, value, field.getAnnotation(NotEmpty.class), bindingResult);
-        }
-
-        // @Size 검증
-        if (field.isAnnotationPresent(Size.class)) {
-            validateSize(fieldName, value, field.getAnnotation(Size.class), bindingResult);
-        }
-
-        // @Email 검증
-        if (field.isAnnotationPresent(Email.class)) {
-            validateEmail(fieldName, value, field.getAnnotation(Email.class), bindingResult);
-        }
-
-        // @Pattern 검증
-        if (field.isAnnotationPresent(Pattern.class)) {
-            validatePattern(fieldName, value, field.getAnnotation(Pattern.class), bindingResult);
-        }
-    }
-
-    /**
-     * @NotNull 검증 수행
-     */
-    private void validateNotNull(String fieldName, Object value, NotNull annotation, BindingResult bindingResult) {
-        if (value == null) {
-            bindingResult.addFieldError(fieldName, value, annotation.message());
-        }
-    }
-
-    /**
-     * @NotEmpty 검증 수행
-     */
-    private void validateNotEmpty(String fieldName, Object value, NotEmpty annotation, BindingResult bindingResult) {
-        if (ValidationUtils.isEmpty(value)) {
-            bindingResult.addFieldError(fieldName, value, annotation.message());
-        }
-    }
-
-    /**
-     * @Size 검증 수행
-     */
-    private void validateSize(String fieldName, Object value, Size annotation, BindingResult bindingResult) {
-        // null 값은 @Size에서 허용 (null 체크는 @NotNull이 담당)
-        if (value == null) {
+    private void validateObject(Object target, String prefix, BindingResult bindingResult, Set<Object> visited) {
+        ValidationPlan plan = PLANS.get(target.getClass());
+        if (plan.isEmpty() || (visited != null && !visited.add(target))) {
             return;
         }
 
-        int size = ValidationUtils.getSize(value);
-        int min = annotation.min();
-        int max = annotation.max();
-
-        if (!ValidationUtils.isSizeInRange(value, min, max)) {
-            String message = ValidationUtils.replacePlaceholders(annotation.message(), min, max);
-            bindingResult.addFieldError(fieldName, value, message);
-        }
-    }
-
-    /**
-     * @Email 검증 수행
-     */
-    private void validateEmail(String fieldName, Object value, Email annotation, BindingResult bindingResult) {
-        // null이나 빈 값은 @Email에서 허용 (null 체크는 @NotNull/@NotEmpty가 담당)
-        if (value == null || (value instanceof String && ((String) value).trim().isEmpty())) {
-            return;
-        }
+        for (ValidationPlan.FieldPlan field : plan.getFields()) {
+            String path = prefix == null ? field.name : prefix + "." + field.name;
+            Object value;
+            try {
+                value = (Object) field.getter.invokeExact(target);
+            } catch (Throwable e) {
+                System.err.println("Failed to access field: " + path);
+                continue;
+            }
 
-        if (!(value instanceof String)) {
-            bindingResult.addFieldError(fieldName, value, "must be a string");
-            return;
-        }
+            for (ValidationPlan.ConstraintCheck check : field.checks) {
+                check.check(path, value, bindingResult);
+            }
 
-        String email = (String) value;
-        if (!ValidationUtils.isValidEmail(email)) {
-            bindingResult.addFieldError(fieldName, value, annotation.message());
+            if (field.cascade && value != null) {
+                validateNested(value, path, bindingResult, visited);
+            }
         }
     }
 
     /**
-     * @Pattern 검증 수행
+     * @Valid 필드 값 검증 (컬렉션/배열이면 원소별로 인덱스를 붙여 검증)
      */
-    private void validatePattern(String fieldName, Object value, Pattern annotation, BindingResult bindingResult) {
-        // null이나 빈 값은 @Pattern에서 허용 (null 체크는 @NotNull/@NotEmpty가 담당)
-        if (value == null || (value instanceof String && ((String) value).trim().isEmpty())) {
-            return;
-        }
-
-        if (!(value instanceof String)) {
-            bindingResult.addFieldError(fieldName, value, "must be a string");
+    private void validateNested(Object value, String path, BindingResult bindingResult, Set<Object> visited) {
+        if (!ValidationPlan.isCollectionLike(value)) {
+            validateObject(value, path, bindingResult, visited);
             return;
         }
 
-        String str = (String) value;
-        if (!ValidationUtils.matchesPattern(str, annotation.regexp())) {
-            bindingResult.addFieldError(fieldName, value, annotation.message());
+        if (value instanceof Collection) {
+            int index = 0;
+            for (Object element : (Collection<?>) value) {
+                if (element != null) {
+                    validateObject(element, path + "[" + index + "]", bindingResult, visited);
+                }
+                index++;
+            }
+        } else if (!value.getClass().getComponentType().isPrimitive()) {
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                Object element = Array.get(value, i);
+                if (element != null) {
+                    validateObject(element, path + "[" + i + "]", bindingResult, visited);
+                }
+            }
         }
     }
-}
\ No newline at end of file
+}
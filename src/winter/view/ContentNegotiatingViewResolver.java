@@ -35,6 +35,12 @@ public class ContentNegotiatingViewResolver implements ViewResolver {
      * */
     @Override
     public View resolveViewName(String viewName){
+        //0. RestHandlerAdapter가 만든 ResponseEntity 전용 뷰 이름은 Accept 헤더와 무관하게 처리
+        //   (상태 코드/헤더를 ResponseEntity 그대로 응답해야 하므로 JsonView로 보내면 안 됨)
+        if(ResponseEntityView.RESPONSE_ENTITY_KEY.equals(viewName)){
+            return new ResponseEntityView();
+        }
+
         //1. 현재 요청의 Accept 헤더 확인
         String acceptHeader = getAcceptHeader();
 
@@ -48,6 +54,18 @@ public class ContentNegotiatingViewResolver implements ViewResolver {
         }
     }
 
+    /**
+     * 요청의 Accept 헤더로 협상된 응답 미디어 타입을 반환 (resolveViewName()과 같은 기준)
+     * 응답 캐시 키 등 뷰를 만들기 전에 미디어 타입이 필요할 때 사용
+     *
+     * @param request HTTP 요청
+     * @return "application/json" 또는 "text/html"
+     * */
+    public static String negotiateMediaType(HttpRequest request){
+        String acceptHeader = request != null ? request.getHeader("Accept") : null;
+        return isJsonReqeust(acceptHeader) ? "application/json" : "text/html";
+    }
+
     /**
      * 핸재 요청의 Accept 헤더 값을 가져오는 메서드
      *
@@ -66,7 +84,7 @@ public class ContentNegotiatingViewResolver implements ViewResolver {
      * @param acceptHeader Accept 헤더 값
      * @return JSON 요청 여부
      * */
-    private boolean isJsonReqeust(String acceptHeader){
+    private static boolean isJsonReqeust(String acceptHeader){
         if(acceptHeader ==null){
             return false;
         }
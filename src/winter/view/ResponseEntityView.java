@@ -1,6 +1,8 @@
 package winter.view;
 
+import winter.http.ETagSupport;
 import winter.http.HttpRequest;
+import winter.http.FileRegionBody;
 import winter.http.HttpResponse;
 import winter.http.ResponseEntity;
 import winter.util.JsonSerializer;
@@ -24,7 +26,8 @@ import java.util.Map;
  * 1. 모델에서 ResponseEntity 객체 추출
  * 2. 상태 코드 설정
  * 3. 헤더 설정
- * 4. 본문 JSON 직렬화 및 응답
+ * 4. ETag가 지정되어 있고 If-None-Match와 일치하면 304 (본문 직렬화 생략)
+ * 5. 본문 JSON 직렬화 및 응답
  *
  * 사용 예시:
  * @RestController
@@ -83,7 +86,7 @@ public class ResponseEntityView implements View {
 
         try {
             // ResponseEntity 내용을 HTTP 응답으로 변환
-            renderResponseEntity(responseEntity, response);
+            renderResponseEntity(responseEntity, request, response);
 
             System.out.println("ResponseEntity 렌더링 완료: " +
                     "상태=" + responseEntity.getStatusCode() +
@@ -100,9 +103,10 @@ public class ResponseEntityView implements View {
      * ResponseEntity 객체를 HTTP 응답으로 변환하는 핵심 메서드
      *
      * @param responseEntity 변환할 ResponseEntity 객체
+     * @param request HTTP 요청 객체 (If-None-Match 확인용)
      * @param response HTTP 응답 객체
      */
-    private void renderResponseEntity(ResponseEntity<Object> responseEntity, HttpResponse response) {
+    private void renderResponseEntity(ResponseEntity<Object> responseEntity, HttpRequest request, HttpResponse response) {
         // 1. HTTP 상태 코드 설정
         response.setStatus(responseEntity.getStatusCode().getCode());
         System.out.println("HTTP 상태 코드 설정: " + responseEntity.getStatusCode());
@@ -120,7 +124,15 @@ public class ResponseEntityView implements View {
             System.out.println("기본 Content-Type 설정: application/json");
         }
 
-        // 4. 응답 본문 처리
+        // 4. 핸들러가 지정한 ETag가 If-None-Match와 일치하면 본문을 직렬화하지 않고 304 응답
+        String etag = responseEntity.getETag();
+        if (etag != null && response.getStatus() == 200 && ETagSupport.isNotModified(request, etag)) {
+            response.setStatus(304);
+            System.out.println("ETag 일치 - 본문 직렬화 생략 (304): " + etag);
+            return;
+        }
+
+        // 5. 응답 본문 처리
         if (responseEntity.hasBody()) {
             // 본문이 있는 경우 JSON 직렬화
             renderResponseBody(responseEntity.getBody(), response);
@@ -138,7 +150,12 @@ public class ResponseEntityView implements View {
      */
     private void renderResponseBody(Object body, HttpResponse response) {
         try {
-            if (body instanceof String) {
+            if (body instanceof FileRegionBody) {
+                // 파일 영역 본문은 힙에 읽지 않고 응답에 그대로 연결 (전송시 transferTo 사용)
+                FileRegionBody fileBody = (FileRegionBody) body;
+                response.setFileBody(fileBody);
+                System.out.println("파일 영역 본문 설정 완료: " + fileBody.getContentLength() + " 바이트");
+            } else if (body instanceof String) {
                 // 문자열인 경우 그대로 사용 (이미 JSON 문자열일 수 있음)
                 response.setBody((String) body);
                 System.out.println("문자열 본문 설정 완료: " + ((String) body).length() + " 문자");
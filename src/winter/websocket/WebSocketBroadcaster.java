@@ -0,0 +1,147 @@
+package winter.websocket;
+
+import winter.util.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 WebSocket 연결에 같은 메시지를 보내는 브로드캐스터
+ *
+ * - add()로 등록한 세션은 연결이 닫히면 자동으로 제거
+ * - 메시지는 프레임으로 한 번만 인코딩하고 같은 바이트 배열을 각 연결의 전송 큐에 넣음
+ *   (수천 개 연결에 보내도 인코딩/복사는 한 번, 실제 쓰기는 공용 writer 스레드가 처리)
+ * - 큐가 가득 찬 연결(느린 클라이언트)은 끊어서 다른 연결의 전송이 밀리지 않게 함
+ *
+ * 사용 예:
+ * private static final WebSocketBroadcaster ROOM = new WebSocketBroadcaster("lobby");
+ *
+ * @OnOpen public void open(WebSocketSession session) { ROOM.add(session); }
+ * @OnMessage public void message(String text) { ROOM.broadcastText(text); }
+ */
+public class WebSocketBroadcaster {
+
+    private final String name;
+    private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+
+    // 통계
+    private final AtomicLong broadcasts = new AtomicLong();
+    private final AtomicLong deliveredFrames = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public WebSocketBroadcaster(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 세션을 등록합니다. (연결이 닫히면 자동 제거)
+     */
+    public void add(WebSocketSession session) {
+        sessions.add(session);
+        session.addCloseCallback(() -> {
+            if (sessions.remove(session) && session.isEvicted()) {
+                evictions.incrementAndGet();
+            }
+        });
+    }
+
+    public void remove(WebSocketSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * 텍스트 메시지를 모든 세션에 보냅니다.
+     *
+     * @return 큐에 넣은 세션 수
+     */
+    public int broadcastText(String text) {
+        return broadcastFrame(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_TEXT,
+                text.getBytes(StandardCharsets.UTF_8), null), null);
+    }
+
+    /**
+     * 바이너리 메시지를 모든 세션에 보냅니다.
+     *
+     * @return 큐에 넣은 세션 수
+     */
+    public int broadcastBinary(byte[] data) {
+        return broadcastFrame(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_BINARY, data, null), null);
+    }
+
+    /**
+     * 객체를 JSON 텍스트 메시지로 모든 세션에 보냅니다.
+     *
+     * @return 큐에 넣은 세션 수
+     */
+    public int broadcast(Object message) {
+        return broadcastText(JsonSerializer.toJson(message));
+    }
+
+    /**
+     * 보낸 세션을 제외하고 텍스트 메시지를 보냅니다.
+     *
+     * @return 큐에 넣은 세션 수
+     */
+    public int broadcastTextExcept(WebSocketSession sender, String text) {
+        return broadcastFrame(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_TEXT,
+                text.getBytes(StandardCharsets.UTF_8), null), sender);
+    }
+
+    private int broadcastFrame(byte[] frame, WebSocketSession excluded) {
+        int delivered = 0;
+        for (WebSocketSession session : sessions) {
+            if (session != excluded && session.offer(frame)) {
+                delivered++;
+            }
+        }
+        broadcasts.incrementAndGet();
+        deliveredFrames.addAndGet(delivered);
+        return delivered;
+    }
+
+    /**
+     * 모든 세션을 종료합니다. (1001 Going Away)
+     */
+    public void close() {
+        for (WebSocketSession session : sessions) {
+            session.close(WebSocketSession.CLOSE_GOING_AWAY, "Server shutting down");
+        }
+        System.out.println("WebSocket 브로드캐스터 종료 [" + name + "]");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public long getBroadcasts() {
+        return broadcasts.get();
+    }
+
+    public long getDeliveredFrames() {
+        return deliveredFrames.get();
+    }
+
+    /**
+     * 느린 클라이언트로 끊은 연결 수
+     */
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketBroadcaster{" +
+                "name='" + name + '\'' +
+                ", sessions=" + sessions.size() +
+                ", broadcasts=" + broadcasts.get() +
+                ", deliveredFrames=" + deliveredFrames.get() +
+                ", evictions=" + evictions.get() +
+                '}';
+    }
+}
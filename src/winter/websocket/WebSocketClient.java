@@ -0,0 +1,271 @@
+package winter.websocket;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 테스트와 서비스 간 통신용 간단한 WebSocket 클라이언트 (블로킹)
+ *
+ * 사용 예:
+ * try (WebSocketClient client = WebSocketClient.connect("localhost", 8080, "/ws/chat?name=kim")) {
+ *     client.sendText("안녕하세요");
+ *     String reply = client.receiveText();
+ * }
+ *
+ * - 보내는 프레임은 RFC 6455에 따라 매번 새 키로 마스킹합니다.
+ * - receiveMessage()는 조각 메시지를 합치고 서버의 ping에는 자동으로 pong을 보냅니다.
+ * - 한 스레드에서 보내고 다른 한 스레드에서 받을 수 있습니다. (보내기끼리는 동기화)
+ */
+public class WebSocketClient implements Closeable {
+
+    private static final SecureRandom MASK_RANDOM = new SecureRandom();
+    private static final int MAX_MESSAGE_SIZE = 16 * 1024 * 1024;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+
+    private volatile int closeCode = WebSocketSession.CLOSE_ABNORMAL;
+    private volatile boolean closeReceived;
+    private volatile boolean closeSent;
+
+    private WebSocketClient(Socket socket, InputStream in, OutputStream out) {
+        this.socket = socket;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * 서버에 연결하고 업그레이드 핸드셰이크를 수행합니다.
+     *
+     * @param target 경로 + 쿼리 문자열 (예: "/ws/chat?name=kim")
+     * @throws ProtocolException 서버가 101로 응답하지 않거나 Sec-WebSocket-Accept가 맞지 않는 경우
+     */
+    public static WebSocketClient connect(String host, int port, String target) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), 5_000);
+            socket.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(socket.getInputStream(), 8192);
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+
+            byte[] nonce = new byte[16];
+            MASK_RANDOM.nextBytes(nonce);
+            String key = Base64.getEncoder().encodeToString(nonce);
+
+            String request = "GET " + target + " HTTP/1.1\r\n" +
+                    "Host: " + host + ":" + port + "\r\n" +
+                    "Upgrade: websocket\r\n" +
+                    "Connection: Upgrade\r\n" +
+                    "Sec-WebSocket-Key: " + key + "\r\n" +
+                    "Sec-WebSocket-Version: " + WebSocketHandshake.SUPPORTED_VERSION + "\r\n\r\n";
+            out.write(request.getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+
+            String head = readResponseHead(in);
+            String statusLine = head.substring(0, head.indexOf("\r\n"));
+            if (!statusLine.startsWith("HTTP/1.1 101")) {
+                throw new ProtocolException("WebSocket upgrade rejected: " + statusLine);
+            }
+            String expected = "sec-websocket-accept: " + WebSocketHandshake.acceptKey(key).toLowerCase();
+            if (!head.toLowerCase().contains(expected)) {
+                throw new ProtocolException("Invalid Sec-WebSocket-Accept");
+            }
+            return new WebSocketClient(socket, in, out);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    // 빈 줄까지 읽음 (101 응답 뒤의 바이트는 프레임이므로 더 읽지 않음)
+    private static String readResponseHead(InputStream in) throws IOException {
+        StringBuilder head = new StringBuilder(256);
+        while (!endsWithBlankLine(head)) {
+            int b = in.read();
+            if (b < 0) {
+                throw new ProtocolException("Connection closed during WebSocket handshake");
+            }
+            head.append((char) b);
+            if (head.length() > 8192) {
+                throw new ProtocolException("WebSocket handshake response too large");
+            }
+        }
+        return head.toString();
+    }
+
+    private static boolean endsWithBlankLine(StringBuilder head) {
+        int length = head.length();
+        return length >= 4 && head.charAt(length - 4) == '\r' && head.charAt(length - 3) == '\n' &&
+                head.charAt(length - 2) == '\r' && head.charAt(length - 1) == '\n';
+    }
+
+    public void sendText(String text) throws IOException {
+        sendFrame(true, WebSocketFrame.OPCODE_TEXT, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void sendBinary(byte[] data) throws IOException {
+        sendFrame(true, WebSocketFrame.OPCODE_BINARY, data);
+    }
+
+    /**
+     * 텍스트 메시지를 fragmentSize 바이트씩 나눠 여러 프레임으로 보냅니다.
+     */
+    public synchronized void sendFragmentedText(String text, int fragmentSize) throws IOException {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        int offset = 0;
+        do {
+            int length = Math.min(fragmentSize, data.length - offset);
+            boolean fin = offset + length >= data.length;
+            int opcode = offset == 0 ? WebSocketFrame.OPCODE_TEXT : WebSocketFrame.OPCODE_CONTINUATION;
+            out.write(WebSocketFrameCodec.encode(fin, opcode, data, offset, length, newMask()));
+            offset += length;
+        } while (offset < data.length);
+        out.flush();
+    }
+
+    public void ping(byte[] payload) throws IOException {
+        sendFrame(true, WebSocketFrame.OPCODE_PING, payload);
+    }
+
+    /**
+     * 프레임 하나를 그대로 보냅니다. (프로토콜 동작 확인용)
+     */
+    public synchronized void sendFrame(boolean fin, int opcode, byte[] payload) throws IOException {
+        out.write(WebSocketFrameCodec.encode(fin, opcode, payload, 0, payload.length, newMask()));
+        out.flush();
+        if (opcode == WebSocketFrame.OPCODE_CLOSE) {
+            closeSent = true;
+        }
+    }
+
+    private static byte[] newMask() {
+        byte[] mask = new byte[4];
+        MASK_RANDOM.nextBytes(mask);
+        return mask;
+    }
+
+    /**
+     * 프레임 하나를 그대로 읽습니다. (스트림이 끝나면 null)
+     */
+    public WebSocketFrame receiveFrame() throws IOException {
+        return WebSocketFrameCodec.read(in, MAX_MESSAGE_SIZE, false);
+    }
+
+    /**
+     * 다음 데이터 메시지를 읽습니다. (조각은 합치고, ping에는 pong 응답, pong은 건너뜀)
+     *
+     * @return TEXT/BINARY 메시지 (FIN=1, 전체 payload), 서버가 종료했으면 close 프레임, 연결이 끊겼으면 null
+     */
+    public WebSocketFrame receiveMessage() throws IOException {
+        ByteArrayOutputStream fragments = null;
+        int opcode = 0;
+        while (true) {
+            WebSocketFrame frame = receiveFrame();
+            if (frame == null) {
+                return null;
+            }
+            switch (frame.getOpcode()) {
+                case WebSocketFrame.OPCODE_PING:
+                    sendFrame(true, WebSocketFrame.OPCODE_PONG, frame.getPayload());
+                    break;
+                case WebSocketFrame.OPCODE_PONG:
+                    break;
+                case WebSocketFrame.OPCODE_CLOSE:
+                    closeReceived = true;
+                    closeCode = frame.getCloseCode();
+                    return frame;
+                case WebSocketFrame.OPCODE_CONTINUATION:
+                    if (fragments == null) {
+                        throw new ProtocolException("Continuation frame without a started message");
+                    }
+                    fragments.write(frame.getPayload());
+                    if (frame.isFin()) {
+                        return new WebSocketFrame(true, opcode, fragments.toByteArray());
+                    }
+                    break;
+                default:
+                    if (frame.isFin()) {
+                        return frame;
+                    }
+                    fragments = new ByteArrayOutputStream();
+                    fragments.write(frame.getPayload());
+                    opcode = frame.getOpcode();
+            }
+        }
+    }
+
+    /**
+     * 다음 텍스트 메시지를 읽습니다.
+     *
+     * @return 텍스트, 연결이 닫혔으면 null
+     */
+    public String receiveText() throws IOException {
+        while (true) {
+            WebSocketFrame message = receiveMessage();
+            if (message == null || message.getOpcode() == WebSocketFrame.OPCODE_CLOSE) {
+                return null;
+            }
+            if (message.getOpcode() == WebSocketFrame.OPCODE_TEXT) {
+                return new String(message.getPayload(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    /**
+     * 읽기 대기 시간 (0이면 무제한)
+     */
+    public void setReadTimeout(int timeoutMillis) throws IOException {
+        socket.setSoTimeout(timeoutMillis);
+    }
+
+    /**
+     * 서버가 보낸 종료 코드 (close 프레임을 받지 못했으면 1006)
+     */
+    public int getCloseCode() {
+        return closeCode;
+    }
+
+    /**
+     * 종료 핸드셰이크 후 연결을 닫습니다. (1000)
+     */
+    @Override
+    public void close() throws IOException {
+        close(WebSocketSession.CLOSE_NORMAL, "");
+    }
+
+    public void close(int code, String reason) throws IOException {
+        try {
+            if (!socket.isClosed() && !closeSent) {
+                sendFrame(true, WebSocketFrame.OPCODE_CLOSE, WebSocketFrameCodec.closePayload(code, reason));
+            }
+            // 서버의 close 응답을 기다림 (남은 메시지는 버림)
+            socket.setSoTimeout(5_000);
+            while (!closeReceived) {
+                WebSocketFrame frame = receiveFrame();
+                if (frame == null) {
+                    break;
+                }
+                if (frame.getOpcode() == WebSocketFrame.OPCODE_CLOSE) {
+                    closeReceived = true;
+                    closeCode = frame.getCloseCode();
+                }
+            }
+        } catch (IOException e) {
+            // 서버가 먼저 연결을 닫음
+        } finally {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package winter.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업그레이드된 연결 하나의 읽기 루프
+ *
+ * 처리 흐름:
+ * 1. @OnOpen 호출
+ * 2. 프레임을 읽으며
+ *    - ping → 같은 payload로 pong 응답, pong → 시각 기록
+ *    - 조각 메시지(FIN=0 + continuation)는 합쳐서 한 메시지로 (사이에 끼어든 제어 프레임도 처리)
+ *    - 완성된 메시지로 @OnMessage 호출 (연결마다 받은 순서대로)
+ *    - close → 종료 핸드셰이크 응답 후 루프 종료
+ * 3. 프로토콜 위반은 해당 종료 코드로 close 프레임을 보내고 연결을 닫음
+ *
+ * 읽기 스레드는 연결마다 하나입니다. (Java 17에는 가상 스레드가 없어 스택을 작게 잡은 데몬 스레드 사용)
+ * 동시 연결 수는 레지스트리가 제한하고, 응답 없는 연결은 하트비트가 소켓을 닫아 읽기 스레드를 풀어 줍니다.
+ */
+final class WebSocketConnection implements Runnable {
+
+    private final WebSocketEndpointHandler handler;
+    private final WebSocketSession session;
+    private final InputStream in;
+
+    WebSocketConnection(WebSocketEndpointHandler handler, WebSocketSession session, InputStream in) {
+        this.handler = handler;
+        this.session = session;
+        this.in = in;
+    }
+
+    @Override
+    public void run() {
+        try {
+            handler.onOpen(session);
+        } catch (Exception e) {
+            handler.onError(session, e);
+            session.fail(WebSocketSession.CLOSE_INTERNAL_ERROR, "Endpoint open failed");
+            return;
+        }
+
+        try {
+            readLoop();
+        } catch (WebSocketProtocolException e) {
+            System.err.println("WebSocket 프로토콜 오류 [" + session.getId() + "]: " + e.getMessage());
+            handler.onError(session, e);
+            session.fail(e.getCloseCode(), e.getMessage());
+        } catch (IOException e) {
+            // 클라이언트가 close 프레임 없이 끊음
+            session.terminate(WebSocketSession.CLOSE_ABNORMAL, e.getMessage());
+        }
+    }
+
+    private void readLoop() throws IOException {
+        int maxMessageSize = handler.getMaxMessageSize();
+        ByteArrayOutputStream fragments = null;
+        int fragmentedOpcode = 0;
+
+        while (true) {
+            WebSocketFrame frame = WebSocketFrameCodec.read(in, maxMessageSize, true);
+            if (frame == null) {
+                session.terminate(WebSocketSession.CLOSE_ABNORMAL, "Connection closed without close frame");
+                return;
+            }
+            session.frameReceived();
+
+            switch (frame.getOpcode()) {
+                case WebSocketFrame.OPCODE_PING:
+                    session.pong(frame.getPayload());
+                    continue;
+                case WebSocketFrame.OPCODE_PONG:
+                    session.pongReceived();
+                    continue;
+                case WebSocketFrame.OPCODE_CLOSE:
+                    receiveClose(frame);
+                    return;
+                case WebSocketFrame.OPCODE_CONTINUATION:
+                    if (fragments == null) {
+                        throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR,
+                                "Continuation frame without a started message");
+                    }
+                    if (fragments.size() + frame.getPayload().length > maxMessageSize) {
+                        throw new WebSocketProtocolException(WebSocketSession.CLOSE_TOO_BIG,
+                                "Message exceeds limit " + maxMessageSize);
+                    }
+                    fragments.write(frame.getPayload());
+                    if (frame.isFin()) {
+                        deliver(fragmentedOpcode, fragments.toByteArray());
+                        fragments = null;
+                    }
+                    continue;
+                default: // TEXT, BINARY
+                    if (fragments != null) {
+                        throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR,
+                                "New message started before the fragmented message finished");
+                    }
+                    if (frame.isFin()) {
+                        deliver(frame.getOpcode(), frame.getPayload());
+                    } else {
+                        fragments = new ByteArrayOutputStream(Math.max(256, frame.getPayload().length * 2));
+                        fragments.write(frame.getPayload());
+                        fragmentedOpcode = frame.getOpcode();
+                    }
+            }
+        }
+    }
+
+    private void receiveClose(WebSocketFrame frame) throws WebSocketProtocolException {
+        byte[] payload = frame.getPayload();
+        if (payload.length == 1) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR, "Close frame with 1-byte payload");
+        }
+        int code = frame.getCloseCode();
+        if (payload.length >= 2 && !isValidCloseCode(code)) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR, "Invalid close code: " + code);
+        }
+        session.closeFrameReceived(code, frame.getCloseReason());
+    }
+
+    private void deliver(int opcode, byte[] payload) throws WebSocketProtocolException {
+        // 종료 중에 받은 데이터 메시지는 버림 (RFC 6455 5.5.1)
+        if (!session.isOpen()) {
+            return;
+        }
+
+        Object message;
+        if (opcode == WebSocketFrame.OPCODE_TEXT) {
+            if (!handler.supportsText()) {
+                throw new WebSocketProtocolException(WebSocketSession.CLOSE_UNSUPPORTED_DATA, "Text messages not supported");
+            }
+            message = decodeUtf8(payload);
+        } else {
+            if (!handler.supportsBinary()) {
+                throw new WebSocketProtocolException(WebSocketSession.CLOSE_UNSUPPORTED_DATA, "Binary messages not supported");
+            }
+            message = payload;
+        }
+
+        try {
+            handler.onMessage(session, message);
+        } catch (Exception e) {
+            handler.onError(session, e);
+            session.close(WebSocketSession.CLOSE_INTERNAL_ERROR, "Endpoint error");
+        }
+    }
+
+    // 잘못된 UTF-8 텍스트는 1007로 종료 (대체 문자로 바꾸지 않음)
+    private static String decodeUtf8(byte[] payload) throws WebSocketProtocolException {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(payload))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_INVALID_PAYLOAD, "Invalid UTF-8 in text message");
+        }
+    }
+
+    // 상대가 보낼 수 있는 종료 코드 (RFC 6455 7.4)
+    private static boolean isValidCloseCode(int code) {
+        if (code >= 3000 && code <= 4999) {
+            return true;
+        }
+        return code >= 1000 && code <= 1011 && code != 1004 && code != 1005 && code != 1006;
+    }
+}
@@ -0,0 +1,205 @@
+package winter.websocket;
+
+import winter.annotation.OnClose;
+import winter.annotation.OnError;
+import winter.annotation.OnMessage;
+import winter.annotation.OnOpen;
+import winter.annotation.WebSocketEndpoint;
+import winter.util.JsonSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * @WebSocketEndpoint 클래스 하나의 콜백 메서드 정보
+ *
+ * 콜백 파라미터는 타입으로 채웁니다. (등록할 때 지원하지 않는 타입이 있으면 예외)
+ * - WebSocketSession : 현재 연결
+ * - String           : @OnMessage는 텍스트 메시지, @OnClose는 종료 사유
+ * - byte[]           : 바이너리 메시지
+ * - int / Integer    : 종료 코드
+ * - Throwable        : 발생한 오류
+ */
+final class WebSocketEndpointHandler {
+
+    private final Object endpoint;
+    private final String path;
+    private final int maxMessageSize;
+    private final int sendQueueCapacity;
+
+    private Method openMethod;
+    private Method textMethod;
+    private Method binaryMethod;
+    private Method closeMethod;
+    private Method errorMethod;
+
+    WebSocketEndpointHandler(Class<?> endpointClass) {
+        WebSocketEndpoint annotation = endpointClass.getAnnotation(WebSocketEndpoint.class);
+        if (annotation == null) {
+            throw new IllegalArgumentException(
+                    "Class " + endpointClass.getName() + " is not annotated with @WebSocketEndpoint");
+        }
+        this.path = annotation.value();
+        this.maxMessageSize = annotation.maxMessageSize();
+        this.sendQueueCapacity = annotation.sendQueueCapacity();
+
+        try {
+            this.endpoint = endpointClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot instantiate WebSocket endpoint " + endpointClass.getName(), e);
+        }
+
+        for (Method method : endpointClass.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(OnOpen.class)) {
+                openMethod = checked(method, openMethod);
+            }
+            if (method.isAnnotationPresent(OnMessage.class)) {
+                if (hasParameter(method, byte[].class)) {
+                    binaryMethod = checked(method, binaryMethod);
+                } else if (hasParameter(method, String.class)) {
+                    textMethod = checked(method, textMethod);
+                } else {
+                    throw new IllegalArgumentException("@OnMessage method needs a String or byte[] parameter: " + method);
+                }
+            }
+            if (method.isAnnotationPresent(OnClose.class)) {
+                closeMethod = checked(method, closeMethod);
+            }
+            if (method.isAnnotationPresent(OnError.class)) {
+                errorMethod = checked(method, errorMethod);
+            }
+        }
+    }
+
+    private static Method checked(Method method, Method existing) {
+        if (existing != null) {
+            throw new IllegalArgumentException("Duplicate WebSocket callback: " + existing.getName() + ", " + method.getName());
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (type != WebSocketSession.class && type != String.class && type != byte[].class &&
+                    type != int.class && type != Integer.class && !Throwable.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Unsupported WebSocket callback parameter " + type.getSimpleName() +
+                        " in " + method);
+            }
+        }
+        method.setAccessible(true);
+        return method;
+    }
+
+    private static boolean hasParameter(Method method, Class<?> type) {
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (parameterType == type) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void onOpen(WebSocketSession session) throws Exception {
+        invoke(openMethod, session, null, 0, null, null);
+    }
+
+    boolean supportsText() {
+        return textMethod != null;
+    }
+
+    boolean supportsBinary() {
+        return binaryMethod != null;
+    }
+
+    /**
+     * 메시지 콜백을 호출하고 반환값이 있으면 보낸 클라이언트에게 응답합니다.
+     */
+    void onMessage(WebSocketSession session, Object message) throws Exception {
+        Method method = message instanceof String ? textMethod : binaryMethod;
+        Object reply = invoke(method, session, message, 0, null, null);
+        if (reply == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            if (reply instanceof byte[]) {
+                session.sendBinary((byte[]) reply);
+            } else if (reply instanceof String) {
+                session.sendText((String) reply);
+            } else {
+                session.sendText(JsonSerializer.toJson(reply));
+            }
+        } catch (IOException e) {
+            // 응답 전에 연결이 닫힘 (느린 클라이언트 등)
+        }
+    }
+
+    void onClose(WebSocketSession session) {
+        try {
+            invoke(closeMethod, session, null, session.getCloseCode(), session.getCloseReason(), null);
+        } catch (Exception e) {
+            System.err.println("WebSocket @OnClose 예외 [" + session.getId() + "]: " + e.getMessage());
+        }
+    }
+
+    void onError(WebSocketSession session, Throwable error) {
+        if (errorMethod == null) {
+            System.err.println("WebSocket 오류 [" + session.getId() + "]: " + error.getMessage());
+            return;
+        }
+        try {
+            invoke(errorMethod, session, null, 0, null, error);
+        } catch (Exception e) {
+            System.err.println("WebSocket @OnError 예외 [" + session.getId() + "]: " + e.getMessage());
+        }
+    }
+
+    private Object invoke(Method method, WebSocketSession session, Object message,
+                          int closeCode, String closeReason, Throwable error) throws Exception {
+        if (method == null) {
+            return null;
+        }
+        Class<?>[] types = method.getParameterTypes();
+        Object[] arguments = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> type = types[i];
+            if (type == WebSocketSession.class) {
+                arguments[i] = session;
+            } else if (type == String.class) {
+                arguments[i] = message instanceof String ? message : closeReason;
+            } else if (type == byte[].class) {
+                arguments[i] = message instanceof byte[] ? message : null;
+            } else if (type == int.class || type == Integer.class) {
+                arguments[i] = closeCode;
+            } else {
+                arguments[i] = error;
+            }
+        }
+        try {
+            return method.invoke(endpoint, arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    int getMaxMessageSize() {
+        return maxMessageSize;
+    }
+
+    int getSendQueueCapacity() {
+        return sendQueueCapacity;
+    }
+
+    String describe() {
+        return endpoint.getClass().getSimpleName() + " (" +
+                (openMethod != null ? "@OnOpen " : "") +
+                (textMethod != null ? "@OnMessage(text) " : "") +
+                (binaryMethod != null ? "@OnMessage(binary) " : "") +
+                (closeMethod != null ? "@OnClose " : "") +
+                (errorMethod != null ? "@OnError" : "") + ")";
+    }
+}
@@ -0,0 +1,269 @@
+package winter.websocket;
+
+import winter.controller.ChatEndpoint;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @WebSocketEndpoint 클래스를 경로별로 관리하고 업그레이드된 연결을 시작하는 레지스트리
+ *
+ * WinterServer가 업그레이드 요청을 받으면:
+ * 1. hasEndpoint(경로)로 엔드포인트가 있는지 확인 (없으면 일반 HTTP 요청으로 처리)
+ * 2. reserveSession()으로 동시 연결 자리를 잡음 (최대치면 503으로 거부)
+ * 3. 101 응답을 보낸 뒤 open()으로 세션을 만들고 읽기 스레드를 시작
+ *
+ * 하트비트 스레드 하나가 열린 세션 전체를 훑으며 유휴 연결에 ping을 보내고,
+ * pong 마감이나 쓰기 마감을 넘긴 연결을 닫습니다.
+ */
+public class WebSocketEndpointRegistry {
+
+    // 연결마다 하나씩 쓰는 읽기 스레드 (대부분 블록된 채 대기하므로 스택을 작게 잡음)
+    private static final long READER_STACK_SIZE = 256 * 1024;
+
+    public static final int DEFAULT_MAX_SESSIONS = 1024;
+    public static final long DEFAULT_PING_INTERVAL_MILLIS = 30_000;
+    public static final long DEFAULT_PONG_TIMEOUT_MILLIS = 10_000;
+    public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 10_000;
+
+    private static final long HEARTBEAT_TICK_MILLIS = 1_000;
+
+    private final Map<String, WebSocketEndpointHandler> endpoints = new ConcurrentHashMap<>();
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+    private final ExecutorService readers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(null, runnable, "winter-ws-reader-" + threadNumber.incrementAndGet(), READER_STACK_SIZE);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "winter-ws-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile int maxSessions = DEFAULT_MAX_SESSIONS;
+    private volatile long pingIntervalMillis = DEFAULT_PING_INTERVAL_MILLIS;
+    private volatile long pongTimeoutMillis = DEFAULT_PONG_TIMEOUT_MILLIS;
+    private volatile long writeTimeoutMillis = DEFAULT_WRITE_TIMEOUT_MILLIS;
+
+    // 통계 (activeSessions는 예약한 자리까지 포함)
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong totalSessions = new AtomicLong();
+    private final AtomicLong rejectedSessions = new AtomicLong();
+
+    public WebSocketEndpointRegistry() {
+        registerAllEndpoints();
+        heartbeat.scheduleWithFixedDelay(this::tick, HEARTBEAT_TICK_MILLIS, HEARTBEAT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 프레임워크에 포함된 WebSocket 엔드포인트를 등록합니다.
+     */
+    private void registerAllEndpoints() {
+        // 채팅 예시 엔드포인트
+        registerEndpoint(ChatEndpoint.class);
+    }
+
+    /**
+     * 엔드포인트 클래스를 등록합니다.
+     *
+     * @throws IllegalArgumentException @WebSocketEndpoint가 없거나 콜백 시그니처가 잘못된 경우
+     */
+    public void registerEndpoint(Class<?> endpointClass) {
+        WebSocketEndpointHandler handler = new WebSocketEndpointHandler(endpointClass);
+        if (endpoints.putIfAbsent(handler.getPath(), handler) != null) {
+            throw new IllegalArgumentException("WebSocket endpoint already registered for " + handler.getPath());
+        }
+        System.out.println("WebSocket 엔드포인트 등록: " + handler.getPath() + " → " + handler.describe());
+    }
+
+    public boolean hasEndpoint(String path) {
+        return endpoints.containsKey(path);
+    }
+
+    /**
+     * 동시 연결 자리를 하나 예약합니다. 101 응답을 보내기 전에 호출해야 합니다.
+     *
+     * @return 자리가 있으면 true (이후 open()이 자리를 넘겨받음), 최대치면 false
+     */
+    public boolean reserveSession() {
+        while (true) {
+            int current = activeSessions.get();
+            if (current >= maxSessions) {
+                rejectedSessions.incrementAndGet();
+                return false;
+            }
+            if (activeSessions.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 예약한 자리를 open() 없이 반납합니다. (101 응답을 보내지 못한 경우)
+     */
+    public void releaseSession() {
+        activeSessions.decrementAndGet();
+    }
+
+    /**
+     * 101 응답을 보낸 연결로 세션을 만들고 읽기 스레드를 시작합니다. (reserveSession()으로 잡은 자리를 사용)
+     *
+     * @param target 요청 대상 (경로 + 쿼리 문자열)
+     * @param headers 업그레이드 요청 헤더
+     * @param in 연결 입력 (핸드셰이크 뒤에 이미 읽은 바이트 포함)
+     * @param out 연결 출력
+     * @param connection 종료 시 닫을 연결
+     * @return 시작한 세션
+     */
+    public WebSocketSession open(String target, Map<String, String> headers,
+                                 InputStream in, OutputStream out, Closeable connection) {
+        int queryStart = target.indexOf('?');
+        String path = queryStart >= 0 ? target.substring(0, queryStart) : target;
+        WebSocketEndpointHandler handler = endpoints.get(path);
+        if (handler == null) {
+            throw new IllegalArgumentException("No WebSocket endpoint for " + path);
+        }
+
+        WebSocketSession session = new WebSocketSession(path,
+                parseQuery(queryStart >= 0 ? target.substring(queryStart + 1) : ""),
+                headers, out, connection, handler.getSendQueueCapacity());
+
+        totalSessions.incrementAndGet();
+        sessions.add(session);
+        session.addCloseCallback(() -> {
+            sessions.remove(session);
+            activeSessions.decrementAndGet();
+            handler.onClose(session);
+        });
+
+        System.out.println("WebSocket 연결 [" + session.getId() + "]: " + path);
+        readers.execute(new WebSocketConnection(handler, session, in));
+        return session;
+    }
+
+    // 유휴 연결에 ping, pong/쓰기 마감을 넘긴 연결은 종료
+    private void tick() {
+        long now = System.nanoTime();
+        long pingInterval = TimeUnit.MILLISECONDS.toNanos(pingIntervalMillis);
+        long pongTimeout = TimeUnit.MILLISECONDS.toNanos(pongTimeoutMillis);
+        long writeTimeout = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        for (WebSocketSession session : sessions) {
+            try {
+                if (!session.tick(now, pingInterval, pongTimeout, writeTimeout)) {
+                    sessions.remove(session);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("WebSocket 하트비트 처리 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (query.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * 동시 연결 수 상한 (넘으면 업그레이드를 503으로 거부)
+     */
+    public WebSocketEndpointRegistry setMaxSessions(int maxSessions) {
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("maxSessions must be positive: " + maxSessions);
+        }
+        this.maxSessions = maxSessions;
+        return this;
+    }
+
+    /**
+     * 아무 프레임도 받지 못한 채 이 시간이 지나면 ping을 보냅니다.
+     */
+    public WebSocketEndpointRegistry setPingInterval(long pingIntervalMillis) {
+        if (pingIntervalMillis <= 0) {
+            throw new IllegalArgumentException("pingIntervalMillis must be positive: " + pingIntervalMillis);
+        }
+        this.pingIntervalMillis = pingIntervalMillis;
+        return this;
+    }
+
+    /**
+     * ping을 보낸 뒤 이 시간 안에 아무 프레임도 오지 않으면 연결을 닫습니다.
+     */
+    public WebSocketEndpointRegistry setPongTimeout(long pongTimeoutMillis) {
+        if (pongTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("pongTimeoutMillis must be positive: " + pongTimeoutMillis);
+        }
+        this.pongTimeoutMillis = pongTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * 보낼 프레임을 이 시간 동안 쓰지 못하면 연결을 닫습니다.
+     */
+    public WebSocketEndpointRegistry setWriteTimeout(long writeTimeoutMillis) {
+        if (writeTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("writeTimeoutMillis must be positive: " + writeTimeoutMillis);
+        }
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * 읽기 소켓 타임아웃 (하트비트가 멈춰도 읽기 스레드가 영원히 블록되지 않도록 하는 안전장치)
+     */
+    public int getReadTimeoutMillis() {
+        return (int) Math.min(Integer.MAX_VALUE, pingIntervalMillis + pongTimeoutMillis + HEARTBEAT_TICK_MILLIS * 2);
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getTotalSessions() {
+        return totalSessions.get();
+    }
+
+    public long getRejectedSessions() {
+        return rejectedSessions.get();
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketEndpointRegistry{" +
+                "endpoints=" + endpoints.keySet() +
+                ", activeSessions=" + activeSessions.get() +
+                ", totalSessions=" + totalSessions.get() +
+                ", rejectedSessions=" + rejectedSessions.get() +
+                '}';
+    }
+}
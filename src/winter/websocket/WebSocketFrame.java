@@ -0,0 +1,77 @@
+package winter.websocket;
+
+/**
+ * WebSocket 프레임 하나 (RFC 6455 5.2)
+ *
+ * 마스킹은 읽을 때 이미 풀려 있으므로 payload는 항상 원래 데이터입니다.
+ */
+public final class WebSocketFrame {
+
+    public static final int OPCODE_CONTINUATION = 0x0;
+    public static final int OPCODE_TEXT = 0x1;
+    public static final int OPCODE_BINARY = 0x2;
+    public static final int OPCODE_CLOSE = 0x8;
+    public static final int OPCODE_PING = 0x9;
+    public static final int OPCODE_PONG = 0xA;
+
+    private final boolean fin;
+    private final int opcode;
+    private final byte[] payload;
+
+    public WebSocketFrame(boolean fin, int opcode, byte[] payload) {
+        this.fin = fin;
+        this.opcode = opcode;
+        this.payload = payload;
+    }
+
+    /**
+     * 메시지의 마지막 조각이면 true
+     */
+    public boolean isFin() {
+        return fin;
+    }
+
+    public int getOpcode() {
+        return opcode;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * close / ping / pong 제어 프레임이면 true (조각 메시지 사이에 끼어들 수 있음)
+     */
+    public boolean isControl() {
+        return (opcode & 0x8) != 0;
+    }
+
+    /**
+     * close 프레임의 종료 코드 (코드가 없으면 1005)
+     */
+    public int getCloseCode() {
+        if (payload.length < 2) {
+            return WebSocketSession.CLOSE_NO_STATUS;
+        }
+        return ((payload[0] & 0xFF) << 8) | (payload[1] & 0xFF);
+    }
+
+    /**
+     * close 프레임의 종료 사유
+     */
+    public String getCloseReason() {
+        if (payload.length <= 2) {
+            return "";
+        }
+        return new String(payload, 2, payload.length - 2, java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketFrame{" +
+                "fin=" + fin +
+                ", opcode=" + opcode +
+                ", length=" + payload.length +
+                '}';
+    }
+}
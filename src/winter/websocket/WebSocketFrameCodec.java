@@ -0,0 +1,178 @@
+package winter.websocket;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebSocket 프레임 읽기/쓰기 (RFC 6455 5.2)
+ *
+ *  0                   1                   2                   3
+ * +-+-+-+-+-------+-+-------------+-------------------------------+
+ * |F|R|R|R| opcode|M| Payload len |    Extended payload length    |
+ * |I|S|S|S|  (4)  |A|     (7)     |             (16/64)           |
+ * |N|V|V|V|       |S|             |   (if payload len==126/127)   |
+ * +-+-+-+-+-------+-+-------------+-------------------------------+
+ * |  Masking-key (클라이언트 → 서버 프레임만, 4바이트)   |  Payload ...
+ *
+ * 클라이언트가 보내는 프레임은 반드시 마스킹되고, 서버가 보내는 프레임은 마스킹하지 않습니다.
+ */
+final class WebSocketFrameCodec {
+
+    private static final int MAX_CONTROL_PAYLOAD = 125;
+
+    private WebSocketFrameCodec() {
+    }
+
+    /**
+     * 프레임 하나를 읽습니다. (마스킹된 payload는 풀어서 반환)
+     *
+     * @param in 입력 스트림
+     * @param maxPayload 허용할 payload 최대 크기
+     * @param expectMasked 서버 쪽에서 읽으면 true (마스킹 안 된 프레임은 프로토콜 위반)
+     * @return 프레임, 프레임 시작 전에 스트림이 끝났으면 null
+     */
+    static WebSocketFrame read(InputStream in, int maxPayload, boolean expectMasked) throws IOException {
+        int b0 = in.read();
+        if (b0 < 0) {
+            return null;
+        }
+        int b1 = readByte(in);
+
+        boolean fin = (b0 & 0x80) != 0;
+        int opcode = b0 & 0x0F;
+        boolean masked = (b1 & 0x80) != 0;
+        long length = b1 & 0x7F;
+
+        if ((b0 & 0x70) != 0) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR, "RSV bits set without extension");
+        }
+        if (!isKnownOpcode(opcode)) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR, "Unknown opcode: " + opcode);
+        }
+        if (masked != expectMasked) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR,
+                    expectMasked ? "Client frame is not masked" : "Server frame must not be masked");
+        }
+
+        if (length == 126) {
+            length = (readByte(in) << 8) | readByte(in);
+        } else if (length == 127) {
+            length = 0;
+            for (int i = 0; i < 8; i++) {
+                length = (length << 8) | readByte(in);
+            }
+            if (length < 0) {
+                throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR, "Negative payload length");
+            }
+        }
+
+        boolean control = (opcode & 0x8) != 0;
+        if (control && (!fin || length > MAX_CONTROL_PAYLOAD)) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_PROTOCOL_ERROR,
+                    "Control frames must be final and at most " + MAX_CONTROL_PAYLOAD + " bytes");
+        }
+        if (length > maxPayload) {
+            throw new WebSocketProtocolException(WebSocketSession.CLOSE_TOO_BIG,
+                    "Frame payload " + length + " exceeds limit " + maxPayload);
+        }
+
+        byte[] mask = null;
+        if (masked) {
+            mask = new byte[4];
+            readFully(in, mask, 0, 4);
+        }
+
+        byte[] payload = new byte[(int) length];
+        readFully(in, payload, 0, payload.length);
+        if (mask != null) {
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i & 3];
+            }
+        }
+        return new WebSocketFrame(fin, opcode, payload);
+    }
+
+    /**
+     * 프레임 하나를 바이트 배열로 인코딩합니다.
+     *
+     * @param mask 클라이언트가 보낼 때의 마스킹 키 (4바이트), 서버가 보낼 때는 null
+     */
+    static byte[] encode(boolean fin, int opcode, byte[] payload, int offset, int length, byte[] mask) {
+        int headerLength = 2 + (length <= 125 ? 0 : length <= 0xFFFF ? 2 : 8) + (mask != null ? 4 : 0);
+        byte[] frame = new byte[headerLength + length];
+
+        frame[0] = (byte) ((fin ? 0x80 : 0) | opcode);
+        int pos = 2;
+        int maskBit = mask != null ? 0x80 : 0;
+        if (length <= 125) {
+            frame[1] = (byte) (maskBit | length);
+        } else if (length <= 0xFFFF) {
+            frame[1] = (byte) (maskBit | 126);
+            frame[pos++] = (byte) (length >>> 8);
+            frame[pos++] = (byte) length;
+        } else {
+            frame[1] = (byte) (maskBit | 127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                frame[pos++] = (byte) ((long) length >>> shift);
+            }
+        }
+
+        if (mask != null) {
+            System.arraycopy(mask, 0, frame, pos, 4);
+            pos += 4;
+            for (int i = 0; i < length; i++) {
+                frame[pos + i] = (byte) (payload[offset + i] ^ mask[i & 3]);
+            }
+        } else {
+            System.arraycopy(payload, offset, frame, pos, length);
+        }
+        return frame;
+    }
+
+    static byte[] encode(int opcode, byte[] payload, byte[] mask) {
+        return encode(true, opcode, payload, 0, payload.length, mask);
+    }
+
+    /**
+     * close 프레임 payload (2바이트 종료 코드 + UTF-8 사유, 제어 프레임 한도에 맞게 자름)
+     */
+    static byte[] closePayload(int code, String reason) {
+        if (code == WebSocketSession.CLOSE_NO_STATUS) {
+            return new byte[0];
+        }
+        byte[] reasonBytes = reason != null ? reason.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int reasonLength = Math.min(reasonBytes.length, MAX_CONTROL_PAYLOAD - 2);
+        byte[] payload = new byte[2 + reasonLength];
+        payload[0] = (byte) (code >>> 8);
+        payload[1] = (byte) code;
+        System.arraycopy(reasonBytes, 0, payload, 2, reasonLength);
+        return payload;
+    }
+
+    private static boolean isKnownOpcode(int opcode) {
+        return opcode == WebSocketFrame.OPCODE_CONTINUATION || opcode == WebSocketFrame.OPCODE_TEXT ||
+                opcode == WebSocketFrame.OPCODE_BINARY || opcode == WebSocketFrame.OPCODE_CLOSE ||
+                opcode == WebSocketFrame.OPCODE_PING || opcode == WebSocketFrame.OPCODE_PONG;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Connection closed in the middle of a frame");
+        }
+        return b;
+    }
+
+    private static void readFully(InputStream in, byte[] target, int offset, int length) throws IOException {
+        while (length > 0) {
+            int read = in.read(target, offset, length);
+            if (read < 0) {
+                throw new EOFException("Connection closed in the middle of a frame");
+            }
+            offset += read;
+            length -= read;
+        }
+    }
+}
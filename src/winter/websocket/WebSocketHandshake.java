@@ -0,0 +1,103 @@
+package winter.websocket;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * WebSocket 업그레이드 핸드셰이크 (RFC 6455 4.2)
+ *
+ * 요청:
+ * GET /ws/chat HTTP/1.1
+ * Upgrade: websocket
+ * Connection: Upgrade
+ * Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==
+ * Sec-WebSocket-Version: 13
+ *
+ * 응답:
+ * HTTP/1.1 101 Switching Protocols
+ * Upgrade: websocket
+ * Connection: Upgrade
+ * Sec-WebSocket-Accept: s3pPLMBiTxaQ9kYGzzhZRbK+xOo=   (base64(SHA-1(key + GUID)))
+ */
+public final class WebSocketHandshake {
+
+    public static final String SUPPORTED_VERSION = "13";
+
+    private static final String GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private WebSocketHandshake() {
+    }
+
+    /**
+     * Upgrade: websocket 과 Connection: Upgrade 헤더가 있는 요청인지 확인합니다.
+     */
+    public static boolean isUpgradeRequest(String upgradeHeader, String connectionHeader) {
+        return upgradeHeader != null && upgradeHeader.trim().equalsIgnoreCase("websocket") &&
+                connectionHeader != null && containsToken(connectionHeader, "upgrade");
+    }
+
+    /**
+     * 업그레이드 요청을 검사합니다.
+     *
+     * @return 문제가 없으면 null, 아니면 오류 메시지
+     */
+    public static String validate(String method, String key, String version) {
+        if (!"GET".equals(method)) {
+            return "WebSocket upgrade requires GET";
+        }
+        if (!SUPPORTED_VERSION.equals(version != null ? version.trim() : null)) {
+            return "Unsupported Sec-WebSocket-Version: " + version;
+        }
+        if (!isValidKey(key)) {
+            return "Invalid Sec-WebSocket-Key";
+        }
+        return null;
+    }
+
+    // 키는 임의의 16바이트를 base64로 인코딩한 값
+    private static boolean isValidKey(String key) {
+        if (key == null) {
+            return false;
+        }
+        try {
+            return Base64.getDecoder().decode(key.trim()).length == 16;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Sec-WebSocket-Accept 값을 계산합니다.
+     */
+    public static String acceptKey(String key) {
+        try {
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            byte[] digest = sha1.digest((key.trim() + GUID).getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+
+    /**
+     * 101 Switching Protocols 응답 헤더 바이트를 만듭니다.
+     */
+    public static byte[] switchingProtocolsResponse(String key) {
+        String response = "HTTP/1.1 101 Switching Protocols\r\n" +
+                "Upgrade: websocket\r\n" +
+                "Connection: Upgrade\r\n" +
+                "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n";
+        return response.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean containsToken(String value, String token) {
+        for (String part : value.split(",")) {
+            if (part.trim().equalsIgnoreCase(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package winter.websocket;
+
+import java.io.IOException;
+
+/**
+ * WebSocket 프로토콜 위반 (잘못된 프레임, 너무 큰 메시지, 잘못된 UTF-8 등)
+ *
+ * 상대에게 보낼 종료 코드를 함께 가지고 있습니다.
+ */
+public class WebSocketProtocolException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int closeCode;
+
+    public WebSocketProtocolException(int closeCode, String message) {
+        super(message);
+        this.closeCode = closeCode;
+    }
+
+    public int getCloseCode() {
+        return closeCode;
+    }
+}
@@ -0,0 +1,488 @@
+package winter.websocket;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 연결 하나 (엔드포인트 콜백 메서드의 파라미터)
+ *
+ * 전송 구조 (SseEmitter와 같은 방식):
+ * - sendText()/sendBinary()는 인코딩한 프레임을 연결별 유한 큐에 넣고 바로 반환 (어느 스레드에서든 호출 가능)
+ * - 공용 writer 스레드 풀이 큐를 비우며 모아서 쓰고 한 번 flush
+ * - 큐가 가득 차면(느린 클라이언트) 연결을 끊음 - 보내는 쪽이나 다른 연결의 전송이 밀리지 않도록
+ *
+ * 종료 핸드셰이크 (RFC 6455 7.1):
+ * - close()를 호출하면 close 프레임을 보내고 상대의 close 프레임을 기다린 뒤 소켓을 닫음 (5초 안에 안 오면 그냥 닫음)
+ * - 상대가 먼저 close 프레임을 보내면 같은 코드로 응답한 뒤 소켓을 닫음
+ *
+ * 죽은 연결 정리 (WebSocketEndpointRegistry의 하트비트 스레드가 tick() 호출):
+ * - 일정 시간 아무 프레임도 받지 못하면 ping을 보내고, pong 마감 안에 응답이 없으면 소켓을 닫음
+ * - 쓰기 마감: 한 번의 drain이 writeTimeout을 넘기거나, 보낼 프레임이 있는데 writeTimeout 동안 한 번도
+ *   쓰지 못하면 소켓을 닫음 (막힌 write가 예외로 풀려 공용 writer 스레드가 반환됨)
+ */
+public class WebSocketSession {
+
+    // 종료 코드 (RFC 6455 7.4.1)
+    public static final int CLOSE_NORMAL = 1000;
+    public static final int CLOSE_GOING_AWAY = 1001;
+    public static final int CLOSE_PROTOCOL_ERROR = 1002;
+    public static final int CLOSE_UNSUPPORTED_DATA = 1003;
+    public static final int CLOSE_NO_STATUS = 1005;
+    public static final int CLOSE_ABNORMAL = 1006;
+    public static final int CLOSE_INVALID_PAYLOAD = 1007;
+    public static final int CLOSE_TOO_BIG = 1009;
+    public static final int CLOSE_INTERNAL_ERROR = 1011;
+
+    private static final long CLOSE_HANDSHAKE_TIMEOUT_MILLIS = 5_000;
+
+    // 하트비트 ping (payload 없음, 모든 연결이 같은 프레임을 공유)
+    private static final byte[] HEARTBEAT_PING = WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_PING, new byte[0], null);
+
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    // 모든 연결이 공유하는 전송 스레드 풀 (연결 수와 무관하게 고정)
+    private static final ExecutorService WRITERS = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "winter-ws-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    // 종료 핸드셰이크 응답을 기다리는 타이머
+    private static final ScheduledExecutorService CLOSE_TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "winter-ws-close-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int OPEN = 0;
+    private static final int CLOSING = 1; // close 프레임을 보냈거나 받음
+    private static final int CLOSED = 2;
+
+    private final String id;
+    private final String path;
+    private final Map<String, String> queryParameters;
+    private final Map<String, String> handshakeHeaders;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+    private final OutputStream out;
+    private final Closeable connection;
+    private final ArrayBlockingQueue<byte[]> queue;
+    private final AtomicInteger state = new AtomicInteger(OPEN);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final List<Runnable> closeCallbacks = new CopyOnWriteArrayList<>();
+
+    private volatile byte[] closeFrame;       // 보낼(보낸) close 프레임
+    private volatile boolean closeSent;
+    private volatile boolean closeReceived;
+    private volatile int closeCode = CLOSE_ABNORMAL;
+    private volatile String closeReason = "";
+    private volatile boolean evicted;
+    private volatile long lastPongNanos;
+    private volatile long lastReadNanos = System.nanoTime();   // 마지막으로 프레임을 받은 시각
+    private volatile long lastWriteNanos = System.nanoTime();  // 마지막으로 flush한 시각
+    private volatile long lastPingNanos;                       // 하트비트 ping을 보낸 시각 (응답 대기 판단용)
+    private volatile long drainStartNanos;                     // 진행 중인 drain 시작 시각 (0이면 없음)
+    private volatile long pendingSinceNanos;                   // 큐가 비어 있다가 프레임이 들어온 시각 (0이면 비어 있음)
+
+    WebSocketSession(String path, Map<String, String> queryParameters, Map<String, String> handshakeHeaders,
+                     OutputStream out, Closeable connection, int queueCapacity) {
+        this.id = "ws-" + ID_SEQUENCE.incrementAndGet();
+        this.path = path;
+        this.queryParameters = queryParameters;
+        this.handshakeHeaders = handshakeHeaders;
+        this.out = new BufferedOutputStream(out, 8192);
+        this.connection = connection;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * 텍스트 메시지를 전송 큐에 넣습니다. (실제 전송은 writer 스레드가 처리)
+     *
+     * @throws IOException 연결이 이미 닫혔거나 느린 클라이언트로 끊긴 경우
+     */
+    public void sendText(String text) throws IOException {
+        send(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_TEXT, text.getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    /**
+     * 바이너리 메시지를 전송 큐에 넣습니다.
+     *
+     * @throws IOException 연결이 이미 닫혔거나 느린 클라이언트로 끊긴 경우
+     */
+    public void sendBinary(byte[] data) throws IOException {
+        send(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_BINARY, data, null));
+    }
+
+    /**
+     * ping을 보냅니다. (클라이언트는 같은 payload로 pong을 보내야 함)
+     *
+     * @param payload 최대 125바이트
+     */
+    public void sendPing(byte[] payload) throws IOException {
+        if (payload.length > 125) {
+            throw new IllegalArgumentException("Ping payload must be at most 125 bytes");
+        }
+        send(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_PING, payload, null));
+    }
+
+    private void send(byte[] frame) throws IOException {
+        if (!offer(frame)) {
+            throw new IOException(evicted ? "WebSocket client evicted (slow consumer)" : "WebSocket session already closed");
+        }
+    }
+
+    /**
+     * 인코딩된 프레임을 큐에 넣습니다. (브로드캐스트는 한 번 인코딩한 프레임을 공유)
+     *
+     * @return 큐에 넣었으면 true, 닫혔거나 큐가 가득 차 연결을 끊었으면 false
+     */
+    boolean offer(byte[] frame) {
+        if (state.get() != OPEN) {
+            return false;
+        }
+        if (!queue.offer(frame)) {
+            evicted = true;
+            System.out.println("WebSocket 느린 클라이언트 연결 종료 [" + id + "] (대기 프레임 " + queue.size() + "개)");
+            terminate(CLOSE_ABNORMAL, "Slow consumer: send queue full");
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 정상 종료 (1000)
+     */
+    public void close() {
+        close(CLOSE_NORMAL, "");
+    }
+
+    /**
+     * close 프레임을 보내고 상대의 close 프레임을 기다린 뒤 연결을 닫습니다.
+     */
+    public void close(int code, String reason) {
+        if (!state.compareAndSet(OPEN, CLOSING)) {
+            return;
+        }
+        closeCode = code;
+        closeReason = reason != null ? reason : "";
+        enqueueCloseFrame(code, reason);
+        CLOSE_TIMER.schedule(() -> {
+            if (state.get() != CLOSED) {
+                terminate(closeCode, "Close handshake timed out");
+            }
+        }, CLOSE_HANDSHAKE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 프로토콜 오류 등으로 close 프레임만 보내고 상대 응답 없이 연결을 닫습니다. (읽기 스레드가 호출)
+     */
+    void fail(int code, String reason) {
+        closeReceived = true; // 응답을 기다리지 않음
+        if (state.compareAndSet(OPEN, CLOSING)) {
+            closeCode = code;
+            closeReason = reason != null ? reason : "";
+            enqueueCloseFrame(code, reason);
+        } else {
+            finishCloseIfDone();
+        }
+    }
+
+    /**
+     * 상대의 close 프레임을 받았을 때 읽기 스레드가 호출합니다.
+     */
+    void closeFrameReceived(int code, String reason) {
+        closeReceived = true;
+        if (state.compareAndSet(OPEN, CLOSING)) {
+            // 상대가 먼저 종료: 같은 코드로 응답
+            closeCode = code;
+            closeReason = reason;
+            enqueueCloseFrame(code, reason);
+        } else {
+            finishCloseIfDone();
+        }
+    }
+
+    /**
+     * ping에 대한 pong 응답 (종료 중이면 보내지 않음)
+     */
+    void pong(byte[] payload) {
+        if (state.get() != OPEN) {
+            return;
+        }
+        if (!queue.offer(WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_PONG, payload, null))) {
+            evicted = true;
+            terminate(CLOSE_ABNORMAL, "Slow consumer: send queue full");
+            return;
+        }
+        scheduleDrain();
+    }
+
+    void pongReceived() {
+        lastPongNanos = System.nanoTime();
+    }
+
+    /**
+     * 프레임을 하나 받을 때마다 읽기 스레드가 호출합니다. (유휴 판단 기준)
+     */
+    void frameReceived() {
+        lastReadNanos = System.nanoTime();
+    }
+
+    private void enqueueCloseFrame(int code, String reason) {
+        byte[] frame = WebSocketFrameCodec.encode(WebSocketFrame.OPCODE_CLOSE,
+                WebSocketFrameCodec.closePayload(code, reason), null);
+        closeFrame = frame;
+        if (!queue.offer(frame)) {
+            terminate(code, reason); // 큐가 가득 차 close 프레임도 못 보냄
+            return;
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (pendingSinceNanos == 0) {
+            pendingSinceNanos = System.nanoTime();
+        }
+        if (state.get() != CLOSED && draining.compareAndSet(false, true)) {
+            try {
+                WRITERS.execute(this::drain);
+            } catch (RuntimeException e) {
+                draining.set(false);
+                terminate(CLOSE_INTERNAL_ERROR, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 큐에 쌓인 프레임을 모두 쓰고 한 번 flush합니다. (연결당 동시에 하나만 실행)
+     */
+    private void drain() {
+        drainStartNanos = System.nanoTime();
+        try {
+            int written = 0;
+            byte[] frame;
+            while (!closeSent && (frame = queue.poll()) != null) {
+                out.write(frame);
+                written++;
+                if (frame == closeFrame) {
+                    closeSent = true; // close 이후에는 아무것도 보내지 않음
+                }
+            }
+            if (written > 0) {
+                out.flush();
+                lastWriteNanos = System.nanoTime();
+            }
+            if (queue.isEmpty()) {
+                pendingSinceNanos = 0;
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊음
+            terminate(CLOSE_ABNORMAL, e.getMessage());
+        } finally {
+            drainStartNanos = 0;
+            draining.set(false);
+        }
+
+        finishCloseIfDone();
+
+        // drain 중에 들어온 프레임을 놓치지 않도록 다시 확인
+        if (state.get() != CLOSED && !closeSent && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 하트비트 스레드가 주기적으로 호출합니다.
+     *
+     * @return 아직 열려 있으면 true (false면 레지스트리가 하트비트 대상에서 뺌)
+     */
+    boolean tick(long now, long pingIntervalNanos, long pongTimeoutNanos, long writeTimeoutNanos) {
+        if (state.get() == CLOSED) {
+            return false;
+        }
+        // 죽은 연결 감지: drain이 마감을 넘겼거나, 보낼 프레임이 쌓였는데 마감 동안 쓰지 못함
+        long drainStart = drainStartNanos;
+        long pendingSince = pendingSinceNanos;
+        if (pendingSince == 0 && !queue.isEmpty()) {
+            pendingSinceNanos = now; // drain이 0으로 돌린 직후 들어온 프레임
+        }
+        if ((drainStart != 0 && now - drainStart >= writeTimeoutNanos)
+                || (pendingSince != 0 && !queue.isEmpty()
+                && now - pendingSince >= writeTimeoutNanos && now - lastWriteNanos >= writeTimeoutNanos)) {
+            System.out.println("WebSocket 쓰기 마감 초과 - 연결 종료 [" + id + "] (대기 프레임 " + queue.size() + "개)");
+            terminate(CLOSE_ABNORMAL, "Write timed out after " + TimeUnit.NANOSECONDS.toMillis(writeTimeoutNanos) + "ms");
+            return false;
+        }
+
+        // ping 이후 아무 프레임도 받지 못한 채 pong 마감이 지남
+        long lastRead = lastReadNanos;
+        long lastPing = lastPingNanos;
+        if (lastPing != 0 && lastPing - lastRead > 0) {
+            if (now - lastPing >= pongTimeoutNanos) {
+                System.out.println("WebSocket pong 응답 없음 - 연결 종료 [" + id + "]");
+                terminate(CLOSE_ABNORMAL, "Pong not received within " + TimeUnit.NANOSECONDS.toMillis(pongTimeoutNanos) + "ms");
+                return false;
+            }
+            return true;
+        }
+        if (state.get() == OPEN && now - lastRead >= pingIntervalNanos) {
+            lastPingNanos = now;
+            offer(HEARTBEAT_PING);
+        }
+        return state.get() != CLOSED;
+    }
+
+    // close 프레임을 보냈고 상대의 close도 받았으면 (또는 기다리지 않으면) 소켓을 닫음
+    private void finishCloseIfDone() {
+        if (closeSent && closeReceived) {
+            terminate(closeCode, closeReason);
+        }
+    }
+
+    /**
+     * 소켓을 닫고 종료 콜백(@OnClose, 브로드캐스터 제거)을 한 번 실행합니다.
+     */
+    void terminate(int code, String reason) {
+        int previous = state.getAndSet(CLOSED);
+        if (previous == CLOSED) {
+            return;
+        }
+        if (previous == OPEN) {
+            closeCode = code;
+            closeReason = reason != null ? reason : "";
+        }
+        queue.clear();
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // 이미 끊긴 연결
+        }
+        for (Runnable callback : closeCallbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                System.err.println("WebSocket 종료 콜백 예외: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 연결이 닫힌 뒤 실행할 콜백을 등록합니다. (이미 닫혔으면 바로 실행)
+     */
+    void addCloseCallback(Runnable callback) {
+        closeCallbacks.add(callback);
+        if (state.get() == CLOSED && closeCallbacks.remove(callback)) {
+            callback.run();
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 엔드포인트 경로
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * 업그레이드 요청의 쿼리 파라미터 (예: /ws/chat?name=kim → "kim")
+     */
+    public String getQueryParameter(String name) {
+        return queryParameters.get(name);
+    }
+
+    public Map<String, String> getQueryParameters() {
+        return Collections.unmodifiableMap(queryParameters);
+    }
+
+    /**
+     * 업그레이드 요청 헤더 (이름 대소문자 무시)
+     */
+    public String getHandshakeHeader(String name) {
+        for (Map.Entry<String, String> entry : handshakeHeaders.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 연결별 상태 저장용 속성
+     */
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public void setAttribute(String name, Object value) {
+        attributes.put(name, value);
+    }
+
+    public boolean isOpen() {
+        return state.get() == OPEN;
+    }
+
+    /**
+     * 느린 클라이언트로 판단되어 끊겼는지 확인합니다.
+     */
+    public boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * 아직 전송하지 못한 프레임 수
+     */
+    public int getQueuedFrames() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 코드 (닫히기 전이거나 close 프레임 없이 끊기면 1006)
+     */
+    public int getCloseCode() {
+        return closeCode;
+    }
+
+    public String getCloseReason() {
+        return closeReason;
+    }
+
+    /**
+     * 마지막으로 pong을 받은 시각 (System.nanoTime 기준, 받은 적 없으면 0)
+     */
+    public long getLastPongNanos() {
+        return lastPongNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "WebSocketSession{" +
+                "id='" + id + '\'' +
+                ", path='" + path + '\'' +
+                ", state=" + state.get() +
+                ", queuedFrames=" + queue.size() +
+                ", closeCode=" + closeCode +
+                '}';
+    }
+}